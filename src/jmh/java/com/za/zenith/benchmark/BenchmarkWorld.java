@@ -0,0 +1,41 @@
+package com.za.zenith.benchmark;
+
+import com.za.zenith.world.DataLoader;
+import com.za.zenith.world.World;
+import com.za.zenith.world.chunks.Chunk;
+
+/**
+ * Shared fixture for the benchmark suite.
+ * Registries are loaded once per fork and the world is generated from a fixed seed,
+ * so every run (and every commit) measures exactly the same terrain.
+ */
+public final class BenchmarkWorld {
+    public static final long SEED = 12345L;
+
+    private static boolean registriesLoaded = false;
+    private static World world;
+
+    private BenchmarkWorld() {}
+
+    public static synchronized void loadRegistries() {
+        if (registriesLoaded) return;
+        DataLoader.loadAll();
+        registriesLoaded = true;
+    }
+
+    /**
+     * World with the initial render distance generated, lit and marked ready.
+     */
+    public static synchronized World get() {
+        loadRegistries();
+        if (world == null) world = new World(SEED);
+        return world;
+    }
+
+    /**
+     * Detached copy of a chunk (blocks + light), for benchmarks that mutate chunk data.
+     */
+    public static Chunk copyOf(Chunk source) {
+        return new Chunk(source.getPosition(), source.getBlockData(), source.getLightData());
+    }
+}
@@ -0,0 +1,74 @@
+package com.za.zenith.benchmark;
+
+import com.za.zenith.world.World;
+import com.za.zenith.world.chunks.Chunk;
+import com.za.zenith.world.chunks.ChunkSection;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Palette/section access paths: random reads and writes inside a generated chunk, and
+ * section visibility (occlusion graph) computation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChunkAccessBenchmark {
+    private static final int OPS = 4096;
+
+    private Chunk chunk;
+    private int[] xs, ys, zs, types;
+
+    @Setup
+    public void setup() {
+        World world = BenchmarkWorld.get();
+        chunk = BenchmarkWorld.copyOf(world.getChunk(0, 0));
+
+        SplittableRandom random = new SplittableRandom(BenchmarkWorld.SEED);
+        xs = new int[OPS];
+        ys = new int[OPS];
+        zs = new int[OPS];
+        types = new int[OPS];
+        for (int i = 0; i < OPS; i++) {
+            xs[i] = random.nextInt(Chunk.CHUNK_SIZE);
+            ys[i] = random.nextInt(Chunk.CHUNK_HEIGHT);
+            zs[i] = random.nextInt(Chunk.CHUNK_SIZE);
+        }
+        // Write back types already present (shuffled) so the palette does not grow during the run
+        for (int i = 0; i < OPS; i++) {
+            int j = OPS - 1 - i;
+            types[i] = chunk.getBlockType(xs[j], ys[j], zs[j]);
+        }
+    }
+
+    @Benchmark
+    public int getRawBlockData() {
+        int acc = 0;
+        for (int i = 0; i < OPS; i++) {
+            acc += chunk.getRawBlockData(xs[i], ys[i], zs[i]);
+        }
+        return acc;
+    }
+
+    @Benchmark
+    public Chunk setBlock() {
+        for (int i = 0; i < OPS; i++) {
+            chunk.setBlock(xs[i], ys[i], zs[i], types[i], 0);
+        }
+        return chunk;
+    }
+
+    @Benchmark
+    public long calculateVisibility() {
+        long acc = 0;
+        ChunkSection[] sections = chunk.getSections();
+        for (int i = 0; i < sections.length; i++) {
+            if (sections[i].isEmpty()) continue;
+            sections[i].calculateVisibility(chunk, i);
+            acc ^= sections[i].getVisibilityMask();
+        }
+        return acc;
+    }
+}
@@ -0,0 +1,38 @@
+package com.za.zenith.benchmark;
+
+import com.za.zenith.engine.graphics.DynamicTextureAtlas;
+import com.za.zenith.world.World;
+import com.za.zenith.world.chunks.Chunk;
+import com.za.zenith.world.chunks.ChunkMeshGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU side of chunk meshing (no GL upload). The atlas is never built: {@code uvFor} only reads
+ * the key-to-layer map, so no GL context is required.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ChunkMeshBenchmark {
+    private World world;
+    private Chunk chunk;
+    private DynamicTextureAtlas atlas;
+
+    @Setup
+    public void setup() {
+        world = BenchmarkWorld.get();
+        chunk = world.getChunk(0, 0);
+        atlas = new DynamicTextureAtlas(16);
+    }
+
+    @Benchmark
+    public void generateRawMesh(Blackhole bh) {
+        ChunkMeshGenerator.RawChunkMeshResult result = ChunkMeshGenerator.generateRawMesh(chunk, world, atlas);
+        bh.consume(result);
+        // Return NIO buffers to the pool, as the uploader does in game
+        if (result != null) result.cleanup();
+    }
+}
@@ -0,0 +1,74 @@
+package com.za.zenith.benchmark;
+
+import com.za.zenith.world.BlockPos;
+import com.za.zenith.world.World;
+import com.za.zenith.world.chunks.Chunk;
+import com.za.zenith.world.lighting.LightEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Light propagation: full sunlight pass for a fresh chunk and an incremental relight after
+ * opening/closing a hole in the surface (the common "player digs a block" case).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LightBenchmark {
+    private World world;
+    private LightEngine lightEngine;
+    private Chunk template;
+    private Chunk target;
+
+    private Chunk editChunk;
+    private int editX, editY, editZ;
+    private int solidType;
+    private List<BlockPos> editList;
+    private boolean open = false;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        world = BenchmarkWorld.get();
+        lightEngine = world.getLightEngine();
+        template = world.getChunk(0, 0);
+
+        editChunk = world.getChunk(0, 0);
+        editX = 8;
+        editZ = 8;
+        editY = editChunk.getHighestBlock(editX, editZ);
+        solidType = editChunk.getBlockType(editX, editY, editZ);
+        editList = List.of(new BlockPos(editX, editY, editZ));
+    }
+
+    /**
+     * Column pass runs on a detached copy; the flood fill resolves chunks through the world and
+     * rewrites the world's own (0,0) with identical values, so repeated runs stay stable.
+     */
+    @Setup(Level.Invocation)
+    public void freshChunk() {
+        target = BenchmarkWorld.copyOf(template);
+    }
+
+    @Benchmark
+    public Chunk generateInitialSunlight() {
+        lightEngine.generateInitialSunlight(target);
+        return target;
+    }
+
+    @Benchmark
+    public boolean onBlocksChanged() {
+        // Toggle between air and the original surface block; chunk.setBlock does not enqueue async light work
+        open = !open;
+        editChunk.setBlock(editX, editY, editZ, open ? 0 : solidType, 0);
+        lightEngine.onBlocksChanged(editList);
+        return open;
+    }
+
+    @TearDown(Level.Trial)
+    public void restore() {
+        editChunk.setBlock(editX, editY, editZ, solidType, 0);
+        lightEngine.onBlocksChanged(editList);
+    }
+}
@@ -0,0 +1,48 @@
+package com.za.zenith.benchmark;
+
+import com.za.zenith.world.generation.SimplexNoise;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Raw simplex noise cost: one 16x16x16 block of samples per invocation, i.e. one chunk section.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NoiseBenchmark {
+    @Param({"1", "4", "8"})
+    public int octaves;
+
+    private SimplexNoise noise;
+
+    @Setup
+    public void setup() {
+        noise = new SimplexNoise(BenchmarkWorld.SEED);
+    }
+
+    @Benchmark
+    public double octaveNoise3D() {
+        double sum = 0;
+        for (int x = 0; x < 16; x++) {
+            for (int y = 0; y < 16; y++) {
+                for (int z = 0; z < 16; z++) {
+                    sum += noise.octaveNoise(x * 1.37, y * 1.37, z * 1.37, octaves, 0.5, 0.01);
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double octaveNoise2D() {
+        double sum = 0;
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                sum += noise.octaveNoise(x * 1.37, z * 1.37, octaves, 0.5, 0.01);
+            }
+        }
+        return sum;
+    }
+}
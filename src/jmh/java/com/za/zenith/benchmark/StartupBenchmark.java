@@ -0,0 +1,41 @@
+package com.za.zenith.benchmark;
+
+import com.za.zenith.engine.resources.LoaderGraph;
+import com.za.zenith.world.DataLoader;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold registry startup: one {@link DataLoader#loadAll()} per fresh JVM (registries are static,
+ * so a second load in the same fork would only measure hot reload).
+ * Compares the sequential graph with the parallel one and prints the wall time of every loader.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(5)
+public class StartupBenchmark {
+    @Param({"1", "8"})
+    public int threads;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        System.setProperty("zenith.loader.threads", Integer.toString(threads));
+    }
+
+    @Benchmark
+    public void loadAll() {
+        DataLoader.loadAll();
+    }
+
+    @TearDown(Level.Trial)
+    public void report() {
+        System.out.printf("%n%-18s %10s %10s  %s%n", "loader (" + threads + "t)", "wall ms", "start ms", "thread");
+        for (LoaderGraph.Timing t : DataLoader.getLastTimings()) {
+            System.out.printf("%-18s %10.2f %10.2f  %s%n", t.name(), t.wallNanos() / 1e6, t.startNanos() / 1e6, t.thread());
+        }
+    }
+}
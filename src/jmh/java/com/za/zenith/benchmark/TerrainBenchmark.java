@@ -0,0 +1,34 @@
+package com.za.zenith.benchmark;
+
+import com.za.zenith.world.chunks.Chunk;
+import com.za.zenith.world.chunks.ChunkPos;
+import com.za.zenith.world.generation.pipeline.steps.TerrainStep;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Density grid + surface rules for a whole chunk.
+ * Positions cycle through a fixed 8x8 area so biome variety is the same on every run.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TerrainBenchmark {
+    private TerrainStep terrain;
+    private int next = 0;
+
+    @Setup
+    public void setup() {
+        BenchmarkWorld.loadRegistries();
+        terrain = new TerrainStep(BenchmarkWorld.SEED);
+    }
+
+    @Benchmark
+    public Chunk generateTerrain() {
+        int i = next++ & 63;
+        Chunk chunk = new Chunk(new ChunkPos((i & 7) - 4, (i >> 3) - 4));
+        terrain.generateTerrain(chunk);
+        return chunk;
+    }
+}
@@ -0,0 +1,61 @@
+package com.za.zenith.entities;
+
+import com.za.zenith.benchmark.BenchmarkWorld;
+import com.za.zenith.world.World;
+import org.joml.Vector3f;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Swept AABB collision against terrain. Lives in the entities package because
+ * {@link Entity#move} is protected.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EntityMoveBenchmark {
+    private World world;
+    private ProbeEntity entity;
+    private float startY;
+    private int step = 0;
+
+    /** Minimal entity with no behaviour of its own: only {@code move} is measured. */
+    static final class ProbeEntity extends Entity {
+        ProbeEntity(Vector3f position) {
+            super(position, 0.6f, 1.8f);
+        }
+
+        @Override
+        protected void onUpdate(float deltaTime, World world) {}
+
+        void step(World world, float dx, float dy, float dz) {
+            move(world, dx, dy, dz);
+        }
+    }
+
+    @Setup
+    public void setup() {
+        world = BenchmarkWorld.get();
+        startY = world.getHighestBlock(8, 8) + 1.0f;
+        entity = new ProbeEntity(new Vector3f(8.5f, startY, 8.5f));
+    }
+
+    @Benchmark
+    public Vector3f walkOnTerrain() {
+        // Walk a fixed 16x16 loop with gravity so both horizontal and ground collisions are hit
+        int s = step++ & 255;
+        if (s == 0) entity.getPosition().set(8.5f, startY, 8.5f);
+        float dx = (s & 64) == 0 ? 0.1f : -0.1f;
+        float dz = (s & 128) == 0 ? 0.1f : -0.1f;
+        entity.step(world, dx, -0.08f, dz);
+        return entity.getPosition();
+    }
+
+    @Benchmark
+    public Vector3f fallIntoGround() {
+        entity.getPosition().set(8.5f, startY + 2.0f, 8.5f);
+        entity.step(world, 0.0f, -3.0f, 0.0f);
+        return entity.getPosition();
+    }
+}
@@ -122,15 +122,22 @@ public class GameLoop {
             accumulator += elapsedTime;
             
             while (accumulator >= interval) {
+                com.za.zenith.utils.profiling.Profiler.push("update");
                 update(interval); // Fixed Physics Update
+                com.za.zenith.utils.profiling.Profiler.pop();
                 accumulator -= interval;
             }
             
             // Calculate interpolation alpha [0..1]
             float alpha = accumulator / interval;
             
+            com.za.zenith.utils.profiling.Profiler.push("input");
             input(elapsedTime);
+            com.za.zenith.utils.profiling.Profiler.pop();
+            com.za.zenith.utils.profiling.Profiler.push("render");
             render(alpha, elapsedTime); // Render with interpolation and deltaTime
+            com.za.zenith.utils.profiling.Profiler.pop();
+            com.za.zenith.utils.profiling.Profiler.endFrame();
             
             sync(elapsedTime);
         }
@@ -271,7 +278,9 @@ public class GameLoop {
         if (active != null && active.isScene()) return;
         
         world.update(interval); // Fixed Physics
+        com.za.zenith.utils.profiling.Profiler.push("particles");
         com.za.zenith.world.particles.ParticleManager.getInstance().update(interval, world);
+        com.za.zenith.utils.profiling.Profiler.pop();
         
         // Fixed Camera Position (Physics Based)
         camera.setPosition(player.getPosition().x, player.getPosition().y + player.getEyeHeight(), player.getPosition().z);
@@ -0,0 +1,141 @@
+package com.za.zenith.engine.graphics;
+
+import com.za.zenith.utils.Logger;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * On-disk copy of a built texture array: the name-to-layer order plus every layer with its full mip
+ * chain ({@link TextureMips} layout). On load the header is checked first, then the layers are read into
+ * one direct buffer and the file is closed; levels are uploaded from that buffer, so a warm start decodes
+ * no PNGs at all. Nothing keeps the file open or mapped, so {@link #write} can always replace it (Windows
+ * refuses to replace a mapped file).
+ * <p>
+ * The key covers the tile size, texture names and their content hashes; any mismatch is a miss.
+ */
+final class AtlasCache {
+    private static final int MAGIC = 0x5A41544C; // "ZATL"
+    private static final int VERSION = 2;
+    /** magic, version, tile size, key, layer count */
+    private static final int HEADER_BYTES = 4 + 4 + 4 + 8 + 4;
+
+    /** Cache contents; {@link #level} returns views into the layer buffer. */
+    static final class Layout {
+        private final List<String> keys;
+        private final ByteBuffer data;
+        private final int tileSize;
+        private final int layerBytes;
+
+        Layout(List<String> keys, ByteBuffer data, int tileSize) {
+            this.keys = keys;
+            this.data = data;
+            this.tileSize = tileSize;
+            this.layerBytes = TextureMips.layerBytes(tileSize);
+        }
+
+        List<String> keys() { return keys; }
+
+        ByteBuffer level(int layer, int level) {
+            int size = TextureMips.levelSize(tileSize, level);
+            return data.slice(layer * layerBytes + TextureMips.levelOffset(tileSize, level), size * size * 4);
+        }
+    }
+
+    private AtlasCache() {}
+
+    /**
+     * @param hashes content hash per key, in the same order; a negative hash makes the set uncacheable
+     * @return the key, or -1 if some texture cannot be hashed
+     */
+    static long key(int tileSize, List<String> keys, long[] hashes) {
+        long h = 0xcbf29ce484222325L ^ tileSize;
+        for (int i = 0; i < keys.size(); i++) {
+            if (hashes[i] < 0) return -1L;
+            h = (h ^ keys.get(i).hashCode()) * 0x100000001b3L;
+            h = (h ^ hashes[i]) * 0x100000001b3L;
+        }
+        return h == -1L ? 0 : h;
+    }
+
+    static Layout read(Path file, long key, int tileSize) {
+        if (file == null || key == -1L || !Files.isRegularFile(file)) return null;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            if (!readFully(channel, header)) return null;
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) return null;
+            if (header.getInt() != tileSize || header.getLong() != key) return null;
+            int count = header.getInt();
+
+            List<String> keys = new ArrayList<>(count);
+            ByteBuffer length = ByteBuffer.allocate(4);
+            for (int i = 0; i < count; i++) {
+                length.clear();
+                if (!readFully(channel, length)) return truncated(file);
+                ByteBuffer name = ByteBuffer.allocate(length.getInt());
+                if (!readFully(channel, name)) return truncated(file);
+                keys.add(new String(name.array(), StandardCharsets.UTF_8));
+            }
+
+            long expected = (long) count * TextureMips.layerBytes(tileSize);
+            if (channel.size() - channel.position() != expected) return truncated(file);
+            ByteBuffer data = ByteBuffer.allocateDirect((int) expected);
+            if (!readFully(channel, data)) return truncated(file);
+            return new Layout(keys, data, tileSize);
+        } catch (IOException | RuntimeException e) {
+            Logger.warn("Cannot read atlas cache %s: %s", file, e.getMessage());
+            return null;
+        }
+    }
+
+    /** Fills the buffer and flips it; false at end of file. */
+    private static boolean readFully(FileChannel channel, ByteBuffer buf) throws IOException {
+        while (buf.hasRemaining()) {
+            if (channel.read(buf) < 0) return false;
+        }
+        buf.flip();
+        return true;
+    }
+
+    private static Layout truncated(Path file) {
+        Logger.warn("Atlas cache %s is truncated, rebuilding", file);
+        return null;
+    }
+
+    static void write(Path file, long key, int tileSize, List<String> keys, byte[][] layers) {
+        if (file == null || key == -1L) return;
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            if (file.getParent() != null) Files.createDirectories(file.getParent());
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp), 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(tileSize);
+                out.writeLong(key);
+                out.writeInt(keys.size());
+                for (String k : keys) {
+                    byte[] name = k.getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(name.length);
+                    out.write(name);
+                }
+                for (byte[] layer : layers) out.write(layer);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Logger.warn("Cannot write atlas cache %s: %s", file, e.getMessage());
+            try {
+                Files.deleteIfExists(tmp);
+            } catch (IOException ignored) {}
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.za.zenith.engine.graphics;
+
+import com.za.zenith.world.BlockPos;
+import com.za.zenith.world.World;
+import com.za.zenith.world.blocks.entity.BlockEntity;
+import com.za.zenith.world.blocks.entity.ModularBlockEntity;
+import com.za.zenith.world.chunks.Chunk;
+import com.za.zenith.world.chunks.ChunkPos;
+import com.za.zenith.world.items.Item;
+import com.za.zenith.world.items.ItemStack;
+import org.joml.FrustumIntersection;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Render list of block-entity overlays (carving masks, items lying on crafting surfaces), grouped per
+ * chunk with model matrices computed once.
+ * <p>
+ * Entries are rebuilt only for positions reported by {@link World#getChangedBlockEntities()}; the
+ * visible subset is recomputed only when the camera frustum or the entry set changes. Drawing is
+ * therefore proportional to what is on screen, not to every loaded block entity.
+ */
+final class BlockEntityOverlayList {
+    /** An item resting on a crafting surface. */
+    static final class SurfaceItem {
+        final Item item;
+        final Matrix4f model;
+        Mesh mesh;
+
+        SurfaceItem(Item item, Matrix4f model) {
+            this.item = item;
+            this.model = model;
+        }
+    }
+
+    static final class Entry {
+        final BlockEntity blockEntity;
+        final BlockPos pos;
+        int carveMask = -1;
+        float carveLayer;
+        Matrix4f carveModel;
+        SurfaceItem[] items = NO_ITEMS;
+
+        Entry(BlockEntity blockEntity) {
+            this.blockEntity = blockEntity;
+            this.pos = blockEntity.getPos();
+        }
+
+        boolean hasCarving() { return carveMask >= 0; }
+    }
+
+    private static final SurfaceItem[] NO_ITEMS = new SurfaceItem[0];
+
+    private static final class ChunkOverlays {
+        final int cx;
+        final int cz;
+        final Map<BlockPos, Entry> entries = new HashMap<>();
+        int minY;
+        int maxY;
+
+        ChunkOverlays(int cx, int cz) {
+            this.cx = cx;
+            this.cz = cz;
+        }
+
+        void updateBounds() {
+            int lo = Integer.MAX_VALUE, hi = Integer.MIN_VALUE;
+            for (BlockPos p : entries.keySet()) {
+                lo = Math.min(lo, p.y());
+                hi = Math.max(hi, p.y());
+            }
+            minY = lo;
+            maxY = hi + 2; // Items lie on top of the block
+        }
+    }
+
+    private final Map<Long, ChunkOverlays> chunks = new HashMap<>();
+    private final List<Entry> visible = new ArrayList<>();
+    private final Matrix4f lastFrustumMatrix = new Matrix4f();
+    private World world;
+    private DynamicTextureAtlas atlas;
+    private boolean visibleDirty = true;
+
+    /**
+     * Applies pending block-entity changes and returns the entries to draw this frame.
+     * The returned list is owned by this object and valid until the next call.
+     */
+    List<Entry> update(SceneState state, DynamicTextureAtlas atlas) {
+        World w = state.getWorld();
+        if (w != world || atlas != this.atlas) {
+            rebuildAll(w, atlas);
+        } else {
+            Iterator<BlockPos> it = w.getChangedBlockEntities().iterator();
+            while (it.hasNext()) {
+                BlockPos pos = it.next();
+                it.remove();
+                refresh(pos);
+            }
+        }
+
+        if (visibleDirty || !lastFrustumMatrix.equals(state.getFrustumMatrix())) {
+            lastFrustumMatrix.set(state.getFrustumMatrix());
+            collectVisible(state);
+            visibleDirty = false;
+        }
+        return visible;
+    }
+
+    /** Drops everything; the next {@link #update} rebuilds from the world. */
+    void invalidate() {
+        world = null;
+    }
+
+    void onChunkUnload(Chunk chunk) {
+        if (chunks.remove(ChunkPos.pack(chunk.getPosition().x(), chunk.getPosition().z())) != null) {
+            visibleDirty = true;
+        }
+    }
+
+    private void rebuildAll(World w, DynamicTextureAtlas atlas) {
+        this.world = w;
+        this.atlas = atlas;
+        chunks.clear();
+        visibleDirty = true;
+        if (w == null) return;
+        w.getChangedBlockEntities().clear();
+        for (BlockEntity be : w.getBlockEntities().values()) {
+            Entry e = build(be);
+            if (e != null) chunkFor(be.getPos()).entries.put(e.pos, e);
+        }
+        for (ChunkOverlays c : chunks.values()) c.updateBounds();
+    }
+
+    private void refresh(BlockPos pos) {
+        long key = ChunkPos.pack(pos.x() >> 4, pos.z() >> 4);
+        BlockEntity be = world.getBlockEntity(pos);
+        Entry e = be != null ? build(be) : null;
+        ChunkOverlays c = chunks.get(key);
+        if (e != null) {
+            if (c == null) c = chunkFor(pos);
+            c.entries.put(pos, e);
+        } else if (c != null) {
+            c.entries.remove(pos);
+            if (c.entries.isEmpty()) {
+                chunks.remove(key);
+                c = null;
+            }
+        }
+        if (c != null) c.updateBounds();
+        visibleDirty = true;
+    }
+
+    private ChunkOverlays chunkFor(BlockPos pos) {
+        int cx = pos.x() >> 4, cz = pos.z() >> 4;
+        return chunks.computeIfAbsent(ChunkPos.pack(cx, cz), k -> new ChunkOverlays(cx, cz));
+    }
+
+    /** @return the overlay entry for a block entity, or null if it has nothing to draw */
+    private Entry build(BlockEntity be) {
+        if (!(be instanceof ModularBlockEntity modular) || be.isRemoved()) return null;
+        BlockPos p = be.getPos();
+        Entry e = new Entry(be);
+
+        float layer = CarvingRenderer.resolveOverlayLayer(be, atlas);
+        if (layer >= 0) {
+            e.carveMask = (int) modular.getFloat(ModularBlockEntity.PROP_CARVE_MASK, -1);
+            e.carveLayer = layer;
+            e.carveModel = new Matrix4f().translation(p.x() + 0.5f, p.y(), p.z() + 0.5f);
+        }
+
+        var def = com.za.zenith.world.blocks.BlockRegistry.getBlock(world.getBlock(p).getType());
+        var surface = def != null ? def.getComponent(com.za.zenith.world.blocks.component.CraftingSurfaceComponent.class) : null;
+        // Предметы рисуются только на "поверхности для крафта"
+        if (surface != null) {
+            int count = 0;
+            for (int i = 0; i < modular.size(); i++) {
+                if (modular.getStack(i) != null) count++;
+            }
+            if (count > 0) {
+                int gridSize = surface.getGridSize();
+                e.items = new SurfaceItem[count];
+                int n = 0;
+                for (int i = 0; i < modular.size(); i++) {
+                    ItemStack stack = modular.getStack(i);
+                    if (stack == null) continue;
+                    Item item = stack.getItem();
+                    Vector3f t = com.za.zenith.world.blocks.CraftingLayoutEngine.getSlotTransform(i, count, gridSize);
+                    float s = (item.isBlock() ? 0.4f : item.getDroppedScale() * 0.6f) * t.y;
+                    Matrix4f model = new Matrix4f().translation(p.x() + 0.5f + t.x, p.y() + 1.02f, p.z() + 0.5f + t.z);
+                    if (item.isBlock()) model.scale(s); else model.rotateX(1.5708f).scale(s);
+                    SurfaceItem si = new SurfaceItem(item, model);
+                    si.mesh = MeshRegistry.getItemMesh(item, atlas);
+                    e.items[n++] = si;
+                }
+            }
+        }
+
+        return e.hasCarving() || e.items.length > 0 ? e : null;
+    }
+
+    private void collectVisible(SceneState state) {
+        visible.clear();
+        FrustumIntersection frustum = state.getFrustum();
+        Vector3f cam = state.getCameraPos();
+        int camCx = (int) Math.floor(cam.x / Chunk.CHUNK_SIZE);
+        int camCz = (int) Math.floor(cam.z / Chunk.CHUNK_SIZE);
+        int renderDist = world.getRenderDistance();
+
+        for (ChunkOverlays c : chunks.values()) {
+            if (Math.abs(c.cx - camCx) > renderDist || Math.abs(c.cz - camCz) > renderDist) continue;
+            float x = c.cx * Chunk.CHUNK_SIZE, z = c.cz * Chunk.CHUNK_SIZE;
+            if (!frustum.testAab(x, c.minY, z, x + Chunk.CHUNK_SIZE, c.maxY, z + Chunk.CHUNK_SIZE)) continue;
+            for (Entry e : c.entries.values()) {
+                BlockPos p = e.pos;
+                if (frustum.testAab(p.x(), p.y(), p.z(), p.x() + 1, p.y() + 2, p.z() + 1)) visible.add(e);
+            }
+        }
+    }
+}
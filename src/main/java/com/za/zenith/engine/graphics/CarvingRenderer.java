@@ -1,6 +1,5 @@
 package com.za.zenith.engine.graphics;
 
-import com.za.zenith.world.BlockPos;
 import org.joml.Matrix4f;
 
 import com.za.zenith.world.blocks.entity.BlockEntity;
@@ -15,26 +14,28 @@ import com.za.zenith.world.blocks.Block;
 public class CarvingRenderer {
     private Mesh fullFaceMesh;
 
-    public void render(BlockEntity be, DynamicTextureAtlas atlas, Shader shader, Matrix4f modelMatrix, Renderer renderer, BlockPos breakingPos, float wobbleTimer) {
-        if (be instanceof ModularBlockEntity modular) {
-            renderModular(modular, atlas, shader, modelMatrix, breakingPos, wobbleTimer);
-        }
-    }
-
-    private void renderModular(ModularBlockEntity modular, DynamicTextureAtlas atlas, Shader shader, Matrix4f modelMatrix, BlockPos breakingPos, float wobbleTimer) {
+    /**
+     * Слой атласа для верхней грани обтёсанного блока или -1, если рисовать нечего.
+     * Вызывается при пересборке списка оверлеев, а не каждый кадр.
+     */
+    public static float resolveOverlayLayer(BlockEntity be, DynamicTextureAtlas atlas) {
+        if (!(be instanceof ModularBlockEntity modular) || modular.getWorld() == null) return -1;
         int mask = (int) modular.getFloat(ModularBlockEntity.PROP_CARVE_MASK, -1);
-        if (mask < 0) return; // Нет маски для отрисовки
-        
-        BlockPos pos = modular.getPos();
-        
-        if (modular.getWorld() == null) return;
-        int blockType = modular.getWorld().getBlock(pos).getType();
+        if (mask < 0) return -1; // Нет маски для отрисовки
+
+        int blockType = modular.getWorld().getBlock(modular.getPos()).getType();
         com.za.zenith.world.blocks.BlockTextures textures = com.za.zenith.world.blocks.BlockRegistry.getTextures(blockType);
-        if (textures == null || textures.getTop() == null) return;
-        
+        if (textures == null || textures.getTop() == null) return -1;
+
         float[] uv = atlas.uvFor(textures.getTop());
-        if (uv == null) return;
+        return uv != null ? uv[2] : -1;
+    }
 
+    /**
+     * Рисует маску обтёсывания. {@code model} — та же матрица, что у прокси ломания:
+     * центр по XZ, основание по Y.
+     */
+    public void render(Shader shader, int mask, float overlayLayer, Matrix4f model, boolean isProxy) {
         if (fullFaceMesh == null) {
             createFullFaceMesh();
         }
@@ -42,18 +43,14 @@ public class CarvingRenderer {
         shader.setBoolean("useMask", true);
         shader.setInt("faceMask", mask);
         shader.setBoolean("previewPass", false);
-        shader.setFloat("overlayLayer", uv[2]);
+        shader.setFloat("overlayLayer", overlayLayer);
         shader.setFloat("brightnessMultiplier", 1.1f);
 
-        boolean isProxy = pos.equals(breakingPos);
         if (isProxy) {
             shader.setBoolean("uIsProxy", true);
         }
 
-        // Use the exact same model matrix setup as the breaking proxy block
-        // Centered at XZ=0, base at Y=0
-        modelMatrix.identity().translate(pos.x() + 0.5f, pos.y(), pos.z() + 0.5f);
-        shader.setMatrix4f("model", modelMatrix);
+        shader.setMatrix4f("model", model);
         
         fullFaceMesh.render();
 
@@ -45,7 +45,8 @@ public class ChunkRenderSystem {
         this.opaqueBatch = new MultiDrawBatch(meshPool);
         this.translucentBatch = new MultiDrawBatch(meshPool);
         
-        this.meshExecutor = new com.za.zenith.utils.PriorityExecutorService(
+        this.meshExecutor = com.za.zenith.utils.PriorityExecutorService.create(
+            "MeshGenerator",
             Math.min(2, Math.max(1, Runtime.getRuntime().availableProcessors() / 2)),
             r -> {
                 Thread t = new Thread(r, "MeshGenerator");
@@ -169,6 +170,7 @@ public class ChunkRenderSystem {
         int renderDist = world.getRenderDistance();
 
         // 1. Process finished uploads
+        com.za.zenith.utils.profiling.Profiler.push("upload");
         long uploadStart = System.nanoTime();
         Iterator<Map.Entry<Chunk, Future<ChunkMeshGenerator.RawChunkMeshResult>>> it = pendingUpdates.entrySet().iterator();
         while (it.hasNext()) {
@@ -193,7 +195,10 @@ public class ChunkRenderSystem {
             }
         }
 
+        com.za.zenith.utils.profiling.Profiler.pop();
+
         // 2. Schedule new meshes using SPIRAL search for better prioritization
+        com.za.zenith.utils.profiling.Profiler.push("schedule");
         int scheduled = 0, maxSchedule = 2;
         int x = 0, z = 0, dx = 0, dz = -1, checkRadius = renderDist + 1;
         int iterations = (checkRadius * 2 + 1) * (checkRadius * 2 + 1);
@@ -214,6 +219,7 @@ public class ChunkRenderSystem {
             }
             x += dx; z += dz;
         }
+        com.za.zenith.utils.profiling.Profiler.pop();
     }
 
     private void scheduleChunkMesh(Chunk chunk, World world, DynamicTextureAtlas atlas, Vector3f camPos) {
@@ -228,11 +234,13 @@ public class ChunkRenderSystem {
             @Override public int getPriority() { return (int)distSq; }
             @Override public ChunkMeshGenerator.RawChunkMeshResult call() throws Exception {
                 try {
+                    com.za.zenith.utils.profiling.Profiler.push("chunkMesh");
                     Chunk temp = new Chunk(snapshot.position(), snapshot.blockData(), snapshot.lightData());
                     temp.setDirtyCounter(version);
                     temp.setFirstSpawnTime(spawnTime);
                     return ChunkMeshGenerator.generateRawMesh(temp, world, atlas);
                 } finally {
+                    com.za.zenith.utils.profiling.Profiler.pop();
                     com.za.zenith.utils.ArrayPool.returnBlockDataArray(snapshot.blockData());
                     com.za.zenith.utils.ArrayPool.returnLightDataArray(snapshot.lightData());
                 }
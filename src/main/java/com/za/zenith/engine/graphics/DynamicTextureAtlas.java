@@ -1,13 +1,28 @@
 package com.za.zenith.engine.graphics;
 
+import com.za.zenith.engine.resources.AssetManager;
+import com.za.zenith.engine.resources.ResourceIndex;
 import com.za.zenith.utils.Logger;
 import org.lwjgl.system.MemoryStack;
+import org.lwjgl.system.MemoryUtil;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.lwjgl.opengl.GL11.*;
 import static org.lwjgl.opengl.GL12.*;
@@ -17,6 +32,9 @@ import static org.lwjgl.stb.STBImage.*;
 import static org.lwjgl.system.MemoryStack.stackPush;
 
 public class DynamicTextureAtlas {
+    // "none" disables the on-disk layer cache
+    private static final Path CACHE_FILE = cacheFile();
+
     private final int tileSize;
     private final Map<String, String> keyToPath = new LinkedHashMap<>();
     private final Map<String, Integer> keyToLayer = new LinkedHashMap<>();
@@ -29,89 +47,68 @@ public class DynamicTextureAtlas {
         this.tileSize = tileSize;
     }
 
+    private static Path cacheFile() {
+        String file = System.getProperty("zenith.atlas.cache", "cache/atlas.bin");
+        return "none".equalsIgnoreCase(file) ? null : Paths.get(file);
+    }
+
     public void add(String key, String path) {
         keyToPath.put(key, path);
     }
 
+    /**
+     * Builds the texture array. Layers are ordered by key so the layout is stable between runs.
+     * <p>
+     * Warm start: layers and mips come from the {@link AtlasCache} file. Cold start: PNGs are
+     * decoded, flipped, resized and mip-mapped on worker threads ({@link TextureMips}); this thread only
+     * uploads finished layers, in order, and writes the cache afterwards.
+     */
     public void build() {
         int count = keyToPath.size();
         if (count == 0) {
             createWhiteTexture();
             return;
         }
-        
+        long start = System.nanoTime();
+
+        List<String> keys = new ArrayList<>(keyToPath.keySet());
+        Collections.sort(keys);
+        long cacheKey = cacheKey(keys);
+        AtlasCache.Layout cached = AtlasCache.read(CACHE_FILE, cacheKey, tileSize);
+
         layers = count;
         width = tileSize;
         height = tileSize;
+        int levels = TextureMips.levelCount(tileSize);
 
         textureId = glGenTextures();
         glBindTexture(GL_TEXTURE_2D_ARRAY, textureId);
-        
-        // Use glTexImage3D to allocate the base level. 
-        // Subsequent levels will be generated via glGenerateMipmap.
-        glTexImage3D(GL_TEXTURE_2D_ARRAY, 0, GL_RGBA8, width, height, layers, 0, GL_RGBA, GL_UNSIGNED_BYTE, (ByteBuffer)null);
+        for (int level = 0; level < levels; level++) {
+            int s = TextureMips.levelSize(tileSize, level);
+            glTexImage3D(GL_TEXTURE_2D_ARRAY, level, GL_RGBA8, s, s, layers, 0, GL_RGBA, GL_UNSIGNED_BYTE, (ByteBuffer) null);
+        }
 
-        int index = 0;
-        stbi_set_flip_vertically_on_load(true);
-        for (Map.Entry<String, String> e : keyToPath.entrySet()) {
-            String key = e.getKey();
-            String path = e.getValue();
-            try (MemoryStack stack = stackPush()) {
-                IntBuffer w = stack.mallocInt(1);
-                IntBuffer h = stack.mallocInt(1);
-                IntBuffer c = stack.mallocInt(1);
-                ByteBuffer img = loadImageFromPath(stack, path, w, h, c);
-                boolean isStbAllocated = true;
-                
-                if (img == null) {
-                    Logger.error("Failed to load block texture: %s (%s)", path, stbi_failure_reason());
-                    img = createSolidImage(tileSize, tileSize, (byte) 255, (byte) 0, (byte) 255, (byte) 255);
-                    w.put(0, tileSize);
-                    h.put(0, tileSize);
-                    isStbAllocated = false;
-                }
-                
-                // Resize if needed
-                int iw = w.get(0), ih = h.get(0);
-                if (iw != tileSize || ih != tileSize) {
-                    ByteBuffer resized = ByteBuffer.allocateDirect(tileSize * tileSize * 4);
-                    for (int y = 0; y < tileSize; y++) {
-                        for (int x = 0; x < tileSize; x++) {
-                            int sx = x * iw / tileSize;
-                            int sy = y * ih / tileSize;
-                            int src = (sy * iw + sx) * 4;
-                            int dst = (y * tileSize + x) * 4;
-                            resized.put(dst, img.get(src));
-                            resized.put(dst + 1, img.get(src + 1));
-                            resized.put(dst + 2, img.get(src + 2));
-                            resized.put(dst + 3, img.get(src + 3));
-                        }
-                    }
-                    if (isStbAllocated) {
-                        stbi_image_free(img);
-                    }
-                    img = resized;
-                    isStbAllocated = false;
+        if (cached != null) {
+            for (int i = 0; i < count; i++) {
+                for (int level = 0; level < levels; level++) {
+                    int s = TextureMips.levelSize(tileSize, level);
+                    glTexSubImage3D(GL_TEXTURE_2D_ARRAY, level, 0, 0, i, s, s, 1, GL_RGBA, GL_UNSIGNED_BYTE, cached.level(i, level));
                 }
-
-                keyToLayer.put(key, index);
-                glTexSubImage3D(GL_TEXTURE_2D_ARRAY, 0, 0, 0, index, tileSize, tileSize, 1, GL_RGBA, GL_UNSIGNED_BYTE, img);
-                
-                if (isStbAllocated) stbi_image_free(img);
+                keyToLayer.put(keys.get(i), i);
             }
-            index++;
+        } else {
+            buildLayers(keys, cacheKey, levels);
         }
 
         glTexParameteri(GL_TEXTURE_2D_ARRAY, GL_TEXTURE_WRAP_S, GL_CLAMP_TO_EDGE);
         glTexParameteri(GL_TEXTURE_2D_ARRAY, GL_TEXTURE_WRAP_T, GL_CLAMP_TO_EDGE);
+        glTexParameteri(GL_TEXTURE_2D_ARRAY, GL_TEXTURE_MAX_LEVEL, levels - 1);
         
         // Proper voxel filtering: LINEAR_MIPMAP_LINEAR for MIN filter to smooth distance,
         // NEAREST for MAG filter to keep close-up pixels sharp.
         glTexParameteri(GL_TEXTURE_2D_ARRAY, GL_TEXTURE_MIN_FILTER, GL_LINEAR_MIPMAP_LINEAR);
         glTexParameteri(GL_TEXTURE_2D_ARRAY, GL_TEXTURE_MAG_FILTER, GL_NEAREST);
         
-        glGenerateMipmap(GL_TEXTURE_2D_ARRAY);
-        
         // Neutral LOD bias avoids artifacts. Negative bias can cause flickering.
         glTexParameterf(GL_TEXTURE_2D_ARRAY, GL_TEXTURE_LOD_BIAS, 0.0f); 
 
@@ -123,7 +120,110 @@ public class DynamicTextureAtlas {
             }
         } catch (Exception ignored) {}
 
-        Logger.info("Built dynamic texture array %dx%dx%d", width, height, layers);
+        Logger.info("Built dynamic texture array %dx%dx%d in %.1f ms (%s)", width, height, layers,
+            (System.nanoTime() - start) / 1e6, cached != null ? "cached" : "decoded");
+    }
+
+    private void buildLayers(List<String> keys, long cacheKey, int levels) {
+        int count = keys.size();
+        int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService pool = com.za.zenith.utils.PriorityExecutorService.create("atlas", threads, r -> {
+            Thread t = new Thread(r, "AtlasDecoder-" + threadIndex.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        List<Future<byte[]>> futures = new ArrayList<>(count);
+        AtomicBoolean failed = new AtomicBoolean();
+        for (String key : keys) {
+            String path = keyToPath.get(key);
+            futures.add(pool.submit(() -> decodeLayer(path, failed)));
+        }
+
+        byte[][] built = new byte[count][];
+        ByteBuffer staging = MemoryUtil.memAlloc(TextureMips.layerBytes(tileSize));
+        try {
+            for (int i = 0; i < count; i++) {
+                byte[] layer;
+                try {
+                    layer = futures.get(i).get();
+                } catch (ExecutionException e) {
+                    Logger.error("Failed to decode block texture: %s", e.getCause(), keyToPath.get(keys.get(i)));
+                    layer = TextureMips.buildLayer(TextureMips.solid(tileSize, 255, 0, 255, 255), tileSize);
+                    failed.set(true);
+                }
+                built[i] = layer;
+                staging.clear();
+                staging.put(layer).flip();
+                for (int level = 0; level < levels; level++) {
+                    int s = TextureMips.levelSize(tileSize, level);
+                    ByteBuffer data = staging.slice(TextureMips.levelOffset(tileSize, level), s * s * 4);
+                    glTexSubImage3D(GL_TEXTURE_2D_ARRAY, level, 0, 0, i, s, s, 1, GL_RGBA, GL_UNSIGNED_BYTE, data);
+                }
+                keyToLayer.put(keys.get(i), i);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while building texture atlas", e);
+        } finally {
+            MemoryUtil.memFree(staging);
+            pool.shutdownNow();
+        }
+
+        // Broken textures are not cached, so the error shows up again on the next start
+        if (!failed.get()) AtlasCache.write(CACHE_FILE, cacheKey, tileSize, keys, built);
+    }
+
+    /** Worker side: PNG to a full mip-mapped layer. Missing textures become magenta. */
+    private byte[] decodeLayer(String path, AtomicBoolean failed) throws IOException {
+        byte[] rgba = null;
+        int w = tileSize, h = tileSize;
+        byte[] encoded = readImage(path);
+        if (encoded != null) {
+            ByteBuffer src = MemoryUtil.memAlloc(encoded.length);
+            try (MemoryStack stack = stackPush()) {
+                src.put(encoded).flip();
+                IntBuffer pw = stack.mallocInt(1);
+                IntBuffer ph = stack.mallocInt(1);
+                IntBuffer pc = stack.mallocInt(1);
+                // The global flip flag is usually already set by the data loaders; override it for this thread
+                stbi_set_flip_vertically_on_load_thread(0);
+                ByteBuffer img = stbi_load_from_memory(src, pw, ph, pc, 4);
+                if (img != null) {
+                    w = pw.get(0);
+                    h = ph.get(0);
+                    rgba = new byte[w * h * 4];
+                    img.get(rgba);
+                    stbi_image_free(img);
+                } else {
+                    Logger.error("Failed to load block texture: %s (%s)", path, stbi_failure_reason());
+                }
+            } finally {
+                MemoryUtil.memFree(src);
+            }
+        } else {
+            Logger.error("Failed to load block texture: %s (not found)", path);
+        }
+
+        if (rgba == null) {
+            failed.set(true);
+            rgba = TextureMips.solid(tileSize, 255, 0, 255, 255);
+            w = h = tileSize;
+        }
+        // stb decoded top row first; the atlas expects the bottom row first
+        TextureMips.flipRows(rgba, w, h);
+        return TextureMips.buildLayer(TextureMips.resizeNearest(rgba, w, h, tileSize), tileSize);
+    }
+
+    private long cacheKey(List<String> keys) {
+        if (CACHE_FILE == null) return -1L;
+        ResourceIndex index = ResourceIndex.get();
+        long[] hashes = new long[keys.size()];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = index.contentHash(AssetManager.toResourcePath(keyToPath.get(keys.get(i))));
+        }
+        return AtlasCache.key(tileSize, keys, hashes);
     }
 
     private void createWhiteTexture() {
@@ -159,27 +259,12 @@ public class DynamicTextureAtlas {
         glDeleteTextures(textureId);
     }
 
-    private ByteBuffer loadImageFromPath(MemoryStack stack, String path, IntBuffer w, IntBuffer h, IntBuffer c) {
-        try {
-            String resourcePath = path.replace("src/main/resources/", "");
-            // Handle Identifier-style pathing (e.g., zenith:textures/item/hand.png -> zenith/textures/item/hand.png)
-            if (resourcePath.contains(":")) {
-                resourcePath = resourcePath.replace(":", "/");
-            }
-            var inputStream = getClass().getClassLoader().getResourceAsStream(resourcePath);
-            if (inputStream != null) {
-                byte[] imageData = inputStream.readAllBytes();
-                ByteBuffer imageBuffer = stack.malloc(imageData.length);
-                imageBuffer.put(imageData);
-                imageBuffer.flip();
-                inputStream.close();
-                return stbi_load_from_memory(imageBuffer, w, h, c, 4);
-            }
-            return stbi_load(path, w, h, c, 4);
-        } catch (IOException e) {
-            Logger.error("IOException while loading texture: %s", e, path);
-            return null;
+    private static byte[] readImage(String path) throws IOException {
+        try (InputStream in = AssetManager.open(AssetManager.toResourcePath(path))) {
+            if (in != null) return in.readAllBytes();
         }
+        Path file = Paths.get(path);
+        return Files.isRegularFile(file) ? Files.readAllBytes(file) : null;
     }
 
     public float getLayer(String key) {
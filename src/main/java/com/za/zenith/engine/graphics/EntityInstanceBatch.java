@@ -0,0 +1,114 @@
+package com.za.zenith.engine.graphics;
+
+import org.joml.FrustumIntersection;
+import org.joml.Matrix4fc;
+import org.joml.Vector3fc;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Groups visible entities by mesh and packs their per-instance data so every group becomes a single
+ * instanced draw. Layout per instance: 16 floats model matrix (column-major) + 4 floats light
+ * (sun, block, ao, chunk spawn time), matching locations 9-13 of the block shader.
+ * <p>
+ * Generic over the mesh type so grouping and packing can be tested without a GL context.
+ * Buffers are reused between frames; steady state does not allocate.
+ */
+public final class EntityInstanceBatch<M> {
+    public static final int MATRIX_FLOATS = 16;
+    public static final int LIGHT_FLOATS = 4;
+    public static final int FLOATS_PER_INSTANCE = MATRIX_FLOATS + LIGHT_FLOATS;
+
+    // Groups unused for this many frames are dropped (meshes may be rebuilt)
+    private static final int EVICT_AFTER_FRAMES = 120;
+
+    private static final class Group<M> {
+        final M mesh;
+        float[] data = new float[FLOATS_PER_INSTANCE * 8];
+        int count;
+        int first;
+        long lastFrame;
+
+        Group(M mesh) {
+            this.mesh = mesh;
+        }
+    }
+
+    private final Map<M, Group<M>> groups = new IdentityHashMap<>();
+    private final List<Group<M>> active = new ArrayList<>();
+    private float[] packed = new float[FLOATS_PER_INSTANCE * 64];
+    private int instanceCount;
+    private long frame;
+
+    /**
+     * Frustum and distance pre-pass. The bounding box is tested against the frustum, the entity
+     * position against {@code maxDistanceSq} from {@code eye}.
+     */
+    public static boolean isVisible(FrustumIntersection frustum, Vector3fc min, Vector3fc max, Vector3fc pos, Vector3fc eye, float maxDistanceSq) {
+        if (pos.distanceSquared(eye) > maxDistanceSq) return false;
+        return frustum == null || frustum.testAab(min, max);
+    }
+
+    /** Starts a new frame; previous groups are kept for reuse. */
+    public void begin() {
+        frame++;
+        for (int i = 0; i < active.size(); i++) active.get(i).count = 0;
+        active.clear();
+        instanceCount = 0;
+        if (frame % EVICT_AFTER_FRAMES == 0) {
+            long limit = frame - EVICT_AFTER_FRAMES;
+            groups.values().removeIf(g -> g.lastFrame < limit);
+        }
+    }
+
+    public void add(M mesh, Matrix4fc model, float sunLight, float blockLight, float ao, float spawnTime) {
+        Group<M> g = groups.get(mesh);
+        if (g == null) {
+            g = new Group<>(mesh);
+            groups.put(mesh, g);
+        }
+        if (g.count == 0) {
+            active.add(g);
+            g.lastFrame = frame;
+        }
+        int off = g.count * FLOATS_PER_INSTANCE;
+        if (off + FLOATS_PER_INSTANCE > g.data.length) {
+            g.data = java.util.Arrays.copyOf(g.data, g.data.length * 2);
+        }
+        model.get(g.data, off);
+        g.data[off + 16] = sunLight;
+        g.data[off + 17] = blockLight;
+        g.data[off + 18] = ao;
+        g.data[off + 19] = spawnTime;
+        g.count++;
+        instanceCount++;
+    }
+
+    /**
+     * Copies all groups back to back into {@link #getPacked()}, in the order meshes were first seen this frame.
+     * @return number of packed instances
+     */
+    public int pack() {
+        int needed = instanceCount * FLOATS_PER_INSTANCE;
+        if (needed > packed.length) packed = new float[Math.max(needed, packed.length * 2)];
+        int first = 0;
+        for (int i = 0; i < active.size(); i++) {
+            Group<M> g = active.get(i);
+            g.first = first;
+            System.arraycopy(g.data, 0, packed, first * FLOATS_PER_INSTANCE, g.count * FLOATS_PER_INSTANCE);
+            first += g.count;
+        }
+        return instanceCount;
+    }
+
+    public float[] getPacked() { return packed; }
+    public int getInstanceCount() { return instanceCount; }
+    public int getGroupCount() { return active.size(); }
+    public M groupMesh(int group) { return active.get(group).mesh; }
+    /** First instance of the group inside the packed data (valid after {@link #pack()}). */
+    public int groupFirst(int group) { return active.get(group).first; }
+    public int groupSize(int group) { return active.get(group).count; }
+}
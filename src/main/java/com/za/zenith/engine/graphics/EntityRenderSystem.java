@@ -18,6 +18,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.GL15.*;
 
 /**
  * EntityRenderSystem handles rendering of all dynamic entities,
@@ -35,6 +36,15 @@ public class EntityRenderSystem {
     // L1 Entity Light Cache
     private com.za.zenith.world.chunks.Chunk lastEntityChunk;
     private com.za.zenith.world.chunks.ChunkPos lastEntityChunkPos;
+    private float lightSun, lightBlock, lightSpawnTime;
+
+    // Dropped items further than 24 blocks from the player are not drawn
+    private static final float ITEM_DRAW_DISTANCE_SQ = 576.0f;
+
+    // Instanced item/resource/decoration entities
+    private final EntityInstanceBatch<Mesh> instances = new EntityInstanceBatch<>();
+    private final int instanceVbo;
+    private java.nio.FloatBuffer instanceBuffer = org.lwjgl.system.MemoryUtil.memAllocFloat(EntityInstanceBatch.FLOATS_PER_INSTANCE * 256);
 
     // Zero Alloc Viewmodel Lights
     private final List<com.za.zenith.world.lighting.LightSource> viewLights = new ArrayList<>();
@@ -43,6 +53,7 @@ public class EntityRenderSystem {
     public EntityRenderSystem() {
         this.viewmodelShader = new Shader("src/main/resources/shaders/viewmodel_vertex.glsl", "src/main/resources/shaders/viewmodel_fragment.glsl");
         createPlayerMesh();
+        this.instanceVbo = glGenBuffers();
         for (int i = 0; i < viewLightPool.length; i++) {
             viewLightPool[i] = new com.za.zenith.world.lighting.LightSource(new com.za.zenith.world.lighting.LightData());
         }
@@ -53,7 +64,11 @@ public class EntityRenderSystem {
         this.itemHeat = item;
     }
 
-    private void setEntityLight(World world, Vector3f pos, Shader shader) {
+    /**
+     * Samples sun/block light and chunk spawn time at the entity into {@link #lightSun},
+     * {@link #lightBlock} and {@link #lightSpawnTime}.
+     */
+    private void sampleEntityLight(World world, Vector3f pos) {
         int x = (int) Math.floor(pos.x), y = (int) Math.floor(pos.y), z = (int) Math.floor(pos.z);
         var cp = com.za.zenith.world.chunks.ChunkPos.fromBlockPos(x, z);
         if (lastEntityChunk == null || !cp.equals(lastEntityChunkPos)) {
@@ -61,48 +76,90 @@ public class EntityRenderSystem {
             lastEntityChunkPos = cp;
         }
         if (lastEntityChunk != null) {
-            Vector3f light = RenderContext.getVector().set(
-                lastEntityChunk.getSunlight(x & 15, y, z & 15),
-                lastEntityChunk.getBlockLight(x & 15, y, z & 15),
-                1.0f 
-            );
-            shader.setVector3f("uOverrideLight", light);
-            shader.setFloat("uChunkSpawnTime", lastEntityChunk.getFirstSpawnTime());
+            lightSun = lastEntityChunk.getSunlight(x & 15, y, z & 15);
+            lightBlock = lastEntityChunk.getBlockLight(x & 15, y, z & 15);
+            lightSpawnTime = lastEntityChunk.getFirstSpawnTime();
         } else {
-            shader.setVector3f("uOverrideLight", 15, 0, 1);
-            shader.setFloat("uChunkSpawnTime", -100.0f);
+            lightSun = 15;
+            lightBlock = 0;
+            lightSpawnTime = -100.0f;
         }
     }
 
+    private void setEntityLight(World world, Vector3f pos, Shader shader) {
+        sampleEntityLight(world, pos);
+        shader.setVector3f("uOverrideLight", lightSun, lightBlock, 1.0f);
+        shader.setFloat("uChunkSpawnTime", lightSpawnTime);
+    }
+
     public void render(SceneState state, Shader blockShader, DynamicTextureAtlas atlas, GameClient networkClient) {
         World world = state.getWorld();
         RenderContext.resetBlockShader(blockShader);
+        instances.begin();
+
+        Vector3f eye = state.getCameraPos();
+        var player = world.getPlayer();
+        Vector3f itemEye = player != null ? player.getPosition() : eye;
         
-        // 1. Render World Entities
+        // 1. Pre-pass: cull, then either queue mesh entities for instancing or draw the rest directly
         for (var entity : world.getEntities()) {
             Vector3f p = entity.getInterpolatedPosition(state.getAlpha());
-            if (!state.getFrustum().testAab(entity.getBoundingBox().getMin(), entity.getBoundingBox().getMax())) continue;
-            
-            setEntityLight(world, p, blockShader);
-            blockShader.setInt("highlightPass", 0);
+            boolean isItem = entity instanceof ItemEntity;
+            var box = entity.getBoundingBox();
+            if (!EntityInstanceBatch.isVisible(state.getFrustum(), box.getMin(), box.getMax(), p,
+                    isItem ? itemEye : eye, isItem ? ITEM_DRAW_DISTANCE_SQ : Float.MAX_VALUE)) continue;
             
-            if (entity instanceof com.za.zenith.entities.ScoutEntity scout) {
-                renderScoutEntity(scout, p, entity.getRotation().y, blockShader);
-            } else if (entity instanceof ItemEntity itemEntity) {
-                renderItemEntity(itemEntity, p, state.getAlpha(), blockShader, atlas, world);
+            if (entity instanceof ItemEntity itemEntity) {
+                queueItemEntity(itemEntity, p, state.getAlpha(), atlas, world);
             } else if (entity instanceof com.za.zenith.entities.ResourceEntity resource) {
-                renderResourceEntity(resource, p, state.getAlpha(), blockShader, atlas);
+                queueResourceEntity(resource, p, atlas, world);
             } else if (entity instanceof com.za.zenith.entities.DecorationEntity decoration) {
-                renderDecorationEntity(decoration, p, entity.getRotation().y, blockShader, atlas);
+                queueDecorationEntity(decoration, p, entity.getRotation().y, atlas, world);
             } else {
-                renderGeneralEntity(p, entity.getRotation().y, blockShader);
+                setEntityLight(world, p, blockShader);
+                blockShader.setInt("highlightPass", 0);
+                if (entity instanceof com.za.zenith.entities.ScoutEntity scout) {
+                    renderScoutEntity(scout, p, entity.getRotation().y, blockShader);
+                } else {
+                    renderGeneralEntity(p, entity.getRotation().y, blockShader);
+                }
             }
         }
 
-        // 2. Render Remote Players
+        // 2. One instanced draw per mesh
+        renderInstances(blockShader);
+
+        // 3. Render Remote Players
         renderRemotePlayers(world, networkClient, blockShader);
     }
 
+    private void renderInstances(Shader shader) {
+        int count = instances.pack();
+        if (count == 0) return;
+
+        int floats = count * EntityInstanceBatch.FLOATS_PER_INSTANCE;
+        if (instanceBuffer.capacity() < floats) {
+            org.lwjgl.system.MemoryUtil.memFree(instanceBuffer);
+            instanceBuffer = org.lwjgl.system.MemoryUtil.memAllocFloat(Math.max(floats, instanceBuffer.capacity() * 2));
+        }
+        instanceBuffer.clear();
+        instanceBuffer.put(instances.getPacked(), 0, floats).flip();
+        glBindBuffer(GL_ARRAY_BUFFER, instanceVbo);
+        glBufferData(GL_ARRAY_BUFFER, instanceBuffer, GL_STREAM_DRAW);
+
+        shader.setInt("highlightPass", 0);
+        shader.setBoolean("uIsInstanced", true);
+        long stride = (long) EntityInstanceBatch.FLOATS_PER_INSTANCE * Float.BYTES;
+        for (int g = 0; g < instances.getGroupCount(); g++) {
+            instances.groupMesh(g).renderInstanced(shader, instanceVbo, instances.groupFirst(g) * stride, instances.groupSize(g));
+        }
+        shader.setBoolean("uIsInstanced", false);
+        glBindBuffer(GL_ARRAY_BUFFER, 0);
+
+        com.za.zenith.utils.profiling.Profiler.record("render.entityInstances", count);
+        com.za.zenith.utils.profiling.Profiler.record("render.entityDraws", instances.getGroupCount());
+    }
+
     private void renderScoutEntity(com.za.zenith.entities.ScoutEntity scout, Vector3f pos, float rotY, Shader shader) {
         Matrix4f model = RenderContext.getMatrix();
         model.translate(pos.x, pos.y, pos.z).rotateY(rotY);
@@ -120,10 +177,7 @@ public class EntityRenderSystem {
         shader.setInt("highlightPass", 0);
     }
 
-    private void renderItemEntity(ItemEntity entity, Vector3f interpPos, float alpha, Shader shader, DynamicTextureAtlas atlas, World world) {
-        var player = world.getPlayer();
-        if (player != null && interpPos.distanceSquared(player.getPosition()) > 576.0f) return;
-
+    private void queueItemEntity(ItemEntity entity, Vector3f interpPos, float alpha, DynamicTextureAtlas atlas, World world) {
         var item = entity.getStack().getItem();
         Mesh mesh = MeshRegistry.getItemMesh(item, atlas);
         
@@ -140,26 +194,24 @@ public class EntityRenderSystem {
                  .rotateZ(rot.z)
                  .scale(scale);
             
-            shader.setMatrix4f("model", model);
-            shader.setInt("highlightPass", 0);
-            mesh.render(shader);
+            sampleEntityLight(world, interpPos);
+            instances.add(mesh, model, lightSun, lightBlock, 1.0f, lightSpawnTime);
         }
     }
 
-    private void renderResourceEntity(com.za.zenith.entities.ResourceEntity resource, Vector3f pos, float alpha, Shader shader, DynamicTextureAtlas atlas) {
+    private void queueResourceEntity(com.za.zenith.entities.ResourceEntity resource, Vector3f pos, DynamicTextureAtlas atlas, World world) {
         var item = resource.getStack().getItem();
         Mesh mesh = MeshRegistry.getItemMesh(item, atlas); 
         if (mesh != null) {
             float s = item.getDroppedScale();
             Matrix4f model = RenderContext.getMatrix();
             model.translate(pos.x, pos.y + 0.03125f * s, pos.z).rotateY(resource.getRotation().y).rotateX(1.5708f).scale(s);
-            shader.setMatrix4f("model", model);
-            shader.setInt("highlightPass", 0);
-            mesh.render(shader);
+            sampleEntityLight(world, pos);
+            instances.add(mesh, model, lightSun, lightBlock, 1.0f, lightSpawnTime);
         }
     }
 
-    private void renderDecorationEntity(com.za.zenith.entities.DecorationEntity decoration, Vector3f pos, float rotY, Shader shader, DynamicTextureAtlas atlas) {
+    private void queueDecorationEntity(com.za.zenith.entities.DecorationEntity decoration, Vector3f pos, float rotY, DynamicTextureAtlas atlas, World world) {
         var def = decoration.getDefinition();
         if (def == null) return;
         
@@ -169,9 +221,8 @@ public class EntityRenderSystem {
             var s = def.visualScale();
             Matrix4f model = RenderContext.getMatrix();
             model.translate(pos.x, pos.y, pos.z).rotateY(rotY).scale(s.x, s.y, s.z);
-            shader.setMatrix4f("model", model);
-            shader.setInt("highlightPass", 0);
-            mesh.render(shader);
+            sampleEntityLight(world, pos);
+            instances.add(mesh, model, lightSun, lightBlock, 1.0f, lightSpawnTime);
         }
     }
 
@@ -251,6 +302,8 @@ public class EntityRenderSystem {
 
     public void cleanup() {
         if (playerMesh != null) playerMesh.cleanup();
+        glDeleteBuffers(instanceVbo);
+        org.lwjgl.system.MemoryUtil.memFree(instanceBuffer);
         viewmodelShader.cleanup();
     }
 }
@@ -0,0 +1,114 @@
+package com.za.zenith.engine.graphics;
+
+import org.lwjgl.system.MemoryStack;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.lwjgl.opengl.GL15.*;
+import static org.lwjgl.opengl.GL20.*;
+import static org.lwjgl.opengl.GL30.glBindBufferBase;
+import static org.lwjgl.opengl.GL31.*;
+import static org.lwjgl.system.MemoryStack.stackPush;
+
+/**
+ * LWJGL implementation of {@link UniformBackend}.
+ */
+final class GLUniformBackend implements UniformBackend {
+
+    @Override
+    public List<ActiveUniform> getActiveUniforms(int program) {
+        int count = glGetProgrami(program, GL_ACTIVE_UNIFORMS);
+        List<ActiveUniform> result = new ArrayList<>(count);
+        try (MemoryStack stack = stackPush()) {
+            IntBuffer size = stack.mallocInt(1);
+            IntBuffer type = stack.mallocInt(1);
+            for (int i = 0; i < count; i++) {
+                String name = glGetActiveUniform(program, i, size, type);
+                result.add(new ActiveUniform(name, size.get(0)));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int getUniformLocation(int program, String name) {
+        return glGetUniformLocation(program, name);
+    }
+
+    @Override
+    public void uniform1i(int location, int value) {
+        glUniform1i(location, value);
+    }
+
+    @Override
+    public void uniform1f(int location, float value) {
+        glUniform1f(location, value);
+    }
+
+    @Override
+    public void uniform2f(int location, float x, float y) {
+        glUniform2f(location, x, y);
+    }
+
+    @Override
+    public void uniform3f(int location, float x, float y, float z) {
+        glUniform3f(location, x, y, z);
+    }
+
+    @Override
+    public void uniform4f(int location, float x, float y, float z, float w) {
+        glUniform4f(location, x, y, z, w);
+    }
+
+    @Override
+    public void uniform1fv(int location, float[] values) {
+        glUniform1fv(location, values);
+    }
+
+    @Override
+    public void uniform4fv(int location, float[] values) {
+        glUniform4fv(location, values);
+    }
+
+    @Override
+    public void uniformMatrix4fv(int location, float[] matrix) {
+        glUniformMatrix4fv(location, false, matrix);
+    }
+
+    @Override
+    public int createUniformBuffer(int sizeBytes, int bindingPoint) {
+        int buffer = glGenBuffers();
+        glBindBuffer(GL_UNIFORM_BUFFER, buffer);
+        glBufferData(GL_UNIFORM_BUFFER, sizeBytes, GL_DYNAMIC_DRAW);
+        glBindBufferBase(GL_UNIFORM_BUFFER, bindingPoint, buffer);
+        glBindBuffer(GL_UNIFORM_BUFFER, 0);
+        return buffer;
+    }
+
+    @Override
+    public void uniformBufferSubData(int buffer, int offsetBytes, float[] data, int from, int count) {
+        try (MemoryStack stack = stackPush()) {
+            FloatBuffer fb = stack.mallocFloat(count);
+            fb.put(data, from, count).flip();
+            glBindBuffer(GL_UNIFORM_BUFFER, buffer);
+            glBufferSubData(GL_UNIFORM_BUFFER, offsetBytes, fb);
+            glBindBuffer(GL_UNIFORM_BUFFER, 0);
+        }
+    }
+
+    @Override
+    public void deleteBuffer(int buffer) {
+        glDeleteBuffers(buffer);
+    }
+
+    @Override
+    public void bindUniformBlock(int program, String blockName, int bindingPoint) {
+        int blockIndex = glGetUniformBlockIndex(program, blockName);
+        if (blockIndex != GL_INVALID_INDEX) {
+            glUniformBlockBinding(program, blockIndex, bindingPoint);
+        }
+    }
+}
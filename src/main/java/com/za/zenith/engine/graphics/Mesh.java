@@ -7,6 +7,8 @@ import static org.lwjgl.opengl.GL11.*;
 import static org.lwjgl.opengl.GL15.*;
 import static org.lwjgl.opengl.GL20.*;
 import static org.lwjgl.opengl.GL30.*;
+import static org.lwjgl.opengl.GL31.glDrawElementsInstanced;
+import static org.lwjgl.opengl.GL33.glVertexAttribDivisor;
 
 public class Mesh {
     public enum VertexFormat {
@@ -345,6 +347,39 @@ public class Mesh {
         }
     }
     
+    /**
+     * Draws {@code instances} copies with per-instance data read from {@code instanceVbo} starting at
+     * {@code byteOffset} ({@link EntityInstanceBatch} layout, attribute locations 9-13).
+     * The instance attributes are disabled again afterwards so regular draws of this VAO are unaffected.
+     */
+    public void renderInstanced(Shader shader, int instanceVbo, long byteOffset, int instances) {
+        if (vaoId == -1 || instances <= 0) return;
+
+        boolean compressed = isCompressed();
+        shader.setBoolean("uIsCompressed", compressed);
+
+        glBindVertexArray(vaoId);
+        glBindBuffer(GL_ARRAY_BUFFER, instanceVbo);
+        int stride = EntityInstanceBatch.FLOATS_PER_INSTANCE * Float.BYTES;
+        for (int c = 0; c < 4; c++) {
+            glVertexAttribPointer(9 + c, 4, GL_FLOAT, false, stride, byteOffset + c * 4L * Float.BYTES);
+            glEnableVertexAttribArray(9 + c);
+            glVertexAttribDivisor(9 + c, 1);
+        }
+        glVertexAttribPointer(13, 4, GL_FLOAT, false, stride, byteOffset + EntityInstanceBatch.MATRIX_FLOATS * Float.BYTES);
+        glEnableVertexAttribArray(13);
+        glVertexAttribDivisor(13, 1);
+
+        glDrawElementsInstanced(GL_TRIANGLES, vertexCount, GL_UNSIGNED_INT, 0, instances);
+
+        for (int loc = 9; loc <= 13; loc++) glDisableVertexAttribArray(loc);
+        glBindVertexArray(0);
+
+        if (compressed) {
+            shader.setBoolean("uIsCompressed", false);
+        }
+    }
+
     public org.joml.Vector3f getMin() {
         return new org.joml.Vector3f(minX, minY, minZ);
     }
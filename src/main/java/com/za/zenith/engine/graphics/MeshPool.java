@@ -44,7 +44,7 @@ public class MeshPool {
             version++;
             vertexOffset = 0;
             indexOffset = 0;
-            Logger.warn("MeshPool: Buffer wrap-around! Version incremented to " + version + ". Clearing world meshes...");
+            Logger.warn("MeshPool: Buffer wrap-around! Version incremented to %d. Clearing world meshes...", version);
         }
 
         int currentVOffset = vertexOffset;
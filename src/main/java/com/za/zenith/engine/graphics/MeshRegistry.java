@@ -41,6 +41,7 @@ public class MeshRegistry {
         itemMeshCache.clear();
         entityDefMeshCache.values().forEach(Mesh::cleanup);
         entityDefMeshCache.clear();
+        com.za.zenith.world.items.ItemGeometryCache.clear();
     }
 
     public static void cleanup() {
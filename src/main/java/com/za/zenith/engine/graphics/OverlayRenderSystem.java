@@ -42,9 +42,26 @@ public class OverlayRenderSystem {
     private Block currentPreviewBlock;
     private Mesh previewMesh;
 
-    // Persistent scars cache
-    private final Map<com.za.zenith.world.BlockPos, Mesh> persistentHoleCache = new java.util.HashMap<>();
-    private final Map<com.za.zenith.world.BlockPos, Mesh> persistentProxyCache = new java.util.HashMap<>();
+    private final BlockEntityOverlayList blockEntityOverlays = new BlockEntityOverlayList();
+
+    // Persistent scars cache, keyed by World.packBlockPos (same keys as the block damage map)
+    private static final class ScarMeshes {
+        Mesh hole;
+        Mesh proxy;
+        boolean built;
+        long lastSeenFrame;
+
+        void cleanup() {
+            if (hole != null) hole.cleanup();
+            if (proxy != null) proxy.cleanup();
+        }
+    }
+    private final Map<Long, ScarMeshes> persistentScarCache = new java.util.HashMap<>();
+
+    private static final String[] HIT_HISTORY_UNIFORMS = new String[16];
+    static {
+        for (int i = 0; i < HIT_HISTORY_UNIFORMS.length; i++) HIT_HISTORY_UNIFORMS[i] = "uHitHistory[" + i + "]";
+    }
 
     public void setBreakingBlock(com.za.zenith.world.BlockPos pos, Block block, float progress, float timer, Vector3f localHitPoint, Vector3f localWeakSpot, Vector3f color, List<Vector4f> history, World world, DynamicTextureAtlas atlas) {
         if (block == null) {
@@ -128,92 +145,83 @@ public class OverlayRenderSystem {
 
     private void renderBlockEntities(SceneState state, Shader shader, DynamicTextureAtlas atlas, Renderer wrapper) {
         World world = state.getWorld();
-        if (world.getBlockEntities().isEmpty()) return;
+        List<BlockEntityOverlayList.Entry> visible = blockEntityOverlays.update(state, atlas);
         
-        for (var be : world.getBlockEntities().values()) {
-            carvingRenderer.render(be, atlas, shader, RenderContext.getMatrix(), wrapper, breakingPos, wobbleTimer);
-            
-            if (be instanceof com.za.zenith.world.blocks.entity.ModularBlockEntity modular) {
-                var block = world.getBlock(be.getPos());
-                var def = com.za.zenith.world.blocks.BlockRegistry.getBlock(block.getType());
-                if (def == null) continue;
-
-                var surface = def.getComponent(com.za.zenith.world.blocks.component.CraftingSurfaceComponent.class);
+        for (int v = 0; v < visible.size(); v++) {
+            BlockEntityOverlayList.Entry e = visible.get(v);
+            if (e.blockEntity.isRemoved()) continue;
+            var p = e.pos;
 
-                // Отрисовываем только если это "поверхность для крафта"
-                if (surface == null) continue;
+            if (e.hasCarving()) {
+                carvingRenderer.render(shader, e.carveMask, e.carveLayer, e.carveModel, p.equals(breakingPos));
+            }
 
-                int count = 0;
-                for (int i = 0; i < modular.size(); i++) {
-                    if (modular.getStack(i) != null) count++;
-                }
-                if (count == 0) continue;
-                
-                var p = be.getPos();
-                sampleLightAt(world, p.x(), p.y() + 1, p.z(), shader);
-                
-                int gridSize = surface.getGridSize();
-                
-                for (int i = 0; i < modular.size(); i++) {
-                    var stack = modular.getStack(i);
-                    if (stack == null) continue;
-                    var item = stack.getItem();
-                    Mesh mesh = MeshRegistry.getItemMesh(item, atlas);
-                    
-                    if (mesh != null) {
-                        var t = com.za.zenith.world.blocks.CraftingLayoutEngine.getSlotTransform(i, count, gridSize);
-                        float s = (item.isBlock() ? 0.4f : item.getDroppedScale() * 0.6f) * t.y;
-                        Matrix4f model = RenderContext.getMatrix();
-                        model.translate(p.x() + 0.5f + t.x, p.y() + 1.02f, p.z() + 0.5f + t.z);
-                        if (item.isBlock()) model.scale(s); else model.rotateX(1.5708f).scale(s);
-                        shader.setMatrix4f("model", model);
-                        shader.setInt("highlightPass", 0);
-                        mesh.render(shader);
-                    }
-                }
-                shader.setVector3f("uOverrideLight", -1, -1, -1);
+            if (e.items.length == 0) continue;
+            sampleLightAt(world, p.x(), p.y() + 1, p.z(), shader);
+            shader.setInt("highlightPass", 0);
+            for (BlockEntityOverlayList.SurfaceItem si : e.items) {
+                if (si.mesh == null) si.mesh = MeshRegistry.getItemMesh(si.item, atlas);
+                if (si.mesh == null) continue;
+                shader.setMatrix4f("model", si.model);
+                si.mesh.render(shader);
             }
+            shader.setVector3f("uOverrideLight", -1, -1, -1);
         }
     }
 
     private void renderPersistentScars(SceneState state, Shader shader, DynamicTextureAtlas atlas) {
         World world = state.getWorld();
         if (world.getBlockDamageMap().isEmpty()) {
+            if (!persistentScarCache.isEmpty()) cleanupPersistentCache();
             return;
         }
 
-        // Remove stale cache entries
-        persistentHoleCache.keySet().removeIf(pos -> !world.getBlockDamageMap().containsKey(World.packBlockPos(pos.x(), pos.y(), pos.z())));
-        persistentProxyCache.keySet().removeIf(pos -> !world.getBlockDamageMap().containsKey(World.packBlockPos(pos.x(), pos.y(), pos.z())));
+        long frame = state.getFrameCounter();
+        int seen = 0;
+        var frustum = state.getFrustum();
 
         for (var entry : world.getBlockDamageMap().entrySet()) {
-            long packed = entry.getKey();
+            Long packed = entry.getKey();
             int bx = World.unpackBlockX(packed), by = World.unpackBlockY(packed), bz = World.unpackBlockZ(packed);
-            com.za.zenith.world.BlockPos pos = new com.za.zenith.world.BlockPos(bx, by, bz);
             
             // Skip current breaking block (handled by renderBreakingEffects)
-            if (breakingPos != null && pos.equals(breakingPos)) continue;
+            if (breakingPos != null && breakingPos.x() == bx && breakingPos.y() == by && breakingPos.z() == bz) continue;
 
             World.BlockDamageInstance info = entry.getValue();
             Block block = info.getBlock();
             if (block == null || block.isAir()) continue;
 
+            ScarMeshes scar = persistentScarCache.get(packed);
+            if (scar == null) {
+                scar = new ScarMeshes();
+                persistentScarCache.put(packed, scar);
+            }
+            scar.lastSeenFrame = frame;
+            seen++;
+
+            if (!frustum.testAab(bx, by, bz, bx + 1, by + 1, bz + 1)) continue;
+
+            if (!scar.built) {
+                com.za.zenith.world.BlockPos pos = new com.za.zenith.world.BlockPos(bx, by, bz);
+                scar.hole = ChunkMeshGenerator.generateHoleMesh(pos, world, atlas);
+                scar.proxy = ChunkMeshGenerator.generateSingleBlockMesh(block, atlas, world, pos);
+                scar.built = true;
+            }
+
             // 1. Hole (for adjacent faces)
-            Mesh hole = persistentHoleCache.computeIfAbsent(pos, p -> ChunkMeshGenerator.generateHoleMesh(p, world, atlas));
-            if (hole != null) {
+            if (scar.hole != null) {
                 shader.setBoolean("uIsProxy", false);
                 Matrix4f model = RenderContext.getMatrix();
-                model.translate(pos.x(), pos.y(), pos.z());
+                model.translate(bx, by, bz);
                 shader.setMatrix4f("model", model);
                 
-                Chunk c = world.getChunk(com.za.zenith.world.chunks.ChunkPos.fromBlockPos(pos.x(), pos.z()));
+                Chunk c = world.getChunk(bx >> 4, bz >> 4);
                 shader.setFloat("uChunkSpawnTime", c != null ? c.getFirstSpawnTime() : -100.0f);
-                hole.render(shader);
+                scar.hole.render(shader);
             }
 
             // 2. Proxy (the static damaged block)
-            Mesh mesh = persistentProxyCache.computeIfAbsent(pos, p -> ChunkMeshGenerator.generateSingleBlockMesh(block, atlas, world, p));
-            if (mesh != null) {
+            if (scar.proxy != null) {
                 var def = com.za.zenith.world.blocks.BlockRegistry.getBlock(block.getType());
                 shader.setBoolean("uIsProxy", true);
                 shader.setFloat("uBreakingProgress", info.getDamage() / (def.getHardness() * 10.0f));
@@ -226,19 +234,32 @@ public class OverlayRenderSystem {
                 shader.setVector3f("uWeakSpotPos", 0, -100, 0); // Hide marker
                 shader.setVector3f("uWeakSpotColor", 1, 1, 1);
                 
-                int hc = Math.min(16, info.getHitHistory().size());
+                List<Vector4f> history = info.getHitHistory();
+                int hc = Math.min(16, history.size());
                 shader.setInt("uHitCount", hc);
                 for (int i = 0; i < hc; i++) {
-                    shader.setVector4f("uHitHistory[" + i + "]", info.getHitHistory().get(i));
+                    shader.setVector4f(HIT_HISTORY_UNIFORMS[i], history.get(i));
                 }
 
                 Matrix4f model = RenderContext.getMatrix();
-                model.translate(pos.x() + 0.5f, pos.y(), pos.z() + 0.5f);
+                model.translate(bx + 0.5f, by, bz + 0.5f);
                 shader.setMatrix4f("model", model);
-                mesh.render(shader);
+                scar.proxy.render(shader);
             }
         }
         shader.setBoolean("uIsProxy", false);
+
+        // Drop meshes of healed/removed blocks; only walks the cache when something went stale
+        if (persistentScarCache.size() > seen) {
+            var it = persistentScarCache.values().iterator();
+            while (it.hasNext()) {
+                ScarMeshes scar = it.next();
+                if (scar.lastSeenFrame != frame) {
+                    scar.cleanup();
+                    it.remove();
+                }
+            }
+        }
     }
 
     private void renderBreakingEffects(SceneState state, Shader shader, World world, DynamicTextureAtlas atlas) {
@@ -294,7 +315,7 @@ public class OverlayRenderSystem {
             shader.setFloat("uWobbleTime", wobbleTimer);
             
             for (int i = 0; i < hitCount; i++) {
-                shader.setVector4f("uHitHistory[" + i + "]", hitHistory[i]);
+                shader.setVector4f(HIT_HISTORY_UNIFORMS[i], hitHistory[i]);
             }
 
             Matrix4f model = RenderContext.getMatrix();
@@ -319,16 +340,19 @@ public class OverlayRenderSystem {
     }
 
     private void cleanupPersistentCache() {
-        persistentHoleCache.values().forEach(Mesh::cleanup);
-        persistentHoleCache.clear();
-        persistentProxyCache.values().forEach(Mesh::cleanup);
-        persistentProxyCache.clear();
+        persistentScarCache.values().forEach(ScarMeshes::cleanup);
+        persistentScarCache.clear();
     }
 
     public void rebuildMeshes() {
         itemMeshCache.values().forEach(Mesh::cleanup);
         itemMeshCache.clear();
         cleanupPersistentCache();
+        blockEntityOverlays.invalidate();
+    }
+
+    public void onChunkUnload(Chunk chunk) {
+        blockEntityOverlays.onChunkUnload(chunk);
     }
 
     public void cleanup() {
@@ -1,15 +1,10 @@
 package com.za.zenith.engine.graphics;
 
-import com.za.zenith.world.particles.Particle;
-import com.za.zenith.world.particles.ShardParticle;
-import com.za.zenith.world.blocks.BlockRegistry;
-import com.za.zenith.world.blocks.BlockDefinition;
-import org.joml.Matrix4f;
+import com.za.zenith.world.particles.ParticleStore;
 import org.joml.Vector3f;
 import org.lwjgl.BufferUtils;
 
 import java.nio.FloatBuffer;
-import java.util.List;
 
 import static org.lwjgl.opengl.GL33.*;
 
@@ -34,7 +29,9 @@ public class ParticleRenderer {
     // Данные инстанса: 
     // Pos(3), Roll(1), Scale(1), Alpha(1), OverlayLayer(1), TexLayer(1), SnippetOffset(2), Color(3) = 13 float
     private static final int INSTANCE_DATA_SIZE = 13;
+    private static final int MAX_INSTANCES = 5000;
     private FloatBuffer instanceBuffer;
+    private final float[] instanceData = new float[MAX_INSTANCES * INSTANCE_DATA_SIZE];
 
     public void init() {
         shader = new Shader("src/main/resources/shaders/particle_vertex.glsl", "src/main/resources/shaders/particle_fragment.glsl");
@@ -82,12 +79,12 @@ public class ParticleRenderer {
         glVertexAttribPointer(5, 3, GL_FLOAT, false, INSTANCE_DATA_SIZE * 4, 7 * 4);
         glVertexAttribDivisor(5, 1);
 
-        instanceBuffer = BufferUtils.createFloatBuffer(5000 * INSTANCE_DATA_SIZE);
+        instanceBuffer = BufferUtils.createFloatBuffer(MAX_INSTANCES * INSTANCE_DATA_SIZE);
         
         glBindVertexArray(0);
     }
 
-    public void render(Camera camera, List<Particle> particles, DynamicTextureAtlas atlas, float alpha, Vector3f ambient) {
+    public void render(Camera camera, ParticleStore particles, DynamicTextureAtlas atlas, float alpha, Vector3f ambient) {
         if (particles.isEmpty()) return;
 
         shader.use();
@@ -101,25 +98,15 @@ public class ParticleRenderer {
         glBindVertexArray(vaoId);
         glBindBuffer(GL_ARRAY_BUFFER, instanceVboId);
 
-        int rendered = 0;
-        instanceBuffer.clear();
-
-        for (Particle p : particles) {
-            if (p instanceof ShardParticle shard) {
-                // Pos(3), Roll(1)
-                instanceBuffer.put(p.getPosition().x).put(p.getPosition().y).put(p.getPosition().z()).put(p.getRoll());
-                // Scale(1), Alpha(1), OverlayLayer(1)
-                instanceBuffer.put(p.getScale()).put(p.getAlpha()).put((float)shard.getOverlayLayer());
-                // Layer(1), Snippet(2)
-                instanceBuffer.put((float)shard.getTextureLayer()).put(shard.getSnippetOffset().x).put(shard.getSnippetOffset().y);
-                // Color(3)
-                instanceBuffer.put(shard.getColor().x).put(shard.getColor().y).put(shard.getColor().z);
-                
-                rendered++;
-                if (rendered >= 5000) break;
-            }
+        // Массивы хранилища копируются подряд, одним put в буфер
+        int rendered = Math.min(particles.size(), MAX_INSTANCES);
+        int offset = 0;
+        for (int i = 0; i < rendered; i++) {
+            offset = particles.writeInstance(i, instanceData, offset);
         }
 
+        instanceBuffer.clear();
+        instanceBuffer.put(instanceData, 0, offset);
         instanceBuffer.flip();
         glBufferData(GL_ARRAY_BUFFER, instanceBuffer, GL_DYNAMIC_DRAW);
         
@@ -5,13 +5,6 @@ import com.za.zenith.world.World;
 import com.za.zenith.world.WorldSettings;
 import org.joml.Matrix4f;
 import org.joml.Vector3f;
-import org.lwjgl.BufferUtils;
-
-import java.nio.FloatBuffer;
-
-import static org.lwjgl.opengl.GL15.*;
-import static org.lwjgl.opengl.GL30.*;
-import static org.lwjgl.opengl.GL31.*;
 
 /**
  * RenderContext manages global shader data using Uniform Buffer Objects (UBO)
@@ -19,8 +12,7 @@ import static org.lwjgl.opengl.GL31.*;
  */
 public class RenderContext {
     public static final int GLOBAL_BINDING_POINT = 0;
-    private static int uboId;
-    private static final FloatBuffer uboBuffer = BufferUtils.createFloatBuffer(64); 
+    private static final UniformBuffer globalData = new UniformBuffer("GlobalData", GLOBAL_BINDING_POINT, 64);
 
     // Scene Data
     private static float time;
@@ -30,6 +22,9 @@ public class RenderContext {
     private static final Matrix4f projectionMatrix = new Matrix4f();
     private static final Vector3f cameraPos = new Vector3f();
     private static final Vector3f grassColor = new Vector3f();
+    private static final Vector3f fogColor = new Vector3f(0.55f, 0.65f, 0.75f);
+    private static float fogStart = 40.0f;
+    private static float fogEnd = 200.0f;
 
     // Zero Alloc Pools
     private static final Matrix4f[] matrixPool = new Matrix4f[256];
@@ -57,12 +52,7 @@ public class RenderContext {
     }
 
     public static void init() {
-        uboId = glGenBuffers();
-        glBindBuffer(GL_UNIFORM_BUFFER, uboId);
-        // Size: 2 * 64 (matrices) + 4 * 16 (vectors/floats with padding) = 192 bytes
-        glBufferData(GL_UNIFORM_BUFFER, 256, GL_DYNAMIC_DRAW); 
-        glBindBufferBase(GL_UNIFORM_BUFFER, GLOBAL_BINDING_POINT, uboId);
-        glBindBuffer(GL_UNIFORM_BUFFER, 0);
+        globalData.create();
     }
 
     public static void update(World world, Camera camera, float alpha, Vector3f lightDir, Vector3f ambient) {
@@ -77,53 +67,30 @@ public class RenderContext {
         sync();
     }
 
-    private static void sync() {
-        uboBuffer.clear();
-        
-        // 0-15: Projection Matrix
-        projectionMatrix.get(0, uboBuffer);
-        
-        // 16-31: View Matrix
-        viewMatrix.get(16, uboBuffer);
-        
-        // 32-35: Camera Data (xyz=pos, w=0)
-        uboBuffer.put(32, cameraPos.x);
-        uboBuffer.put(33, cameraPos.y);
-        uboBuffer.put(34, cameraPos.z);
-        uboBuffer.put(35, 0.0f);
-        
-        // 36-39: Sun Data (xyz=dir, w=time)
-        uboBuffer.put(36, sunDirection.x);
-        uboBuffer.put(37, sunDirection.y);
-        uboBuffer.put(38, sunDirection.z);
-        uboBuffer.put(39, time);
-        
-        // 40-43: Ambient Data (xyz=color, w=0)
-        uboBuffer.put(40, ambientColor.x);
-        uboBuffer.put(41, ambientColor.y);
-        uboBuffer.put(42, ambientColor.z);
-        uboBuffer.put(43, 0.0f);
-        
-        // 44-47: Grass Data (xyz=color, w=0)
-        uboBuffer.put(44, grassColor.x);
-        uboBuffer.put(45, grassColor.y);
-        uboBuffer.put(46, grassColor.z);
-        uboBuffer.put(47, 0.0f);
-
-        // Limit the buffer to the used portion
-        uboBuffer.position(0);
-        uboBuffer.limit(48);
+    /**
+     * Distance fog applied by the post stack (linear depth, world units).
+     */
+    public static void setFog(float start, float end, float r, float g, float b) {
+        fogStart = start;
+        fogEnd = end;
+        fogColor.set(r, g, b);
+    }
 
-        glBindBuffer(GL_UNIFORM_BUFFER, uboId);
-        glBufferSubData(GL_UNIFORM_BUFFER, 0, uboBuffer);
-        glBindBuffer(GL_UNIFORM_BUFFER, 0);
+    private static void sync() {
+        // Layout must match include/global_data.glsl; unchanged values are not re-uploaded
+        globalData.putMatrix(0, projectionMatrix);
+        globalData.putMatrix(16, viewMatrix);
+        globalData.putVec4(32, cameraPos, 0.0f);
+        globalData.putVec4(36, sunDirection, time);
+        globalData.putVec4(40, ambientColor, 0.0f);
+        globalData.putVec4(44, grassColor, 0.0f);
+        globalData.putVec4(48, fogColor, 0.0f);
+        globalData.putVec4(52, fogStart, fogEnd, 0.0f, 0.0f);
+        globalData.upload();
     }
 
     public static void bindShader(Shader shader) {
-        int blockIndex = glGetUniformBlockIndex(shader.getProgramId(), "GlobalData");
-        if (blockIndex != -1) {
-            glUniformBlockBinding(shader.getProgramId(), blockIndex, GLOBAL_BINDING_POINT);
-        }
+        globalData.bindBlock(shader.getProgramId());
     }
 
     /**
@@ -133,6 +100,7 @@ public class RenderContext {
     public static void resetBlockShader(Shader shader) {
         shader.use();
         shader.setBoolean("uIsBatch", false);
+        shader.setBoolean("uIsInstanced", false);
         shader.setBoolean("uIsCompressed", false);
         shader.setBoolean("uIsProxy", false);
         shader.setBoolean("useMask", false);
@@ -149,6 +117,6 @@ public class RenderContext {
     }
 
     public static void cleanup() {
-        glDeleteBuffers(uboId);
+        globalData.cleanup();
     }
 }
@@ -80,10 +80,14 @@ public class RenderPipeline {
             if (def.getUpperTexture() != null) atlas.add(def.getUpperTexture(), "src/main/resources/" + def.getUpperTexture());
         }
 
-        // 2. Items
+        // 2. Items (sprite meshes are extruded in the background while the atlas builds)
+        java.util.List<String> itemSprites = new java.util.ArrayList<>();
         for (var item : com.za.zenith.world.items.ItemRegistry.getAllItems().values()) {
             String tex = item.getTexturePath();
-            if (tex != null && !tex.isEmpty()) atlas.add(tex, "src/main/resources/" + tex);
+            if (tex != null && !tex.isEmpty()) {
+                atlas.add(tex, "src/main/resources/" + tex);
+                if (!item.isBlock()) itemSprites.add(tex);
+            }
         }
 
         // 3. Viewmodels
@@ -95,10 +99,14 @@ public class RenderPipeline {
         for (var def : com.za.zenith.entities.EntityRegistry.getAll().values()) {
             if ("item".equals(def.modelType())) {
                 String tex = def.texture();
-                if (tex != null && !tex.isEmpty()) atlas.add(tex, "src/main/resources/" + tex);
+                if (tex != null && !tex.isEmpty()) {
+                    atlas.add(tex, "src/main/resources/" + tex);
+                    itemSprites.add(tex);
+                }
             }
         }
 
+        com.za.zenith.world.items.ItemGeometryCache.prewarm(itemSprites);
         atlas.build();
 
         postProcessor.init();
@@ -193,8 +201,12 @@ public class RenderPipeline {
         blockShader.setLights("uLights", com.za.zenith.world.lighting.LightManager.getActiveLights());
         
         // Systems Update
+        com.za.zenith.utils.profiling.Profiler.push("chunkVisibility");
         chunkSystem.updateVisibility(state);
+        com.za.zenith.utils.profiling.Profiler.pop();
+        com.za.zenith.utils.profiling.Profiler.push("chunkMeshes");
         chunkSystem.updateMeshes(state, atlas);
+        com.za.zenith.utils.profiling.Profiler.pop();
         
         // --- Pass Hidden Positions ---
         int hiddenCount = 0;
@@ -218,23 +230,31 @@ public class RenderPipeline {
         // 1. Opaque Chunks
         blockShader.setBoolean("uIsCompressed", true);
         blockShader.setBoolean("uIsBatch", true);
+        com.za.zenith.utils.profiling.Profiler.push("chunkDrawOpaque");
         chunkSystem.render(state, blockShader, true);
+        com.za.zenith.utils.profiling.Profiler.pop();
         
         // Disable hiding for Entities and Overlays to prevent artifacts
         blockShader.setInt("uHiddenCount", 0);
 
         // 2. Entities
+        com.za.zenith.utils.profiling.Profiler.push("entities");
         entitySystem.render(state, blockShader, atlas, networkClient);
+        com.za.zenith.utils.profiling.Profiler.pop();
 
         // 3. Overlays
+        com.za.zenith.utils.profiling.Profiler.push("overlays");
         overlaySystem.render(state, blockShader, atlas, highlightedBlock, wrapper);
+        com.za.zenith.utils.profiling.Profiler.pop();
 
         // 4. Translucent Chunks
         blockShader.setInt("uHiddenCount", hiddenCount); // Restore for translucent blocks
         blockShader.setBoolean("uIsCompressed", true);
         blockShader.setBoolean("uIsBatch", true);
         glDepthMask(false);
+        com.za.zenith.utils.profiling.Profiler.push("chunkDrawTranslucent");
         chunkSystem.render(state, blockShader, false);
+        com.za.zenith.utils.profiling.Profiler.pop();
         glDepthMask(true);
 
         // Reset state for safety
@@ -289,6 +309,7 @@ public class RenderPipeline {
 
     public void onChunkUnload(Chunk chunk) {
         chunkSystem.onChunkUnload(chunk);
+        overlaySystem.onChunkUnload(chunk);
     }
 
     public void rebuildMeshes() {
@@ -5,18 +5,16 @@ import org.joml.Matrix4f;
 import org.joml.Vector2f;
 import org.joml.Vector3f;
 import org.joml.Vector4f;
-import org.lwjgl.system.MemoryStack;
 
 import java.io.IOException;
-import java.nio.FloatBuffer;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 
 import static org.lwjgl.opengl.GL20.*;
-import static org.lwjgl.system.MemoryStack.stackPush;
 
 public class Shader {
     private final int programId;
+    private final ShaderUniforms uniforms;
     
     public Shader(String vertexPath, String fragmentPath) {
         String vertexSource = resolveIncludes(loadShaderSource(vertexPath), vertexPath);
@@ -38,6 +36,8 @@ public class Shader {
         glDeleteShader(vertexShader);
         glDeleteShader(fragmentShader);
 
+        uniforms = new ShaderUniforms(UniformBackend.GL, programId);
+
         // Automatically bind to global render context
         RenderContext.bindShader(this);
         
@@ -49,7 +49,18 @@ public class Shader {
     }
 
     public boolean hasUniform(String name) {
-        return glGetUniformLocation(programId, name) != -1;
+        return uniforms.has(name);
+    }
+
+    /**
+     * Typed handle for the uniform; callers on hot paths should resolve it once and keep it.
+     */
+    public Uniform getUniform(String name) {
+        return uniforms.get(name);
+    }
+
+    public ShaderUniforms getUniforms() {
+        return uniforms;
     }
 
     private String resolveIncludes(String source, String currentPath) {
@@ -106,90 +117,86 @@ public class Shader {
     }
     
     public void setMatrix4f(String name, Matrix4f matrix) {
-        try (MemoryStack stack = stackPush()) {
-            FloatBuffer buffer = stack.mallocFloat(16);
-            matrix.get(buffer);
-            glUniformMatrix4fv(getUniformLocation(name), false, buffer);
-        }
+        uniforms.get(name).set(matrix);
     }
     
     public void setVector3f(String name, Vector3f vector) {
-        glUniform3f(getUniformLocation(name), vector.x, vector.y, vector.z);
+        uniforms.get(name).set(vector.x, vector.y, vector.z);
     }
     
     public void setVector3f(String name, float x, float y, float z) {
-        glUniform3f(getUniformLocation(name), x, y, z);
+        uniforms.get(name).set(x, y, z);
     }
     
     public void setVector4f(String name, Vector4f vector) {
-        glUniform4f(getUniformLocation(name), vector.x, vector.y, vector.z, vector.w);
+        uniforms.get(name).set(vector.x, vector.y, vector.z, vector.w);
     }
 
     public void setVector4fv(String name, float[] values) {
-        glUniform4fv(getUniformLocation(name), values);
+        uniforms.get(name).setVec4Array(values);
     }
 
     public void setFloatArray(String name, float[] values) {
-        glUniform1fv(getUniformLocation(name), values);
+        uniforms.get(name).setArray(values);
     }
     
     public void setVector2f(String name, Vector2f vector) {
-        glUniform2f(getUniformLocation(name), vector.x, vector.y);
+        uniforms.get(name).set(vector.x, vector.y);
     }
     
     public void setFloat(String name, float value) {
-        glUniform1f(getUniformLocation(name), value);
+        uniforms.get(name).set(value);
     }
     
     public void setInt(String name, int value) {
-        glUniform1i(getUniformLocation(name), value);
+        uniforms.get(name).set(value);
     }
     
     public void setBoolean(String name, boolean value) {
-        glUniform1i(getUniformLocation(name), value ? 1 : 0);
+        uniforms.get(name).set(value);
     }
     
     public void setUniform(String name, float x, float y, float z, float w) {
-        glUniform4f(getUniformLocation(name), x, y, z, w);
+        uniforms.get(name).set(x, y, z, w);
     }
     
     public void setUniform(String name, Matrix4f matrix) {
         setMatrix4f(name, matrix);
     }
     
-    private final java.util.Map<String, int[]> lightUniformCache = new java.util.HashMap<>();
+    private final java.util.Map<String, Uniform[]> lightUniformCache = new java.util.HashMap<>();
     private static final int LIGHT_STRUCT_SIZE = 7; // type, pos, dir, color, intensity, radius, spot
 
     public void setLights(String arrayName, java.util.List<com.za.zenith.world.lighting.LightSource> lights) {
         int count = Math.min(lights.size(), com.za.zenith.world.lighting.LightManager.MAX_DYNAMIC_LIGHTS);
         setInt("uLightCount", count);
         
-        int[] locations = lightUniformCache.get(arrayName);
-        if (locations == null) {
-            locations = new int[com.za.zenith.world.lighting.LightManager.MAX_DYNAMIC_LIGHTS * LIGHT_STRUCT_SIZE];
+        Uniform[] handles = lightUniformCache.get(arrayName);
+        if (handles == null) {
+            handles = new Uniform[com.za.zenith.world.lighting.LightManager.MAX_DYNAMIC_LIGHTS * LIGHT_STRUCT_SIZE];
             for (int i = 0; i < com.za.zenith.world.lighting.LightManager.MAX_DYNAMIC_LIGHTS; i++) {
                 String prefix = arrayName + "[" + i + "].";
-                locations[i * LIGHT_STRUCT_SIZE + 0] = glGetUniformLocation(programId, prefix + "type");
-                locations[i * LIGHT_STRUCT_SIZE + 1] = glGetUniformLocation(programId, prefix + "position");
-                locations[i * LIGHT_STRUCT_SIZE + 2] = glGetUniformLocation(programId, prefix + "direction");
-                locations[i * LIGHT_STRUCT_SIZE + 3] = glGetUniformLocation(programId, prefix + "color");
-                locations[i * LIGHT_STRUCT_SIZE + 4] = glGetUniformLocation(programId, prefix + "intensity");
-                locations[i * LIGHT_STRUCT_SIZE + 5] = glGetUniformLocation(programId, prefix + "radius");
-                locations[i * LIGHT_STRUCT_SIZE + 6] = glGetUniformLocation(programId, prefix + "spotAngle");
+                handles[i * LIGHT_STRUCT_SIZE + 0] = uniforms.get(prefix + "type");
+                handles[i * LIGHT_STRUCT_SIZE + 1] = uniforms.get(prefix + "position");
+                handles[i * LIGHT_STRUCT_SIZE + 2] = uniforms.get(prefix + "direction");
+                handles[i * LIGHT_STRUCT_SIZE + 3] = uniforms.get(prefix + "color");
+                handles[i * LIGHT_STRUCT_SIZE + 4] = uniforms.get(prefix + "intensity");
+                handles[i * LIGHT_STRUCT_SIZE + 5] = uniforms.get(prefix + "radius");
+                handles[i * LIGHT_STRUCT_SIZE + 6] = uniforms.get(prefix + "spotAngle");
             }
-            lightUniformCache.put(arrayName, locations);
+            lightUniformCache.put(arrayName, handles);
         }
 
         for (int i = 0; i < count; i++) {
             com.za.zenith.world.lighting.LightSource light = lights.get(i);
             int base = i * LIGHT_STRUCT_SIZE;
-            glUniform1i(locations[base + 0], light.data.type.ordinal());
-            glUniform3f(locations[base + 1], light.position.x, light.position.y, light.position.z);
-            glUniform3f(locations[base + 2], light.direction.x, light.direction.y, light.direction.z);
-            glUniform3f(locations[base + 3], light.data.color.x, light.data.color.y, light.data.color.z);
-            glUniform1f(locations[base + 4], light.data.intensity);
-            glUniform1f(locations[base + 5], light.data.radius);
-            glUniform1f(locations[base + 6], (float)Math.cos(Math.toRadians(light.data.spotAngle)));
+            handles[base + 0].set(light.data.type.ordinal());
+            handles[base + 1].set(light.position.x, light.position.y, light.position.z);
+            handles[base + 2].set(light.direction.x, light.direction.y, light.direction.z);
+            handles[base + 3].set(light.data.color.x, light.data.color.y, light.data.color.z);
+            handles[base + 4].set(light.data.intensity);
+            handles[base + 5].set(light.data.radius);
+            handles[base + 6].set((float)Math.cos(Math.toRadians(light.data.spotAngle)));
         }
     }
 
@@ -197,17 +204,6 @@ public class Shader {
         glUseProgram(0);
     }
     
-    private final java.util.Map<String, Integer> uniformLocationCache = new java.util.HashMap<>();
-    
-    private int getUniformLocation(String name) {
-        Integer location = uniformLocationCache.get(name);
-        if (location == null) {
-            location = glGetUniformLocation(programId, name);
-            uniformLocationCache.put(name, location);
-        }
-        return location;
-    }
-    
     public void cleanup() {
         glDeleteProgram(programId);
     }
@@ -0,0 +1,75 @@
+package com.za.zenith.engine.graphics;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Uniform table of a linked program.
+ * <p>
+ * Every active uniform is enumerated and resolved right after linking, so setters never query
+ * locations at draw time. Basic-type arrays are registered under their base name, the "[0]" name
+ * and every "name[i]" element. Names the linker did not report get a handle on first request
+ * (one location query, normally -1) which is cached as well.
+ */
+public class ShaderUniforms {
+    private final UniformBackend backend;
+    private final int programId;
+    private final Map<String, Uniform> uniforms = new HashMap<>();
+    private final int activeCount;
+
+    public ShaderUniforms(UniformBackend backend, int programId) {
+        this.backend = backend;
+        this.programId = programId;
+
+        int active = 0;
+        for (UniformBackend.ActiveUniform u : backend.getActiveUniforms(programId)) {
+            String name = u.name();
+            if (name.startsWith("gl_")) continue;
+            if (name.endsWith("[0]")) {
+                String base = name.substring(0, name.length() - 3);
+                Uniform first = register(name);
+                uniforms.put(base, first);
+                for (int i = 1; i < u.size(); i++) register(base + "[" + i + "]");
+                active += u.size();
+            } else {
+                register(name);
+                active++;
+            }
+        }
+        this.activeCount = active;
+    }
+
+    private Uniform register(String name) {
+        Uniform uniform = new Uniform(name, backend.getUniformLocation(programId, name), backend);
+        uniforms.put(name, uniform);
+        return uniform;
+    }
+
+    /**
+     * Returns the handle for the name; never null.
+     */
+    public Uniform get(String name) {
+        Uniform uniform = uniforms.get(name);
+        if (uniform == null) uniform = register(name);
+        return uniform;
+    }
+
+    public boolean has(String name) {
+        return get(name).isActive();
+    }
+
+    /**
+     * Number of active uniform locations found at link time (array elements counted separately).
+     */
+    public int getActiveCount() { return activeCount; }
+
+    public Collection<Uniform> getAll() { return uniforms.values(); }
+
+    /**
+     * Drops all cached values, e.g. after the program state was changed behind the handles' back.
+     */
+    public void invalidateAll() {
+        for (Uniform uniform : uniforms.values()) uniform.invalidate();
+    }
+}
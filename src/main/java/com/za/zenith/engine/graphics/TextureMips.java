@@ -0,0 +1,104 @@
+package com.za.zenith.engine.graphics;
+
+/**
+ * CPU-side preparation of texture array layers: row flip, nearest-neighbour resize and a box-filtered
+ * mip chain. Pure functions over tightly packed RGBA8 so that atlas layers can be built on worker
+ * threads and tested without a GL context.
+ * <p>
+ * A layer is stored as all mip levels back to back, level 0 first.
+ */
+public final class TextureMips {
+    private TextureMips() {}
+
+    /** Number of levels down to 1x1 for a square tile. */
+    public static int levelCount(int size) {
+        return 32 - Integer.numberOfLeadingZeros(size);
+    }
+
+    public static int levelSize(int size, int level) {
+        return Math.max(1, size >> level);
+    }
+
+    /** Byte offset of a level inside a layer. */
+    public static int levelOffset(int size, int level) {
+        int offset = 0;
+        for (int l = 0; l < level; l++) {
+            int s = levelSize(size, l);
+            offset += s * s * 4;
+        }
+        return offset;
+    }
+
+    /** Bytes of a whole layer including every level. */
+    public static int layerBytes(int size) {
+        return levelOffset(size, levelCount(size));
+    }
+
+    /** Flips an image upside down in place (GL expects the first row at the bottom). */
+    public static void flipRows(byte[] rgba, int width, int height) {
+        int stride = width * 4;
+        byte[] row = new byte[stride];
+        for (int top = 0, bottom = height - 1; top < bottom; top++, bottom--) {
+            System.arraycopy(rgba, top * stride, row, 0, stride);
+            System.arraycopy(rgba, bottom * stride, rgba, top * stride, stride);
+            System.arraycopy(row, 0, rgba, bottom * stride, stride);
+        }
+    }
+
+    /** Nearest-neighbour resize to a square tile; returns the source if it already fits. */
+    public static byte[] resizeNearest(byte[] rgba, int width, int height, int size) {
+        if (width == size && height == size) return rgba;
+        byte[] out = new byte[size * size * 4];
+        for (int y = 0; y < size; y++) {
+            int sy = y * height / size;
+            for (int x = 0; x < size; x++) {
+                int sx = x * width / size;
+                System.arraycopy(rgba, (sy * width + sx) * 4, out, (y * size + x) * 4, 4);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Builds the full layer: level 0 copied from {@code base}, every next level the rounded 2x2 average
+     * of the previous one (the same box filter glGenerateMipmap uses).
+     */
+    public static byte[] buildLayer(byte[] base, int size) {
+        byte[] layer = new byte[layerBytes(size)];
+        System.arraycopy(base, 0, layer, 0, size * size * 4);
+        int levels = levelCount(size);
+        for (int level = 1; level < levels; level++) {
+            int src = levelOffset(size, level - 1);
+            int dst = levelOffset(size, level);
+            int srcSize = levelSize(size, level - 1);
+            int dstSize = levelSize(size, level);
+            for (int y = 0; y < dstSize; y++) {
+                int r0 = src + (y * 2) * srcSize * 4;
+                int r1 = r0 + srcSize * 4;
+                for (int x = 0; x < dstSize; x++) {
+                    int a = r0 + x * 8;
+                    int b = r1 + x * 8;
+                    int o = dst + (y * dstSize + x) * 4;
+                    for (int c = 0; c < 4; c++) {
+                        int sum = (layer[a + c] & 0xFF) + (layer[a + 4 + c] & 0xFF)
+                                + (layer[b + c] & 0xFF) + (layer[b + 4 + c] & 0xFF);
+                        layer[o + c] = (byte) ((sum + 2) >> 2);
+                    }
+                }
+            }
+        }
+        return layer;
+    }
+
+    /** Solid-colour tile, used for textures that fail to load. */
+    public static byte[] solid(int size, int r, int g, int b, int a) {
+        byte[] img = new byte[size * size * 4];
+        for (int i = 0; i < img.length; i += 4) {
+            img[i] = (byte) r;
+            img[i + 1] = (byte) g;
+            img[i + 2] = (byte) b;
+            img[i + 3] = (byte) a;
+        }
+        return img;
+    }
+}
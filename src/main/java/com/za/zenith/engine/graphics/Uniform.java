@@ -0,0 +1,137 @@
+package com.za.zenith.engine.graphics;
+
+import org.joml.Matrix4f;
+
+import java.util.Arrays;
+
+/**
+ * Typed handle to one uniform of one program, resolved once and safe to keep in a field.
+ * <p>
+ * Uniform values live in the program object, so the handle remembers what it last uploaded and
+ * skips the GL call when the same value is set again. Handles of inactive uniforms (optimized out
+ * or misspelled) have location -1 and ignore every set.
+ * The owning program must be bound when a setter actually uploads, exactly as with raw glUniform*.
+ */
+public final class Uniform {
+    private static final byte NONE = 0, INT = 1, FLOAT = 2, VEC = 3, MATRIX = 4, ARRAY_1 = 5, ARRAY_4 = 6;
+
+    private final String name;
+    private final int location;
+    private final UniformBackend backend;
+
+    private byte kind = NONE;
+    private int intValue;
+    private float x, y, z, w;
+    private int components;
+    private Matrix4f matrix;
+    private float[] values;
+
+    Uniform(String name, int location, UniformBackend backend) {
+        this.name = name;
+        this.location = location;
+        this.backend = backend;
+    }
+
+    public String getName() { return name; }
+    public int getLocation() { return location; }
+    public boolean isActive() { return location != -1; }
+
+    public void set(int value) {
+        if (location == -1 || (kind == INT && intValue == value)) return;
+        kind = INT;
+        intValue = value;
+        backend.uniform1i(location, value);
+    }
+
+    public void set(boolean value) {
+        set(value ? 1 : 0);
+    }
+
+    public void set(float value) {
+        if (location == -1 || (kind == FLOAT && x == value)) return;
+        kind = FLOAT;
+        x = value;
+        backend.uniform1f(location, value);
+    }
+
+    public void set(float x, float y) {
+        if (location == -1 || sameVector(2, x, y, 0.0f, 0.0f)) return;
+        storeVector(2, x, y, 0.0f, 0.0f);
+        backend.uniform2f(location, x, y);
+    }
+
+    public void set(float x, float y, float z) {
+        if (location == -1 || sameVector(3, x, y, z, 0.0f)) return;
+        storeVector(3, x, y, z, 0.0f);
+        backend.uniform3f(location, x, y, z);
+    }
+
+    public void set(float x, float y, float z, float w) {
+        if (location == -1 || sameVector(4, x, y, z, w)) return;
+        storeVector(4, x, y, z, w);
+        backend.uniform4f(location, x, y, z, w);
+    }
+
+    public void set(Matrix4f value) {
+        if (location == -1 || (kind == MATRIX && matrix.equals(value))) return;
+        if (matrix == null) {
+            matrix = new Matrix4f();
+            values = new float[16];
+        } else if (values.length < 16) {
+            values = new float[16];
+        }
+        kind = MATRIX;
+        matrix.set(value);
+        matrix.get(values);
+        backend.uniformMatrix4fv(location, values);
+    }
+
+    /**
+     * float[] uniform array; the whole array is uploaded when any element changed.
+     */
+    public void setArray(float[] array) {
+        if (location == -1 || sameArray(ARRAY_1, array)) return;
+        storeArray(ARRAY_1, array);
+        backend.uniform1fv(location, array);
+    }
+
+    /**
+     * vec4[] uniform array packed as x,y,z,w,...
+     */
+    public void setVec4Array(float[] array) {
+        if (location == -1 || sameArray(ARRAY_4, array)) return;
+        storeArray(ARRAY_4, array);
+        backend.uniform4fv(location, array);
+    }
+
+    /**
+     * Forgets the cached value so the next set always uploads.
+     */
+    public void invalidate() {
+        kind = NONE;
+    }
+
+    private boolean sameVector(int n, float x, float y, float z, float w) {
+        return kind == VEC && components == n && this.x == x && this.y == y && this.z == z && this.w == w;
+    }
+
+    private void storeVector(int n, float x, float y, float z, float w) {
+        kind = VEC;
+        components = n;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+    }
+
+    private boolean sameArray(byte arrayKind, float[] array) {
+        return kind == arrayKind && components == array.length && Arrays.equals(values, 0, components, array, 0, array.length);
+    }
+
+    private void storeArray(byte arrayKind, float[] array) {
+        if (values == null || values.length < array.length) values = new float[array.length];
+        System.arraycopy(array, 0, values, 0, array.length);
+        kind = arrayKind;
+        components = array.length;
+    }
+}
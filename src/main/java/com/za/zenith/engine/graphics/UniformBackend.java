@@ -0,0 +1,53 @@
+package com.za.zenith.engine.graphics;
+
+import java.util.List;
+
+/**
+ * The GL calls used by {@link ShaderUniforms}, {@link Uniform} and {@link UniformBuffer}.
+ * Production code uses {@link #GL}; tests substitute a recording fake so uniform caching and
+ * redundant-value filtering can be verified without a context.
+ */
+public interface UniformBackend {
+    UniformBackend GL = new GLUniformBackend();
+
+    /**
+     * An active uniform as reported by the linker. Arrays of basic types are reported once with
+     * a "[0]" suffix and {@code size} > 1; arrays of structs are reported per member.
+     */
+    record ActiveUniform(String name, int size) {}
+
+    List<ActiveUniform> getActiveUniforms(int program);
+
+    int getUniformLocation(int program, String name);
+
+    void uniform1i(int location, int value);
+
+    void uniform1f(int location, float value);
+
+    void uniform2f(int location, float x, float y);
+
+    void uniform3f(int location, float x, float y, float z);
+
+    void uniform4f(int location, float x, float y, float z, float w);
+
+    void uniform1fv(int location, float[] values);
+
+    void uniform4fv(int location, float[] values);
+
+    void uniformMatrix4fv(int location, float[] matrix);
+
+    /**
+     * Creates a uniform buffer of the given size and attaches it to the binding point.
+     */
+    int createUniformBuffer(int sizeBytes, int bindingPoint);
+
+    void uniformBufferSubData(int buffer, int offsetBytes, float[] data, int from, int count);
+
+    void deleteBuffer(int buffer);
+
+    /**
+     * Points the named uniform block of the program at a binding point. No-op if the program
+     * does not declare the block.
+     */
+    void bindUniformBlock(int program, String blockName, int bindingPoint);
+}
@@ -0,0 +1,106 @@
+package com.za.zenith.engine.graphics;
+
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+
+/**
+ * std140 uniform buffer shared by every program that declares the block.
+ * <p>
+ * Values are staged in a float array (offsets are in floats, i.e. bytes / 4). Writes that do not
+ * change the staged value are ignored, the rest widen a dirty range, and {@link #upload()} sends
+ * only that range - or nothing when the frame's data did not change.
+ */
+public class UniformBuffer {
+    private final String blockName;
+    private final int bindingPoint;
+    private final float[] data;
+    private final UniformBackend backend;
+    private int bufferId = 0;
+    private int dirtyFrom = Integer.MAX_VALUE;
+    private int dirtyTo = 0;
+
+    public UniformBuffer(String blockName, int bindingPoint, int sizeFloats) {
+        this(blockName, bindingPoint, sizeFloats, UniformBackend.GL);
+    }
+
+    public UniformBuffer(String blockName, int bindingPoint, int sizeFloats, UniformBackend backend) {
+        this.blockName = blockName;
+        this.bindingPoint = bindingPoint;
+        this.data = new float[sizeFloats];
+        this.backend = backend;
+    }
+
+    /**
+     * Allocates the GL buffer and attaches it to the binding point. The whole buffer counts as dirty.
+     */
+    public void create() {
+        bufferId = backend.createUniformBuffer(data.length * Float.BYTES, bindingPoint);
+        markDirty(0, data.length);
+    }
+
+    /**
+     * Connects the program's block (if it has one) to this buffer's binding point.
+     * Works before {@link #create()}, binding points are program state.
+     */
+    public void bindBlock(int programId) {
+        backend.bindUniformBlock(programId, blockName, bindingPoint);
+    }
+
+    public void put(int offset, float value) {
+        if (data[offset] != value) {
+            data[offset] = value;
+            markDirty(offset, offset + 1);
+        }
+    }
+
+    public void putVec4(int offset, float x, float y, float z, float w) {
+        put(offset, x);
+        put(offset + 1, y);
+        put(offset + 2, z);
+        put(offset + 3, w);
+    }
+
+    public void putVec4(int offset, Vector3f xyz, float w) {
+        putVec4(offset, xyz.x, xyz.y, xyz.z, w);
+    }
+
+    /**
+     * Column-major mat4 (std140 layout equals the tightly packed one).
+     */
+    public void putMatrix(int offset, Matrix4f m) {
+        putVec4(offset, m.m00(), m.m01(), m.m02(), m.m03());
+        putVec4(offset + 4, m.m10(), m.m11(), m.m12(), m.m13());
+        putVec4(offset + 8, m.m20(), m.m21(), m.m22(), m.m23());
+        putVec4(offset + 12, m.m30(), m.m31(), m.m32(), m.m33());
+    }
+
+    public float get(int offset) {
+        return data[offset];
+    }
+
+    /**
+     * Uploads the changed range.
+     * @return true if anything was sent to the GPU.
+     */
+    public boolean upload() {
+        if (bufferId == 0 || dirtyFrom >= dirtyTo) return false;
+        backend.uniformBufferSubData(bufferId, dirtyFrom * Float.BYTES, data, dirtyFrom, dirtyTo - dirtyFrom);
+        dirtyFrom = Integer.MAX_VALUE;
+        dirtyTo = 0;
+        return true;
+    }
+
+    private void markDirty(int from, int to) {
+        if (from < dirtyFrom) dirtyFrom = from;
+        if (to > dirtyTo) dirtyTo = to;
+    }
+
+    public String getBlockName() { return blockName; }
+    public int getBindingPoint() { return bindingPoint; }
+    public int getSizeFloats() { return data.length; }
+
+    public void cleanup() {
+        if (bufferId != 0) backend.deleteBuffer(bufferId);
+        bufferId = 0;
+    }
+}
@@ -15,6 +15,14 @@ public class ViewmodelController {
     }
 
     private final Map<String, Snapshot> snapshots = new HashMap<>();
+    // Track slots of each node name per profile (x, y, z, pitch, yaw, roll; -1 = none), and the pose being applied
+    private final Map<AnimationProfile, ProfileSlots> profileSlots = new java.util.WeakHashMap<>();
+    private float[] pose = new float[0];
+
+    private static class ProfileSlots {
+        final Map<String, int[]> nodes = new HashMap<>();
+        int revision = -1;
+    }
     private float transitionTimer = 1.0f;
     private float transitionDuration = 0.25f;
 
@@ -66,31 +74,52 @@ public class ViewmodelController {
 
     public void applyAnimation(Viewmodel viewmodel, AnimationProfile profile, float time, float multiplier) {
         if (profile == null) return;
-        
+
+        ProfileSlots slots = profileSlots.computeIfAbsent(profile, p -> new ProfileSlots());
+        if (slots.revision != profile.getLayoutRevision()) {
+            slots.nodes.clear();
+            slots.revision = profile.getLayoutRevision();
+        }
+        if (pose.length < profile.getTrackCount()) pose = new float[profile.getTrackCount()];
+        profile.evaluateAll(time, multiplier, pose);
+
         for (ModelNode node : viewmodel.root.children) {
-            applyRecursive(node, profile, time, multiplier);
+            applyRecursive(node, profile, slots, multiplier);
         }
     }
 
-    private void applyRecursive(ModelNode node, AnimationProfile profile, float time, float multiplier) {
-        String name = node.name;
-        
+    private static int[] slotsOf(AnimationProfile profile, ProfileSlots slots, String name) {
+        int[] s = slots.nodes.get(name);
+        if (s == null) {
+            s = new int[] {
+                profile.slotOf(name + ":x"), profile.slotOf(name + ":y"), profile.slotOf(name + ":z"),
+                profile.slotOf(name + ":pitch"), profile.slotOf(name + ":yaw"), profile.slotOf(name + ":roll")
+            };
+            slots.nodes.put(name, s);
+        }
+        return s;
+    }
+
+    private void applyRecursive(ModelNode node, AnimationProfile profile, ProfileSlots slots, float multiplier) {
+        int[] slot = slotsOf(profile, slots, node.name);
+        float[] pose = this.pose;
+
         if (profile.getVersion() == 1) {
-            if (profile.hasTrack(name + ":x")) node.animTranslation.x = profile.evaluate(name + ":x", time, multiplier) / 16.0f;
-            if (profile.hasTrack(name + ":y")) node.animTranslation.y = profile.evaluate(name + ":y", time, multiplier) / 16.0f;
-            if (profile.hasTrack(name + ":z")) node.animTranslation.z = profile.evaluate(name + ":z", time, multiplier) / 16.0f;
-            
-            if (profile.hasTrack(name + ":pitch")) node.animRotation.x = (float)Math.toRadians(profile.evaluate(name + ":pitch", time, multiplier));
-            if (profile.hasTrack(name + ":yaw")) node.animRotation.y = (float)Math.toRadians(profile.evaluate(name + ":yaw", time, multiplier));
-            if (profile.hasTrack(name + ":roll")) node.animRotation.z = (float)Math.toRadians(profile.evaluate(name + ":roll", time, multiplier));
+            if (slot[0] >= 0) node.animTranslation.x = pose[slot[0]] / 16.0f;
+            if (slot[1] >= 0) node.animTranslation.y = pose[slot[1]] / 16.0f;
+            if (slot[2] >= 0) node.animTranslation.z = pose[slot[2]] / 16.0f;
+
+            if (slot[3] >= 0) node.animRotation.x = (float)Math.toRadians(pose[slot[3]]);
+            if (slot[4] >= 0) node.animRotation.y = (float)Math.toRadians(pose[slot[4]]);
+            if (slot[5] >= 0) node.animRotation.z = (float)Math.toRadians(pose[slot[5]]);
         } else {
-            if (profile.hasTrack(name + ":x")) node.animTranslation.x += profile.evaluate(name + ":x", time, multiplier) / 16.0f;
-            if (profile.hasTrack(name + ":y")) node.animTranslation.y += profile.evaluate(name + ":y", time, multiplier) / 16.0f;
-            if (profile.hasTrack(name + ":z")) node.animTranslation.z += profile.evaluate(name + ":z", time, multiplier) / 16.0f;
-            
-            float pitch = profile.hasTrack(name + ":pitch") ? profile.evaluate(name + ":pitch", time, multiplier) : 0;
-            float yaw = profile.hasTrack(name + ":yaw") ? profile.evaluate(name + ":yaw", time, multiplier) : 0;
-            float roll = profile.hasTrack(name + ":roll") ? profile.evaluate(name + ":roll", time, multiplier) : 0;
+            if (slot[0] >= 0) node.animTranslation.x += pose[slot[0]] / 16.0f;
+            if (slot[1] >= 0) node.animTranslation.y += pose[slot[1]] / 16.0f;
+            if (slot[2] >= 0) node.animTranslation.z += pose[slot[2]] / 16.0f;
+
+            float pitch = slot[3] >= 0 ? pose[slot[3]] : 0;
+            float yaw = slot[4] >= 0 ? pose[slot[4]] : 0;
+            float roll = slot[5] >= 0 ? pose[slot[5]] : 0;
             
             if (pitch != 0 || yaw != 0 || roll != 0) {
                 Quaternionf q = new Quaternionf().rotationXYZ(
@@ -116,7 +145,7 @@ public class ViewmodelController {
         }
         
         for (ModelNode child : node.children) {
-            applyRecursive(child, profile, time, multiplier);
+            applyRecursive(child, profile, slots, multiplier);
         }
     }
     
@@ -5,6 +5,9 @@ import com.za.zenith.engine.core.GameLoop;
 import com.za.zenith.engine.graphics.DynamicTextureAtlas;
 import com.za.zenith.engine.resources.AssetManager;
 import com.za.zenith.utils.Logger;
+import com.za.zenith.utils.profiling.Profiler;
+import com.za.zenith.utils.profiling.ProfilerExporter;
+import com.za.zenith.utils.profiling.ProfilerMetric;
 import org.lwjgl.glfw.GLFW;
 
 import java.util.*;
@@ -15,7 +18,7 @@ import java.util.stream.Collectors;
  * No more Reflection hacks. Pure JSON manipulation.
  */
 public class DevInspectorScreen implements Screen {
-    private enum Tab { BLOCKS, ITEMS, RECIPES, ENTITIES, WORLD, ANIMATION, REGISTRY, SYSTEM }
+    private enum Tab { BLOCKS, ITEMS, RECIPES, ENTITIES, WORLD, ANIMATION, REGISTRY, SYSTEM, PROFILER }
 
     private static Tab activeTab = Tab.BLOCKS;
     private static String selectedPath = null;
@@ -70,6 +73,12 @@ public class DevInspectorScreen implements Screen {
 
         renderTabs(renderer, sw, sh);
 
+        if (activeTab == Tab.PROFILER) {
+            renderProfiler(renderer, sw, sh);
+            renderFooter(renderer, sw, sh);
+            return;
+        }
+
         // Sidebar
         sidebarScroller.begin(sw, sh);
         renderSidebar(renderer, sw, sh);
@@ -206,6 +215,7 @@ public class DevInspectorScreen implements Screen {
             case ANIMATION -> path.contains("/actions/") || path.contains("/animations/") || path.contains("/models/") || path.contains("/grips/");
             case REGISTRY -> path.contains("/registry/") || path.contains("/journal/");
             case SYSTEM -> path.contains("/gui/") || path.contains("/lang/") || path.contains("/texts/") || (!path.contains("/") && path.endsWith(".json"));
+            case PROFILER -> false;
         };
     }
 
@@ -407,6 +417,86 @@ public class DevInspectorScreen implements Screen {
         return new JsonPrimitive(value);
     }
 
+    /**
+     * Frame-time graph, main thread section tree and executor/worker metrics.
+     * Reads profiler ring buffers directly; nothing here is cached because the tab is dev-only.
+     */
+    private void renderProfiler(UIRenderer renderer, int sw, int sh) {
+        FontRenderer fr = renderer.getFontRenderer();
+        int x = guiLeft + 20;
+        int y = guiTop + 95;
+
+        // Frame time graph (newest on the right), 16.6 ms guide line
+        ProfilerMetric frame = Profiler.getFrameTime();
+        int graphW = Math.min(width - 40, ProfilerMetric.CAPACITY * 3);
+        int graphH = 90;
+        float msPerPixel = 33.3f / graphH;
+        renderer.getPrimitivesRenderer().renderRect(x, y, graphW, graphH, sw, sh, 0.08f, 0.08f, 0.08f, 1.0f);
+        int bars = Math.min(frame.getCount(), graphW / 3);
+        for (int i = 0; i < bars; i++) {
+            float ms = frame.getSample(i) / 1_000_000.0f;
+            int h = Math.min(graphH, (int) (ms / msPerPixel));
+            float danger = Math.min(1.0f, ms / 33.3f);
+            renderer.getPrimitivesRenderer().renderRect(x + graphW - (i + 1) * 3, y + graphH - h, 2, h, sw, sh, danger, 1.0f - danger * 0.7f, 0.2f, 0.9f);
+        }
+        int guideY = y + graphH - (int) (16.6f / msPerPixel);
+        renderer.getPrimitivesRenderer().renderRect(x, guideY, graphW, 1, sw, sh, 1.0f, 1.0f, 1.0f, 0.3f);
+        fr.drawString(String.format(Locale.ROOT, "frame avg %.2f ms  max %.2f ms", frame.getAverage() / 1e6, frame.getMax() / 1e6), x + 6, y + 4, 12, sw, sh, 1, 1, 1, 1);
+        y += graphH + 14;
+
+        // Main thread tree
+        int colX = x;
+        int rowY = y;
+        fr.drawString("MAIN THREAD (avg / max ms, calls)", colX, rowY, 14, sw, sh, 0.0f, 0.8f, 1.0f, 1.0f);
+        rowY += 22;
+        Profiler.ThreadProfile main = Profiler.getMainThreadProfile();
+        if (main != null) {
+            for (Profiler.Section s : main.getRoot().getChildren()) {
+                rowY = renderSection(renderer, s, colX, rowY, 0, sw, sh);
+            }
+        }
+
+        // Worker threads and executor metrics
+        int col2X = guiLeft + width / 2;
+        rowY = y;
+        fr.drawString("WORKERS & POOLS", col2X, rowY, 14, sw, sh, 0.0f, 0.8f, 1.0f, 1.0f);
+        rowY += 22;
+        for (Profiler.ThreadProfile p : Profiler.getThreadProfiles()) {
+            if (p == main) continue;
+            for (Profiler.Section s : p.getRoot().getChildren()) {
+                ProfilerMetric m = s.getMetric();
+                fr.drawString(String.format(Locale.ROOT, "%s / %s  %.2f / %.2f", p.getThreadName(), s.getName(), m.getAverage() / 1e6, m.getMax() / 1e6),
+                        col2X, rowY, 12, sw, sh, 0.8f, 0.8f, 0.8f, 1.0f);
+                rowY += 18;
+            }
+        }
+        rowY += 8;
+        for (Map.Entry<String, ProfilerMetric> e : new TreeMap<>(Profiler.getMetrics()).entrySet()) {
+            ProfilerMetric m = e.getValue();
+            boolean nanos = e.getKey().endsWith("Ns");
+            String line = nanos
+                    ? String.format(Locale.ROOT, "%s  %.2f / %.2f ms", e.getKey(), m.getAverage() / 1e6, m.getMax() / 1e6)
+                    : String.format(Locale.ROOT, "%s  %d (max %d)", e.getKey(), m.getLast(), m.getMax());
+            fr.drawString(line, col2X, rowY, 12, sw, sh, 0.7f, 0.9f, 0.7f, 1.0f);
+            rowY += 18;
+        }
+
+        String status = Profiler.isCapturing() ? "CAPTURING... press C to stop and export" : "C: capture Chrome trace | X: export summary";
+        fr.drawString(status, guiLeft + 20, guiTop + height - 30, 12, sw, sh, Profiler.isCapturing() ? 1.0f : 0.6f, 0.6f, 0.6f, 1.0f);
+    }
+
+    private int renderSection(UIRenderer renderer, Profiler.Section section, int x, int y, int depth, int sw, int sh) {
+        ProfilerMetric m = section.getMetric();
+        String line = String.format(Locale.ROOT, "%s  %.3f / %.3f  x%d", section.getName(), m.getAverage() / 1e6, m.getMax() / 1e6, section.getLastCalls());
+        float shade = Math.max(0.5f, 1.0f - depth * 0.15f);
+        renderer.getFontRenderer().drawString(line, x + depth * 16, y, 12, sw, sh, shade, shade, shade, 1.0f);
+        y += 18;
+        for (Profiler.Section child : section.getChildren()) {
+            y = renderSection(renderer, child, x, y, depth + 1, sw, sh);
+        }
+        return y;
+    }
+
     private void renderFooter(UIRenderer renderer, int sw, int sh) {
         renderer.getPrimitivesRenderer().renderRect(10, sh - 40, sw - 20, 30, sw, sh, 0.05f, 0.05f, 0.05f, 1.0f);
         String info = "ENTER: Save & Reload | ESC: Close | Click value to edit";
@@ -437,6 +527,22 @@ public class DevInspectorScreen implements Screen {
             return true;
         }
 
+        if (activeTab == Tab.PROFILER && editingPath == null) {
+            if (key == GLFW.GLFW_KEY_C) {
+                if (Profiler.isCapturing()) {
+                    Profiler.stopCapture();
+                    ProfilerExporter.exportAll();
+                } else {
+                    Profiler.startCapture();
+                }
+                return true;
+            }
+            if (key == GLFW.GLFW_KEY_X) {
+                ProfilerExporter.exportAll();
+                return true;
+            }
+        }
+
         if (editingPath != null) {
             if (key == GLFW.GLFW_KEY_BACKSPACE && !editingValue.isEmpty()) editingValue = editingValue.substring(0, editingValue.length() - 1);
             else if (key == GLFW.GLFW_KEY_ENTER || key == GLFW.GLFW_KEY_KP_ENTER) applyEditing();
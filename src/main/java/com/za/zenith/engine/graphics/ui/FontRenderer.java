@@ -18,47 +18,58 @@ import static org.lwjgl.opengl.GL15.*;
 import static org.lwjgl.opengl.GL20.*;
 import static org.lwjgl.opengl.GL30.*;
 
+/**
+ * Bitmap font renderer. Measuring, wrapping and glyph placement of a string are cached per
+ * (text, size, wrap width) in a {@link TextLayoutCache}, so redrawing unchanged text only emits
+ * the stored quads with the current colours and effects.
+ */
 public class FontRenderer {
-    private static final int GRID_SIZE = 16;
-    private static final int GLYPH_SIZE = 8;
+    private static final String ASCII_TEXTURE = "zenith/textures/font/ascii.png";
+    private static final long LAYOUT_CACHE_BYTES = Long.getLong("zenith.text.cache.kb", 1024) * 1024;
 
-    private final int[] widthMap = new int[256];
-    private final int[] unicodeWidthMap = new int[65536];
+    private final GlyphTable table;
+    private final TextLayoutCache layouts = new TextLayoutCache(LAYOUT_CACHE_BYTES);
     private final java.util.Map<Integer, Integer> unicodePages = new java.util.HashMap<>();
-    private final java.util.Map<Integer, GlyphInfo> glyphCustomMap = new java.util.HashMap<>();
     private final java.util.Map<String, Integer> textureCache = new java.util.HashMap<>();
+    private final GlyphTable.Textures textures = new GlyphTable.Textures() {
+        @Override
+        public int ascii() { return getOrLoadTexture(ASCII_TEXTURE); }
 
-    private static class GlyphInfo {
-        int textureId;
-        int gridX, gridY;
-        int totalCols, totalRows;
-        int width;
-
-        GlyphInfo(int textureId, int gridX, int gridY, int totalCols, int totalRows, int width) {
-            this.textureId = textureId;
-            this.gridX = gridX;
-            this.gridY = gridY;
-            this.totalCols = totalCols;
-            this.totalRows = totalRows;
-            this.width = width;
-        }
-    }
+        @Override
+        public int page(int page) { return getUnicodePageTexture(page); }
+    };
 
     private Shader shader;
+    private com.za.zenith.engine.graphics.ui.batch.UIBatch batch;
     private int vao;
     private int vbo;
     private int ebo;
 
     private final float[][] colorCodes = new float[32][3];
 
+    public FontRenderer() {
+        this(new GlyphTable());
+    }
+
+    FontRenderer(GlyphTable table) {
+        this.table = table;
+    }
+
     public void init(Shader shader) {
         this.shader = shader;
         setupColorCodes();
-        loadWidthMap("zenith/textures/font/ascii.png", widthMap);
+        loadWidthMap(ASCII_TEXTURE, table.widthMap);
         loadJsonMapping();
         createQuad();
     }
 
+    /**
+     * While the batch is recording, glyphs are appended to it instead of being drawn one by one.
+     */
+    public void setBatch(com.za.zenith.engine.graphics.ui.batch.UIBatch batch) {
+        this.batch = batch;
+    }
+
     private void setupColorCodes() {
         for (int i = 0; i < 32; ++i) {
             int j = (i >> 3 & 1) * 85;
@@ -117,11 +128,12 @@ public class FontRenderer {
                             if (cp == 0 || cp == '\u0000') continue;
                             
                             int width = calculateCharWidth(pixels, imgW, col, row, charW, charH);
-                            glyphCustomMap.put(cp, new GlyphInfo(textureId, col, row, cols, rows, width));
+                            table.custom.put(cp, new GlyphTable.CustomGlyph(textureId, col, row, cols, rows, width));
                         }
                     }
                 }
             }
+            table.changed();
         } catch (Exception e) {
             Logger.error("Failed to load font mapping: " + e.getMessage());
         }
@@ -178,198 +190,147 @@ public class FontRenderer {
 
     public void drawString(String text, int x, int y, int size, int screenWidth, int screenHeight, float r, float g, float b, float a, boolean ignoreColors) {
         if (text == null || text.isEmpty()) return;
+        TextLayout layout = layout(text, size, TextLayout.NO_WRAP);
+        if (!layout.glyphsBuilt) {
+            table.layoutLine(text, size, 0, layout, textures);
+            layout.glyphsBuilt = true;
+            layouts.charge(layout);
+        }
+        emit(layout, x, y, size, screenWidth, screenHeight, r, g, b, a, ignoreColors);
+    }
 
-        float scale = (float) size / GLYPH_SIZE;
-        shader.use();
-        shader.setInt("useTexture", 1);
-        shader.setInt("useArray", 0);
-        
-        float currentR = r, currentG = g, currentB = b;
-        boolean bold = false, rainbow = false, glow = false, wavy = false, shake = false;
-
-        glActiveTexture(GL_TEXTURE0);
-        glBindVertexArray(vao);
+    public void drawWrappedString(String text, int x, int y, int size, int maxWidth, int screenWidth, int screenHeight) {
+        drawWrappedString(text, x, y, size, maxWidth, screenWidth, screenHeight, 1.0f, 1.0f, 1.0f, 1.0f);
+    }
 
-        int drawX = x;
-        int lastBoundTexture = -1;
-        long timeMs = System.currentTimeMillis();
+    public void drawWrappedString(String text, int x, int y, int size, int maxWidth, int screenWidth, int screenHeight, float r, float g, float b, float a) {
+        if (text == null || text.isEmpty()) return;
+        TextLayout layout = wrapped(text, size, maxWidth);
+        if (!layout.glyphsBuilt) {
+            int lineHeight = (int) (size * 1.3f);
+            for (int i = 0; i < layout.drawLines.size(); i++) {
+                table.layoutLine(layout.drawLines.get(i), size, i * lineHeight, layout, textures);
+            }
+            layout.glyphsBuilt = true;
+            layouts.charge(layout);
+        }
+        emit(layout, x, y, size, screenWidth, screenHeight, r, g, b, a, false);
+    }
 
-        for (int i = 0; i < text.length(); ) {
-            int cp = text.codePointAt(i);
-            int charCount = Character.charCount(cp);
+    public int getWrappedStringHeight(String text, int size, int maxWidth) {
+        if (text == null || text.isEmpty()) return 0;
+        return wrapped(text, size, maxWidth).heightLines * (int) (size * 1.3f);
+    }
 
-            if (cp == '$' && i + charCount < text.length()) {
-                int nextCp = text.codePointAt(i + charCount);
-                int codeIndex = "0123456789abcdefklmnorgzvq".indexOf(Character.toLowerCase(nextCp));
+    /**
+     * Emits the cached glyph quads at (x, y). Colours and the animated styles are resolved here,
+     * from the absolute glyph position, exactly as the per-character loop used to do.
+     */
+    private void emit(TextLayout layout, int x, int y, int size, int screenWidth, int screenHeight, float r, float g, float b, float a, boolean ignoreColors) {
+        int count = layout.glyphCount;
+        if (count == 0) return;
+
+        float scale = (float) size / GlyphTable.GLYPH_SIZE;
+        int boldShift = Math.round(0.5f * scale);
+        boolean batched = batch != null && batch.isRecording();
+        if (!batched) {
+            shader.use();
+            shader.setInt("useTexture", 1);
+            shader.setInt("useArray", 0);
+            glActiveTexture(GL_TEXTURE0);
+            glBindVertexArray(vao);
+        }
 
-                if (codeIndex >= 0 && codeIndex < 16) {
-                    if (!ignoreColors) {
-                        currentR = colorCodes[codeIndex][0];
-                        currentG = colorCodes[codeIndex][1];
-                        currentB = colorCodes[codeIndex][2];
-                    }
-                    rainbow = false; glow = false; wavy = false; shake = false;
-                } else if (codeIndex == 17) { // l - bold
-                    bold = true;
-                } else if (codeIndex == 21) { // r - reset
-                    currentR = r; currentG = g; currentB = b;
-                    bold = false; rainbow = false; glow = false; wavy = false; shake = false;
-                } else if (codeIndex == 22) { // g - glow
-                    glow = true;
-                } else if (codeIndex == 23) { // z - rainbow
-                    if (!ignoreColors) rainbow = true;
-                } else if (codeIndex == 24) { // v - wavy
-                    wavy = true;
-                } else if (codeIndex == 25) { // q - shake
-                    shake = true;
-                }
-                i += charCount + Character.charCount(nextCp);
-                continue;
+        int lastBoundTexture = -1;
+        long timeMs = System.currentTimeMillis();
+        float[] uv = layout.uv;
+
+        for (int i = 0; i < count; i++) {
+            int style = layout.style[i];
+            int code = layout.color[i];
+            float finalR = r, finalG = g, finalB = b;
+            if (!ignoreColors && code >= 0) {
+                finalR = colorCodes[code][0];
+                finalG = colorCodes[code][1];
+                finalB = colorCodes[code][2];
             }
 
-            float finalR = currentR, finalG = currentG, finalB = currentB;
-            int finalX = drawX, finalY = y;
+            int drawX = x + layout.xOff[i];
+            int finalX = drawX, finalY = y + layout.yOff[i];
 
-            if (rainbow) {
+            if (!ignoreColors && (style & GlyphTable.RAINBOW) != 0) {
                 float hue = ((timeMs % 3000) / 3000.0f + (drawX * 0.002f)) % 1.0f;
                 org.joml.Vector3f rgb = hslToRgb(hue, 0.8f, 0.6f);
                 finalR = rgb.x; finalG = rgb.y; finalB = rgb.z;
             }
-            if (glow) {
+            if ((style & GlyphTable.GLOW) != 0) {
                 float pulse = (float)(Math.sin(timeMs * 0.005f) * 0.25f + 0.75f);
                 finalR *= pulse; finalG *= pulse; finalB *= pulse;
             }
-            if (wavy) finalY += (int)(Math.sin(timeMs * 0.008f + drawX * 0.05f) * 2.0f);
-            if (shake) {
+            if ((style & GlyphTable.WAVY) != 0) finalY += (int)(Math.sin(timeMs * 0.008f + drawX * 0.05f) * 2.0f);
+            if ((style & GlyphTable.SHAKE) != 0) {
                 finalX += (int)(Math.sin(timeMs * 0.1f + drawX) * 1.5f);
                 finalY += (int)(Math.cos(timeMs * 0.13f + drawX * 0.5f) * 1.5f);
             }
 
-            shader.setUniform("tintColor", finalR, finalG, finalB, a);
+            int texture = layout.texture[i];
+            float u0 = uv[i * 4], v0 = uv[i * 4 + 1], u1 = uv[i * 4 + 2], v1 = uv[i * 4 + 3];
+            boolean bold = (style & GlyphTable.BOLD) != 0;
 
-            int textureToBind;
-            GlyphInfo glyph = glyphCustomMap.get(cp);
-            if (glyph != null) {
-                textureToBind = glyph.textureId;
+            if (batched) {
+                batch.addTexturedQuad(texture, finalX, finalY, size, size, u0, v0, u1, v1, finalR, finalG, finalB, a);
+                if (bold) batch.addTexturedQuad(texture, finalX + boldShift, finalY, size, size, u0, v0, u1, v1, finalR, finalG, finalB, a);
             } else {
-                int page = cp / 256;
-                textureToBind = (page == 0 && cp < 128) ? getOrLoadTexture("zenith/textures/font/ascii.png") : getUnicodePageTexture(page);
-            }
-            
-            if (textureToBind != lastBoundTexture) {
-                glBindTexture(GL_TEXTURE_2D, textureToBind);
-                lastBoundTexture = textureToBind;
-            }
-
-            int gw = (glyph != null) ? glyph.width : getGlyphWidth((char)cp);
-            float advance = gw * scale;
-
-            if (glyph != null) {
-                renderCustomGlyph(glyph, finalX, finalY, size, screenWidth, screenHeight);
-                if (bold) renderCustomGlyph(glyph, finalX + Math.round(0.5f * scale), finalY, size, screenWidth, screenHeight);
-                drawX += Math.round(advance + scale);
-            } else {
-                int page = cp / 256;
-                renderGlyph((char)cp, finalX, finalY, size, screenWidth, screenHeight);
-                if (bold) renderGlyph((char)cp, finalX + Math.round(0.5f * scale), finalY, size, screenWidth, screenHeight);
-                drawX += Math.round(page != 0 || cp >= 128 ? advance : advance + scale);
-            }
-            i += charCount;
-        }
-        glBindVertexArray(0);
-    }
-
-    public void drawWrappedString(String text, int x, int y, int size, int maxWidth, int screenWidth, int screenHeight) {
-        drawWrappedString(text, x, y, size, maxWidth, screenWidth, screenHeight, 1.0f, 1.0f, 1.0f, 1.0f);
-    }
-
-    public void drawWrappedString(String text, int x, int y, int size, int maxWidth, int screenWidth, int screenHeight, float r, float g, float b, float a) {
-        if (text == null || text.isEmpty()) return;
-        String[] words = text.split(" ");
-        StringBuilder currentLine = new StringBuilder();
-        int currentY = y, lineHeight = (int)(size * 1.3f); 
-        for (String word : words) {
-            String testLine = currentLine.length() == 0 ? word : currentLine.toString() + " " + word;
-            if (getStringWidth(testLine, size) > maxWidth) {
-                if (currentLine.length() > 0) {
-                    drawString(currentLine.toString(), x, currentY, size, screenWidth, screenHeight, r, g, b, a);
-                    currentY += lineHeight;
-                    currentLine = new StringBuilder(word);
-                } else {
-                    drawString(word, x, currentY, size, screenWidth, screenHeight, r, g, b, a);
-                    currentY += lineHeight;
+                shader.setUniform("tintColor", finalR, finalG, finalB, a);
+                if (texture != lastBoundTexture) {
+                    glBindTexture(GL_TEXTURE_2D, texture);
+                    lastBoundTexture = texture;
                 }
-            } else currentLine = new StringBuilder(testLine);
-        }
-        if (currentLine.length() > 0) drawString(currentLine.toString(), x, currentY, size, screenWidth, screenHeight, r, g, b, a);
-    }
-
-    public int getWrappedStringHeight(String text, int size, int maxWidth) {
-        if (text == null || text.isEmpty()) return 0;
-        String[] words = text.split(" ");
-        int lines = 1;
-        StringBuilder currentLine = new StringBuilder();
-        int lineHeight = (int)(size * 1.3f);
-        for (String word : words) {
-            String testLine = currentLine.length() == 0 ? word : currentLine.toString() + " " + word;
-            if (getStringWidth(testLine, size) > maxWidth) {
-                if (currentLine.length() > 0) { lines++; currentLine = new StringBuilder(word); }
-                else lines++;
-            } else currentLine = new StringBuilder(testLine);
+                renderGlyphQuad(finalX, finalY, size, u0, v0, u1 - u0, v1 - v0, screenWidth, screenHeight);
+                if (bold) renderGlyphQuad(finalX + boldShift, finalY, size, u0, v0, u1 - u0, v1 - v0, screenWidth, screenHeight);
+            }
         }
-        return lines * lineHeight;
+        if (!batched) glBindVertexArray(0);
     }
 
-    private void renderCustomGlyph(GlyphInfo glyph, int x, int y, int size, int screenWidth, int screenHeight) {
-        float uvStepX = 1.0f / glyph.totalCols, uvStepY = 1.0f / glyph.totalRows;
+    private void renderGlyphQuad(int x, int y, int size, float u0, float v0, float uS, float vS, int screenWidth, int screenHeight) {
         float screenX = (2.0f * (x + size / 2.0f) / screenWidth) - 1.0f, screenY = 1.0f - (2.0f * (y + size / 2.0f) / screenHeight);
         shader.setUniform("scale", (float) size / screenWidth, (float) size / screenHeight, 0.0f, 0.0f);
         shader.setUniform("position_offset", screenX, screenY, 0.0f, 0.0f);
-        shader.setUniform("uvOffset", glyph.gridX * uvStepX, glyph.gridY * uvStepY, 0.0f, 0.0f);
-        shader.setUniform("uvScale", uvStepX, uvStepY, 0.0f, 0.0f);
+        shader.setUniform("uvOffset", u0, v0, 0.0f, 0.0f);
+        shader.setUniform("uvScale", uS, vS, 0.0f, 0.0f);
         glDrawElements(GL_TRIANGLES, 6, GL_UNSIGNED_INT, 0);
     }
 
     public int getStringWidth(String text, int size) {
         if (text == null || text.isEmpty()) return 0;
-        float scale = (float) size / GLYPH_SIZE;
-        int width = 0;
-        for (int i = 0; i < text.length(); ) {
-            int cp = text.codePointAt(i), charCount = Character.charCount(cp);
-            if (cp == '$' && i + charCount < text.length()) {
-                i += charCount + Character.charCount(text.codePointAt(i + charCount));
-                continue;
-            }
-            GlyphInfo glyph = glyphCustomMap.get(cp);
-            if (glyph != null) width += Math.round(glyph.width * scale + scale);
-            else {
-                int page = cp / 256;
-                width += Math.round(getGlyphWidth((char)cp) * scale + (page == 0 && cp < 128 ? scale : 0));
-            }
-            i += charCount;
-        }
-        return width;
+        TextLayout layout = layout(text, size, TextLayout.NO_WRAP);
+        if (layout.width < 0) layout.width = table.stringWidth(text, size);
+        return layout.width;
     }
 
+    /** Wrapped lines of {@code text}; the returned list is cached and unmodifiable. */
     public java.util.List<String> wrapText(String text, int fontSize, int maxWidth) {
-        java.util.List<String> lines = new java.util.ArrayList<>();
-        if (text == null || text.isEmpty()) return lines;
-        String[] words = text.split(" ");
-        StringBuilder currentLine = new StringBuilder();
-        for (String word : words) {
-            String testLine = currentLine.length() == 0 ? word : currentLine.toString() + " " + word;
-            if (getStringWidth(testLine, fontSize) <= maxWidth) {
-                if (currentLine.length() > 0) currentLine.append(" ");
-                currentLine.append(word);
-            } else {
-                if (currentLine.length() > 0) lines.add(currentLine.toString());
-                currentLine = new StringBuilder(word);
-            }
+        if (text == null || text.isEmpty()) return java.util.Collections.emptyList();
+        return wrapped(text, fontSize, maxWidth).lines;
+    }
+
+    private TextLayout layout(String text, int size, int wrapWidth) {
+        return layouts.get(text, size, wrapWidth, table.getVersion());
+    }
+
+    private TextLayout wrapped(String text, int size, int maxWidth) {
+        TextLayout layout = layout(text, size, maxWidth);
+        if (layout.lines == null) {
+            layout.setLines(table.wrap(text, size, maxWidth));
+            layouts.charge(layout);
         }
-        if (currentLine.length() > 0) lines.add(currentLine.toString());
-        return lines;
+        return layout;
     }
 
+    /** Cached layouts, for tests and profiling. */
+    int getCachedLayoutCount() { return layouts.size(); }
+
     private org.joml.Vector3f hslToRgb(float h, float s, float l) {
         float q = l < 0.5 ? l * (1 + s) : l + s - l * s, p = 2 * l - q;
         return new org.joml.Vector3f(hueToRgb(p, q, h + 1.0f/3.0f), hueToRgb(p, q, h), hueToRgb(p, q, h - 1.0f/3.0f));
@@ -407,16 +368,6 @@ public class FontRenderer {
         } catch (IOException e) { return 0; }
     }
 
-    private void renderGlyph(char c, int x, int y, int size, int screenWidth, int screenHeight) {
-        int idx = c % 256, gx = idx % GRID_SIZE, gy = idx / GRID_SIZE;
-        float uvS = 1.0f / GRID_SIZE, sx = (2.0f * (x + size / 2.0f) / screenWidth) - 1.0f, sy = 1.0f - (2.0f * (y + size / 2.0f) / screenHeight);
-        shader.setUniform("scale", (float) size / screenWidth, (float) size / screenHeight, 0.0f, 0.0f);
-        shader.setUniform("position_offset", sx, sy, 0.0f, 0.0f);
-        shader.setUniform("uvOffset", gx * uvS, gy * uvS, 0.0f, 0.0f);
-        shader.setUniform("uvScale", uvS, uvS, 0.0f, 0.0f);
-        glDrawElements(GL_TRIANGLES, 6, GL_UNSIGNED_INT, 0);
-    }
-
     private void loadWidthMap(String path, int[] targetMap) {
         try (InputStream stream = FontRenderer.class.getClassLoader().getResourceAsStream(path)) {
             if (stream == null) return;
@@ -444,13 +395,12 @@ public class FontRenderer {
                 int col = i%16, row = i/16, maxC = cw-1; boolean empty;
                 do { empty = true; for (int py=0; py<ch; py++) if (((pxs[(row*ch+py)*w + (col*cw+maxC)]>>24)&0xFF) > 0x20) { empty=false; break; }
                 if (empty && maxC>=0) maxC--; } while (empty && maxC>=0);
-                unicodeWidthMap[start+i] = maxC<0 ? 0 : maxC+2;
+                table.unicodeWidthMap[start+i] = maxC<0 ? 0 : maxC+2;
             }
+            table.changed();
         } catch (IOException e) { Logger.error("Failed to load unicode width map: " + path); }
     }
 
-    private int getGlyphWidth(char c) { return c < 256 ? widthMap[c] : (unicodeWidthMap[c] > 0 ? unicodeWidthMap[c] : 6); }
-
     private void createQuad() {
         vao = glGenVertexArrays(); vbo = glGenBuffers(); ebo = glGenBuffers();
         glBindVertexArray(vao);
@@ -15,6 +15,14 @@ public class GUIConfig implements com.za.zenith.utils.LiveReloadable {
     @Override
     public void setSourcePath(String path) { this.sourcePath = path; }
 
+    // Bumped on live edits so retained layouts (HUDLayout) know to rebuild
+    private transient int revision;
+
+    @Override
+    public void onLiveReload() { revision++; }
+
+    public int getRevision() { return revision; }
+
     @SerializedName(value = "identifier", alternate = {"id"})
     public String identifier;
     public String title;
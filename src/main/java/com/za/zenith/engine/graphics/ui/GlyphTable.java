@@ -0,0 +1,218 @@
+package com.za.zenith.engine.graphics.ui;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Glyph metrics of the bitmap font and the layout rules built on them: measuring, word wrapping and
+ * glyph placement. No GL here - textures are obtained through {@link Textures}, so layouts can be
+ * built and checked without a context.
+ * <p>
+ * {@link #getVersion()} changes whenever metrics change (a unicode page loaded its width map);
+ * layouts computed before that are stale.
+ */
+final class GlyphTable {
+    static final int GRID_SIZE = 16;
+    static final int GLYPH_SIZE = 8;
+    static final String FORMAT_CODES = "0123456789abcdefklmnorgzvq";
+
+    // Per-glyph style bits
+    static final byte BOLD = 1, RAINBOW = 2, GLOW = 4, WAVY = 8, SHAKE = 16;
+
+    /** Texture lookup for glyph drawing; resolving a unicode page may load its width map. */
+    interface Textures {
+        int ascii();
+        int page(int page);
+    }
+
+    static final class CustomGlyph {
+        final int textureId;
+        final int gridX, gridY;
+        final int totalCols, totalRows;
+        final int width;
+
+        CustomGlyph(int textureId, int gridX, int gridY, int totalCols, int totalRows, int width) {
+            this.textureId = textureId;
+            this.gridX = gridX;
+            this.gridY = gridY;
+            this.totalCols = totalCols;
+            this.totalRows = totalRows;
+            this.width = width;
+        }
+    }
+
+    /** Result of {@link #wrap}. */
+    static final class Wrapped {
+        final List<String> lines;
+        /**
+         * Lines as drawn: an overflowing word is emitted on its own and the next word starts a fresh line.
+         * Usually the same list as {@code lines}.
+         */
+        final List<String> drawLines;
+        /** Line count used for height: one per overflow while drawing, plus one. */
+        final int heightLines;
+
+        Wrapped(List<String> lines, List<String> drawLines, int heightLines) {
+            this.lines = lines;
+            this.drawLines = drawLines;
+            this.heightLines = heightLines;
+        }
+    }
+
+    final int[] widthMap = new int[256];
+    final int[] unicodeWidthMap = new int[65536];
+    final Map<Integer, CustomGlyph> custom = new HashMap<>();
+    private int version;
+
+    int getVersion() { return version; }
+
+    /** Call after the width tables changed. */
+    void changed() { version++; }
+
+    int glyphWidth(char c) {
+        return c < 256 ? widthMap[c] : (unicodeWidthMap[c] > 0 ? unicodeWidthMap[c] : 6);
+    }
+
+    int stringWidth(String text, int size) {
+        if (text == null || text.isEmpty()) return 0;
+        float scale = (float) size / GLYPH_SIZE;
+        int width = 0;
+        for (int i = 0; i < text.length(); ) {
+            int cp = text.codePointAt(i), charCount = Character.charCount(cp);
+            if (cp == '$' && i + charCount < text.length()) {
+                i += charCount + Character.charCount(text.codePointAt(i + charCount));
+                continue;
+            }
+            CustomGlyph glyph = custom.get(cp);
+            if (glyph != null) width += Math.round(glyph.width * scale + scale);
+            else {
+                int page = cp / 256;
+                width += Math.round(glyphWidth((char) cp) * scale + (page == 0 && cp < 128 ? scale : 0));
+            }
+            i += charCount;
+        }
+        return width;
+    }
+
+    /**
+     * Greedy word wrap on single spaces. A word wider than {@code maxWidth} gets a line of its own.
+     */
+    Wrapped wrap(String text, int size, int maxWidth) {
+        List<String> lines = new ArrayList<>();
+        if (text == null || text.isEmpty()) return new Wrapped(lines, lines, 0);
+        String[] words = text.split(" ");
+        StringBuilder currentLine = new StringBuilder();
+        for (String word : words) {
+            String testLine = currentLine.length() == 0 ? word : currentLine + " " + word;
+            if (stringWidth(testLine, size) <= maxWidth) {
+                currentLine.setLength(0);
+                currentLine.append(testLine);
+            } else {
+                if (currentLine.length() > 0) lines.add(currentLine.toString());
+                currentLine.setLength(0);
+                currentLine.append(word);
+            }
+        }
+        if (currentLine.length() > 0) lines.add(currentLine.toString());
+
+        List<String> drawLines = new ArrayList<>(lines.size());
+        currentLine.setLength(0);
+        int overflows = 0;
+        for (String word : words) {
+            String testLine = currentLine.length() == 0 ? word : currentLine + " " + word;
+            if (stringWidth(testLine, size) > maxWidth) {
+                overflows++;
+                if (currentLine.length() > 0) {
+                    drawLines.add(currentLine.toString());
+                    currentLine.setLength(0);
+                    currentLine.append(word);
+                } else {
+                    drawLines.add(word);
+                }
+            } else {
+                currentLine.setLength(0);
+                currentLine.append(testLine);
+            }
+        }
+        if (currentLine.length() > 0) drawLines.add(currentLine.toString());
+        return new Wrapped(lines, drawLines.equals(lines) ? lines : drawLines, overflows + 1);
+    }
+
+    /**
+     * Places the glyphs of one line at {@code yOff}, x relative to the line start, resolving textures
+     * and style codes exactly as drawing does.
+     */
+    void layoutLine(String text, int size, int yOff, TextLayout out, Textures textures) {
+        float scale = (float) size / GLYPH_SIZE;
+        byte color = -1;
+        byte style = 0;
+        int drawX = 0;
+
+        for (int i = 0; i < text.length(); ) {
+            int cp = text.codePointAt(i);
+            int charCount = Character.charCount(cp);
+
+            if (cp == '$' && i + charCount < text.length()) {
+                int nextCp = text.codePointAt(i + charCount);
+                int codeIndex = FORMAT_CODES.indexOf(Character.toLowerCase(nextCp));
+
+                if (codeIndex >= 0 && codeIndex < 16) {
+                    color = (byte) codeIndex;
+                    style &= BOLD;
+                } else if (codeIndex == 17) { // l - bold
+                    style |= BOLD;
+                } else if (codeIndex == 21) { // r - reset
+                    color = -1;
+                    style = 0;
+                } else if (codeIndex == 22) { // g - glow
+                    style |= GLOW;
+                } else if (codeIndex == 23) { // z - rainbow (dropped when colours are ignored)
+                    style |= RAINBOW;
+                } else if (codeIndex == 24) { // v - wavy
+                    style |= WAVY;
+                } else if (codeIndex == 25) { // q - shake
+                    style |= SHAKE;
+                }
+                i += charCount + Character.charCount(nextCp);
+                continue;
+            }
+
+            int texture;
+            CustomGlyph glyph = custom.get(cp);
+            if (glyph != null) {
+                texture = glyph.textureId;
+            } else {
+                int page = cp / 256;
+                texture = (page == 0 && cp < 128) ? textures.ascii() : textures.page(page);
+            }
+
+            // Width after the texture: resolving a page loads its widths
+            int gw = (glyph != null) ? glyph.width : glyphWidth((char) cp);
+            float advance = gw * scale;
+
+            float uS, vS, u0, v0;
+            if (glyph != null) {
+                uS = 1.0f / glyph.totalCols;
+                vS = 1.0f / glyph.totalRows;
+                u0 = glyph.gridX * uS;
+                v0 = glyph.gridY * vS;
+            } else {
+                int idx = cp % 256;
+                uS = vS = 1.0f / GRID_SIZE;
+                u0 = (idx % GRID_SIZE) * uS;
+                v0 = (idx / GRID_SIZE) * vS;
+            }
+            out.addGlyph(drawX, yOff, texture, u0, v0, u0 + uS, v0 + vS, style, color);
+
+            if (glyph != null) {
+                drawX += Math.round(advance + scale);
+            } else {
+                int page = cp / 256;
+                drawX += Math.round(page != 0 || cp >= 128 ? advance : advance + scale);
+            }
+            i += charCount;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.za.zenith.engine.graphics.ui;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Retained layout of a {@code hudElements} GUI config. Elements are created once per config revision
+ * and keep their resolved screen position, text, font size and colours; each of them is recomputed only
+ * when the config, the window size or the bound value (text) changes. Rendering just reads the cached
+ * fields, so a steady frame does no string formatting, measuring or position resolution.
+ * <p>
+ * Text measuring goes through {@link TextMeasure}, which keeps the layout usable without a GL context.
+ */
+public final class HUDLayout {
+    private static final float[] WHITE = {1.0f, 1.0f, 1.0f, 1.0f};
+
+    @FunctionalInterface
+    public interface TextMeasure {
+        int width(String text, int fontSize);
+    }
+
+    private GUIConfig config;
+    private int revision;
+    private final Map<String, Element> byName = new HashMap<>();
+    private final List<Element> elements = new ArrayList<>();
+
+    /**
+     * Rebuilds the element tree if {@code config} is a different object or was live-edited since the last call.
+     * @return true if the elements were recreated (cached references to them are stale)
+     */
+    public boolean sync(GUIConfig config) {
+        if (config == this.config && (config == null || config.getRevision() == revision)) return false;
+        this.config = config;
+        byName.clear();
+        elements.clear();
+        if (config != null) {
+            revision = config.getRevision();
+            if (config.hudElements != null) {
+                for (Map.Entry<String, GUIConfig.HUDElementConfig> e : config.hudElements.entrySet()) {
+                    GUIConfig.HUDElementConfig cfg = e.getValue();
+                    Element el = "text".equals(cfg.type) ? new Text(e.getKey(), cfg) : new Element(e.getKey(), cfg);
+                    byName.put(e.getKey(), el);
+                    elements.add(el);
+                }
+            }
+        }
+        return true;
+    }
+
+    public Element get(String name) {
+        return byName.get(name);
+    }
+
+    public Text getText(String name) {
+        return byName.get(name) instanceof Text t ? t : null;
+    }
+
+    public List<Element> getElements() {
+        return Collections.unmodifiableList(elements);
+    }
+
+    /** Top-left corner of an element of the given size, per anchor, alignment and offset. */
+    public static void resolve(GUIConfig.HUDElementConfig cfg, int sw, int sh, int width, int height, int[] out) {
+        int baseX = sw / 2, baseY = sh / 2;
+        String anchor = cfg.anchor.toLowerCase();
+        if (anchor.contains("top")) baseY = 0;
+        else if (anchor.contains("bottom")) baseY = sh;
+        if (anchor.contains("left")) baseX = 0;
+        else if (anchor.contains("right")) baseX = sw;
+        if (anchor.equals("bottom_center")) { baseX = sw / 2; baseY = sh; }
+        else if (anchor.equals("top_center")) { baseX = sw / 2; baseY = 0; }
+
+        int alignX = 0;
+        if (cfg.alignX.equals("center")) alignX = -width / 2; else if (cfg.alignX.equals("right")) alignX = -width;
+        int alignY = 0;
+        if (cfg.alignY.equals("center")) alignY = -height / 2; else if (cfg.alignY.equals("bottom")) alignY = -height;
+
+        int offsetX = InventoryLayout.calculateCoord(cfg.x, sw, 0, 0);
+        int offsetY = InventoryLayout.calculateCoord(cfg.y, sh, 0, 0);
+
+        out[0] = baseX + alignX + offsetX;
+        out[1] = baseY + alignY + offsetY;
+    }
+
+    /** Fixed-size element (bar, image, minimap, blueprint). */
+    public static class Element {
+        public final String name;
+        public final GUIConfig.HUDElementConfig cfg;
+        public final float[] color;
+        private final int[] pos = new int[2];
+        private int placedSw = -1, placedSh = -1, placedW = -1, placedH = -1;
+        private int placements;
+
+        Element(String name, GUIConfig.HUDElementConfig cfg) {
+            this.name = name;
+            this.cfg = cfg;
+            this.color = cfg.color != null ? cfg.color : WHITE;
+        }
+
+        /** Resolves the position for this size; a no-op while screen and size stay the same. */
+        public void place(int sw, int sh, int width, int height) {
+            if (sw == placedSw && sh == placedSh && width == placedW && height == placedH) return;
+            resolve(cfg, sw, sh, width, height, pos);
+            placedSw = sw;
+            placedSh = sh;
+            placedW = width;
+            placedH = height;
+            placements++;
+        }
+
+        public boolean isVisible() { return cfg.visible; }
+        public int getX() { return pos[0]; }
+        public int getY() { return pos[1]; }
+        public int getWidth() { return placedW; }
+        public int getHeight() { return placedH; }
+        /** How many times the position was actually resolved (for tests and profiling). */
+        public int getPlacements() { return placements; }
+    }
+
+    /** Text element; owns the parsed template and the fitted font size and gradient plate. */
+    public static final class Text extends Element {
+        public final HUDTextTemplate template;
+        public final float[] gradientEdge;
+        private String text;
+        private int fontSize;
+        private int textWidth;
+        private int measurements;
+        private int gradX, gradY, gradWidth, gradHeight;
+
+        Text(String name, GUIConfig.HUDElementConfig cfg) {
+            super(name, cfg);
+            this.template = cfg.text != null ? HUDTextTemplate.parse(cfg.text) : null;
+            float[] bg = cfg.backgroundColor;
+            this.gradientEdge = bg != null ? new float[]{bg[0], bg[1], bg[2], 0.0f} : null;
+        }
+
+        /**
+         * Sets the text and places the element. The string is measured only when it changed; with {@code fit}
+         * the font shrinks from {@code fontSize} towards {@code minFontSize} until it fits {@code maxWidth}.
+         */
+        public void update(String value, TextMeasure measure, int sw, int sh, boolean fit) {
+            if (value != text && !value.equals(text)) {
+                text = value;
+                int size = cfg.fontSize;
+                int width = measure.width(value, size);
+                while (fit && width > cfg.maxWidth && size > cfg.minFontSize) {
+                    size--;
+                    width = measure.width(value, size);
+                }
+                fontSize = size;
+                textWidth = width;
+                measurements++;
+            }
+            place(sw, sh, textWidth, fontSize);
+            gradWidth = textWidth + 300;
+            gradHeight = (int) (fontSize * 1.8f);
+            gradX = getX() - (gradWidth - textWidth) / 2;
+            gradY = getY() - (gradHeight - fontSize) / 2;
+        }
+
+        public String getText() { return text; }
+        public int getFontSize() { return fontSize; }
+        public int getTextWidth() { return textWidth; }
+        public int getGradientX() { return gradX; }
+        public int getGradientY() { return gradY; }
+        public int getGradientWidth() { return gradWidth; }
+        public int getGradientHeight() { return gradHeight; }
+        /** How many times the text was measured (for tests and profiling). */
+        public int getMeasurements() { return measurements; }
+    }
+}
@@ -0,0 +1,107 @@
+package com.za.zenith.engine.graphics.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HUD text with {@code {name}} placeholders, parsed once. Values are bound every frame, but the string is
+ * only rebuilt when a bound value actually changed; otherwise {@link #text()} returns the same instance.
+ * Placeholders that were never bound stay in the text as written.
+ */
+public final class HUDTextTemplate {
+    private static final byte UNSET = 0, NUMBER = 1, FIXED2 = 2, OBJECT = 3;
+
+    private final String[] literals; // one more than names
+    private final String[] names;
+    private final byte[] kinds;
+    private final long[] numbers;
+    private final Object[] objects;
+    private final StringBuilder builder = new StringBuilder();
+    private String text;
+
+    private HUDTextTemplate(String[] literals, String[] names) {
+        this.literals = literals;
+        this.names = names;
+        this.kinds = new byte[names.length];
+        this.numbers = new long[names.length];
+        this.objects = new Object[names.length];
+    }
+
+    public static HUDTextTemplate parse(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        int start = 0;
+        while (true) {
+            int open = source.indexOf('{', start);
+            int close = open < 0 ? -1 : source.indexOf('}', open + 1);
+            if (close < 0) break;
+            literals.add(source.substring(start, open));
+            names.add(source.substring(open + 1, close));
+            start = close + 1;
+        }
+        literals.add(source.substring(start));
+        return new HUDTextTemplate(literals.toArray(new String[0]), names.toArray(new String[0]));
+    }
+
+    public boolean uses(String name) {
+        for (String n : names) {
+            if (n.equals(name)) return true;
+        }
+        return false;
+    }
+
+    public void set(String name, long value) {
+        bind(name, NUMBER, value, null);
+    }
+
+    /** Binds a value shown with two decimals; changes below that precision do not rebuild the text. */
+    public void setFixed2(String name, float value) {
+        bind(name, FIXED2, Math.round(value * 100.0), null);
+    }
+
+    public void set(String name, Object value) {
+        bind(name, OBJECT, 0, value);
+    }
+
+    private void bind(String name, byte kind, long number, Object object) {
+        for (int i = 0; i < names.length; i++) {
+            if (!names[i].equals(name)) continue;
+            if (kinds[i] != kind || numbers[i] != number || !java.util.Objects.equals(objects[i], object)) {
+                kinds[i] = kind;
+                numbers[i] = number;
+                objects[i] = object;
+                text = null;
+            }
+        }
+    }
+
+    public String text() {
+        if (text == null) {
+            StringBuilder sb = builder;
+            sb.setLength(0);
+            for (int i = 0; i < names.length; i++) {
+                sb.append(literals[i]);
+                switch (kinds[i]) {
+                    case NUMBER -> sb.append(numbers[i]);
+                    case FIXED2 -> appendFixed2(sb, numbers[i]);
+                    case OBJECT -> sb.append(objects[i]);
+                    default -> sb.append('{').append(names[i]).append('}');
+                }
+            }
+            sb.append(literals[names.length]);
+            text = sb.toString();
+        }
+        return text;
+    }
+
+    private static void appendFixed2(StringBuilder sb, long hundredths) {
+        if (hundredths < 0) {
+            sb.append('-');
+            hundredths = -hundredths;
+        }
+        long frac = hundredths % 100;
+        sb.append(hundredths / 100).append('.');
+        if (frac < 10) sb.append('0');
+        sb.append(frac);
+    }
+}
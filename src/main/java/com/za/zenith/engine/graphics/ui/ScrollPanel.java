@@ -15,6 +15,7 @@ public class ScrollPanel {
     // Настройки внешнего вида (можно будет расширить)
     private float[] scrollbarColor = {0.0f, 0.6f, 1.0f, 0.6f};
     private float[] trackColor = {1.0f, 1.0f, 1.0f, 0.05f};
+    private UIRenderer clippedRenderer;
 
     public void setBounds(int x, int y, int width, int height) {
         this.x = x;
@@ -39,6 +40,15 @@ public class ScrollPanel {
      * Все, что рисуется между begin() и end(), будет обрезано по границам панели.
      */
     public void begin(int sw, int sh) {
+        // Батч рисуется позже, поэтому накопленное до панели сбрасываем сейчас,
+        // а то, что попадёт в батч внутри панели, обрезается на CPU по тем же границам
+        UIRenderer ui = currentUIRenderer();
+        if (ui != null && ui.isBatching()) {
+            ui.flushBatch();
+            ui.getBatch().pushClip(x, y, width, height);
+            clippedRenderer = ui;
+        }
+
         GL11.glEnable(GL11.GL_SCISSOR_TEST);
         // OpenGL считает координаты от левого нижнего угла
         GL11.glScissor(x, sh - (y + height), width, height);
@@ -48,9 +58,19 @@ public class ScrollPanel {
      * Выключает область отсечения.
      */
     public void end() {
+        if (clippedRenderer != null) {
+            clippedRenderer.getBatch().popClip();
+            clippedRenderer = null;
+        }
         GL11.glDisable(GL11.GL_SCISSOR_TEST);
     }
 
+    private static UIRenderer currentUIRenderer() {
+        com.za.zenith.engine.core.GameLoop loop = com.za.zenith.engine.core.GameLoop.getInstance();
+        if (loop == null || loop.getRenderer() == null) return null;
+        return loop.getRenderer().getUIRenderer();
+    }
+
     public void handleScroll(double yoffset) {
         scrollOffset -= yoffset * 40;
         if (scrollOffset < 0) scrollOffset = 0;
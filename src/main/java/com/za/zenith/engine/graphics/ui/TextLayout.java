@@ -0,0 +1,80 @@
+package com.za.zenith.engine.graphics.ui;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Cached layout of one string at one font size (and wrap width, or {@link #NO_WRAP} for a single line).
+ * Parts are filled on demand by {@link FontRenderer}: the width for measuring, the wrapped lines,
+ * and the pre-positioned glyph quads for drawing. Glyph positions are relative to the draw origin;
+ * colours and animated effects are applied when the quads are emitted.
+ */
+final class TextLayout {
+    static final int NO_WRAP = Integer.MIN_VALUE;
+
+    final String text;
+    final int size;
+    final int wrapWidth;
+
+    int width = -1;
+    List<String> lines;
+    List<String> drawLines;
+    int heightLines;
+
+    boolean glyphsBuilt;
+    int glyphCount;
+    int[] xOff = new int[0];
+    int[] yOff = new int[0];
+    int[] texture = new int[0];
+    float[] uv = new float[0]; // u0, v0, u1, v1 per glyph
+    byte[] style = new byte[0];
+    byte[] color = new byte[0]; // colour code or -1 for the base colour
+
+    TextLayout(String text, int size, int wrapWidth) {
+        this.text = text;
+        this.size = size;
+        this.wrapWidth = wrapWidth;
+    }
+
+    void setLines(GlyphTable.Wrapped wrapped) {
+        lines = Collections.unmodifiableList(wrapped.lines);
+        drawLines = wrapped.drawLines == wrapped.lines ? lines : Collections.unmodifiableList(wrapped.drawLines);
+        heightLines = wrapped.heightLines;
+    }
+
+    void addGlyph(int x, int y, int tex, float u0, float v0, float u1, float v1, byte glyphStyle, byte glyphColor) {
+        int g = glyphCount;
+        if (g == xOff.length) {
+            int cap = Math.max(8, g * 2);
+            xOff = Arrays.copyOf(xOff, cap);
+            yOff = Arrays.copyOf(yOff, cap);
+            texture = Arrays.copyOf(texture, cap);
+            uv = Arrays.copyOf(uv, cap * 4);
+            style = Arrays.copyOf(style, cap);
+            color = Arrays.copyOf(color, cap);
+        }
+        xOff[g] = x;
+        yOff[g] = y;
+        texture[g] = tex;
+        uv[g * 4] = u0;
+        uv[g * 4 + 1] = v0;
+        uv[g * 4 + 2] = u1;
+        uv[g * 4 + 3] = v1;
+        style[g] = glyphStyle;
+        color[g] = glyphColor;
+        glyphCount = g + 1;
+    }
+
+    /** Rough heap footprint, for the cache budget. */
+    long estimateBytes() {
+        long bytes = 96 + 2L * text.length();
+        if (lines != null) {
+            for (String line : lines) bytes += 40 + 2L * line.length();
+            if (drawLines != lines) {
+                for (String line : drawLines) bytes += 40 + 2L * line.length();
+            }
+        }
+        return bytes + (long) xOff.length * (4 + 4 + 4 + 16 + 1 + 1);
+    }
+}
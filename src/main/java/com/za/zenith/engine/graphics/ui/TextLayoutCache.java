@@ -0,0 +1,94 @@
+package com.za.zenith.engine.graphics.ui;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LRU map of {@link TextLayout}s keyed by (text, size, wrap width), bounded by an estimated memory
+ * budget. Lookups go through a reused probe key, so a hit does not allocate. Render thread only.
+ * <p>
+ * The whole cache is dropped when the glyph table version changes.
+ */
+final class TextLayoutCache {
+    private static final class Key {
+        String text;
+        int size;
+        int wrapWidth;
+        int hash;
+
+        Key set(String text, int size, int wrapWidth) {
+            this.text = text;
+            this.size = size;
+            this.wrapWidth = wrapWidth;
+            this.hash = (text.hashCode() * 31 + size) * 31 + wrapWidth;
+            return this;
+        }
+
+        @Override
+        public int hashCode() { return hash; }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key k && k.size == size && k.wrapWidth == wrapWidth && k.text.equals(text);
+        }
+    }
+
+    private final Map<Key, TextLayout> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final Map<TextLayout, Long> charged = new java.util.IdentityHashMap<>();
+    private final Key probe = new Key();
+    private final long maxBytes;
+    private long bytes;
+    private int version;
+    private long hits, misses;
+
+    TextLayoutCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /** Existing or new (empty) layout; new entries are filled by the caller and then {@link #charge}d. */
+    TextLayout get(String text, int size, int wrapWidth, int tableVersion) {
+        if (tableVersion != version) {
+            clear();
+            version = tableVersion;
+        }
+        TextLayout layout = entries.get(probe.set(text, size, wrapWidth));
+        probe.text = null;
+        if (layout != null) {
+            hits++;
+            return layout;
+        }
+        misses++;
+        layout = new TextLayout(text, size, wrapWidth);
+        entries.put(new Key().set(text, size, wrapWidth), layout);
+        charged.put(layout, 0L);
+        return layout;
+    }
+
+    /** Re-accounts a layout after parts of it were filled and evicts least recently used entries over budget. */
+    void charge(TextLayout layout) {
+        Long old = charged.get(layout);
+        if (old == null) return; // evicted or cleared meanwhile
+        long now = layout.estimateBytes();
+        charged.put(layout, now);
+        bytes += now - old;
+        Iterator<Map.Entry<Key, TextLayout>> it = entries.entrySet().iterator();
+        while (bytes > maxBytes && entries.size() > 1 && it.hasNext()) {
+            TextLayout eldest = it.next().getValue();
+            if (eldest == layout) continue;
+            bytes -= charged.remove(eldest);
+            it.remove();
+        }
+    }
+
+    void clear() {
+        entries.clear();
+        charged.clear();
+        bytes = 0;
+    }
+
+    int size() { return entries.size(); }
+    long getBytes() { return bytes; }
+    long getHits() { return hits; }
+    long getMisses() { return misses; }
+}
@@ -28,6 +28,11 @@ public class UIRenderer {
     private Hotbar hotbar;
     private FontRenderer fontRenderer;
     private final InventoryBlockRenderer blockRenderer = new InventoryBlockRenderer();
+
+    // Batched rects/glyphs for HUD and screens (see beginBatch)
+    private final com.za.zenith.engine.graphics.ui.batch.UIBatch batch = new com.za.zenith.engine.graphics.ui.batch.UIBatch();
+    private final com.za.zenith.engine.graphics.ui.batch.UIBatchRenderer batchRenderer = new com.za.zenith.engine.graphics.ui.batch.UIBatchRenderer();
+    private int batchDepth = 0;
     
     // Sub-renderers
     private UIPrimitives primitivesRenderer;
@@ -61,6 +66,8 @@ public class UIRenderer {
         
         fontRenderer = new FontRenderer();
         fontRenderer.init(uiShader);
+        batchRenderer.init();
+        fontRenderer.setBatch(batch);
         
         uiShader.use();
         uiShader.setInt("textureSampler", 0);
@@ -85,7 +92,10 @@ public class UIRenderer {
 
     public MinimapRenderer getMinimapRenderer() { return minimapRenderer; }
 
-    public com.za.zenith.engine.graphics.ui.blueprints.BlueprintRenderer getBlueprintRenderer() { return blueprintRenderer; }
+    public com.za.zenith.engine.graphics.ui.blueprints.BlueprintRenderer getBlueprintRenderer() {
+        flushBatch();
+        return blueprintRenderer;
+    }
 
     public void setHotbar(Hotbar hotbar) { this.hotbar = hotbar; }
     
@@ -134,6 +144,40 @@ public class UIRenderer {
         glBlendFunc(GL_SRC_ALPHA, GL_ONE_MINUS_SRC_ALPHA);
     }
 
+    /**
+     * Starts recording rects and glyphs into the UI batch (nestable).
+     * Everything else keeps drawing immediately; it obtains the UI shader via {@link #getShader()},
+     * which flushes pending batched quads first, so painter's order is preserved.
+     */
+    public void beginBatch(int screenWidth, int screenHeight) {
+        if (batchDepth++ == 0) batch.begin(screenWidth, screenHeight);
+    }
+
+    public void endBatch() {
+        if (batchDepth == 0) return;
+        if (--batchDepth == 0) {
+            flushBatch();
+            batch.end();
+        }
+    }
+
+    public boolean isBatching() {
+        return batch.isRecording();
+    }
+
+    /**
+     * Draws pending batched quads, then restores the immediate-mode state (UI shader + quad VAO)
+     * that the sub-renderers expect.
+     */
+    public void flushBatch() {
+        if (!batch.isRecording() || batch.getQuadCount() == 0) return;
+        batchRenderer.flush(batch);
+        uiShader.use();
+        glBindVertexArray(quadVAO);
+    }
+
+    public com.za.zenith.engine.graphics.ui.batch.UIBatch getBatch() { return batch; }
+
     public void renderCrosshair(int screenWidth, int screenHeight) {
         glDisable(GL_DEPTH_TEST);
         glEnable(GL_BLEND);
@@ -151,7 +195,9 @@ public class UIRenderer {
     // --- DELEGATED HUD RENDERING ---
     
     public void renderHotbar(int screenWidth, int screenHeight, com.za.zenith.engine.graphics.DynamicTextureAtlas atlas) {
+        beginBatch(screenWidth, screenHeight);
         hudRenderer.renderHotbar(hotbar, screenWidth, screenHeight, atlas);
+        endBatch();
     }
 
     public void renderFiringProgress(int screenWidth, int screenHeight, float progress) {
@@ -159,7 +205,9 @@ public class UIRenderer {
     }
 
     public void renderHUDOverlay(int screenWidth, int screenHeight) {
+        beginBatch(screenWidth, screenHeight);
         hudRenderer.renderOverlay(hotbar, screenWidth, screenHeight);
+        endBatch();
     }
 
     public void renderLogo(int screenWidth, int screenHeight) {
@@ -181,13 +229,17 @@ public class UIRenderer {
     }
 
     public void renderInventory(int screenWidth, int screenHeight, com.za.zenith.engine.graphics.DynamicTextureAtlas atlas) {
+        beginBatch(screenWidth, screenHeight);
         inventoryScreenRenderer.renderInventory(hotbar, screenWidth, screenHeight, atlas);
+        endBatch();
     }
 
     // --- DELEGATED MENUS ---
 
     public void renderPauseMenu(int screenWidth, int screenHeight, com.za.zenith.engine.graphics.DynamicTextureAtlas atlas) {
+        beginBatch(screenWidth, screenHeight);
         ScreenManager.getInstance().render(this, screenWidth, screenHeight, atlas);
+        endBatch();
     }
 
     // --- DELEGATED PRIMITIVES ---
@@ -217,11 +269,17 @@ public class UIRenderer {
 
     // --- GETTERS FOR SUB-RENDERERS ---
 
-    public Shader getShader() { return uiShader; }
+    public Shader getShader() {
+        flushBatch();
+        return uiShader;
+    }
     public int getQuadVAO() { return quadVAO; }
     public int getQuadIndicesLength() { return QUAD_INDICES.length; }
     public FontRenderer getFontRenderer() { return fontRenderer; }
-    public InventoryBlockRenderer getBlockRenderer() { return blockRenderer; }
+    public InventoryBlockRenderer getBlockRenderer() {
+        flushBatch();
+        return blockRenderer;
+    }
     
     public UIPrimitives getPrimitivesRenderer() { return primitivesRenderer; }
     public SlotRenderer getSlotRenderer() { return slotRenderer; }
@@ -231,6 +289,7 @@ public class UIRenderer {
     public void cleanup() {
         if (uiShader != null) uiShader.cleanup();
         if (fontRenderer != null) fontRenderer.cleanup();
+        batchRenderer.cleanup();
         if (minimapRenderer != null) minimapRenderer.cleanup();
         crosshairRenderer.cleanup();
         blockRenderer.cleanup();
@@ -0,0 +1,284 @@
+package com.za.zenith.engine.graphics.ui.batch;
+
+import java.util.Arrays;
+
+/**
+ * CPU-side command list for UI quads (no GL calls, testable headless).
+ * <p>
+ * Quads are recorded in screen pixels (top-left origin) together with UV, tint and mode, clipped
+ * against the current clip rect, and assigned a draw layer. {@link #prepare()} then sorts them by
+ * (layer, texture, submission order) and merges runs into as few draws as possible.
+ * <p>
+ * Layers are computed automatically so sorting never breaks painter's order: a quad is placed
+ * above every earlier quad it may overlap that uses a different texture (overlap is tested on a
+ * coarse grid, which is conservative). Quads that do not overlap share a layer and can therefore
+ * be regrouped by texture. Solid color quads use texture 0 and merge into any neighbouring draw,
+ * since the shader ignores the sampler for them.
+ */
+public class UIBatch {
+    public static final int FLOATS_PER_VERTEX = 9; // x, y, u, v, r, g, b, a, mode
+    public static final int FLOATS_PER_QUAD = FLOATS_PER_VERTEX * 4;
+    public static final float MODE_COLOR = 0.0f;
+    public static final float MODE_TEXTURE = 1.0f;
+
+    private static final int CELL_SHIFT = 5; // 32px overlap cells
+    private static final int MAX_LAYER = (1 << 15) - 1;
+    private static final int MAX_QUADS = 1 << 24;
+    private static final int MAX_CLIP_DEPTH = 32;
+
+    private int screenWidth;
+    private int screenHeight;
+    private boolean recording = false;
+
+    // Recorded quads, submission order
+    private float[] vertices = new float[FLOATS_PER_QUAD * 256];
+    private int[] textures = new int[256];
+    private int[] layers = new int[256];
+    private int quadCount = 0;
+    private int culledCount = 0;
+
+    // Sorted output
+    private long[] sortKeys = new long[256];
+    private float[] sortedVertices = new float[FLOATS_PER_QUAD * 256];
+    private int[] drawTexture = new int[16];
+    private int[] drawFirstQuad = new int[16];
+    private int[] drawQuadCount = new int[16];
+    private int drawCount = 0;
+
+    // Overlap grid: max layer and its texture per cell (-1 = mixed). Stamped to avoid clearing.
+    private int gridW, gridH;
+    private int[] cellLayer = new int[0];
+    private int[] cellTexture = new int[0];
+    private int[] cellStamp = new int[0];
+    private int stamp = 1;
+
+    // Clip stack (x0, y0, x1, y1), intersected on push
+    private final float[] clipStack = new float[MAX_CLIP_DEPTH * 4];
+    private int clipDepth = 0;
+    private float clipX0, clipY0, clipX1, clipY1;
+
+    public void begin(int screenWidth, int screenHeight) {
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+        this.recording = true;
+
+        gridW = Math.max(1, (screenWidth + (1 << CELL_SHIFT) - 1) >> CELL_SHIFT);
+        gridH = Math.max(1, (screenHeight + (1 << CELL_SHIFT) - 1) >> CELL_SHIFT);
+        int cells = gridW * gridH;
+        if (cellLayer.length < cells) {
+            cellLayer = new int[cells];
+            cellTexture = new int[cells];
+            cellStamp = new int[cells];
+        }
+
+        clipDepth = 0;
+        clipX0 = 0;
+        clipY0 = 0;
+        clipX1 = screenWidth;
+        clipY1 = screenHeight;
+        reset();
+    }
+
+    public void end() {
+        recording = false;
+    }
+
+    public boolean isRecording() { return recording; }
+
+    /**
+     * Drops recorded quads (after a flush) but keeps recording state and the clip stack.
+     */
+    public void reset() {
+        quadCount = 0;
+        culledCount = 0;
+        drawCount = 0;
+        if (++stamp == Integer.MAX_VALUE) {
+            Arrays.fill(cellStamp, 0);
+            stamp = 1;
+        }
+    }
+
+    public void pushClip(float x, float y, float w, float h) {
+        if (clipDepth >= MAX_CLIP_DEPTH) throw new IllegalStateException("UI clip stack overflow");
+        int i = clipDepth++ * 4;
+        clipStack[i] = clipX0;
+        clipStack[i + 1] = clipY0;
+        clipStack[i + 2] = clipX1;
+        clipStack[i + 3] = clipY1;
+        clipX0 = Math.max(clipX0, x);
+        clipY0 = Math.max(clipY0, y);
+        clipX1 = Math.min(clipX1, x + w);
+        clipY1 = Math.min(clipY1, y + h);
+    }
+
+    public void popClip() {
+        if (clipDepth == 0) throw new IllegalStateException("UI clip stack underflow");
+        int i = --clipDepth * 4;
+        clipX0 = clipStack[i];
+        clipY0 = clipStack[i + 1];
+        clipX1 = clipStack[i + 2];
+        clipY1 = clipStack[i + 3];
+    }
+
+    public void addColorQuad(float x, float y, float w, float h, float r, float g, float b, float a) {
+        addQuad(0, MODE_COLOR, x, y, w, h, 0.0f, 0.0f, 1.0f, 1.0f, r, g, b, a);
+    }
+
+    /**
+     * Textured (or glyph) quad; (u0, v0) maps to the top-left corner.
+     */
+    public void addTexturedQuad(int textureId, float x, float y, float w, float h,
+                                float u0, float v0, float u1, float v1,
+                                float r, float g, float b, float a) {
+        addQuad(textureId, MODE_TEXTURE, x, y, w, h, u0, v0, u1, v1, r, g, b, a);
+    }
+
+    private void addQuad(int texture, float mode, float x, float y, float w, float h,
+                         float u0, float v0, float u1, float v1,
+                         float r, float g, float b, float a) {
+        if (w <= 0 || h <= 0 || a <= 0.0f) return;
+        float x0 = x, y0 = y, x1 = x + w, y1 = y + h;
+
+        // Clip (UVs are interpolated so clipped textures do not stretch)
+        if (x0 >= clipX1 || y0 >= clipY1 || x1 <= clipX0 || y1 <= clipY0) {
+            culledCount++;
+            return;
+        }
+        if (x0 < clipX0) { u0 += (u1 - u0) * (clipX0 - x0) / (x1 - x0); x0 = clipX0; }
+        if (x1 > clipX1) { u1 -= (u1 - u0) * (x1 - clipX1) / (x1 - x0); x1 = clipX1; }
+        if (y0 < clipY0) { v0 += (v1 - v0) * (clipY0 - y0) / (y1 - y0); y0 = clipY0; }
+        if (y1 > clipY1) { v1 -= (v1 - v0) * (y1 - clipY1) / (y1 - y0); y1 = clipY1; }
+        if (x1 <= x0 || y1 <= y0) {
+            culledCount++;
+            return;
+        }
+
+        if (quadCount >= MAX_QUADS) return;
+        ensureCapacity(quadCount + 1);
+
+        int q = quadCount++;
+        textures[q] = texture;
+        layers[q] = assignLayer(texture, x0, y0, x1, y1);
+
+        int o = q * FLOATS_PER_QUAD;
+        o = putVertex(o, x0, y0, u0, v0, r, g, b, a, mode); // top-left
+        o = putVertex(o, x1, y0, u1, v0, r, g, b, a, mode); // top-right
+        o = putVertex(o, x1, y1, u1, v1, r, g, b, a, mode); // bottom-right
+        putVertex(o, x0, y1, u0, v1, r, g, b, a, mode);     // bottom-left
+    }
+
+    private int putVertex(int o, float x, float y, float u, float v, float r, float g, float b, float a, float mode) {
+        float[] d = vertices;
+        d[o] = x; d[o + 1] = y; d[o + 2] = u; d[o + 3] = v;
+        d[o + 4] = r; d[o + 5] = g; d[o + 6] = b; d[o + 7] = a; d[o + 8] = mode;
+        return o + FLOATS_PER_VERTEX;
+    }
+
+    private int assignLayer(int texture, float x0, float y0, float x1, float y1) {
+        int cx0 = clampCell((int) x0 >> CELL_SHIFT, gridW);
+        int cy0 = clampCell((int) y0 >> CELL_SHIFT, gridH);
+        int cx1 = clampCell(((int) Math.ceil(x1) - 1) >> CELL_SHIFT, gridW);
+        int cy1 = clampCell(((int) Math.ceil(y1) - 1) >> CELL_SHIFT, gridH);
+
+        int layer = 0;
+        for (int cy = cy0; cy <= cy1; cy++) {
+            for (int cx = cx0; cx <= cx1; cx++) {
+                int c = cy * gridW + cx;
+                if (cellStamp[c] != stamp) continue;
+                int l = cellTexture[c] == texture ? cellLayer[c] : cellLayer[c] + 1;
+                if (l > layer) layer = l;
+            }
+        }
+        if (layer > MAX_LAYER) layer = MAX_LAYER;
+
+        for (int cy = cy0; cy <= cy1; cy++) {
+            for (int cx = cx0; cx <= cx1; cx++) {
+                int c = cy * gridW + cx;
+                if (cellStamp[c] != stamp || layer > cellLayer[c]) {
+                    cellStamp[c] = stamp;
+                    cellLayer[c] = layer;
+                    cellTexture[c] = texture;
+                } else if (layer == cellLayer[c] && cellTexture[c] != texture) {
+                    cellTexture[c] = -1;
+                }
+            }
+        }
+        return layer;
+    }
+
+    private static int clampCell(int c, int max) {
+        return c < 0 ? 0 : Math.min(c, max - 1);
+    }
+
+    private void ensureCapacity(int quads) {
+        if (quads <= textures.length) return;
+        int cap = Math.max(quads, textures.length * 2);
+        vertices = Arrays.copyOf(vertices, cap * FLOATS_PER_QUAD);
+        textures = Arrays.copyOf(textures, cap);
+        layers = Arrays.copyOf(layers, cap);
+    }
+
+    /**
+     * Sorts recorded quads and builds the draw list.
+     * @return number of draw calls needed.
+     */
+    public int prepare() {
+        drawCount = 0;
+        int n = quadCount;
+        if (n == 0) return 0;
+
+        if (sortKeys.length < n) sortKeys = new long[Math.max(n, sortKeys.length * 2)];
+        for (int i = 0; i < n; i++) {
+            sortKeys[i] = ((long) layers[i] << 48) | ((long) (textures[i] & 0xFFFFFF) << 24) | i;
+        }
+        Arrays.sort(sortKeys, 0, n);
+
+        if (sortedVertices.length < n * FLOATS_PER_QUAD) sortedVertices = new float[Math.max(n, sortedVertices.length / FLOATS_PER_QUAD * 2) * FLOATS_PER_QUAD];
+
+        int current = -1;
+        for (int s = 0; s < n; s++) {
+            int q = (int) (sortKeys[s] & 0xFFFFFF);
+            System.arraycopy(vertices, q * FLOATS_PER_QUAD, sortedVertices, s * FLOATS_PER_QUAD, FLOATS_PER_QUAD);
+
+            int tex = textures[q];
+            if (current >= 0 && (tex == 0 || tex == drawTexture[current])) {
+                drawQuadCount[current]++;
+            } else if (current >= 0 && drawTexture[current] == 0) {
+                drawTexture[current] = tex;
+                drawQuadCount[current]++;
+            } else {
+                current = addDraw(tex, s);
+            }
+        }
+        return drawCount;
+    }
+
+    private int addDraw(int texture, int firstQuad) {
+        if (drawCount == drawTexture.length) {
+            int cap = drawCount * 2;
+            drawTexture = Arrays.copyOf(drawTexture, cap);
+            drawFirstQuad = Arrays.copyOf(drawFirstQuad, cap);
+            drawQuadCount = Arrays.copyOf(drawQuadCount, cap);
+        }
+        drawTexture[drawCount] = texture;
+        drawFirstQuad[drawCount] = firstQuad;
+        drawQuadCount[drawCount] = 1;
+        return drawCount++;
+    }
+
+    public int getScreenWidth() { return screenWidth; }
+    public int getScreenHeight() { return screenHeight; }
+    public int getQuadCount() { return quadCount; }
+    public int getCulledCount() { return culledCount; }
+
+    /** Layer assigned to the quad with the given submission index. */
+    public int getLayer(int quad) { return layers[quad]; }
+
+    /** Vertex data in draw order, valid after {@link #prepare()}. */
+    public float[] getSortedVertices() { return sortedVertices; }
+
+    public int getDrawCount() { return drawCount; }
+    public int getDrawTexture(int draw) { return drawTexture[draw]; }
+    public int getDrawFirstQuad(int draw) { return drawFirstQuad[draw]; }
+    public int getDrawQuadCount(int draw) { return drawQuadCount[draw]; }
+}
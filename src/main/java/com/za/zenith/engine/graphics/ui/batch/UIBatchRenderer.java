@@ -0,0 +1,129 @@
+package com.za.zenith.engine.graphics.ui.batch;
+
+import com.za.zenith.engine.graphics.Shader;
+import com.za.zenith.engine.graphics.Uniform;
+import org.lwjgl.system.MemoryUtil;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.GL13.GL_TEXTURE0;
+import static org.lwjgl.opengl.GL13.glActiveTexture;
+import static org.lwjgl.opengl.GL15.*;
+import static org.lwjgl.opengl.GL20.*;
+import static org.lwjgl.opengl.GL30.*;
+
+/**
+ * Uploads a prepared {@link UIBatch} into one streaming VBO and issues one draw per texture run.
+ * The index buffer is static (0,1,2, 2,3,0 per quad) and grows with the largest batch seen.
+ */
+public class UIBatchRenderer {
+    private Shader shader;
+    private Uniform screenSize;
+    private int vao;
+    private int vbo;
+    private int ebo;
+    private int indexCapacityQuads = 0;
+    private FloatBuffer upload;
+
+    public void init() {
+        shader = new Shader(
+            "src/main/resources/shaders/ui_batch_vertex.glsl",
+            "src/main/resources/shaders/ui_batch_fragment.glsl"
+        );
+        shader.use();
+        shader.setInt("textureSampler", 0);
+        screenSize = shader.getUniform("screenSize");
+
+        vao = glGenVertexArrays();
+        vbo = glGenBuffers();
+        ebo = glGenBuffers();
+
+        glBindVertexArray(vao);
+        glBindBuffer(GL_ARRAY_BUFFER, vbo);
+        int stride = UIBatch.FLOATS_PER_VERTEX * Float.BYTES;
+        glVertexAttribPointer(0, 2, GL_FLOAT, false, stride, 0);
+        glEnableVertexAttribArray(0);
+        glVertexAttribPointer(1, 2, GL_FLOAT, false, stride, 2L * Float.BYTES);
+        glEnableVertexAttribArray(1);
+        glVertexAttribPointer(2, 4, GL_FLOAT, false, stride, 4L * Float.BYTES);
+        glEnableVertexAttribArray(2);
+        glVertexAttribPointer(3, 1, GL_FLOAT, false, stride, 8L * Float.BYTES);
+        glEnableVertexAttribArray(3);
+        glBindVertexArray(0);
+
+        ensureIndices(1024);
+        upload = MemoryUtil.memAllocFloat(1024 * UIBatch.FLOATS_PER_QUAD);
+    }
+
+    private void ensureIndices(int quads) {
+        if (quads <= indexCapacityQuads) return;
+        int cap = Math.max(quads, indexCapacityQuads * 2);
+        IntBuffer indices = MemoryUtil.memAllocInt(cap * 6);
+        for (int q = 0; q < cap; q++) {
+            int v = q * 4;
+            indices.put(v).put(v + 1).put(v + 2).put(v + 2).put(v + 3).put(v);
+        }
+        indices.flip();
+        glBindVertexArray(vao);
+        glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, ebo);
+        glBufferData(GL_ELEMENT_ARRAY_BUFFER, indices, GL_STATIC_DRAW);
+        glBindVertexArray(0);
+        MemoryUtil.memFree(indices);
+        indexCapacityQuads = cap;
+    }
+
+    /**
+     * Draws everything recorded so far and clears the batch (it keeps recording).
+     * @return number of draw calls issued.
+     */
+    public int flush(UIBatch batch) {
+        int draws = batch.prepare();
+        int quads = batch.getQuadCount();
+        if (draws == 0) {
+            batch.reset();
+            return 0;
+        }
+
+        int floats = quads * UIBatch.FLOATS_PER_QUAD;
+        if (upload.capacity() < floats) {
+            MemoryUtil.memFree(upload);
+            upload = MemoryUtil.memAllocFloat(Math.max(floats, upload.capacity() * 2));
+        }
+        upload.clear();
+        upload.put(batch.getSortedVertices(), 0, floats).flip();
+        ensureIndices(quads);
+
+        shader.use();
+        screenSize.set((float) batch.getScreenWidth(), (float) batch.getScreenHeight());
+        glActiveTexture(GL_TEXTURE0);
+
+        glBindVertexArray(vao);
+        glBindBuffer(GL_ARRAY_BUFFER, vbo);
+        glBufferData(GL_ARRAY_BUFFER, (long) upload.capacity() * Float.BYTES, GL_STREAM_DRAW); // orphan
+        glBufferSubData(GL_ARRAY_BUFFER, 0, upload);
+
+        int bound = -1;
+        for (int i = 0; i < draws; i++) {
+            int texture = batch.getDrawTexture(i);
+            if (texture != 0 && texture != bound) {
+                glBindTexture(GL_TEXTURE_2D, texture);
+                bound = texture;
+            }
+            glDrawElements(GL_TRIANGLES, batch.getDrawQuadCount(i) * 6, GL_UNSIGNED_INT, (long) batch.getDrawFirstQuad(i) * 6 * Integer.BYTES);
+        }
+        glBindVertexArray(0);
+
+        batch.reset();
+        return draws;
+    }
+
+    public void cleanup() {
+        if (shader != null) shader.cleanup();
+        glDeleteVertexArrays(vao);
+        glDeleteBuffers(vbo);
+        glDeleteBuffers(ebo);
+        if (upload != null) MemoryUtil.memFree(upload);
+    }
+}
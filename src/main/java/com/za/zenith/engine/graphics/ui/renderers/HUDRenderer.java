@@ -1,9 +1,12 @@
 package com.za.zenith.engine.graphics.ui.renderers;
 
 import com.za.zenith.engine.core.GameLoop;
+import com.za.zenith.engine.core.PlayerMode;
 import com.za.zenith.engine.graphics.Shader;
 import com.za.zenith.engine.graphics.ui.GUIConfig;
 import com.za.zenith.engine.graphics.ui.GUIRegistry;
+import com.za.zenith.engine.graphics.ui.HUDLayout;
+import com.za.zenith.engine.graphics.ui.HUDTextTemplate;
 import com.za.zenith.engine.graphics.ui.Hotbar;
 import com.za.zenith.engine.graphics.ui.InventoryLayout;
 import com.za.zenith.engine.graphics.ui.LayoutResult;
@@ -13,6 +16,7 @@ import com.za.zenith.engine.graphics.ui.GroupUI;
 import com.za.zenith.engine.graphics.ui.UIEffectsRenderer;
 import com.za.zenith.engine.graphics.ui.UIRenderer;
 import com.za.zenith.utils.I18n;
+import com.za.zenith.utils.Identifier;
 import com.za.zenith.world.items.ItemStack;
 import com.za.zenith.world.generation.BiomeDefinition;
 
@@ -22,48 +26,97 @@ import static org.lwjgl.opengl.GL11.*;
 import static org.lwjgl.opengl.GL30.glBindVertexArray;
 
 public class HUDRenderer {
+    private static final Identifier HUD_ID = Identifier.of("zenith:hud");
+    private static final Identifier DEBUG_HUD_ID = Identifier.of("zenith:debug_hud");
+    private static final Identifier HOTBAR_ID = Identifier.of("zenith:hotbar");
+
     private final UIRenderer renderer;
     private final float[] waveAmplitudes = new float[32];
     private float waveTimer = 0;
     private float sonarPhase = 0;
 
+    // Retained HUD: positions, strings and colours live in the layouts and are only recomputed on change
+    private final HUDLayout hud = new HUDLayout();
+    private final HUDLayout debugHud = new HUDLayout();
+    private final HUDLayout.TextMeasure measure;
+    private HUDLayout.Element healthBar, hungerBar, staminaBar, noiseBar, minimap, logo;
+    private HUDLayout.Text itemName;
+    private String logoPath;
+
+    // Hotbar slot layout, regenerated on config, screen, mode or inventory changes
+    private final java.util.Map<String, com.za.zenith.world.inventory.IInventory> hotbarInventories = new java.util.HashMap<>();
+    private final com.za.zenith.entities.Inventory.ChangeListener hotbarListener = slot -> hotbarDirty = true;
+    private LayoutResult hotbarLayout;
+    private GUIConfig hotbarConfig;
+    private int hotbarRevision, hotbarWidth, hotbarHeight;
+    private PlayerMode hotbarMode;
+    private com.za.zenith.entities.Inventory hotbarInventory;
+    private boolean hotbarDirty = true;
+    private String[] hotbarSlotIds = new String[0];
+
+    private ItemStack nameStack;
+    private com.za.zenith.world.items.Item nameItem;
+    private com.za.zenith.utils.Identifier nameRarity;
+    private int nameAffixes;
+    private int nameLanguage;
+    private String nameText;
+
+    private int flagsMask = -1;
+    private String flagsText = "";
+
     public HUDRenderer(UIRenderer renderer) {
         this.renderer = renderer;
+        this.measure = (text, size) -> renderer.getFontRenderer().getStringWidth(text, size);
     }
 
-    private GUIConfig.HUDElementConfig getHUDConfig(String elementId) {
-        GUIConfig config = GUIRegistry.get(com.za.zenith.utils.Identifier.of("zenith:hud"));
-        if (config != null && config.hudElements != null) {
-            return config.hudElements.get(elementId);
+    private void syncHud() {
+        if (!hud.sync(GUIRegistry.get(HUD_ID))) return;
+        healthBar = hud.get("health");
+        hungerBar = hud.get("hunger");
+        staminaBar = hud.get("stamina");
+        noiseBar = hud.get("noise");
+        minimap = hud.get("minimap");
+        logo = hud.get("logo");
+        itemName = hud.getText("item_name");
+        logoPath = null;
+        if (logo != null && logo.cfg.texture != null) {
+            logoPath = logo.cfg.texture.startsWith("src/main/resources/") ? logo.cfg.texture : "src/main/resources/" + logo.cfg.texture;
         }
-        return null;
     }
 
     public static int[] calculateElementPos(GUIConfig.HUDElementConfig cfg, int sw, int sh, int width, int height) {
-        int baseX = sw / 2, baseY = sh / 2;
-        String anchor = cfg.anchor.toLowerCase();
-        if (anchor.contains("top")) baseY = 0;
-        else if (anchor.contains("bottom")) baseY = sh;
-        if (anchor.contains("left")) baseX = 0;
-        else if (anchor.contains("right")) baseX = sw;
-        if (anchor.equals("bottom_center")) { baseX = sw / 2; baseY = sh; }
-        else if (anchor.equals("top_center")) { baseX = sw / 2; baseY = 0; }
-
-        int alignX = 0;
-        if (cfg.alignX.equals("center")) alignX = -width / 2; else if (cfg.alignX.equals("right")) alignX = -width;
-        int alignY = 0;
-        if (cfg.alignY.equals("center")) alignY = -height / 2; else if (cfg.alignY.equals("bottom")) alignY = -height;
-
-        int offsetX = InventoryLayout.calculateCoord(cfg.x, sw, 0, 0);
-        int offsetY = InventoryLayout.calculateCoord(cfg.y, sh, 0, 0);
-
-        return new int[]{baseX + alignX + offsetX, baseY + alignY + offsetY};
+        int[] pos = new int[2];
+        HUDLayout.resolve(cfg, sw, sh, width, height, pos);
+        return pos;
+    }
+
+    private LayoutResult hotbarLayout(Hotbar hotbar, GUIConfig config, int screenWidth, int screenHeight, int slotSize, int spacing) {
+        com.za.zenith.entities.Player player = hotbar.getPlayer();
+        com.za.zenith.entities.Inventory inventory = player.getInventory();
+        if (inventory != hotbarInventory) {
+            hotbarInventory = inventory;
+            inventory.addChangeListener(hotbarListener);
+            hotbarDirty = true;
+        }
+        if (hotbarDirty || hotbarLayout == null || config != hotbarConfig || config.getRevision() != hotbarRevision
+                || screenWidth != hotbarWidth || screenHeight != hotbarHeight || player.getMode() != hotbarMode) {
+            hotbarInventories.put("player", inventory);
+            hotbarLayout = InventoryLayout.generateLayout(screenWidth, screenHeight, slotSize, spacing, player, config, hotbarInventories);
+            hotbarConfig = config;
+            hotbarRevision = config.getRevision();
+            hotbarWidth = screenWidth;
+            hotbarHeight = screenHeight;
+            hotbarMode = player.getMode();
+            hotbarDirty = false;
+        }
+        return hotbarLayout;
     }
 
     public void renderHotbar(Hotbar hotbar, int screenWidth, int screenHeight, com.za.zenith.engine.graphics.DynamicTextureAtlas atlas) {
         if (hotbar == null || ScreenManager.getInstance().isAnyScreenOpen()) return;
-        GUIConfig config = GUIRegistry.get(com.za.zenith.utils.Identifier.of("zenith:hotbar"));
+        GUIConfig config = GUIRegistry.get(HOTBAR_ID);
         if (config == null || !config.hudVisible) return;
+        syncHud();
 
         glDisable(GL_DEPTH_TEST);
         glEnable(GL_BLEND);
@@ -71,20 +124,22 @@ public class HUDRenderer {
         
         int slotSize = (int)(20 * Hotbar.HOTBAR_SCALE);
         int spacing = (int)(2 * Hotbar.HOTBAR_SCALE);
-        java.util.Map<String, com.za.zenith.world.inventory.IInventory> inventories = new java.util.HashMap<>();
-        inventories.put("player", hotbar.getPlayer().getInventory());
-        
-        LayoutResult layout = InventoryLayout.generateLayout(screenWidth, screenHeight, slotSize, spacing, hotbar.getPlayer(), config, inventories);
+        LayoutResult layout = hotbarLayout(hotbar, config, screenWidth, screenHeight, slotSize, spacing);
         List<SlotUI> slots = layout.slots;
 
         if (layout.globalBackground != null) {
             renderer.getPrimitivesRenderer().renderGroupBackground(layout.globalBackground.getX(), layout.globalBackground.getY(), layout.globalBackground.getWidth(), layout.globalBackground.getHeight(), config.background);
         }
 
+        if (hotbarSlotIds.length < slots.size()) {
+            hotbarSlotIds = new String[slots.size()];
+            for (int i = 0; i < hotbarSlotIds.length; i++) hotbarSlotIds[i] = "hotbar_" + i;
+        }
+
         int selectedSlot = hotbar.getSelectedSlot();
         for (int i = 0; i < slots.size(); i++) {
             SlotUI ui = slots.get(i);
-            renderer.getSlotRenderer().renderSlot(ui.getX(), ui.getY(), slotSize, ui.getSlot().getStack(), null, screenWidth, screenHeight, atlas, false, "hotbar_" + i, true);
+            renderer.getSlotRenderer().renderSlot(ui.getX(), ui.getY(), slotSize, ui.getSlot().getStack(), null, screenWidth, screenHeight, atlas, false, hotbarSlotIds[i], true);
             if (i == selectedSlot) {
                 UIEffectsRenderer.renderSelection(renderer, renderer.getShader(), renderer.getQuadVAO(), ui.getX(), ui.getY(), slotSize, screenWidth, screenHeight, config.selection);
             }
@@ -92,39 +147,35 @@ public class HUDRenderer {
         
         ItemStack selected = hotbar.getSelectedItemStack();
         if (selected != null && !slots.isEmpty()) {
-            GUIConfig.HUDElementConfig nameCfg = getHUDConfig("item_name");
-            if (nameCfg != null && nameCfg.visible) {
-                String nameText = selected.getFullDisplayName();
-
-                int nameSize = nameCfg.fontSize;
-                int textWidth = renderer.getFontRenderer().getStringWidth(nameText, nameSize);
-
-                // Dynamic Scaling Logic
-                while (textWidth > nameCfg.maxWidth && nameSize > nameCfg.minFontSize) {
-                    nameSize--;
-                    textWidth = renderer.getFontRenderer().getStringWidth(nameText, nameSize);
+            HUDLayout.Text name = itemName;
+            if (name != null && name.isVisible()) {
+                // The name depends on the item, rarity, affixes and the current translation
+                if (selected != nameStack || selected.getItem() != nameItem || selected.getRarity() != nameRarity
+                        || selected.getActiveAffixes().size() != nameAffixes || I18n.getRevision() != nameLanguage) {
+                    nameStack = selected;
+                    nameItem = selected.getItem();
+                    nameRarity = selected.getRarity();
+                    nameAffixes = selected.getActiveAffixes().size();
+                    nameLanguage = I18n.getRevision();
+                    nameText = selected.getFullDisplayName();
                 }
+                // Dynamic Scaling Logic: the font shrinks to fit maxWidth
+                name.update(nameText, measure, screenWidth, screenHeight, true);
+                int nameSize = name.getFontSize();
 
-                int[] pos = calculateElementPos(nameCfg, screenWidth, screenHeight, textWidth, nameSize);
-                
                 // 1. Draw Background Gradient if enabled
-                if (nameCfg.useGradient) {
-                    int gradWidth = textWidth + 300;
-                    int gradHeight = (int)(nameSize * 1.8f);
-                    int gradX = pos[0] - (gradWidth - textWidth) / 2;
-                    int gradY = pos[1] - (gradHeight - nameSize) / 2;
-                    
-                    float[] c1 = nameCfg.backgroundColor;
-                    float[] c2 = new float[]{c1[0], c1[1], c1[2], 0.0f};
-                    
-                    renderer.getPrimitivesRenderer().renderGradientRect(gradX, gradY, gradWidth / 2, gradHeight, screenWidth, screenHeight, c2, c1);
-                    renderer.getPrimitivesRenderer().renderGradientRect(gradX + gradWidth / 2, gradY, gradWidth / 2, gradHeight, screenWidth, screenHeight, c1, c2);
+                if (name.cfg.useGradient) {
+                    int half = name.getGradientWidth() / 2;
+                    float[] c1 = name.cfg.backgroundColor;
+                    float[] c2 = name.gradientEdge;
+                    renderer.getPrimitivesRenderer().renderGradientRect(name.getGradientX(), name.getGradientY(), half, name.getGradientHeight(), screenWidth, screenHeight, c2, c1);
+                    renderer.getPrimitivesRenderer().renderGradientRect(name.getGradientX() + half, name.getGradientY(), half, name.getGradientHeight(), screenWidth, screenHeight, c1, c2);
                 }
 
-                if (nameCfg.textShadow) {
-                    renderer.getPrimitivesRenderer().renderTextWithShadow(nameText, pos[0], pos[1], nameSize, screenWidth, screenHeight, 1.0f, 1.0f, 1.0f, 1.0f);
+                if (name.cfg.textShadow) {
+                    renderer.getPrimitivesRenderer().renderTextWithShadow(nameText, name.getX(), name.getY(), nameSize, screenWidth, screenHeight, 1.0f, 1.0f, 1.0f, 1.0f);
                 } else {
-                    renderer.getFontRenderer().drawString(nameText, pos[0], pos[1], nameSize, screenWidth, screenHeight);
+                    renderer.getFontRenderer().drawString(nameText, name.getX(), name.getY(), nameSize, screenWidth, screenHeight);
                 }
             }
         }
@@ -134,14 +185,15 @@ public class HUDRenderer {
         if (ScreenManager.getInstance().isAnyScreenOpen()) return;
         com.za.zenith.entities.Player player = hotbar.getPlayer();
         renderer.setupUIProjection(sw, sh);
+        syncHud();
         
         float dt = GameLoop.getInstance().getTimer().getDeltaF();
         float noise = player.getNoiseLevel();
 
-        renderBar("health", sw, sh, player.getHealth() / 20.0f); 
-        renderBar("hunger", sw, sh, player.getHunger() / 20.0f);
-        if (player.getStamina() < 0.99f) renderBar("stamina", sw, sh, player.getStamina());
-        renderBar("noise", sw, sh, noise);
+        renderBar(healthBar, sw, sh, player.getHealth() / 20.0f); 
+        renderBar(hungerBar, sw, sh, player.getHunger() / 20.0f);
+        if (player.getStamina() < 0.99f) renderBar(staminaBar, sw, sh, player.getStamina());
+        renderBar(noiseBar, sw, sh, noise);
 
         renderMinimap(player, sw, sh);
 
@@ -161,8 +213,8 @@ public class HUDRenderer {
     public void renderDebugOverlay(int sw, int sh) {
         if (!com.za.zenith.engine.core.SettingsManager.getInstance().isDebugOverlayVisible()) return;
 
-        GUIConfig config = GUIRegistry.get(com.za.zenith.utils.Identifier.of("zenith:debug_hud"));
-        if (config == null || config.hudElements == null) return;
+        debugHud.sync(GUIRegistry.get(DEBUG_HUD_ID));
+        if (debugHud.getElements().isEmpty()) return;
 
         glDisable(GL_DEPTH_TEST);
         glEnable(GL_BLEND);
@@ -172,120 +224,132 @@ public class HUDRenderer {
         com.za.zenith.entities.Player player = game.getPlayer();
         org.joml.Vector3f pos = player.getPosition();
 
-        for (GUIConfig.HUDElementConfig el : config.hudElements.values()) {
-            if (!el.visible || !"text".equals(el.type) || el.text == null) continue;
-            if (el.condition != null && el.condition.equals("debug_mode") && !com.za.zenith.engine.core.SettingsManager.getInstance().isDebugOverlayVisible()) continue;
-
-            String text = el.text
-                .replace("{fps}", String.valueOf((int)game.getCurrentFps()))
-                .replace("{x}", String.format(java.util.Locale.US, "%.2f", pos.x))
-                .replace("{y}", String.format(java.util.Locale.US, "%.2f", pos.y))
-                .replace("{z}", String.format(java.util.Locale.US, "%.2f", pos.z))
-                .replace("{cx}", String.valueOf((int)pos.x >> 4))
-                .replace("{cz}", String.valueOf((int)pos.z >> 4))
-                .replace("{sections}", String.valueOf(game.getRenderer().getVisibleSectionsCount()))
-                .replace("{dc}", String.valueOf(game.getRenderer().getDrawCallCount()));
-            
-            // Add Biome info
-            BiomeDefinition biome = game.getWorld().getBiomeManager().getBiome((int)pos.x, (int)pos.z);
-            if (biome != null) {
-                text = text.replace("{biome}", biome.getId().toString());
-            } else {
-                text = text.replace("{biome}", "Unknown");
-            }
-
-            // Targeted block info
-            com.za.zenith.world.physics.RaycastResult hit = game.getHighlightedBlock();
-            if (hit != null && hit.isHit()) {
-                com.za.zenith.world.blocks.Block b = game.getWorld().getBlock(hit.getBlockPos());
-                com.za.zenith.world.blocks.BlockDefinition def = com.za.zenith.world.blocks.BlockRegistry.getBlock(b.getType());
-                if (def != null) {
-                    text = text.replace("{t_id}", def.getIdentifier().toString());
-                    text = text.replace("{t_meta}", String.valueOf(b.getMetadata() & 0xFF));
-                    
-                    StringBuilder flagsStr = new StringBuilder();
-                    if (def.is(com.za.zenith.world.blocks.BlockDefinition.FLAG_SOLID)) flagsStr.append("S");
-                    if (def.is(com.za.zenith.world.blocks.BlockDefinition.FLAG_TRANSPARENT)) flagsStr.append("T");
-                    if (def.is(com.za.zenith.world.blocks.BlockDefinition.FLAG_TRANSLUCENT)) flagsStr.append("Tr");
-                    if (b.isNatural()) flagsStr.append("N");
-                    if (def.is(com.za.zenith.world.blocks.BlockDefinition.FLAG_TINTED)) flagsStr.append("C");
-                    if (def.is(com.za.zenith.world.blocks.BlockDefinition.FLAG_LEAVES)) flagsStr.append("L");
-                    
-                    text = text.replace("{t_flags}", flagsStr.toString());
-                }
-            } else {
-                text = text.replace("{t_id}", "None").replace("{t_meta}", "-").replace("{t_flags}", "");
+        // Bound values are gathered once per frame; templates rebuild their text only when one changed
+        BiomeDefinition biome = game.getWorld().getBiomeManager().getBiome((int)pos.x, (int)pos.z);
+        Object biomeId = biome != null ? biome.getId() : "Unknown";
+        Object targetId = "None";
+        Object targetMeta = "-";
+        String targetFlags = "";
+        com.za.zenith.world.physics.RaycastResult hit = game.getHighlightedBlock();
+        if (hit != null && hit.isHit()) {
+            com.za.zenith.world.blocks.Block b = game.getWorld().getBlock(hit.getBlockPos());
+            com.za.zenith.world.blocks.BlockDefinition def = com.za.zenith.world.blocks.BlockRegistry.getBlock(b.getType());
+            if (def != null) {
+                targetId = def.getIdentifier();
+                targetMeta = b.getMetadata() & 0xFF;
+                targetFlags = blockFlags(def, b.isNatural());
             }
+        }
 
-            int fontSize = el.fontSize;
-            int textWidth = renderer.getFontRenderer().getStringWidth(text, fontSize);
-            int[] elementPos = calculateElementPos(el, sw, sh, textWidth, fontSize);
+        for (HUDLayout.Element element : debugHud.getElements()) {
+            if (!(element instanceof HUDLayout.Text el) || !el.isVisible() || el.template == null) continue;
+
+            HUDTextTemplate t = el.template;
+            t.set("fps", (int)game.getCurrentFps());
+            t.setFixed2("x", pos.x);
+            t.setFixed2("y", pos.y);
+            t.setFixed2("z", pos.z);
+            t.set("cx", (int)pos.x >> 4);
+            t.set("cz", (int)pos.z >> 4);
+            t.set("sections", game.getRenderer().getVisibleSectionsCount());
+            t.set("dc", game.getRenderer().getDrawCallCount());
+            t.set("biome", biomeId);
+            t.set("t_id", targetId);
+            t.set("t_meta", targetMeta);
+            t.set("t_flags", targetFlags);
+
+            String text = t.text();
+            el.update(text, measure, sw, sh, false);
+            int fontSize = el.getFontSize();
 
             // Shadow
-            renderer.getFontRenderer().drawString(text, elementPos[0] + 1, elementPos[1] + 1, fontSize, sw, sh, 0.0f, 0.0f, 0.0f, 0.5f);
+            renderer.getFontRenderer().drawString(text, el.getX() + 1, el.getY() + 1, fontSize, sw, sh, 0.0f, 0.0f, 0.0f, 0.5f);
             
             // Main text
-            float[] color = el.color != null ? el.color : new float[]{1.0f, 1.0f, 1.0f, 1.0f};
-            renderer.getFontRenderer().drawString(text, elementPos[0], elementPos[1], fontSize, sw, sh, color[0], color[1], color[2], color[3]);
+            float[] color = el.color;
+            renderer.getFontRenderer().drawString(text, el.getX(), el.getY(), fontSize, sw, sh, color[0], color[1], color[2], color[3]);
         }
 
         glEnable(GL_DEPTH_TEST);
         glDisable(GL_BLEND);
     }
 
+    private String blockFlags(com.za.zenith.world.blocks.BlockDefinition def, boolean natural) {
+        int mask = (def.is(com.za.zenith.world.blocks.BlockDefinition.FLAG_SOLID) ? 1 : 0)
+            | (def.is(com.za.zenith.world.blocks.BlockDefinition.FLAG_TRANSPARENT) ? 2 : 0)
+            | (def.is(com.za.zenith.world.blocks.BlockDefinition.FLAG_TRANSLUCENT) ? 4 : 0)
+            | (natural ? 8 : 0)
+            | (def.is(com.za.zenith.world.blocks.BlockDefinition.FLAG_TINTED) ? 16 : 0)
+            | (def.is(com.za.zenith.world.blocks.BlockDefinition.FLAG_LEAVES) ? 32 : 0);
+        if (mask != flagsMask) {
+            StringBuilder flagsStr = new StringBuilder();
+            if ((mask & 1) != 0) flagsStr.append("S");
+            if ((mask & 2) != 0) flagsStr.append("T");
+            if ((mask & 4) != 0) flagsStr.append("Tr");
+            if ((mask & 8) != 0) flagsStr.append("N");
+            if ((mask & 16) != 0) flagsStr.append("C");
+            if ((mask & 32) != 0) flagsStr.append("L");
+            flagsMask = mask;
+            flagsText = flagsStr.toString();
+        }
+        return flagsText;
+    }
+
     private void renderMinimap(com.za.zenith.entities.Player player, int sw, int sh) {
-        GUIConfig.HUDElementConfig cfg = getHUDConfig("minimap");
-        if (cfg == null || !cfg.visible) return;
+        HUDLayout.Element el = minimap;
+        if (el == null || !el.isVisible()) return;
         
-        int size = cfg.width;
-        int[] pos = calculateElementPos(cfg, sw, sh, size, size);
+        int size = el.cfg.width;
+        el.place(sw, sh, size, size);
         
         MinimapRenderer minimap = renderer.getMinimapRenderer();
         float dt = GameLoop.getInstance().getTimer().getDeltaF();
         
         minimap.update(player, GameLoop.getInstance().getWorld(), dt);
-        minimap.render(pos[0], pos[1], size, player, sw, sh);
+        minimap.render(el.getX(), el.getY(), size, player, sw, sh);
     }
 
     private void renderBlueprint(String elementId, int sw, int sh, float[] triggers) {
-        GUIConfig.HUDElementConfig cfg = getHUDConfig(elementId);
-        if (cfg == null || !cfg.visible || cfg.blueprint == null) return;
-        int size = cfg.width; 
-        int[] pos = calculateElementPos(cfg, sw, sh, size, size);
-        com.za.zenith.utils.Identifier id = com.za.zenith.utils.Identifier.of(cfg.blueprint);
-        renderer.getBlueprintRenderer().render(id, pos[0], pos[1], size, sw, sh, triggers);
+        syncHud();
+        HUDLayout.Element el = hud.get(elementId);
+        if (el == null || !el.isVisible() || el.cfg.blueprint == null) return;
+        int size = el.cfg.width; 
+        el.place(sw, sh, size, size);
+        com.za.zenith.utils.Identifier id = com.za.zenith.utils.Identifier.of(el.cfg.blueprint);
+        renderer.getBlueprintRenderer().render(id, el.getX(), el.getY(), size, sw, sh, triggers);
     }
 
-    private void renderBar(String elementId, int sw, int sh, float progress) {
-        GUIConfig.HUDElementConfig cfg = getHUDConfig(elementId);
-        if (cfg == null || !cfg.visible) return;
+    private void renderBar(HUDLayout.Element el, int sw, int sh, float progress) {
+        if (el == null || !el.isVisible()) return;
+        GUIConfig.HUDElementConfig cfg = el.cfg;
         int width = cfg.width, height = cfg.height;
-        int[] pos = calculateElementPos(cfg, sw, sh, width, height);
+        el.place(sw, sh, width, height);
+        int x = el.getX(), y = el.getY();
         float[] bg = cfg.backgroundColor;
-        renderer.getPrimitivesRenderer().renderRect(pos[0], pos[1], width, height, sw, sh, bg[0], bg[1], bg[2], bg[3]);
+        renderer.getPrimitivesRenderer().renderRect(x, y, width, height, sw, sh, bg[0], bg[1], bg[2], bg[3]);
         if (progress <= 0) return;
-        float[] fg = cfg.color;
+        float[] fg = el.color;
         int segments = cfg.segments;
         if (segments <= 0) {
-            renderer.getPrimitivesRenderer().renderRect(pos[0], pos[1], (int)(width * progress), height, sw, sh, fg[0], fg[1], fg[2], fg[3]);
+            renderer.getPrimitivesRenderer().renderRect(x, y, (int)(width * progress), height, sw, sh, fg[0], fg[1], fg[2], fg[3]);
         } else {
             int gap = 2;
             int segmentWidth = (width - (segments - 1) * gap) / segments;
             int activeSegments = (int)Math.ceil(progress * segments);
             for (int i = 0; i < activeSegments; i++) {
-                int sx = pos[0] + i * (segmentWidth + gap);
+                int sx = x + i * (segmentWidth + gap);
                 int curWidth = (i == activeSegments - 1) ? (int)(segmentWidth * (progress * segments - i)) : segmentWidth;
-                if (curWidth > 0) renderer.getPrimitivesRenderer().renderRect(sx, pos[1], curWidth, height, sw, sh, fg[0], fg[1], fg[2], fg[3]);
+                if (curWidth > 0) renderer.getPrimitivesRenderer().renderRect(sx, y, curWidth, height, sw, sh, fg[0], fg[1], fg[2], fg[3]);
             }
         }
     }
 
     public void renderLogo(int screenWidth, int screenHeight) {
-        GUIConfig.HUDElementConfig cfg = getHUDConfig("logo");
-        if (cfg == null || !cfg.visible || cfg.texture == null) return;
-        int[] pos = calculateElementPos(cfg, screenWidth, screenHeight, cfg.width, cfg.height);
-        String texturePath = cfg.texture.startsWith("src/main/resources/") ? cfg.texture : "src/main/resources/" + cfg.texture;
-        renderer.getPrimitivesRenderer().renderExternalImage(texturePath, pos[0], pos[1], cfg.width, cfg.height, screenWidth, screenHeight);
+        syncHud();
+        HUDLayout.Element el = logo;
+        if (el == null || !el.isVisible() || logoPath == null) return;
+        el.place(screenWidth, screenHeight, el.cfg.width, el.cfg.height);
+        renderer.getPrimitivesRenderer().renderExternalImage(logoPath, el.getX(), el.getY(), el.cfg.width, el.cfg.height, screenWidth, screenHeight);
     }
 
     public void renderFiringProgress(int screenWidth, int screenHeight, float progress) {
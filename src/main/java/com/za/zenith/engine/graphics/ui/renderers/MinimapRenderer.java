@@ -110,6 +110,7 @@ public class MinimapRenderer {
     }
 
     public void render(int x, int y, int size, Player player, int sw, int sh) {
+        renderer.flushBatch();
         minimapShader.use();
         glEnable(GL_BLEND);
         glBlendFunc(GL_SRC_ALPHA, GL_ONE_MINUS_SRC_ALPHA);
@@ -22,6 +22,11 @@ public class UIPrimitives {
     }
 
     public void renderRect(int x, int y, int width, int height, int sw, int sh, float r, float g, float b, float a) {
+        if (renderer.isBatching()) {
+            renderer.getBatch().addColorQuad(x, y, width, height, r, g, b, a);
+            return;
+        }
+
         Shader uiShader = renderer.getShader();
         uiShader.use();
         uiShader.setInt("useTexture", 0);
@@ -215,7 +215,10 @@ public class MiningController {
                 wobbleTimer = 0.0f;
                 shouldHit = true;
 
-                player.setContinuousNoise(Math.min(0.4f, 0.15f + hardness * 0.1f));
+                float miningNoise = Math.min(0.4f, 0.15f + hardness * 0.1f);
+                player.setContinuousNoise(miningNoise);
+                world.getNoiseGrid().emit(com.za.zenith.entities.ai.perception.NoiseType.MINING,
+                    hitPos.x() + 0.5f, hitPos.y() + 0.5f, hitPos.z() + 0.5f, miningNoise, 32.0f);
                 player.performDiscreteAction(com.za.zenith.utils.Identifier.of("zenith:mine"));
             }
         }
@@ -216,18 +216,7 @@ public class InteractionInputHandler {
 
             if (!actionConsumed && isNewRightClick && currentStack != null) {
                 if (currentStack.getCount() >= 2) {
-                    java.util.List<com.za.zenith.world.recipes.IRecipe> nappingRecipes = com.za.zenith.world.recipes.RecipeRegistry.getRecipesByType("napping");
-                    
-                    boolean hasNapping = false;
-                    for (com.za.zenith.world.recipes.IRecipe r : nappingRecipes) {
-                        com.za.zenith.world.recipes.NappingRecipe nr = (com.za.zenith.world.recipes.NappingRecipe) r;
-                        if (nr.isInputValid(currentItem.getIdentifier())) {
-                            hasNapping = true;
-                            break;
-                        }
-                    }
-                    
-                    if (hasNapping) {
+                    if (com.za.zenith.world.recipes.RecipeRegistry.hasNappingRecipe(currentItem.getIdentifier())) {
                         GameLoop.getInstance().startNapping(currentItem);
                         actionConsumed = true;
                     }
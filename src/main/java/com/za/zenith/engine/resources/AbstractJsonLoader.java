@@ -4,9 +4,15 @@ import com.google.gson.JsonElement;
 import com.za.zenith.utils.Logger;
 import com.za.zenith.utils.ResourceScanner;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.IntStream;
 
 public abstract class AbstractJsonLoader<T> implements IResourceLoader {
+    // Ниже этого числа файлов накладные расходы параллельного чтения не окупаются
+    private static final int PARALLEL_FILE_THRESHOLD = 8;
+
     protected final String relativePath;
     
     public AbstractJsonLoader(String relativePath) {
@@ -27,26 +33,56 @@ public abstract class AbstractJsonLoader<T> implements IResourceLoader {
         return false;
     }
 
+    /**
+     * Документы берутся из {@link BakedCache}, если файлы каталога не менялись с прошлого запуска.
+     * Иначе чтение и разбор JSON идут параллельно, а регистрация - строго по отсортированному списку
+     * файлов в вызывающем потоке, поэтому автоматически выданные ID не меняются между запусками.
+     */
     @Override
     public void load(String namespace) {
         String fullPath = namespace + "/" + relativePath;
-        List<String> files = ResourceScanner.listResources(fullPath);
+        List<String> files = new ArrayList<>(ResourceScanner.listResources(fullPath));
         if (files.isEmpty()) {
             return;
         }
-        for (String file : files) {
-            String filePath = fullPath + "/" + file;
+        Collections.sort(files);
+
+        BakedCache cache = BakedCache.get();
+        long key = cache.key(fullPath, files);
+        JsonElement[] cached = cache.lookup(fullPath, key, files);
+        JsonElement[] parsed;
+        if (cached != null) {
+            parsed = cached;
+            for (String file : files) AssetManager.markLoaded(fullPath + "/" + file);
+        } else {
+            JsonElement[] fresh = new JsonElement[files.size()];
+            IntStream indices = IntStream.range(0, files.size());
+            if (files.size() >= PARALLEL_FILE_THRESHOLD) indices = indices.parallel();
+            indices.forEach(i -> fresh[i] = readJson(fullPath + "/" + files.get(i)));
+            cache.store(fullPath, key, files, fresh);
+            parsed = fresh;
+        }
+
+        for (int i = 0; i < parsed.length; i++) {
+            if (parsed[i] == null) continue;
+            String filePath = fullPath + "/" + files.get(i);
             try {
-                String rawJson = AssetManager.readAndSnapshot(filePath);
-                if (rawJson != null) {
-                    JsonElement element = AssetManager.getGson().fromJson(rawJson, JsonElement.class);
-                    parseAndRegister(element, filePath);
-                }
+                parseAndRegister(parsed[i], filePath);
             } catch (Exception e) {
                 Logger.error("Failed to parse resource " + filePath + ": " + e.getMessage());
             }
         }
     }
 
+    private static JsonElement readJson(String filePath) {
+        try {
+            String rawJson = AssetManager.readAndSnapshot(filePath);
+            return rawJson != null ? AssetManager.getGson().fromJson(rawJson, JsonElement.class) : null;
+        } catch (Exception e) {
+            Logger.error("Failed to parse resource " + filePath + ": " + e.getMessage());
+            return null;
+        }
+    }
+
     protected abstract void parseAndRegister(JsonElement root, String sourcePath);
 }
\ No newline at end of file
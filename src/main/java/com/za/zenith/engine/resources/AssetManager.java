@@ -9,11 +9,11 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class AssetManager {
     private static final Gson GSON = new GsonBuilder()
@@ -21,19 +21,31 @@ public class AssetManager {
         .registerTypeAdapter(com.za.zenith.world.blocks.component.BlockComponent.class, new com.za.zenith.world.blocks.component.BlockComponentAdapter())
         .create();
         
-    private static final Map<String, String> snapshots = new HashMap<>();
-    private static final List<IResourceLoader> loaders = new ArrayList<>();
+    // Загрузчики работают параллельно (см. LoaderGraph)
+    private static final Map<String, String> snapshots = new ConcurrentHashMap<>();
+    // Пути из BakedCache: текст читается только при первом запросе снимка
+    private static final Set<String> loadedPaths = ConcurrentHashMap.newKeySet();
+    private static final List<IResourceLoader> loaders = new CopyOnWriteArrayList<>();
 
     public static Gson getGson() {
         return GSON;
     }
 
     public static String getSnapshot(String path) {
-        return snapshots.get(path);
+        String snapshot = snapshots.get(path);
+        if (snapshot == null && loadedPaths.contains(path)) snapshot = readAndSnapshot(path);
+        return snapshot;
     }
     
     public static Set<String> getLoadedPaths() {
-        return snapshots.keySet();
+        return java.util.Collections.unmodifiableSet(loadedPaths);
+    }
+
+    /**
+     * Отмечает ресурс загруженным без чтения текста (документ пришёл из {@link BakedCache}).
+     */
+    public static void markLoaded(String path) {
+        loadedPaths.add(path);
     }
 
     public static void registerLoader(IResourceLoader loader) {
@@ -41,10 +53,11 @@ public class AssetManager {
     }
 
     public static String readAndSnapshot(String path) {
-        try (InputStream is = AssetManager.class.getClassLoader().getResourceAsStream(path)) {
+        try (InputStream is = open(path)) {
             if (is == null) return null;
             String rawJson = new String(is.readAllBytes(), StandardCharsets.UTF_8);
             snapshots.put(path, rawJson);
+            loadedPaths.add(path);
             return rawJson;
         } catch (Exception e) {
             Logger.error("Failed to read and snapshot " + path + ": " + e.getMessage());
@@ -52,6 +65,29 @@ public class AssetManager {
         }
     }
 
+    /**
+     * Путь текстуры из определений ({@code src/main/resources/...} или {@code zenith:textures/...})
+     * в путь ресурса ({@code zenith/textures/...}).
+     */
+    public static String toResourcePath(String path) {
+        String resourcePath = path.replace("src/main/resources/", "");
+        if (resourcePath.contains(":")) resourcePath = resourcePath.replace(":", "/");
+        return resourcePath;
+    }
+
+    /**
+     * Открывает ресурс через индекс; ClassLoader - только для путей вне индекса.
+     */
+    public static InputStream open(String path) throws java.io.IOException {
+        ResourceIndex index = ResourceIndex.get();
+        if (index.exists(path)) return index.open(path);
+        return AssetManager.class.getClassLoader().getResourceAsStream(path);
+    }
+
+    public static boolean exists(String path) {
+        return ResourceIndex.get().exists(path) || AssetManager.class.getClassLoader().getResource(path) != null;
+    }
+
     /**
      * Сохраняет JSON на диск и инициирует перезагрузку ресурса.
      */
@@ -67,8 +103,11 @@ public class AssetManager {
             Logger.error("Failed to save resource " + path + ": " + e.getMessage());
         }
 
-        // 2. Обновляем снимок в памяти
+        // 2. Обновляем снимок в памяти и запись индекса (размер, хеш)
         snapshots.put(path, rawJson);
+        loadedPaths.add(path);
+        ResourceIndex.get().update(path, rawJson.getBytes(StandardCharsets.UTF_8),
+            file.isFile() ? file.lastModified() : System.currentTimeMillis());
 
         // 3. Инициируем Hot Reload
         boolean handled = false;
@@ -0,0 +1,328 @@
+package com.za.zenith.engine.resources;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.internal.LazilyParsedNumber;
+import com.za.zenith.utils.Logger;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Бинарный кеш разобранных JSON-документов для быстрого тёплого старта.
+ * <p>
+ * Кеш разбит на секции по каталогам загрузчиков ({@code zenith/blocks}, {@code zenith/items}, ...).
+ * Ключ секции - хеш имён и отпечатков ({@link ResourceIndex#stamp}) всех её файлов: размер и время
+ * изменения, в JAR - CRC32 записи. Проверка ключа не читает исходные файлы, и изменение любого файла
+ * пересобирает только его каталог. Файл кеша читается в память целиком и сразу закрывается (отображение
+ * в память не даёт подменить файл в {@link #save()} на Windows), секция декодируется при первом запросе.
+ * Регистрация по-прежнему выполняется загрузчиком: определения блоков и предметов несут поведение
+ * (подклассы, компоненты), и кешируется именно дорогая часть - разбор текста.
+ * <p>
+ * Путь задаётся {@code zenith.cache.file} (по умолчанию {@code cache/baked.bin}), {@code none} отключает кеш.
+ */
+public final class BakedCache {
+    private static final int MAGIC = 0x5A424B43; // "ZBKC"
+    private static final int VERSION = 1;
+    private static final long NO_KEY = -1L;
+
+    private static final byte T_NULL = 0;
+    private static final byte T_TRUE = 1;
+    private static final byte T_FALSE = 2;
+    private static final byte T_NUMBER = 3;
+    private static final byte T_STRING = 4;
+    private static final byte T_ARRAY = 5;
+    private static final byte T_OBJECT = 6;
+
+    private static volatile BakedCache instance;
+
+    /**
+     * Секция: либо участок прочитанного файла кеша, либо свежие документы для записи.
+     */
+    private static final class Section {
+        final long key;
+        final List<String> files;
+        final ByteBuffer payload; // null для новых секций
+        final JsonElement[] documents;
+
+        Section(long key, List<String> files, ByteBuffer payload, JsonElement[] documents) {
+            this.key = key;
+            this.files = files;
+            this.payload = payload;
+            this.documents = documents;
+        }
+    }
+
+    private final Path file;
+    private final ResourceIndex index;
+    private final Map<String, Section> sections = new ConcurrentHashMap<>();
+    private volatile boolean dirty;
+
+    public BakedCache(Path file, ResourceIndex index) {
+        this.file = file;
+        this.index = index;
+        if (file != null) read();
+    }
+
+    /**
+     * Кеш игры (открывается при первом обращении).
+     */
+    public static BakedCache get() {
+        BakedCache cache = instance;
+        if (cache == null) {
+            synchronized (BakedCache.class) {
+                cache = instance;
+                if (cache == null) {
+                    String path = System.getProperty("zenith.cache.file", "cache/baked.bin");
+                    cache = new BakedCache("none".equalsIgnoreCase(path) ? null : Paths.get(path), ResourceIndex.get());
+                    instance = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * Ключ каталога: имена и отпечатки файлов в порядке списка.
+     * @return {@code -1}, если хотя бы одного файла нет в индексе (такой каталог не кешируется).
+     */
+    public long key(String dir, List<String> files) {
+        long h = 0xcbf29ce484222325L;
+        for (String name : files) {
+            long stamp = index.stamp(dir + "/" + name);
+            if (stamp < 0) return NO_KEY;
+            h = (h ^ name.hashCode()) * 0x100000001b3L;
+            h = (h ^ stamp) * 0x100000001b3L;
+        }
+        return h == NO_KEY ? 0 : h;
+    }
+
+    /**
+     * Документы каталога из кеша или null, если секции нет или она устарела.
+     * Возвращается новый массив: вызывающий может его менять.
+     */
+    public JsonElement[] lookup(String dir, long key, List<String> files) {
+        if (key == NO_KEY) return null;
+        Section s = sections.get(dir);
+        if (s == null || s.key != key || !s.files.equals(files)) return null;
+        if (s.documents != null) return s.documents.clone();
+        try {
+            return decode(s.payload.duplicate(), files.size());
+        } catch (RuntimeException e) {
+            Logger.warn("BakedCache: section %s is corrupt, re-parsing (%s)", dir, e.getMessage());
+            sections.remove(dir);
+            dirty = true;
+            return null;
+        }
+    }
+
+    /**
+     * Запоминает свежеразобранные документы; файл перезаписывается в {@link #save()}.
+     * Каталоги с ошибками разбора не кешируются, чтобы ошибка повторилась в логе при следующем запуске.
+     */
+    public void store(String dir, long key, List<String> files, JsonElement[] documents) {
+        if (key == NO_KEY || file == null) return;
+        for (JsonElement doc : documents) {
+            if (doc == null) return;
+        }
+        sections.put(dir, new Section(key, List.copyOf(files), null, documents.clone()));
+        dirty = true;
+    }
+
+    public boolean isDirty() { return dirty; }
+
+    public int getSectionCount() { return sections.size(); }
+
+    /**
+     * Пишет кеш, если секции менялись. Запись идёт во временный файл с атомарной подменой.
+     */
+    public synchronized void save() {
+        if (!dirty || file == null) return;
+        long start = System.nanoTime();
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            if (file.getParent() != null) Files.createDirectories(file.getParent());
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                Map<String, Section> sorted = new TreeMap<>(sections);
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(sorted.size());
+                for (Map.Entry<String, Section> e : sorted.entrySet()) {
+                    Section s = e.getValue();
+                    writeString(out, e.getKey());
+                    out.writeLong(s.key);
+                    out.writeInt(s.files.size());
+                    for (String name : s.files) writeString(out, name);
+                    byte[] payload = s.documents != null ? encode(s.documents) : bytesOf(s.payload);
+                    out.writeInt(payload.length);
+                    out.write(payload);
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            dirty = false;
+            Logger.info("BakedCache: wrote %d sections to %s in %.1f ms", sections.size(), file, (System.nanoTime() - start) / 1e6);
+        } catch (IOException e) {
+            Logger.warn("BakedCache: cannot write %s: %s", file, e.getMessage());
+            try {
+                Files.deleteIfExists(tmp);
+            } catch (IOException ignored) {}
+        }
+    }
+
+    private void read() {
+        if (!Files.isRegularFile(file)) return;
+        try {
+            ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(file));
+            if (buf.remaining() < 12 || buf.getInt() != MAGIC || buf.getInt() != VERSION) {
+                Logger.info("BakedCache: %s has an old format, it will be rebuilt", file);
+                return;
+            }
+            int count = buf.getInt();
+            for (int i = 0; i < count; i++) {
+                String dir = readString(buf);
+                long key = buf.getLong();
+                int fileCount = buf.getInt();
+                List<String> files = new ArrayList<>(fileCount);
+                for (int f = 0; f < fileCount; f++) files.add(readString(buf));
+                int length = buf.getInt();
+                ByteBuffer payload = buf.slice(buf.position(), length);
+                buf.position(buf.position() + length);
+                sections.put(dir, new Section(key, List.copyOf(files), payload, null));
+            }
+        } catch (IOException | RuntimeException e) {
+            Logger.warn("BakedCache: cannot read %s, it will be rebuilt (%s)", file, e.getMessage());
+            sections.clear();
+        }
+    }
+
+    private static byte[] bytesOf(ByteBuffer payload) {
+        ByteBuffer b = payload.duplicate();
+        byte[] bytes = new byte[b.remaining()];
+        b.get(bytes);
+        return bytes;
+    }
+
+    // --- Кодирование документов: таблица строк + дерево с тегами ---
+
+    static byte[] encode(JsonElement[] documents) throws IOException {
+        Map<String, Integer> strings = new HashMap<>();
+        List<String> table = new ArrayList<>();
+        ByteArrayOutputStream tree = new ByteArrayOutputStream();
+        DataOutputStream treeOut = new DataOutputStream(tree);
+        for (JsonElement doc : documents) writeElement(treeOut, doc, strings, table);
+        treeOut.flush();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(tree.size() + table.size() * 16);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(table.size());
+        for (String s : table) writeString(out, s);
+        tree.writeTo(out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    static JsonElement[] decode(ByteBuffer buf, int count) {
+        String[] table = new String[buf.getInt()];
+        for (int i = 0; i < table.length; i++) table[i] = readString(buf);
+        JsonElement[] documents = new JsonElement[count];
+        for (int i = 0; i < count; i++) documents[i] = readElement(buf, table);
+        return documents;
+    }
+
+    private static void writeElement(DataOutputStream out, JsonElement el, Map<String, Integer> strings, List<String> table) throws IOException {
+        if (el == null || el.isJsonNull()) {
+            out.writeByte(T_NULL);
+        } else if (el.isJsonObject()) {
+            JsonObject obj = el.getAsJsonObject();
+            out.writeByte(T_OBJECT);
+            out.writeInt(obj.size());
+            for (Map.Entry<String, JsonElement> e : obj.entrySet()) {
+                out.writeInt(intern(e.getKey(), strings, table));
+                writeElement(out, e.getValue(), strings, table);
+            }
+        } else if (el.isJsonArray()) {
+            JsonArray arr = el.getAsJsonArray();
+            out.writeByte(T_ARRAY);
+            out.writeInt(arr.size());
+            for (JsonElement child : arr) writeElement(out, child, strings, table);
+        } else {
+            JsonPrimitive p = el.getAsJsonPrimitive();
+            if (p.isBoolean()) {
+                out.writeByte(p.getAsBoolean() ? T_TRUE : T_FALSE);
+            } else if (p.isNumber()) {
+                // Исходный текст числа: после декодирования Gson отдаёт те же значения, что и при разборе
+                out.writeByte(T_NUMBER);
+                out.writeInt(intern(p.getAsNumber().toString(), strings, table));
+            } else {
+                out.writeByte(T_STRING);
+                out.writeInt(intern(p.getAsString(), strings, table));
+            }
+        }
+    }
+
+    private static JsonElement readElement(ByteBuffer buf, String[] table) {
+        byte tag = buf.get();
+        switch (tag) {
+            case T_NULL: return JsonNull.INSTANCE;
+            case T_TRUE: return new JsonPrimitive(true);
+            case T_FALSE: return new JsonPrimitive(false);
+            case T_NUMBER: return new JsonPrimitive(new LazilyParsedNumber(table[buf.getInt()]));
+            case T_STRING: return new JsonPrimitive(table[buf.getInt()]);
+            case T_ARRAY: {
+                int n = buf.getInt();
+                JsonArray arr = new JsonArray(n);
+                for (int i = 0; i < n; i++) arr.add(readElement(buf, table));
+                return arr;
+            }
+            case T_OBJECT: {
+                int n = buf.getInt();
+                JsonObject obj = new JsonObject();
+                for (int i = 0; i < n; i++) {
+                    String key = table[buf.getInt()];
+                    obj.add(key, readElement(buf, table));
+                }
+                return obj;
+            }
+            default: throw new IllegalStateException("Unknown tag " + tag + " at " + (buf.position() - 1));
+        }
+    }
+
+    private static int intern(String s, Map<String, Integer> strings, List<String> table) {
+        Integer idx = strings.get(s);
+        if (idx == null) {
+            idx = table.size();
+            strings.put(s, idx);
+            table.add(s);
+        }
+        return idx;
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buf) {
+        byte[] bytes = new byte[buf.getInt()];
+        buf.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
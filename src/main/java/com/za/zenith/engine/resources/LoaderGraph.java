@@ -0,0 +1,142 @@
+package com.za.zenith.engine.resources;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Граф загрузчиков данных с явными зависимостями.
+ * <p>
+ * Узел запускается, как только завершены все его зависимости; независимые узлы идут параллельно.
+ * Детерминизм обеспечивается тем, что каждый реестр пишет ровно один узел, а все, кто его читает,
+ * объявляют этот узел зависимостью. Зависимости должны быть объявлены раньше узла, поэтому
+ * циклы невозможны. С одним потоком узлы выполняются по очереди в порядке объявления
+ * (он обязан быть топологическим), что удобно для отладки.
+ */
+public class LoaderGraph {
+    /**
+     * Время выполнения узла: старт относительно начала графа и длительность, в наносекундах.
+     */
+    public record Timing(String name, long startNanos, long wallNanos, String thread) {}
+
+    private static final class Node {
+        final String name;
+        final Runnable task;
+        final String[] dependsOn;
+        final List<Node> dependents = new ArrayList<>();
+        int pending;
+
+        Node(String name, Runnable task, String[] dependsOn) {
+            this.name = name;
+            this.task = task;
+            this.dependsOn = dependsOn;
+        }
+    }
+
+    private final Map<String, Node> nodes = new LinkedHashMap<>();
+
+    public LoaderGraph add(String name, Runnable task, String... dependsOn) {
+        if (nodes.containsKey(name)) throw new IllegalArgumentException("Duplicate loader node: " + name);
+        for (String dep : dependsOn) {
+            if (!nodes.containsKey(dep)) {
+                throw new IllegalArgumentException("Loader node " + name + " depends on undeclared node " + dep);
+            }
+        }
+        nodes.put(name, new Node(name, task, dependsOn));
+        return this;
+    }
+
+    public int size() { return nodes.size(); }
+
+    /**
+     * Выполняет граф и возвращает время каждого узла в порядке объявления.
+     * Первое исключение узла прерывает планирование и пробрасывается после завершения запущенных.
+     */
+    public List<Timing> run(int threads) {
+        for (Node node : nodes.values()) {
+            node.dependents.clear();
+            node.pending = node.dependsOn.length;
+        }
+        for (Node node : nodes.values()) {
+            for (String dep : node.dependsOn) nodes.get(dep).dependents.add(node);
+        }
+
+        Map<String, Timing> timings = new LinkedHashMap<>();
+        for (String name : nodes.keySet()) timings.put(name, null);
+        long origin = System.nanoTime();
+
+        if (threads <= 1) {
+            for (Node node : nodes.values()) timings.put(node.name, execute(node, origin));
+            return new ArrayList<>(timings.values());
+        }
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "DataLoader-" + threadIndex.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        CompletionService<Timing> completion = new ExecutorCompletionService<>(pool);
+        RuntimeException failure = null;
+
+        try {
+            int running = 0;
+            for (Node node : nodes.values()) {
+                if (node.pending == 0) {
+                    completion.submit(() -> execute(node, origin));
+                    running++;
+                }
+            }
+
+            while (running > 0) {
+                Timing timing;
+                try {
+                    timing = completion.take().get();
+                } catch (ExecutionException e) {
+                    running--;
+                    if (failure == null) {
+                        Throwable cause = e.getCause();
+                        failure = cause instanceof RuntimeException re ? re : new RuntimeException(cause);
+                    }
+                    continue;
+                }
+                running--;
+                timings.put(timing.name(), timing);
+                if (failure != null) continue;
+
+                for (Node next : nodes.get(timing.name()).dependents) {
+                    if (--next.pending == 0) {
+                        completion.submit(() -> execute(next, origin));
+                        running++;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading data", e);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        if (failure != null) throw failure;
+        return new ArrayList<>(timings.values());
+    }
+
+    private static Timing execute(Node node, long origin) {
+        long start = System.nanoTime();
+        try {
+            node.task.run();
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Loader " + node.name + " failed: " + e.getMessage(), e);
+        }
+        long end = System.nanoTime();
+        return new Timing(node.name, start - origin, end - start, Thread.currentThread().getName());
+    }
+}
@@ -0,0 +1,394 @@
+package com.za.zenith.engine.resources;
+
+import com.za.zenith.utils.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Индекс ресурсов: строится один раз при старте и отвечает на листинги и проверки наличия
+ * без повторных обходов диска или открытия файловой системы JAR.
+ * <p>
+ * Индекс - неизменяемое префиксное дерево каталогов (у каждого каталога отсортированный список
+ * файлов, у каждого файла размер, время изменения и CRC32 содержимого). Изменения ({@link #update})
+ * копируют только узлы на пути к файлу и атомарно подменяют корень, так что читатели в других
+ * потоках всегда видят целостный снимок. CRC32 в JAR берётся из записи, для каталога считается
+ * при первом запросе.
+ * <p>
+ * Корень находится по {@code namespaces.index}, лежащему в корне ресурсов.
+ */
+public final class ResourceIndex {
+    private static final String ROOT_MARKER = "namespaces.index";
+    private static final long UNKNOWN_HASH = -1L;
+
+    private static volatile ResourceIndex instance;
+
+    /**
+     * Файл в индексе. Метаданные неизменяемы, хеш для каталога вычисляется лениво один раз.
+     */
+    public static final class Entry {
+        private final String path;
+        private final long size;
+        private final long modified;
+        private volatile long hash;
+
+        Entry(String path, long size, long modified, long hash) {
+            this.path = path;
+            this.size = size;
+            this.modified = modified;
+            this.hash = hash;
+        }
+
+        public String getPath() { return path; }
+        public long getSize() { return size; }
+        public long getModified() { return modified; }
+    }
+
+    private static final class Dir {
+        static final Dir EMPTY = new Dir(Map.of(), Map.of());
+
+        final Map<String, Dir> dirs;
+        final Map<String, Entry> files;
+        final List<String> fileNames; // отсортированы, без скрытых (".index" и т.п.)
+
+        Dir(Map<String, Dir> dirs, Map<String, Entry> files) {
+            this.dirs = dirs;
+            this.files = files;
+            List<String> names = new ArrayList<>(files.size());
+            for (String name : files.keySet()) {
+                if (!name.startsWith(".")) names.add(name);
+            }
+            Collections.sort(names);
+            this.fileNames = Collections.unmodifiableList(names);
+        }
+
+        Dir withDir(String name, Dir child) {
+            Map<String, Dir> copy = new HashMap<>(dirs);
+            if (child == null) copy.remove(name);
+            else copy.put(name, child);
+            return new Dir(Collections.unmodifiableMap(copy), files);
+        }
+
+        Dir withFile(String name, Entry entry) {
+            Map<String, Entry> copy = new HashMap<>(files);
+            if (entry == null) copy.remove(name);
+            else copy.put(name, entry);
+            return new Dir(dirs, Collections.unmodifiableMap(copy));
+        }
+    }
+
+    /**
+     * Изменяемый узел, используется только при построении.
+     */
+    private static final class DirBuilder {
+        final Map<String, DirBuilder> dirs = new TreeMap<>();
+        final Map<String, Entry> files = new TreeMap<>();
+
+        DirBuilder dir(String name) {
+            return dirs.computeIfAbsent(name, k -> new DirBuilder());
+        }
+
+        Dir freeze() {
+            Map<String, Dir> frozen = new HashMap<>();
+            for (Map.Entry<String, DirBuilder> e : dirs.entrySet()) frozen.put(e.getKey(), e.getValue().freeze());
+            return new Dir(Collections.unmodifiableMap(frozen), Collections.unmodifiableMap(new HashMap<>(files)));
+        }
+    }
+
+    private final Path rootDir;   // для индекса каталога
+    private final JarFile jarFile; // для индекса JAR
+    private volatile Dir root;
+    private volatile int fileCount;
+
+    private ResourceIndex(Path rootDir, JarFile jarFile, Dir root, int fileCount) {
+        this.rootDir = rootDir;
+        this.jarFile = jarFile;
+        this.root = root;
+        this.fileCount = fileCount;
+    }
+
+    /**
+     * Индекс ресурсов игры (строится при первом обращении).
+     */
+    public static ResourceIndex get() {
+        ResourceIndex index = instance;
+        if (index == null) {
+            synchronized (ResourceIndex.class) {
+                index = instance;
+                if (index == null) {
+                    index = build();
+                    instance = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    private static ResourceIndex build() {
+        long start = System.nanoTime();
+        ResourceIndex index;
+        try {
+            URL marker = ResourceIndex.class.getClassLoader().getResource(ROOT_MARKER);
+            if (marker == null) {
+                Logger.warn("ResourceIndex: %s not found on the classpath, index is empty", ROOT_MARKER);
+                return new ResourceIndex(null, null, Dir.EMPTY, 0);
+            }
+            String spec = marker.toString();
+            if (spec.startsWith("jar:")) {
+                String jarPath = spec.substring("jar:".length(), spec.indexOf("!/"));
+                index = ofJar(Paths.get(URI.create(jarPath)));
+            } else {
+                index = ofDirectory(Paths.get(marker.toURI()).getParent());
+            }
+        } catch (Exception e) {
+            Logger.error("ResourceIndex: failed to build, index is empty", e);
+            return new ResourceIndex(null, null, Dir.EMPTY, 0);
+        }
+        Logger.info("ResourceIndex: %d files indexed in %.1f ms", index.fileCount, (System.nanoTime() - start) / 1e6);
+        return index;
+    }
+
+    /**
+     * Индекс каталога ресурсов (IDE / Gradle build/resources).
+     */
+    public static ResourceIndex ofDirectory(Path dir) throws IOException {
+        DirBuilder rootBuilder = new DirBuilder();
+        int[] count = {0};
+        try (Stream<Path> walk = Files.walk(dir)) {
+            walk.forEach(p -> {
+                if (p.equals(dir)) return;
+                try {
+                    BasicFileAttributes attrs = Files.readAttributes(p, BasicFileAttributes.class);
+                    String rel = toResourcePath(dir.relativize(p));
+                    DirBuilder parent = builderFor(rootBuilder, parentOf(rel));
+                    if (attrs.isDirectory()) {
+                        parent.dir(nameOf(rel));
+                    } else if (attrs.isRegularFile() && !isCode(rel)) {
+                        parent.files.put(nameOf(rel), new Entry(rel, attrs.size(), attrs.lastModifiedTime().toMillis(), UNKNOWN_HASH));
+                        count[0]++;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        return new ResourceIndex(dir, null, rootBuilder.freeze(), count[0]);
+    }
+
+    /**
+     * Индекс ресурсов внутри JAR; файл остаётся открытым для {@link #open}.
+     */
+    public static ResourceIndex ofJar(Path jar) throws IOException {
+        JarFile file = new JarFile(jar.toFile());
+        DirBuilder rootBuilder = new DirBuilder();
+        int count = 0;
+        Enumeration<JarEntry> entries = file.entries();
+        while (entries.hasMoreElements()) {
+            JarEntry e = entries.nextElement();
+            String name = e.getName();
+            if (e.isDirectory()) {
+                String rel = name.endsWith("/") ? name.substring(0, name.length() - 1) : name;
+                if (!rel.isEmpty()) builderFor(rootBuilder, rel);
+            } else if (!isCode(name)) {
+                builderFor(rootBuilder, parentOf(name)).files.put(nameOf(name), new Entry(name, e.getSize(), e.getTime(), e.getCrc()));
+                count++;
+            }
+        }
+        return new ResourceIndex(null, file, rootBuilder.freeze(), count);
+    }
+
+    /**
+     * Классы и манифест лежат в том же корне classpath, но ресурсами не являются.
+     */
+    private static boolean isCode(String path) {
+        return path.endsWith(".class") || path.startsWith("META-INF/");
+    }
+
+    private static DirBuilder builderFor(DirBuilder rootBuilder, String dirPath) {
+        DirBuilder node = rootBuilder;
+        if (dirPath.isEmpty()) return node;
+        for (String part : dirPath.split("/")) {
+            if (!part.isEmpty()) node = node.dir(part);
+        }
+        return node;
+    }
+
+    private Dir findDir(String dirPath) {
+        Dir node = root;
+        if (dirPath.isEmpty()) return node;
+        int from = 0;
+        while (from < dirPath.length()) {
+            int slash = dirPath.indexOf('/', from);
+            int end = slash == -1 ? dirPath.length() : slash;
+            if (end > from) {
+                node = node.dirs.get(dirPath.substring(from, end));
+                if (node == null) return null;
+            }
+            from = end + 1;
+        }
+        return node;
+    }
+
+    /**
+     * Отсортированные имена файлов каталога (без подкаталогов и скрытых файлов);
+     * пустой список, если каталога нет.
+     */
+    public List<String> list(String dirPath) {
+        Dir dir = findDir(normalize(dirPath));
+        return dir == null ? List.of() : dir.fileNames;
+    }
+
+    /**
+     * Имена подкаталогов, отсортированные.
+     */
+    public List<String> listDirectories(String dirPath) {
+        Dir dir = findDir(normalize(dirPath));
+        if (dir == null) return List.of();
+        List<String> names = new ArrayList<>(dir.dirs.keySet());
+        Collections.sort(names);
+        return names;
+    }
+
+    public boolean hasDirectory(String dirPath) {
+        return findDir(normalize(dirPath)) != null;
+    }
+
+    public Entry entry(String path) {
+        String p = normalize(path);
+        Dir dir = findDir(parentOf(p));
+        return dir == null ? null : dir.files.get(nameOf(p));
+    }
+
+    public boolean exists(String path) {
+        return entry(path) != null;
+    }
+
+    /**
+     * CRC32 содержимого или -1, если файла нет.
+     */
+    public long contentHash(String path) {
+        Entry e = entry(path);
+        if (e == null) return UNKNOWN_HASH;
+        long hash = e.hash;
+        if (hash == UNKNOWN_HASH) {
+            try (InputStream in = open(e.path)) {
+                hash = crc32(in.readAllBytes());
+            } catch (IOException ex) {
+                Logger.warn("ResourceIndex: cannot hash %s: %s", e.path, ex.getMessage());
+                return UNKNOWN_HASH;
+            }
+            e.hash = hash;
+        }
+        return hash;
+    }
+
+    /**
+     * Дешёвый отпечаток версии файла для ключей кешей или -1, если файла нет.
+     * В JAR это CRC32 из записи, в каталоге - размер и время изменения: содержимое не читается.
+     * Правка, не изменившая ни размер, ни время изменения, отпечатком не различается.
+     */
+    public long stamp(String path) {
+        Entry e = entry(path);
+        if (e == null) return UNKNOWN_HASH;
+        if (jarFile != null) return e.hash != UNKNOWN_HASH ? e.hash : contentHash(path);
+        long h = (e.size * 0x9E3779B97F4A7C15L) ^ e.modified;
+        return h & Long.MAX_VALUE;
+    }
+
+    /**
+     * Открывает ресурс напрямую из корня индекса, минуя ClassLoader.
+     * @return поток или null, если файла нет в индексе.
+     */
+    public InputStream open(String path) throws IOException {
+        String p = normalize(path);
+        if (!exists(p)) return null;
+        if (jarFile != null) {
+            JarEntry e = jarFile.getJarEntry(p);
+            return e == null ? null : jarFile.getInputStream(e);
+        }
+        return rootDir != null ? Files.newInputStream(rootDir.resolve(p)) : null;
+    }
+
+    public int getFileCount() { return fileCount; }
+
+    /**
+     * Обновляет запись по новому содержимому. Это единственная точка инвалидации: горячая перезагрузка
+     * передаёт то, что записала, и время изменения записанного файла (он может лежать вне корня индекса,
+     * например в src/main/resources), поэтому с диска ничего не перечитывается.
+     */
+    public synchronized void update(String path, byte[] content, long modified) {
+        String p = normalize(path);
+        replace(p, new Entry(p, content.length, modified, crc32(content)));
+    }
+
+    /**
+     * Копирует узлы от корня до каталога файла и подменяет корень.
+     */
+    private void replace(String path, Entry entry) {
+        String[] parts = parentOf(path).isEmpty() ? new String[0] : parentOf(path).split("/");
+        Dir[] chain = new Dir[parts.length + 1];
+        chain[0] = root;
+        for (int i = 0; i < parts.length; i++) {
+            Dir next = chain[i].dirs.get(parts[i]);
+            if (next == null) {
+                if (entry == null) return; // удалять нечего
+                next = Dir.EMPTY;
+            }
+            chain[i + 1] = next;
+        }
+
+        Dir leaf = chain[parts.length];
+        boolean existed = leaf.files.containsKey(nameOf(path));
+        Dir updated = leaf.withFile(nameOf(path), entry);
+        for (int i = parts.length - 1; i >= 0; i--) {
+            updated = chain[i].withDir(parts[i], updated);
+        }
+        root = updated;
+        if (existed && entry == null) fileCount--;
+        else if (!existed && entry != null) fileCount++;
+    }
+
+    private static long crc32(byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        return crc.getValue();
+    }
+
+    private static String toResourcePath(Path relative) {
+        return relative.toString().replace('\\', '/');
+    }
+
+    private static String normalize(String path) {
+        String p = path.replace('\\', '/');
+        while (p.startsWith("/")) p = p.substring(1);
+        while (p.endsWith("/")) p = p.substring(0, p.length() - 1);
+        return p;
+    }
+
+    private static String parentOf(String path) {
+        int slash = path.lastIndexOf('/');
+        return slash == -1 ? "" : path.substring(0, slash);
+    }
+
+    private static String nameOf(String path) {
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+}
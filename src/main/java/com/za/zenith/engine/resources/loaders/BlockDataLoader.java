@@ -50,10 +50,8 @@ public class BlockDataLoader extends AbstractJsonLoader<BlockDefinition> {
                 drField.setAccessible(true);
                 ((java.util.List<?>) drField.get(def)).clear();
                 
-                java.lang.reflect.Field tagsField = BlockDefinition.class.getDeclaredField("tags");
-                tagsField.setAccessible(true);
-                ((java.util.List<?>) tagsField.get(def)).clear();
-                
+                def.clearTags();
+
                 java.lang.reflect.Field compField = BlockDefinition.class.getDeclaredField("components");
                 compField.setAccessible(true);
                 ((java.util.List<?>) compField.get(def)).clear();
@@ -84,13 +82,13 @@ public class BlockDataLoader extends AbstractJsonLoader<BlockDefinition> {
             if (obj.has("particle_material")) {
                 String mat = obj.get("particle_material").getAsString().toLowerCase();
                 int matId = switch(mat) {
-                    case "wood" -> com.za.zenith.world.particles.ShardParticle.MAT_WOOD;
-                    case "leaves", "grass", "plant" -> com.za.zenith.world.particles.ShardParticle.MAT_LEAVES;
-                    default -> com.za.zenith.world.particles.ShardParticle.MAT_GENERIC;
+                    case "wood" -> BlockDefinition.PARTICLE_MAT_WOOD;
+                    case "leaves", "grass", "plant" -> BlockDefinition.PARTICLE_MAT_LEAVES;
+                    default -> BlockDefinition.PARTICLE_MAT_GENERIC;
                 };
                 def.setParticleMaterial(matId);
             } else if (def.isTinted()) {
-                def.setParticleMaterial(com.za.zenith.world.particles.ShardParticle.MAT_LEAVES);
+                def.setParticleMaterial(BlockDefinition.PARTICLE_MAT_LEAVES);
             }
 
             if (obj.has("breaking_pattern")) {
@@ -199,14 +197,14 @@ public class BlockDataLoader extends AbstractJsonLoader<BlockDefinition> {
             if (obj.has("particle_material")) {
                 String mat = obj.get("particle_material").getAsString().toLowerCase();
                 int matId = switch(mat) {
-                    case "wood" -> com.za.zenith.world.particles.ShardParticle.MAT_WOOD;
-                    case "leaves", "grass", "plant" -> com.za.zenith.world.particles.ShardParticle.MAT_LEAVES;
-                    default -> com.za.zenith.world.particles.ShardParticle.MAT_GENERIC;
+                    case "wood" -> BlockDefinition.PARTICLE_MAT_WOOD;
+                    case "leaves", "grass", "plant" -> BlockDefinition.PARTICLE_MAT_LEAVES;
+                    default -> BlockDefinition.PARTICLE_MAT_GENERIC;
                 };
                 def.setParticleMaterial(matId);
             } else if (def.isTinted()) {
                 // Если блок тонируемый, он по умолчанию считается растительностью
-                def.setParticleMaterial(com.za.zenith.world.particles.ShardParticle.MAT_LEAVES);
+                def.setParticleMaterial(BlockDefinition.PARTICLE_MAT_LEAVES);
             }
 
             if (obj.has("components") && obj.get("components").isJsonArray()) {
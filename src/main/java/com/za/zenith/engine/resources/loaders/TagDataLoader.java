@@ -0,0 +1,33 @@
+package com.za.zenith.engine.resources.loaders;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.za.zenith.engine.resources.AbstractJsonLoader;
+import com.za.zenith.utils.Identifier;
+import com.za.zenith.world.tags.TagRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads tag includes: {@code {"identifier": "zenith:melee", "includes": ["zenith:bladed"]}} makes every
+ * block or item tagged {@code zenith:bladed} match {@code zenith:melee} as well.
+ */
+public class TagDataLoader extends AbstractJsonLoader<Identifier> {
+    public TagDataLoader() {
+        super("registry/tags");
+    }
+
+    @Override
+    protected void parseAndRegister(JsonElement root, String sourcePath) {
+        JsonObject obj = root.getAsJsonObject();
+        Identifier id = Identifier.of(obj.get("identifier").getAsString());
+        List<Identifier> includes = new ArrayList<>();
+        if (obj.has("includes")) {
+            for (JsonElement el : obj.getAsJsonArray("includes")) {
+                includes.add(Identifier.of(el.getAsString()));
+            }
+        }
+        TagRegistry.setIncludes(id, includes);
+    }
+}
@@ -36,6 +36,16 @@ public class Inventory implements IInventory {
     private int selectedSlot; 
     private final List<SlotGroup> groups;
     private ItemStack lastAccessory;
+    private final List<ChangeListener> listeners = new ArrayList<>();
+    private final ItemStack.CountListener stackListener = this::onStackCountChanged;
+
+    /**
+     * Notified after a slot's stack is replaced or its count changes, including in-place edits
+     * on the stack itself ({@code split}, {@code setCount}) while it sits in one of the slots.
+     */
+    public interface ChangeListener {
+        void onSlotChanged(int slot);
+    }
     
     public Inventory() {
         this.slots = new ItemStack[TOTAL_SIZE];
@@ -54,6 +64,7 @@ public class Inventory implements IInventory {
         slots[6] = new ItemStack(ItemRegistry.getItem(Blocks.COBBLESTONE.getId()));
         slots[7] = new ItemStack(ItemRegistry.getItem(Blocks.RUSTY_METAL.getId()));
         slots[8] = new ItemStack(ItemRegistry.getItem(Blocks.ASPHALT.getId()));
+        for (int i = 0; i < TOTAL_SIZE; i++) bind(i);
     }
 
     private void initGroups() {
@@ -94,6 +105,36 @@ public class Inventory implements IInventory {
         groups.add(pouch);
     }
 
+    public void addChangeListener(ChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    private void fireChanged(int slot) {
+        bind(slot);
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onSlotChanged(slot);
+        }
+    }
+
+    /** Every slot write ends in {@link #fireChanged(int)}, so the stack in a slot always reports to us. */
+    private void bind(int slot) {
+        if (slots[slot] != null) slots[slot].setCountListener(stackListener);
+    }
+
+    private void onStackCountChanged(ItemStack stack) {
+        for (int i = 0; i < TOTAL_SIZE; i++) {
+            if (slots[i] == stack) {
+                fireChanged(i);
+                return;
+            }
+        }
+        stack.setCountListener(null); // moved out of this inventory since
+    }
+
+    private void fireChanged(Slot slot) {
+        if (slot.getInventory() == this) fireChanged(slot.getIndex());
+    }
+
     public boolean isFull() {
         for (SlotGroup group : groups) {
             if (!group.isActive() || group.getId().equals("equipment")) continue;
@@ -144,7 +185,16 @@ public class Inventory implements IInventory {
 
     @Override
     public void setStack(int slot, ItemStack stack) {
-        if (slot >= 0 && slot < TOTAL_SIZE) slots[slot] = stack;
+        if (slot >= 0 && slot < TOTAL_SIZE) {
+            slots[slot] = stack;
+            fireChanged(slot);
+        }
+    }
+
+    @Override
+    public void consume(int slot, int amount) {
+        IInventory.super.consume(slot, amount);
+        fireChanged(slot);
     }
 
     @Override
@@ -229,6 +279,7 @@ public class Inventory implements IInventory {
                     
                     existing.setCount(existing.getCount() + toAdd);
                     stack.setCount(stack.getCount() - toAdd);
+                    fireChanged(slot);
                     
                     if (stack.getCount() <= 0) break;
                 }
@@ -286,6 +337,8 @@ public class Inventory implements IInventory {
             ItemStack temp = slots[slotA];
             slots[slotA] = slots[slotB];
             slots[slotB] = temp;
+            fireChanged(slotA);
+            fireChanged(slotB);
         }
     }
 
@@ -295,6 +348,7 @@ public class Inventory implements IInventory {
         ItemStack temp = slot.getStack();
         slot.setStack(slots[hotbarIndex]);
         slots[hotbarIndex] = temp;
+        fireChanged(hotbarIndex);
     }
 
     public ItemStack getEquippedItem(String slotType) {
@@ -311,6 +365,7 @@ public class Inventory implements IInventory {
     public void copyFromDevPanel(Item item, int hotbarIndex) {
         if (hotbarIndex < 0 || hotbarIndex >= HOTBAR_SIZE) return;
         slots[hotbarIndex] = new ItemStack(item, item.getMaxStackSize());
+        fireChanged(hotbarIndex);
     }
 
     public void collectAllTo(Slot targetSlot) {
@@ -334,9 +389,12 @@ public class Inventory implements IInventory {
 
                     targetStack.setCount(targetStack.getCount() + toTake);
                     otherStack.setCount(otherStack.getCount() - toTake);
+                    fireChanged(targetSlot);
 
                     if (otherStack.getCount() <= 0) {
                         slot.setStack(null);
+                    } else {
+                        fireChanged(slot);
                     }
 
                     if (targetStack.isFull()) return;
@@ -404,11 +462,13 @@ public class Inventory implements IInventory {
                     
                     existing.setCount(existing.getCount() + toMove);
                     stack.setCount(stack.getCount() - toMove);
+                    fireChanged(slot);
                     
                     if (stack.getCount() <= 0) {
                         originSlot.setStack(null);
                         return;
                     }
+                    fireChanged(originSlot);
                 }
             }
         }
@@ -446,6 +506,7 @@ public class Inventory implements IInventory {
                     ItemStack stackJ = slotJ.getStack();
                     if (stackJ != null && stackI.isStackableWith(stackJ)) {
                         stackI.setCount(stackI.getCount() + stackJ.getCount());
+                        fireChanged(slotI);
                         slotJ.setStack(null);
                     }
                 }
@@ -0,0 +1,98 @@
+package com.za.zenith.entities;
+
+import com.za.zenith.utils.Identifier;
+import com.za.zenith.world.items.ItemStack;
+import com.za.zenith.world.items.stats.StatContainer;
+import com.za.zenith.world.items.stats.StatDefinition;
+import com.za.zenith.world.items.stats.StatModifier;
+import com.za.zenith.world.items.stats.StatRegistry;
+
+/**
+ * Keeps inventory-derived stat contributions up to date incrementally: total carried weight and one
+ * modifier source per equipment slot. Driven by {@link Inventory.ChangeListener} events (which include
+ * in-place count edits on the stacks); only the slot that changed is recomputed, and the weight is
+ * adjusted by that slot's difference, so nothing ever walks the inventory.
+ */
+public class InventoryStatTracker implements Inventory.ChangeListener {
+    private static final Identifier[] EQUIPMENT_SOURCES = new Identifier[Inventory.EQUIPMENT_SIZE];
+    static {
+        for (int i = 0; i < EQUIPMENT_SOURCES.length; i++) {
+            EQUIPMENT_SOURCES[i] = Identifier.of("zenith", "equipment/" + i);
+        }
+    }
+
+    private final Inventory inventory;
+    private final StatContainer stats;
+    private final ItemStack[] seenStacks = new ItemStack[Inventory.TOTAL_SIZE];
+    private final float[] slotWeights = new float[Inventory.TOTAL_SIZE];
+    private double totalWeight; // double so that long runs of +/- deltas do not drift
+    private int statGeneration = StatRegistry.getGeneration();
+
+    private InventoryStatTracker(Inventory inventory, StatContainer stats) {
+        this.inventory = inventory;
+        this.stats = stats;
+    }
+
+    /**
+     * Creates a tracker for the inventory's current contents and subscribes it to further changes.
+     */
+    public static InventoryStatTracker attach(Inventory inventory, StatContainer stats) {
+        InventoryStatTracker tracker = new InventoryStatTracker(inventory, stats);
+        for (int i = 0; i < Inventory.TOTAL_SIZE; i++) tracker.onSlotChanged(i);
+        inventory.addChangeListener(tracker);
+        return tracker;
+    }
+
+    @Override
+    public void onSlotChanged(int slot) {
+        if (slot < 0 || slot >= Inventory.TOTAL_SIZE) return;
+        ItemStack stack = inventory.getStack(slot);
+        boolean stackReplaced = stack != seenStacks[slot];
+        seenStacks[slot] = stack;
+
+        float weight = stack != null ? stack.getItem().getWeight() * stack.getCount() : 0.0f;
+        totalWeight += weight - slotWeights[slot];
+        slotWeights[slot] = weight;
+
+        if (stackReplaced && isEquipmentSlot(slot)) {
+            applyEquipment(slot, stack);
+        }
+    }
+
+    /**
+     * Re-applies equipment modifiers after stat definitions were (re)loaded, so they cover the new set.
+     * One integer comparison otherwise; call once per tick.
+     */
+    public void sync() {
+        int generation = StatRegistry.getGeneration();
+        if (generation == statGeneration) return;
+        statGeneration = generation;
+        for (int slot = Inventory.START_EQUIPMENT; slot < Inventory.START_EQUIPMENT + Inventory.EQUIPMENT_SIZE; slot++) {
+            applyEquipment(slot, inventory.getStack(slot));
+        }
+    }
+
+    /** Total weight of everything in the player's own slots. */
+    public float getTotalWeight() {
+        return (float) totalWeight;
+    }
+
+    private static boolean isEquipmentSlot(int slot) {
+        return slot >= Inventory.START_EQUIPMENT && slot < Inventory.START_EQUIPMENT + Inventory.EQUIPMENT_SIZE;
+    }
+
+    private void applyEquipment(int slot, ItemStack stack) {
+        Identifier source = EQUIPMENT_SOURCES[slot - Inventory.START_EQUIPMENT];
+        stats.removeModifiersFrom(source);
+        if (stack == null) return;
+
+        // Stats from EQUIPMENT slots apply fully
+        for (StatDefinition def : StatRegistry.getAll()) {
+            int stat = StatRegistry.indexOf(def.identifier());
+            float value = stack.getStat(stat);
+            if (value != 0) {
+                stats.addModifier(stat, new StatModifier(source, StatModifier.Operation.ADD, value));
+            }
+        }
+    }
+}
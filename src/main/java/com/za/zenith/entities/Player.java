@@ -13,6 +13,7 @@ import org.joml.Vector3f;
  */
 public class Player extends LivingEntity {
     private final Inventory inventory;
+    private final InventoryStatTracker statTracker;
     private com.za.zenith.engine.core.PlayerMode mode = com.za.zenith.engine.core.PlayerMode.SURVIVAL;
     private final com.za.zenith.entities.parkour.ParkourHandler parkourHandler = new com.za.zenith.entities.parkour.ParkourHandler();
     private final AnimationRegistry animationRegistry = new AnimationRegistry();
@@ -22,6 +23,8 @@ public class Player extends LivingEntity {
     private float saturation = 5.0f;
     private float stamina = 1.0f;
     private float noiseLevel = 0.0f;
+    private float pendingActionNoise = 0.0f; // emitted into the world's noise grid on the next update
+    private final com.za.zenith.world.physics.Raycaster viewmodelRay = new com.za.zenith.world.physics.Raycaster();
     private float continuousNoise = 0.0f;
     private boolean sneaking = false;
     private boolean moving = false;
@@ -107,6 +110,7 @@ public class Player extends LivingEntity {
               com.za.zenith.world.physics.PhysicsSettings.getInstance().standingHeight, 
               20.0f);
         this.inventory = new Inventory();
+        this.statTracker = InventoryStatTracker.attach(inventory, stats);
         
         com.za.zenith.world.physics.PhysicsSettings settings = com.za.zenith.world.physics.PhysicsSettings.getInstance();
         this.currentEyeHeight = settings.standingEyeHeight;
@@ -135,7 +139,7 @@ public class Player extends LivingEntity {
         move(world, velocity.x * deltaTime, velocity.y * deltaTime, velocity.z * deltaTime);
 
         // Update RPG stats from equipment
-        updateEquipmentStats();
+        statTracker.sync();
 
         // Impulse Trigger: Landing (Moved from updateAnimations for physical accuracy)
         if (onGround && !wasOnGround && preUpdateVelocityY < -1.5f) {
@@ -149,7 +153,7 @@ public class Player extends LivingEntity {
         
         inventory.update(world, this, com.za.zenith.engine.core.GameLoop.getInstance().getCamera());
         updateHunger(deltaTime);
-        updateActions(deltaTime);
+        updateActions(deltaTime, world);
         updateSneakState(world, deltaTime);
         parkourHandler.update(this, deltaTime, world);
         updateThermalAndConditions(deltaTime, world);
@@ -451,13 +455,13 @@ public class Player extends LivingEntity {
                 float reach = 0.6f; 
                 if (heldItem != null) reach += heldItem.getViewmodelScale() * 0.4f;
                 Vector3f eyePos = new Vector3f(position).add(0, getEyeHeight(), 0);
-                com.za.zenith.world.physics.RaycastResult hit = com.za.zenith.world.physics.Raycast.raycast(world, eyePos, camForward);
+                boolean rayHit = viewmodelRay.cast(world, eyePos, camForward, 5.0f);
                 Vector3f probePoint = new Vector3f(eyePos).fma(reach * 0.8f, camForward);
                 com.za.zenith.world.blocks.Block probedBlock = world.getBlock((int)Math.floor(probePoint.x), (int)Math.floor(probePoint.y), (int)Math.floor(probePoint.z));
-                boolean colliding = (hit != null && hit.isHit() && hit.getDistance() < reach) || !probedBlock.isAir();
+                boolean colliding = (rayHit && viewmodelRay.getDistance() < reach) || !probedBlock.isAir();
                 
                 if (colliding) {
-                    float dist = (hit != null && hit.isHit()) ? hit.getDistance() : reach * 0.5f;
+                    float dist = rayHit ? viewmodelRay.getDistance() : reach * 0.5f;
                     float factor = (reach - dist) / reach;
                     float pf = Math.clamp(factor, 0.0f, 1.0f);
                     tPos.z += 0.8f * pf; tPos.x += 0.15f * pf;
@@ -696,12 +700,13 @@ public class Player extends LivingEntity {
         com.za.zenith.world.actions.ActionDefinition def = com.za.zenith.world.actions.ActionRegistry.get(id);
         if (def != null) {
             addNoise(def.noiseLevel);
+            pendingActionNoise += def.noiseLevel;
             stamina = Math.max(0.0f, stamina - def.staminaCostPerUse);
             hunger = Math.max(0.0f, hunger - def.hungerCostPerUse);
         }
     }
 
-    private void updateActions(float deltaTime) {
+    private void updateActions(float deltaTime, World world) {
         float floorNoise = 0.0f;
         
         // Automatic locomotion actions
@@ -741,6 +746,14 @@ public class Player extends LivingEntity {
 
         noiseLevel = Math.max(floorNoise, Math.max(continuousNoise, noiseLevel - 0.5f * deltaTime));
         continuousNoise = 0.0f;
+
+        // What AI can hear: steady noise of the current movement plus spikes from discrete actions
+        com.za.zenith.entities.ai.perception.NoiseGrid noise = world.getNoiseGrid();
+        noise.emit(com.za.zenith.entities.ai.perception.NoiseType.FOOTSTEP, position.x, position.y, position.z, floorNoise, 32.0f);
+        if (pendingActionNoise > 0) {
+            noise.emit(com.za.zenith.entities.ai.perception.NoiseType.ACTION, position.x, position.y, position.z, Math.min(1.0f, pendingActionNoise), 32.0f);
+            pendingActionNoise = 0.0f;
+        }
     }
 
     public void addNoise(float amount) { this.noiseLevel = Math.min(1.0f, this.noiseLevel + amount); }
@@ -828,55 +841,27 @@ public class Player extends LivingEntity {
     public void setMode(com.za.zenith.engine.core.PlayerMode mode) { this.mode = mode; }
 
     public float getStat(com.za.zenith.utils.Identifier statId) {
-        float total = stats.get(statId);
+        return getStat(com.za.zenith.world.items.stats.StatRegistry.indexOf(statId));
+    }
+
+    public float getStat(int stat) {
+        float total = stats.get(stat);
         
         // Add active hand item bonus
         ItemStack held = inventory.getSelectedItemStack();
         if (held != null) {
-            total += held.getStat(statId);
+            total += held.getStat(stat);
         }
         
         // Weight penalty for mobility: every 10kg above 5kg reduces mobility by 5
-        if (statId.equals(com.za.zenith.world.items.stats.StatRegistry.MOBILITY)) {
-            float totalWeight = 0;
-            for (int i = 0; i < inventory.size(); i++) {
-                ItemStack stack = inventory.getStack(i);
-                if (stack != null) {
-                    totalWeight += stack.getItem().getWeight() * stack.getCount();
-                }
-            }
-            float penalty = Math.max(0, (totalWeight - 5.0f) * 0.5f); // 5kg free, then 0.5 mobility per kg
+        if (stat == com.za.zenith.world.items.stats.StatRegistry.MOBILITY_INDEX) {
+            float penalty = Math.max(0, (statTracker.getTotalWeight() - 5.0f) * 0.5f); // 5kg free, then 0.5 mobility per kg
             total = Math.max(1, total - penalty); // Never drop below 1 mobility
         }
 
         return total;
     }
 
-    private void updateEquipmentStats() {
-        // Clear old equipment modifiers
-        stats.removeModifiersFrom(com.za.zenith.utils.Identifier.of("zenith:equipment"));
-
-        // 1. Sum stats from all equipment slots (PASSIVE bonuses)
-        for (int i = 0; i < inventory.size(); i++) {
-            ItemStack stack = inventory.getStack(i);
-            if (stack == null) continue;
-
-            // Stats from EQUIPMENT slots apply fully
-            if (i >= Inventory.START_EQUIPMENT && i < Inventory.START_EQUIPMENT + Inventory.EQUIPMENT_SIZE) {
-                for (com.za.zenith.world.items.stats.StatDefinition def : com.za.zenith.world.items.stats.StatRegistry.getAll()) {
-                    float value = stack.getStat(def.identifier());
-                    if (value != 0) {
-                        stats.addModifier(def.identifier(), new com.za.zenith.world.items.stats.StatModifier(
-                            com.za.zenith.utils.Identifier.of("zenith:equipment"),
-                            com.za.zenith.world.items.stats.StatModifier.Operation.ADD,
-                            value
-                        ));
-                    }
-                }
-            }
-        }
-    }
-
     public float getImpact() {
         return getStat(com.za.zenith.world.items.stats.StatRegistry.IMPACT);
     }
@@ -1,13 +1,21 @@
 package com.za.zenith.entities;
 
 import com.za.zenith.entities.ai.AIState;
+import com.za.zenith.entities.ai.navigation.NavGrid;
+import com.za.zenith.entities.ai.navigation.NavPath;
+import com.za.zenith.entities.ai.navigation.Navigation;
+import com.za.zenith.entities.ai.navigation.PathRequest;
+import com.za.zenith.entities.ai.perception.NoiseHit;
 import com.za.zenith.world.World;
+import com.za.zenith.world.physics.Raycaster;
 import org.joml.Vector3f;
 import java.util.Random;
 
 /**
  * A basic infected scout. 
- * Reacts to player noise and chases them.
+ * Investigates the loudest noise it hears and chases the player once it can see them. Chasing scouts follow the shared flow field towards the player,
+ * wandering and searching ones follow A* paths; both fall back to walking straight at the target while
+ * the navigation data is still being computed.
  */
 public class ScoutEntity extends LivingEntity {
     private static final float SCOUT_WIDTH = 0.6f;
@@ -16,11 +24,23 @@ public class ScoutEntity extends LivingEntity {
     private static final float CHASE_SPEED = 4.5f;
     private static final float HEARING_RADIUS = 32.0f;
     private static final float DETECTION_THRESHOLD = 0.15f; // Player noise needed to detect at distance
+    private static final float JUMP_VELOCITY = 8.5f; // ~1.3 blocks, enough for a one-block ledge
+    private static final float OFF_PATH_REPATH_TIME = 1.0f;
 
     private AIState currentState = AIState.WANDER;
     private final Vector3f targetLocation = new Vector3f();
     private final Random random = new Random();
+    private final NoiseHit heard = new NoiseHit();
+    private final Raycaster sight = new Raycaster();
+    private final Vector3f eye = new Vector3f();
+    private final Vector3f playerEye = new Vector3f();
     private float stateTimer = 0;
+
+    private PathRequest pathRequest;
+    private NavPath path;
+    private int pathIndex;
+    private long pathGoal = NavGrid.NO_CELL;
+    private float offPathTime;
     
     public ScoutEntity(Vector3f position) {
         super(position, SCOUT_WIDTH, SCOUT_HEIGHT, 15.0f);
@@ -42,31 +62,22 @@ public class ScoutEntity extends LivingEntity {
         float distToPlayer = position.distance(player.getPosition());
         stateTimer -= deltaTime;
 
-        // 1. Perception: Hearing
-        float perceivedNoise = world.getNoiseLevelAt(position);
+        // 1. Perception: Hearing - head for the loudest noise, whoever made it
+        float perceivedNoise = world.getNoiseGrid().query(position.x, position.y, position.z, heard);
         if (perceivedNoise > DETECTION_THRESHOLD) {
             if (currentState != AIState.CHASE) {
                 currentState = AIState.SEARCH;
-                // If player is making noise, head towards them. 
-                // Otherwise, the entity will naturally be drawn to the area of noise.
-                if (player.getNoiseLevel() > 0.1f) {
-                    targetLocation.set(player.getPosition());
-                } else {
-                    // Head towards the general direction of noise if player is quiet but something else is noisy
-                    // For now, let's just use the player as a target if they are within range,
-                    // or we could iterate to find the actual noise source.
-                    // To keep it simple: if player isn't noisy, scout heads towards a random point near its current position 
-                    // that might be the source, or we can just stick to player if they are the most likely cause.
-                    targetLocation.set(player.getPosition()); 
-                }
+                targetLocation.set(heard.x, heard.y, heard.z);
                 stateTimer = 5.0f; // Search for 5 seconds
             }
         }
 
-        // 2. Perception: Visual (simple distance-based for now)
+        // 2. Perception: Visual - in range and not behind blocks
         float visibilityRange = player.isSneaking() ? 4.0f : 14.0f;
         if (distToPlayer < visibilityRange) {
-            currentState = AIState.CHASE;
+            eye.set(position.x, position.y + SCOUT_HEIGHT * 0.9f, position.z);
+            playerEye.set(player.getPosition()).add(0, player.getEyeHeight(), 0);
+            if (sight.hasLineOfSight(world, eye, playerEye)) currentState = AIState.CHASE;
         }
 
         // 3. State Actions
@@ -78,11 +89,11 @@ public class ScoutEntity extends LivingEntity {
                     targetLocation.set(position.x + rx, position.y, position.z + rz);
                     stateTimer = 3.0f + random.nextFloat() * 5.0f;
                 }
-                moveToTarget(WANDER_SPEED);
+                moveToTarget(world, deltaTime, WANDER_SPEED, false);
                 break;
 
             case SEARCH:
-                moveToTarget(WANDER_SPEED);
+                moveToTarget(world, deltaTime, WANDER_SPEED, false);
                 // Return to wander if searched long enough or reached location
                 if (stateTimer <= 0) {
                     currentState = AIState.WANDER;
@@ -92,7 +103,7 @@ public class ScoutEntity extends LivingEntity {
 
             case CHASE:
                 targetLocation.set(player.getPosition());
-                moveToTarget(CHASE_SPEED);
+                moveToTarget(world, deltaTime, CHASE_SPEED, true);
                 
                 // Lose interest if player is too far or hidden
                 boolean tooFar = distToPlayer > HEARING_RADIUS;
@@ -112,16 +123,75 @@ public class ScoutEntity extends LivingEntity {
         }
     }
 
-    private void moveToTarget(float speed) {
-        Vector3f dir = new Vector3f(targetLocation).sub(position);
-        dir.y = 0; // Only horizontal movement
-        if (dir.lengthSquared() > 0.01f) {
-            dir.normalize().mul(speed);
-            velocity.x = dir.x;
-            velocity.z = dir.z;
-            
+    private void moveToTarget(World world, float deltaTime, float speed, boolean chase) {
+        Navigation navigation = world.getNavigation();
+        long here = navigation.groundCell(position.x, position.y, position.z);
+        long goal = navigation.groundCell(targetLocation.x, targetLocation.y, targetLocation.z);
+
+        long next = NavGrid.NO_CELL;
+        if (here != NavGrid.NO_CELL && goal != NavGrid.NO_CELL && here != goal) {
+            next = chase ? navigation.flowFieldTo(goal).next(here) : nextWaypoint(navigation, here, goal, deltaTime);
+        }
+        if (next == NavGrid.NO_CELL) {
+            steer(targetLocation.x, targetLocation.z, speed);
+            return;
+        }
+
+        steer(World.unpackBlockX(next) + 0.5f, World.unpackBlockZ(next) + 0.5f, speed);
+        if (onGround && World.unpackBlockY(next) > World.unpackBlockY(here)) {
+            velocity.y = JUMP_VELOCITY;
+            onGround = false;
+        }
+    }
+
+    /** Next cell of the A* path to {@code goal}, requesting a new path when the goal or the terrain changed. */
+    private long nextWaypoint(Navigation navigation, long here, long goal, float deltaTime) {
+        if (goal != pathGoal || (path != null && !path.isValid(navigation.getGrid()))) {
+            if (pathRequest != null) pathRequest.cancel();
+            path = null;
+            pathGoal = goal;
+            pathRequest = navigation.requestPath(here, goal);
+        }
+        if (path == null) {
+            if (pathRequest == null || !pathRequest.isDone()) return NavGrid.NO_CELL;
+            path = pathRequest.getPath(); // null if there is no way at all; retried once the goal changes
+            pathIndex = pathRequest.getStartIndex();
+            pathRequest = null;
+            offPathTime = 0;
+            if (path == null) return NavGrid.NO_CELL;
+        }
+
+        // Cells are usually left in order, but a jump or a shove can skip one
+        int last = Math.min(path.length() - 1, pathIndex + 3);
+        for (int i = pathIndex; i <= last; i++) {
+            if (path.get(i) == here) {
+                pathIndex = i;
+                offPathTime = 0;
+                break;
+            }
+        }
+        if (path.get(pathIndex) != here && (offPathTime += deltaTime) > OFF_PATH_REPATH_TIME) {
+            pathGoal = NavGrid.NO_CELL; // pushed off the path: search again from here
+            return NavGrid.NO_CELL;
+        }
+        if (pathIndex + 1 >= path.length()) {
+            if (!path.reachesGoal()) pathGoal = NavGrid.NO_CELL; // end of a partial path: try to get further
+            return NavGrid.NO_CELL;
+        }
+        return path.get(pathIndex + 1);
+    }
+
+    private void steer(float tx, float tz, float speed) {
+        float dx = tx - position.x;
+        float dz = tz - position.z;
+        float lenSq = dx * dx + dz * dz;
+        if (lenSq > 0.01f) {
+            float scale = speed / (float) Math.sqrt(lenSq);
+            velocity.x = dx * scale;
+            velocity.z = dz * scale;
+
             // Set rotation to face direction of movement
-            rotation.y = (float) Math.atan2(dir.x, dir.z);
+            rotation.y = (float) Math.atan2(dx, dz);
         } else {
             velocity.x = 0;
             velocity.z = 0;
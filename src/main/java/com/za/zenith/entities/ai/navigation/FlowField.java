@@ -0,0 +1,142 @@
+package com.za.zenith.entities.ai.navigation;
+
+import com.za.zenith.utils.LongArrayList;
+import com.za.zenith.utils.LongHashSet;
+import com.za.zenith.utils.LongIntHashMap;
+import com.za.zenith.world.World;
+
+import java.util.Arrays;
+
+/**
+ * Shortest-path directions towards one goal cell for every walkable cell within a radius, shared by all
+ * agents heading for that goal. Built by Dijkstra outward from the goal over reversed moves, in slices
+ * ({@link #step(int)}); a cell's direction is final as soon as it is settled, so agents close to the goal
+ * can use the field before it is complete.
+ */
+public final class FlowField {
+    private static final int[] DX = {1, -1, 0, 0, 1, 1, -1, -1};
+    private static final int[] DZ = {0, 0, 1, -1, 1, -1, 1, -1};
+
+    private final NavGrid grid;
+    private final long goal;
+    private final int goalX, goalZ;
+    private final int radius;
+    private final int maxNodes;
+
+    private final LongIntHashMap index = new LongIntHashMap(1024);
+    private final NodeHeap open = new NodeHeap();
+    private long[] cells = new long[256];
+    private long[] next = new long[256];
+    private int[] dist = new int[256];
+    private boolean[] settled = new boolean[256];
+    private int count;
+    private int settledCount;
+    private boolean complete;
+
+    private final LongHashSet stampSections = new LongHashSet();
+    private final LongArrayList stampCells = new LongArrayList(32);
+    private final LongArrayList stampRevisions = new LongArrayList(32);
+
+    public FlowField(NavGrid grid, long goal, int radius, int maxNodes) {
+        this.grid = grid;
+        this.goal = goal;
+        this.goalX = World.unpackBlockX(goal);
+        this.goalZ = World.unpackBlockZ(goal);
+        this.radius = radius;
+        this.maxNodes = maxNodes;
+        if (grid.isWalkable(goalX, World.unpackBlockY(goal), goalZ)) {
+            int g = addNode(goal, 0, NavGrid.NO_CELL);
+            open.offer(g, 0);
+        } else {
+            complete = true;
+        }
+    }
+
+    public long getGoal() { return goal; }
+    public boolean isComplete() { return complete; }
+    public int getSettledCount() { return settledCount; }
+
+    /** Settles up to {@code budget} cells. @return true once the field is complete */
+    public boolean step(int budget) {
+        while (!complete && budget-- > 0) {
+            if (open.isEmpty() || settledCount >= maxNodes) {
+                complete = true;
+                break;
+            }
+            int n = open.poll();
+            settled[n] = true;
+            settledCount++;
+            long cell = cells[n];
+            int x = World.unpackBlockX(cell), y = World.unpackBlockY(cell), z = World.unpackBlockZ(cell);
+            stamp(x, y, z);
+
+            // Predecessors: cells p with a legal step p -> cell
+            for (int d = 0; d < 8; d++) {
+                int px = x - DX[d], pz = z - DZ[d];
+                if (Math.max(Math.abs(px - goalX), Math.abs(pz - goalZ)) > radius) continue;
+                boolean diagonal = DX[d] != 0 && DZ[d] != 0;
+                int minY = diagonal ? y : y - NavGrid.MAX_STEP_UP;
+                int maxY = diagonal ? y : y + NavGrid.MAX_DROP;
+                for (int py = minY; py <= maxY; py++) {
+                    if (py < 0 || !grid.isWalkable(px, py, pz)) continue;
+                    if (grid.stepTarget(px, py, pz, DX[d], DZ[d]) != y) continue;
+                    long prev = World.packBlockPos(px, py, pz);
+                    int cost = dist[n] + NavGrid.stepCost(DX[d], y - py, DZ[d]);
+                    int m = index.get(prev, -1);
+                    if (m < 0) {
+                        m = addNode(prev, cost, cell);
+                    } else {
+                        if (settled[m] || cost >= dist[m]) continue;
+                        dist[m] = cost;
+                        next[m] = cell;
+                    }
+                    open.offer(m, cost);
+                }
+            }
+        }
+        return complete;
+    }
+
+    /** Next cell on a shortest path from {@code cell}, or {@link NavGrid#NO_CELL} if the cell is not (yet) covered or is the goal. */
+    public long next(long cell) {
+        int n = index.get(cell, -1);
+        return n >= 0 && settled[n] ? next[n] : NavGrid.NO_CELL;
+    }
+
+    /** Path cost to the goal in tenths of a block, or -1 if the cell is not settled. */
+    public int distance(long cell) {
+        int n = index.get(cell, -1);
+        return n >= 0 && settled[n] ? dist[n] : -1;
+    }
+
+    /** True while no block changed in the sections the settled cells depend on. */
+    public boolean isValid() {
+        for (int i = 0; i < stampCells.size(); i++) {
+            long c = stampCells.get(i);
+            if (grid.revisionAt(World.unpackBlockX(c), World.unpackBlockY(c), World.unpackBlockZ(c)) != stampRevisions.get(i)) return false;
+        }
+        return true;
+    }
+
+    /** Everything the predecessor scan of a settled cell reads: the steps of neighbours up to MAX_DROP above. */
+    private void stamp(int x, int y, int z) {
+        grid.stampBox(x - 2, y - NavGrid.MAX_STEP_UP - NavGrid.STEP_READS_DOWN, z - 2,
+            x + 2, y + NavGrid.MAX_DROP + NavGrid.STEP_READS_UP, z + 2, stampSections, stampCells, stampRevisions);
+    }
+
+    private int addNode(long cell, int cost, long towards) {
+        if (count == cells.length) {
+            int cap = count * 2;
+            cells = Arrays.copyOf(cells, cap);
+            next = Arrays.copyOf(next, cap);
+            dist = Arrays.copyOf(dist, cap);
+            settled = Arrays.copyOf(settled, cap);
+        }
+        int n = count++;
+        cells[n] = cell;
+        dist[n] = cost;
+        next[n] = towards;
+        index.put(cell, n, -1);
+        return n;
+    }
+}
@@ -0,0 +1,251 @@
+package com.za.zenith.entities.ai.navigation;
+
+import com.za.zenith.utils.LongArrayList;
+import com.za.zenith.utils.LongHashSet;
+import com.za.zenith.world.World;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cached walkability of the world for a standing agent two blocks tall.
+ * <p>
+ * Per 16x16x16 section the grid keeps the solid bits and, derived from them and the sections above and
+ * below, the walkable bits (solid floor, two free cells). Both are rebuilt lazily when the section's block
+ * revision changes; revisions are re-checked once per {@link #newEpoch() epoch} (a navigation tick), so
+ * lookups inside one tick are plain bit tests.
+ * <p>
+ * Cells are packed with {@link World#packBlockPos}.
+ */
+public class NavGrid {
+    public static final long NO_CELL = Long.MIN_VALUE;
+    /** Highest ledge an agent steps (jumps) up onto, and deepest drop it walks off. */
+    public static final int MAX_STEP_UP = 1;
+    public static final int MAX_DROP = 3;
+    /**
+     * Cells {@link #stepTarget} reads relative to the agent's cell: one column sideways, from the floor
+     * under the deepest drop up to the head room of a jump.
+     */
+    static final int STEP_READS_DOWN = MAX_DROP + 1, STEP_READS_UP = 2;
+
+    private static final long[] ALL_SOLID = filled();
+    private static final int WORDS = 4096 / 64;
+
+    private static final class Section {
+        final int sx, sy, sz;
+        long revision;
+        final long[] solid = new long[WORDS];
+        long[] walkable; // null until needed or after a change here or above/below
+        long belowRevision, aboveRevision;
+        boolean built; // revision alone can't tell: NOT_LOADED is a valid value to build from
+        int checkedEpoch = -1;
+        int walkableEpoch = -1;
+
+        Section(int sx, int sy, int sz) {
+            this.sx = sx;
+            this.sy = sy;
+            this.sz = sz;
+        }
+    }
+
+    private final VoxelSource source;
+    private final Map<Long, Section> sections = new HashMap<>();
+    private Section last;
+    private long lastKey = NO_CELL;
+    private int epoch;
+    private int builds;
+
+    public NavGrid(VoxelSource source) {
+        this.source = source;
+    }
+
+    /** Starts a new validation epoch; sections are checked against the source again on next access. */
+    public void newEpoch() {
+        epoch++;
+    }
+
+    /** Forgets all sections of a chunk column (on unload). */
+    public void dropColumn(int cx, int cz) {
+        sections.values().removeIf(s -> s.sx == cx && s.sz == cz);
+        last = null;
+        lastKey = NO_CELL;
+    }
+
+    public void clear() {
+        sections.clear();
+        last = null;
+        lastKey = NO_CELL;
+    }
+
+    /** Number of section (re)builds so far, for tests and profiling. */
+    public int getBuildCount() {
+        return builds;
+    }
+
+    private Section section(int sx, int sy, int sz) {
+        long key = World.packBlockPos(sx, sy, sz);
+        Section s;
+        if (key == lastKey) {
+            s = last;
+        } else {
+            s = sections.get(key);
+            if (s == null) {
+                s = new Section(sx, sy, sz);
+                sections.put(key, s);
+            }
+            last = s;
+            lastKey = key;
+        }
+        if (s.checkedEpoch != epoch) {
+            s.checkedEpoch = epoch;
+            long revision = source.sectionRevision(sx, sy, sz);
+            if (!s.built || revision != s.revision) {
+                s.built = true;
+                s.revision = revision;
+                java.util.Arrays.fill(s.solid, 0L);
+                if (revision == VoxelSource.NOT_LOADED) System.arraycopy(ALL_SOLID, 0, s.solid, 0, WORDS);
+                else if (revision != VoxelSource.ABOVE_WORLD) source.fillSolid(sx, sy, sz, s.solid);
+                s.walkable = null;
+                builds++;
+            }
+        }
+        return s;
+    }
+
+    /**
+     * Records the current revision of every section overlapping the box that is not in {@code seen} yet,
+     * with one cell of that section to look it up again. Cells below y=0 are clamped.
+     */
+    void stampBox(int x0, int y0, int z0, int x1, int y1, int z1, LongHashSet seen, LongArrayList cells, LongArrayList revisions) {
+        y0 = Math.max(0, y0);
+        y1 = Math.max(0, y1);
+        for (int sx = x0 >> 4; sx <= x1 >> 4; sx++) {
+            for (int sy = y0 >> 4; sy <= y1 >> 4; sy++) {
+                for (int sz = z0 >> 4; sz <= z1 >> 4; sz++) {
+                    if (!seen.add(World.packBlockPos(sx, sy, sz))) continue;
+                    int x = Math.max(x0, sx << 4), y = Math.max(y0, sy << 4), z = Math.max(z0, sz << 4);
+                    cells.add(World.packBlockPos(x, y, z));
+                    revisions.add(revisionAt(x, y, z));
+                }
+            }
+        }
+    }
+
+    /** Block revision of the section containing the cell, validated for this epoch. */
+    public long revisionAt(int x, int y, int z) {
+        return section(x >> 4, y >> 4, z >> 4).revision;
+    }
+
+    public boolean isSolid(int x, int y, int z) {
+        Section s = section(x >> 4, y >> 4, z >> 4);
+        int i = ((y & 15) << 8) | ((z & 15) << 4) | (x & 15);
+        return (s.solid[i >> 6] & (1L << i)) != 0;
+    }
+
+    public boolean isPassable(int x, int y, int z) {
+        return !isSolid(x, y, z);
+    }
+
+    /** Solid floor below, free cell and free head room. */
+    public boolean isWalkable(int x, int y, int z) {
+        Section s = section(x >> 4, y >> 4, z >> 4);
+        long[] walkable = s.walkable;
+        if (walkable != null && s.walkableEpoch != epoch) {
+            // The bits also depend on the sections above and below
+            s.walkableEpoch = epoch;
+            if (section(s.sx, s.sy - 1, s.sz).revision != s.belowRevision
+                    || section(s.sx, s.sy + 1, s.sz).revision != s.aboveRevision) {
+                walkable = null;
+            }
+        }
+        if (walkable == null) walkable = buildWalkable(s);
+        int i = ((y & 15) << 8) | ((z & 15) << 4) | (x & 15);
+        return (walkable[i >> 6] & (1L << i)) != 0;
+    }
+
+    private long[] buildWalkable(Section s) {
+        Section below = section(s.sx, s.sy - 1, s.sz);
+        Section above = section(s.sx, s.sy + 1, s.sz);
+        long[] walkable = new long[WORDS];
+        for (int y = 0; y < 16; y++) {
+            for (int zx = 0; zx < 256; zx++) {
+                int i = (y << 8) | zx;
+                if ((s.solid[i >> 6] & (1L << i)) != 0) continue;
+                boolean floor = y > 0 ? bit(s.solid, i - 256) : bit(below.solid, (15 << 8) | zx);
+                if (!floor) continue;
+                boolean head = y < 15 ? bit(s.solid, i + 256) : bit(above.solid, zx);
+                if (!head) walkable[i >> 6] |= 1L << i;
+            }
+        }
+        s.walkable = walkable;
+        s.walkableEpoch = epoch;
+        s.belowRevision = below.revision;
+        s.aboveRevision = above.revision;
+        return walkable;
+    }
+
+    private static boolean bit(long[] bits, int i) {
+        return (bits[i >> 6] & (1L << i)) != 0;
+    }
+
+    /**
+     * Where an agent standing at (x, y, z) ends up after one step towards (dx, dz), or -1 if it can't go there.
+     * Straight steps may climb {@link #MAX_STEP_UP} or drop up to {@link #MAX_DROP}; diagonal steps stay level
+     * and need both side cells free so corners are not cut.
+     */
+    public int stepTarget(int x, int y, int z, int dx, int dz) {
+        int nx = x + dx, nz = z + dz;
+        if (dx != 0 && dz != 0) {
+            if (!isPassable(x + dx, y, z) || !isPassable(x + dx, y + 1, z)
+                    || !isPassable(x, y, z + dz) || !isPassable(x, y + 1, z + dz)) return -1;
+            return isWalkable(nx, y, nz) ? y : -1;
+        }
+        if (isWalkable(nx, y, nz)) return y;
+        if (isWalkable(nx, y + 1, nz) && isPassable(x, y + 2, z)) return y + 1;
+        if (isPassable(nx, y, nz) && isPassable(nx, y + 1, nz)) {
+            for (int d = 1; d <= MAX_DROP && y - d >= 0; d++) {
+                if (isWalkable(nx, y - d, nz)) return y - d;
+                if (isSolid(nx, y - d, nz)) break;
+            }
+        }
+        return -1;
+    }
+
+    /** Cost of a step in tenths of a block; matches {@link #heuristic}. */
+    static int stepCost(int dx, int dy, int dz) {
+        int cost = (dx != 0 && dz != 0) ? 14 : 10;
+        if (dy > 0) cost += 10 * dy;
+        else if (dy < 0) cost += 4 * -dy;
+        return cost;
+    }
+
+    /** Admissible lower bound of the cost between two cells. */
+    static int heuristic(long a, long b) {
+        int dx = Math.abs(World.unpackBlockX(a) - World.unpackBlockX(b));
+        int dz = Math.abs(World.unpackBlockZ(a) - World.unpackBlockZ(b));
+        int dy = Math.abs(World.unpackBlockY(a) - World.unpackBlockY(b));
+        return 10 * Math.max(dx, dz) + 4 * Math.min(dx, dz) + 4 * dy;
+    }
+
+    /**
+     * Walkable cell an agent at this position stands in: the feet cell or up to {@code maxDown} below it
+     * (agents in the middle of a jump or fall), or {@link #NO_CELL}.
+     */
+    public long groundCell(float px, float py, float pz, int maxUp, int maxDown) {
+        int x = (int) Math.floor(px), z = (int) Math.floor(pz);
+        int y = (int) Math.floor(py + 0.01f);
+        for (int d = 0; d <= maxDown; d++) {
+            if (y - d >= 0 && isWalkable(x, y - d, z)) return World.packBlockPos(x, y - d, z);
+        }
+        for (int d = 1; d <= maxUp; d++) {
+            if (isWalkable(x, y + d, z)) return World.packBlockPos(x, y + d, z);
+        }
+        return NO_CELL;
+    }
+
+    private static long[] filled() {
+        long[] bits = new long[4096 / 64];
+        java.util.Arrays.fill(bits, -1L);
+        return bits;
+    }
+}
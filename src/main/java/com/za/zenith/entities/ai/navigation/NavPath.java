@@ -0,0 +1,71 @@
+package com.za.zenith.entities.ai.navigation;
+
+import com.za.zenith.utils.LongArrayList;
+import com.za.zenith.utils.LongHashSet;
+import com.za.zenith.world.World;
+
+/**
+ * Immutable list of walkable cells from a start towards a goal. The block revisions of every section a step
+ * along the path reads (corner cells of diagonals, drops, jump head room) are recorded, so {@link #isValid}
+ * notices any block change along the way without rechecking the cells.
+ */
+public final class NavPath {
+    private final long[] cells;
+    private final long goal;
+    private final boolean complete;
+    private final long[] stampCells;
+    private final long[] stampRevisions;
+
+    NavPath(NavGrid grid, long[] cells, long goal, boolean complete) {
+        this.cells = cells;
+        this.goal = goal;
+        this.complete = complete;
+
+        LongHashSet seen = new LongHashSet(cells.length);
+        LongArrayList stamps = new LongArrayList(8);
+        LongArrayList revisions = new LongArrayList(8);
+        for (long cell : cells) {
+            int x = World.unpackBlockX(cell), y = World.unpackBlockY(cell), z = World.unpackBlockZ(cell);
+            grid.stampBox(x - 1, y - NavGrid.STEP_READS_DOWN, z - 1, x + 1, y + NavGrid.STEP_READS_UP, z + 1, seen, stamps, revisions);
+        }
+        this.stampCells = stamps.toArray();
+        this.stampRevisions = revisions.toArray();
+    }
+
+    private static long revision(NavGrid grid, long cell) {
+        return grid.revisionAt(World.unpackBlockX(cell), World.unpackBlockY(cell), World.unpackBlockZ(cell));
+    }
+
+    public int length() {
+        return cells.length;
+    }
+
+    public long get(int index) {
+        return cells[index];
+    }
+
+    public long getGoal() {
+        return goal;
+    }
+
+    /** False for a partial path that ends at the reachable cell closest to the goal. */
+    public boolean reachesGoal() {
+        return complete;
+    }
+
+    /** Position of {@code cell} on the path, or -1. */
+    public int indexOf(long cell) {
+        for (int i = 0; i < cells.length; i++) {
+            if (cells[i] == cell) return i;
+        }
+        return -1;
+    }
+
+    /** True while no block changed in any section the path passes through. */
+    public boolean isValid(NavGrid grid) {
+        for (int i = 0; i < stampCells.length; i++) {
+            if (revision(grid, stampCells[i]) != stampRevisions[i]) return false;
+        }
+        return true;
+    }
+}
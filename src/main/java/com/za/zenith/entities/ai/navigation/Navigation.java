@@ -0,0 +1,201 @@
+package com.za.zenith.entities.ai.navigation;
+
+import com.za.zenith.world.World;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-world navigation service. Owns the cached {@link NavGrid} and spreads path finding over ticks:
+ * every {@link #tick()} gets a fixed node budget that is shared by pending flow fields and, round-robin,
+ * by queued A* searches, so many agents asking for paths at once never stall a frame.
+ * <p>
+ * Results are shared: finished paths are cached per goal and reused by any later request whose start
+ * lies on one of them, and agents chasing the same target share one {@link FlowField}.
+ */
+public class Navigation {
+    /** Nodes expanded per tick across all searches and fields. */
+    public static final int NODE_BUDGET = Integer.getInteger("zenith.nav.budget", 4096);
+    private static final int SLICE = 256;
+    private static final int MAX_SEARCH_NODES = 4000;
+    private static final int MAX_CACHED_GOALS = 64;
+    private static final int MAX_PATHS_PER_GOAL = 4;
+    private static final int MAX_FIELDS = 8;
+    private static final int FIELD_RADIUS = 32;
+    private static final int FIELD_NODES = 12000;
+    private static final int FIELD_IDLE_TICKS = 100;
+    /** A field whose goal is this close to the requested one is reused (targets that keep moving). */
+    private static final int FIELD_GOAL_SLACK = 2;
+
+    private static final class FieldEntry {
+        final FlowField field;
+        long lastUsed;
+
+        FieldEntry(FlowField field, long lastUsed) {
+            this.field = field;
+            this.lastUsed = lastUsed;
+        }
+    }
+
+    private final NavGrid grid;
+    private final ArrayDeque<PathRequest> queue = new ArrayDeque<>();
+    private final Map<Long, List<NavPath>> pathCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, List<NavPath>> eldest) {
+            return size() > MAX_CACHED_GOALS;
+        }
+    };
+    private final Map<Long, FieldEntry> fields = new LinkedHashMap<>(16, 0.75f, true);
+    private long ticks;
+
+    public Navigation(VoxelSource source) {
+        this.grid = new NavGrid(source);
+    }
+
+    public NavGrid getGrid() {
+        return grid;
+    }
+
+    /** Walkable cell of an agent standing (or jumping, falling) at this position, or {@link NavGrid#NO_CELL}. */
+    public long groundCell(float x, float y, float z) {
+        return grid.groundCell(x, y, z, 1, NavGrid.MAX_DROP + 1);
+    }
+
+    public void onChunkUnloaded(int cx, int cz) {
+        grid.dropColumn(cx, cz);
+    }
+
+    /**
+     * Queues a search from {@code start} to {@code goal}. An identical pending request is returned instead of
+     * starting a second search, and a cached valid path through {@code start} completes the request at once.
+     */
+    public PathRequest requestPath(long start, long goal) {
+        for (PathRequest pending : queue) {
+            if (pending.start == start && pending.goal == goal && !pending.isCancelled()) return pending;
+        }
+        PathRequest request = new PathRequest(start, goal);
+        List<NavPath> cached = pathCache.get(goal);
+        if (cached != null) {
+            for (Iterator<NavPath> it = cached.iterator(); it.hasNext(); ) {
+                NavPath path = it.next();
+                if (!path.isValid(grid)) {
+                    it.remove();
+                    continue;
+                }
+                int index = path.indexOf(start);
+                if (index >= 0) {
+                    request.complete(PathSearch.Status.FOUND, path, index);
+                    return request;
+                }
+            }
+        }
+        queue.add(request);
+        return request;
+    }
+
+    /**
+     * Shared flow field towards {@code goal}, or towards a cell within {@value #FIELD_GOAL_SLACK} blocks of it;
+     * created on first use and built over the following ticks. Fields that nobody asked for during
+     * {@value #FIELD_IDLE_TICKS} ticks are dropped.
+     */
+    public FlowField flowFieldTo(long goal) {
+        FieldEntry entry = fields.get(goal);
+        if (entry == null) entry = nearbyField(goal);
+        if (entry == null) {
+            if (fields.size() >= MAX_FIELDS) {
+                Iterator<FieldEntry> it = fields.values().iterator();
+                it.next();
+                it.remove();
+            }
+            entry = new FieldEntry(new FlowField(grid, goal, FIELD_RADIUS, FIELD_NODES), ticks);
+            fields.put(goal, entry);
+        }
+        entry.lastUsed = ticks;
+        return entry.field;
+    }
+
+    private FieldEntry nearbyField(long goal) {
+        int x = World.unpackBlockX(goal), y = World.unpackBlockY(goal), z = World.unpackBlockZ(goal);
+        for (FieldEntry entry : fields.values()) {
+            long g = entry.field.getGoal();
+            if (Math.abs(World.unpackBlockX(g) - x) <= FIELD_GOAL_SLACK && Math.abs(World.unpackBlockZ(g) - z) <= FIELD_GOAL_SLACK
+                    && Math.abs(World.unpackBlockY(g) - y) <= 1) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    public int getFieldCount() {
+        return fields.size();
+    }
+
+    public void tick() {
+        ticks++;
+        grid.newEpoch();
+        int budget = NODE_BUDGET;
+
+        // Flow fields first: many agents depend on each of them
+        for (Iterator<Map.Entry<Long, FieldEntry>> it = fields.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Long, FieldEntry> e = it.next();
+            FieldEntry entry = e.getValue();
+            if (ticks - entry.lastUsed > FIELD_IDLE_TICKS) {
+                it.remove();
+                continue;
+            }
+            if (!entry.field.isValid()) {
+                FlowField rebuilt = new FlowField(grid, e.getKey(), FIELD_RADIUS, FIELD_NODES);
+                e.setValue(entry = new FieldEntry(rebuilt, entry.lastUsed));
+            }
+            if (budget > 0 && !entry.field.isComplete()) {
+                int before = entry.field.getSettledCount();
+                entry.field.step(Math.min(budget, NODE_BUDGET / 2));
+                budget -= Math.max(1, entry.field.getSettledCount() - before);
+            }
+        }
+
+        int rounds = queue.size();
+        while (budget > 0 && rounds-- > 0 && !queue.isEmpty()) {
+            PathRequest request = queue.poll();
+            if (request.isCancelled()) {
+                rounds++;
+                continue;
+            }
+            if (request.search == null) request.search = new PathSearch(grid, request.start, request.goal, MAX_SEARCH_NODES);
+            PathSearch search = request.search;
+            int before = search.getExpanded();
+            search.step(Math.min(budget, SLICE));
+            budget -= Math.max(1, search.getExpanded() - before);
+            if (search.isDone()) {
+                NavPath path = search.getPath();
+                if (search.getStatus() == PathSearch.Status.FOUND) cache(path);
+                request.complete(search.getStatus(), path, 0);
+            } else {
+                queue.add(request);
+                if (rounds == 0 && budget > 0) rounds = queue.size();
+            }
+        }
+    }
+
+    private void cache(NavPath path) {
+        List<NavPath> list = pathCache.computeIfAbsent(path.getGoal(), k -> new ArrayList<>(MAX_PATHS_PER_GOAL));
+        if (list.size() >= MAX_PATHS_PER_GOAL) list.remove(0);
+        list.add(path);
+    }
+
+    /** Drops all cached sections, paths and fields (world change). */
+    public void clear() {
+        grid.clear();
+        queue.clear();
+        pathCache.clear();
+        fields.clear();
+    }
+}
@@ -0,0 +1,104 @@
+package com.za.zenith.entities.ai.navigation;
+
+import java.util.Arrays;
+
+/**
+ * Indexed binary min-heap of node ids keyed by int priority, with decrease-key.
+ * Node ids are dense indices owned by the search that uses the heap.
+ */
+final class NodeHeap {
+    private int[] heap = new int[64];
+    private int[] priority = new int[64];
+    private int[] position = new int[64]; // heap slot of a node, -1 if not queued
+    private int size;
+
+    NodeHeap() {
+        Arrays.fill(position, -1);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        for (int i = 0; i < size; i++) position[heap[i]] = -1;
+        size = 0;
+    }
+
+    boolean contains(int node) {
+        return node < position.length && position[node] >= 0;
+    }
+
+    /** Inserts the node, or lowers its priority if it is queued with a higher one. */
+    void offer(int node, int prio) {
+        ensureNode(node);
+        int slot = position[node];
+        if (slot >= 0) {
+            if (prio >= priority[node]) return;
+            priority[node] = prio;
+            siftUp(slot);
+            return;
+        }
+        if (size == heap.length) heap = Arrays.copyOf(heap, size * 2);
+        priority[node] = prio;
+        heap[size] = node;
+        position[node] = size;
+        siftUp(size++);
+    }
+
+    int poll() {
+        int top = heap[0];
+        position[top] = -1;
+        if (--size > 0) {
+            heap[0] = heap[size];
+            position[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    private void ensureNode(int node) {
+        if (node < position.length) return;
+        int cap = Math.max(node + 1, position.length * 2);
+        int old = position.length;
+        position = Arrays.copyOf(position, cap);
+        Arrays.fill(position, old, cap, -1);
+        priority = Arrays.copyOf(priority, cap);
+    }
+
+    private void siftUp(int slot) {
+        int node = heap[slot];
+        int prio = priority[node];
+        while (slot > 0) {
+            int parent = (slot - 1) >>> 1;
+            int p = heap[parent];
+            if (priority[p] <= prio) break;
+            heap[slot] = p;
+            position[p] = slot;
+            slot = parent;
+        }
+        heap[slot] = node;
+        position[node] = slot;
+    }
+
+    private void siftDown(int slot) {
+        int node = heap[slot];
+        int prio = priority[node];
+        int half = size >>> 1;
+        while (slot < half) {
+            int child = 2 * slot + 1;
+            int right = child + 1;
+            if (right < size && priority[heap[right]] < priority[heap[child]]) child = right;
+            if (priority[heap[child]] >= prio) break;
+            heap[slot] = heap[child];
+            position[heap[slot]] = slot;
+            slot = child;
+        }
+        heap[slot] = node;
+        position[node] = slot;
+    }
+}
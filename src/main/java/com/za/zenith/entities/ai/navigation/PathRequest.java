@@ -0,0 +1,44 @@
+package com.za.zenith.entities.ai.navigation;
+
+/**
+ * Handle for a path asked of {@link Navigation}. Completes on a later navigation tick, or immediately
+ * when a cached path already passes through the start cell; in that case {@link #getStartIndex()} is
+ * where the requester joins the shared path.
+ */
+public final class PathRequest {
+    final long start;
+    final long goal;
+    PathSearch search;
+    private PathSearch.Status status = PathSearch.Status.RUNNING;
+    private NavPath path;
+    private int startIndex;
+    private boolean cancelled;
+
+    PathRequest(long start, long goal) {
+        this.start = start;
+        this.goal = goal;
+    }
+
+    void complete(PathSearch.Status status, NavPath path, int startIndex) {
+        this.status = status;
+        this.path = path;
+        this.startIndex = startIndex;
+        this.search = null;
+    }
+
+    public long getStart() { return start; }
+    public long getGoal() { return goal; }
+    public PathSearch.Status getStatus() { return status; }
+    public boolean isDone() { return status != PathSearch.Status.RUNNING; }
+    public boolean isCancelled() { return cancelled; }
+
+    /** Path once the status is FOUND or PARTIAL, otherwise null. */
+    public NavPath getPath() { return path; }
+
+    public int getStartIndex() { return startIndex; }
+
+    /** Stops the search on the next tick; the requester no longer needs the result. */
+    public void cancel() {
+        cancelled = true;
+    }
+}
@@ -0,0 +1,133 @@
+package com.za.zenith.entities.ai.navigation;
+
+import com.za.zenith.utils.LongIntHashMap;
+import com.za.zenith.world.World;
+
+import java.util.Arrays;
+
+/**
+ * A* between two cells that can be run in slices: {@link #step(int)} expands at most the given number
+ * of nodes and returns, so one search may be spread over several ticks. The search is bounded by
+ * {@code maxNodes}; if the goal is not reached by then (or is unreachable), the result is the partial
+ * path to the expanded cell closest to the goal.
+ */
+public final class PathSearch {
+    public enum Status { RUNNING, FOUND, PARTIAL, FAILED }
+
+    private static final int[] DX = {1, -1, 0, 0, 1, 1, -1, -1};
+    private static final int[] DZ = {0, 0, 1, -1, 1, -1, 1, -1};
+
+    private final NavGrid grid;
+    private final long start;
+    private final long goal;
+    private final int maxNodes;
+
+    private final LongIntHashMap index = new LongIntHashMap(256);
+    private final NodeHeap open = new NodeHeap();
+    private long[] cells = new long[64];
+    private int[] g = new int[64];
+    private int[] parent = new int[64];
+    private boolean[] closed = new boolean[64];
+    private int count;
+    private int expanded;
+    private int best;
+    private int bestH = Integer.MAX_VALUE;
+
+    private Status status = Status.RUNNING;
+    private NavPath path;
+
+    public PathSearch(NavGrid grid, long start, long goal, int maxNodes) {
+        this.grid = grid;
+        this.start = start;
+        this.goal = goal;
+        this.maxNodes = maxNodes;
+        if (!grid.isWalkable(World.unpackBlockX(start), World.unpackBlockY(start), World.unpackBlockZ(start))) {
+            status = Status.FAILED;
+            return;
+        }
+        int s = addNode(start, 0, -1);
+        open.offer(s, NavGrid.heuristic(start, goal));
+    }
+
+    public long getStart() { return start; }
+    public long getGoal() { return goal; }
+    public Status getStatus() { return status; }
+    public int getExpanded() { return expanded; }
+
+    /** Result once the status is FOUND or PARTIAL, otherwise null. */
+    public NavPath getPath() { return path; }
+
+    public boolean isDone() {
+        return status != Status.RUNNING;
+    }
+
+    /** Expands up to {@code budget} nodes. */
+    public Status step(int budget) {
+        while (status == Status.RUNNING && budget-- > 0) {
+            if (open.isEmpty() || expanded >= maxNodes) {
+                finish(best, false);
+                break;
+            }
+            int n = open.poll();
+            closed[n] = true;
+            expanded++;
+            long cell = cells[n];
+            if (cell == goal) {
+                finish(n, true);
+                break;
+            }
+            int h = NavGrid.heuristic(cell, goal);
+            if (h < bestH) {
+                bestH = h;
+                best = n;
+            }
+
+            int x = World.unpackBlockX(cell), y = World.unpackBlockY(cell), z = World.unpackBlockZ(cell);
+            for (int d = 0; d < 8; d++) {
+                int ty = grid.stepTarget(x, y, z, DX[d], DZ[d]);
+                if (ty < 0) continue;
+                long next = World.packBlockPos(x + DX[d], ty, z + DZ[d]);
+                int cost = g[n] + NavGrid.stepCost(DX[d], ty - y, DZ[d]);
+                int m = index.get(next, -1);
+                if (m < 0) {
+                    m = addNode(next, cost, n);
+                } else {
+                    if (closed[m] || cost >= g[m]) continue;
+                    g[m] = cost;
+                    parent[m] = n;
+                }
+                open.offer(m, cost + NavGrid.heuristic(next, goal));
+            }
+        }
+        return status;
+    }
+
+    private int addNode(long cell, int cost, int from) {
+        if (count == cells.length) {
+            int cap = count * 2;
+            cells = Arrays.copyOf(cells, cap);
+            g = Arrays.copyOf(g, cap);
+            parent = Arrays.copyOf(parent, cap);
+            closed = Arrays.copyOf(closed, cap);
+        }
+        int n = count++;
+        cells[n] = cell;
+        g[n] = cost;
+        parent[n] = from;
+        index.put(cell, n, -1);
+        return n;
+    }
+
+    private void finish(int end, boolean reached) {
+        if (!reached && end == 0) {
+            status = Status.FAILED; // nothing closer than the start itself
+            return;
+        }
+        int length = 0;
+        for (int n = end; n >= 0; n = parent[n]) length++;
+        long[] result = new long[length];
+        for (int n = end, i = length - 1; n >= 0; n = parent[n], i--) result[i] = cells[n];
+        path = new NavPath(grid, result, goal, reached);
+        status = reached ? Status.FOUND : Status.PARTIAL;
+    }
+}
@@ -0,0 +1,24 @@
+package com.za.zenith.entities.ai.navigation;
+
+/**
+ * Block data seen by navigation, in 16x16x16 sections. Kept minimal so the navigation code can run
+ * against a synthetic world in tests.
+ */
+public interface VoxelSource {
+    /** Revision of a section that is not loaded (or outside the world); such sections count as solid. */
+    long NOT_LOADED = Long.MIN_VALUE;
+    /** Revision of a section above the build height: open sky, always empty and never changing. */
+    long ABOVE_WORLD = Long.MIN_VALUE + 1;
+
+    /**
+     * Block revision of section (sx, sy, sz): any block write inside it must change the value,
+     * and no other section may ever report the same value.
+     */
+    long sectionRevision(int sx, int sy, int sz);
+
+    /**
+     * Writes the collision solidity of the section into {@code bits} (bit {@code y*256 + z*16 + x} set = solid).
+     * Only called for loaded sections (not for {@link #NOT_LOADED} or {@link #ABOVE_WORLD}); {@code bits} is zeroed beforehand.
+     */
+    void fillSolid(int sx, int sy, int sz, long[] bits);
+}
@@ -0,0 +1,57 @@
+package com.za.zenith.entities.ai.navigation;
+
+import com.za.zenith.world.World;
+import com.za.zenith.world.blocks.BlockRegistry;
+import com.za.zenith.world.chunks.Chunk;
+import com.za.zenith.world.chunks.ChunkSection;
+
+/**
+ * {@link VoxelSource} over the loaded chunks of a {@link World}. Solidity is the same test
+ * {@code Entity.move} uses for collision: non-air and {@code BlockDefinition.isSolid()}.
+ */
+public class WorldVoxelSource implements VoxelSource {
+    private final World world;
+
+    public WorldVoxelSource(World world) {
+        this.world = world;
+    }
+
+    private ChunkSection section(int sx, int sy, int sz) {
+        if (sy < 0 || sy >= Chunk.NUM_SECTIONS) return null;
+        Chunk chunk = world.getChunk(sx, sz);
+        return chunk != null ? chunk.getSections()[sy] : null;
+    }
+
+    @Override
+    public long sectionRevision(int sx, int sy, int sz) {
+        if (sy >= Chunk.NUM_SECTIONS) return ABOVE_WORLD;
+        ChunkSection section = section(sx, sy, sz);
+        return section != null ? section.getBlockRevision() : NOT_LOADED;
+    }
+
+    @Override
+    public void fillSolid(int sx, int sy, int sz, long[] bits) {
+        ChunkSection section = section(sx, sy, sz);
+        if (section == null || section.isEmpty()) return;
+        Chunk chunk = world.getChunk(sx, sz);
+        int baseY = sy << 4;
+        int lastType = -1;
+        boolean lastSolid = false;
+        for (int y = 0; y < 16; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    int type = chunk.getRawBlockData(x, baseY + y, z) >> 8;
+                    if (type == 0) continue;
+                    if (type != lastType) {
+                        lastType = type;
+                        lastSolid = BlockRegistry.getBlock(type).isSolid();
+                    }
+                    if (lastSolid) {
+                        int i = (y << 8) | (z << 4) | x;
+                        bits[i >> 6] |= 1L << i;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.za.zenith.entities.ai.perception;
+
+import com.za.zenith.world.chunks.ChunkPos;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Timed noise events bucketed by 16x16 block column, so a perception query only looks at the columns
+ * within earshot instead of at every noise source in the world.
+ * <p>
+ * An event fades linearly from its loudness to silence over its duration, and is heard with linear falloff
+ * up to its radius. Continuous sources (footsteps, machines) simply emit again every update; an event of the
+ * same type close to an existing one refreshes it instead of piling up.
+ */
+public class NoiseGrid {
+    /** Loudness lost per second by short events, the same rate the player's noise meter decays at. */
+    public static final float DECAY_PER_SECOND = 0.5f;
+    /** Largest radius of any event; bounds the columns a query visits. */
+    public static final float MAX_RADIUS = 32.0f;
+
+    private static final int CELL_SHIFT = 4;
+    private static final float MERGE_DISTANCE_SQ = 1.0f;
+
+    private static final class Event {
+        NoiseType type;
+        float x, y, z;
+        float loudness;
+        float radius;
+        float start, end;
+
+        float loudnessAt(float time) {
+            return loudness * (end - time) / (end - start);
+        }
+    }
+
+    private final Map<Long, List<Event>> cells = new HashMap<>();
+    private float time;
+    private int eventCount;
+
+    /** Advances the clock and drops events that have faded out. */
+    public void tick(float deltaTime) {
+        time += deltaTime;
+        for (Iterator<List<Event>> it = cells.values().iterator(); it.hasNext(); ) {
+            List<Event> events = it.next();
+            for (int i = events.size() - 1; i >= 0; i--) {
+                if (events.get(i).end <= time) {
+                    int last = events.size() - 1;
+                    events.set(i, events.get(last));
+                    events.remove(last);
+                    eventCount--;
+                }
+            }
+            if (events.isEmpty()) it.remove();
+        }
+    }
+
+    /** Short noise that fades at {@link #DECAY_PER_SECOND}. */
+    public void emit(NoiseType type, float x, float y, float z, float loudness, float radius) {
+        emit(type, x, y, z, loudness, radius, loudness / DECAY_PER_SECOND);
+    }
+
+    public void emit(NoiseType type, float x, float y, float z, float loudness, float radius, float duration) {
+        if (loudness <= 0 || duration <= 0) return;
+        radius = Math.min(radius, MAX_RADIUS);
+        long key = ChunkPos.pack((int) Math.floor(x) >> CELL_SHIFT, (int) Math.floor(z) >> CELL_SHIFT);
+        List<Event> events = cells.computeIfAbsent(key, k -> new ArrayList<>(4));
+
+        for (int i = 0; i < events.size(); i++) {
+            Event e = events.get(i);
+            if (e.type != type) continue;
+            float dx = e.x - x, dy = e.y - y, dz = e.z - z;
+            if (dx * dx + dy * dy + dz * dz > MERGE_DISTANCE_SQ) continue;
+            if (e.loudnessAt(time) <= loudness) set(e, type, x, y, z, loudness, radius, duration);
+            return;
+        }
+        Event e = new Event();
+        set(e, type, x, y, z, loudness, radius, duration);
+        events.add(e);
+        eventCount++;
+    }
+
+    private void set(Event e, NoiseType type, float x, float y, float z, float loudness, float radius, float duration) {
+        e.type = type;
+        e.x = x;
+        e.y = y;
+        e.z = z;
+        e.loudness = loudness;
+        e.radius = radius;
+        e.start = time;
+        e.end = time + duration;
+    }
+
+    /**
+     * Loudest noise heard at the given position, after fading and distance falloff.
+     * @param hit receives the source of that noise; may be null
+     */
+    public float query(float x, float y, float z, NoiseHit hit) {
+        if (hit != null) hit.clear();
+        if (eventCount == 0) return 0.0f;
+        int reach = (int) Math.ceil(MAX_RADIUS) >> CELL_SHIFT;
+        int cx = (int) Math.floor(x) >> CELL_SHIFT, cz = (int) Math.floor(z) >> CELL_SHIFT;
+        float best = 0.0f;
+        for (int gx = cx - reach; gx <= cx + reach; gx++) {
+            for (int gz = cz - reach; gz <= cz + reach; gz++) {
+                List<Event> events = cells.get(ChunkPos.pack(gx, gz));
+                if (events == null) continue;
+                for (int i = 0; i < events.size(); i++) {
+                    Event e = events.get(i);
+                    if (e.end <= time) continue;
+                    float dx = e.x - x, dy = e.y - y, dz = e.z - z;
+                    float distSq = dx * dx + dy * dy + dz * dz;
+                    if (distSq >= e.radius * e.radius) continue;
+                    float heard = e.loudnessAt(time) * (1.0f - (float) Math.sqrt(distSq) / e.radius);
+                    if (heard > best) {
+                        best = heard;
+                        if (hit != null) hit.set(heard, e.x, e.y, e.z, e.type);
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    public void clear() {
+        cells.clear();
+        eventCount = 0;
+    }
+}
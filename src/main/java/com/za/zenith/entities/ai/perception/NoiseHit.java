@@ -0,0 +1,23 @@
+package com.za.zenith.entities.ai.perception;
+
+/**
+ * Result of a perception query: the loudest noise heard and where it came from. Reused by the caller.
+ */
+public final class NoiseHit {
+    public float loudness;
+    public float x, y, z;
+    public NoiseType type;
+
+    void set(float loudness, float x, float y, float z, NoiseType type) {
+        this.loudness = loudness;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.type = type;
+    }
+
+    public void clear() {
+        loudness = 0;
+        type = null;
+    }
+}
@@ -0,0 +1,12 @@
+package com.za.zenith.entities.ai.perception;
+
+/**
+ * What made a noise; lets AI react differently to a machine than to footsteps.
+ */
+public enum NoiseType {
+    FOOTSTEP,
+    ACTION,
+    MINING,
+    BLOCK_BREAK,
+    MACHINE
+}
@@ -24,6 +24,11 @@ public class AnimationProfile implements com.za.zenith.utils.LiveReloadable {
     private String durationKey = null;
     private boolean looping = false;
     private final Map<String, AnimationTrack> tracks = new HashMap<>();
+    // Dense view of the tracks for evaluateAll; slot order is fixed until the next addTrack/clearTracks
+    private final Map<String, Integer> slots = new HashMap<>();
+    private String[] slotNames = new String[0];
+    private AnimationTrack[] slotTracks = new AnimationTrack[0];
+    private int layoutRevision;
     
     // Path settings
     private String pathType = "linear";
@@ -43,10 +48,30 @@ public class AnimationProfile implements com.za.zenith.utils.LiveReloadable {
 
     public void addTrack(String param, AnimationTrack track) {
         tracks.put(param, track);
+        Integer slot = slots.get(param);
+        if (slot != null) {
+            AnimationTrack[] copy = slotTracks.clone();
+            copy[slot] = track;
+            slotTracks = copy;
+        } else {
+            int n = slotNames.length;
+            String[] names = java.util.Arrays.copyOf(slotNames, n + 1);
+            AnimationTrack[] copy = java.util.Arrays.copyOf(slotTracks, n + 1);
+            names[n] = param;
+            copy[n] = track;
+            slots.put(param, n);
+            slotNames = names;
+            slotTracks = copy;
+        }
+        layoutRevision++;
     }
 
     public void clearTracks() {
         tracks.clear();
+        slots.clear();
+        slotNames = new String[0];
+        slotTracks = new AnimationTrack[0];
+        layoutRevision++;
     }
 
     public boolean hasTrack(String param) {
@@ -62,6 +87,40 @@ public class AnimationProfile implements com.za.zenith.utils.LiveReloadable {
         return track.isMirror() ? val * multiplier : val;
     }
 
+    /** Number of slots filled by {@link #evaluateAll}. */
+    public int getTrackCount() {
+        return slotTracks.length;
+    }
+
+    /** Pose buffer slot of {@code param}, or -1 if the profile has no such track. */
+    public int slotOf(String param) {
+        Integer slot = slots.get(param);
+        return slot != null ? slot : -1;
+    }
+
+    public String getTrackName(int slot) {
+        return slotNames[slot];
+    }
+
+    /** Changes whenever slots are added or removed; cached {@link #slotOf} results are stale after that. */
+    public int getLayoutRevision() {
+        return layoutRevision;
+    }
+
+    /**
+     * Samples every track at {@code t} into {@code pose[slot]} in one pass;
+     * each value equals {@link #evaluate(String, float, float)} for that track.
+     */
+    public void evaluateAll(float t, float multiplier, float[] pose) {
+        AnimationTrack[] all = slotTracks;
+        float finalT = looping ? t % 1.0f : t;
+        for (int i = 0; i < all.length; i++) {
+            AnimationTrack track = all[i];
+            float val = track.evaluate(finalT);
+            pose[i] = track.isMirror() ? val * multiplier : val;
+        }
+    }
+
     public String getName() { return name; }
     public float getDuration() { return duration; }
     public void setDuration(float duration) { this.duration = duration; }
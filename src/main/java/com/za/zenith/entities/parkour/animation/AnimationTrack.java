@@ -4,13 +4,35 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
+/**
+ * Keyframed scalar channel. Keyframes are compiled on every change ({@link #addKeyframe}, {@link #sort})
+ * into primitive arrays with pre-resolved easing handles; evaluation binary-searches the segment and
+ * first tries the one used last time, which is the common case for sequential playback.
+ */
 public class AnimationTrack {
     private final List<Keyframe> keyframes = new ArrayList<>();
     private boolean mirror = false;
+    private Compiled compiled = Compiled.EMPTY;
+    private int lastSegment;
+
+    /** Immutable snapshot of the keyframes; replaced as a whole so readers never see a half-built track. */
+    private static final class Compiled {
+        static final Compiled EMPTY = new Compiled(new float[0], new float[0], new EasingRegistry.Easing[0]);
+
+        final float[] times;
+        final float[] values;
+        final EasingRegistry.Easing[] easings;
+
+        Compiled(float[] times, float[] values, EasingRegistry.Easing[] easings) {
+            this.times = times;
+            this.values = values;
+            this.easings = easings;
+        }
+    }
 
     public void addKeyframe(Keyframe keyframe) {
         keyframes.add(keyframe);
-        keyframes.sort(Comparator.comparingDouble(Keyframe::time));
+        sort();
     }
 
     public boolean isMirror() {
@@ -21,31 +43,61 @@ public class AnimationTrack {
         this.mirror = mirror;
     }
 
+    /** Re-sorts and recompiles; call after keyframes were edited in place (live reload). */
     public void sort() {
         keyframes.sort(Comparator.comparingDouble(Keyframe::time));
+        int n = keyframes.size();
+        float[] times = new float[n];
+        float[] values = new float[n];
+        EasingRegistry.Easing[] easings = new EasingRegistry.Easing[n];
+        for (int i = 0; i < n; i++) {
+            Keyframe k = keyframes.get(i);
+            times[i] = k.time();
+            values[i] = k.value();
+            easings[i] = EasingRegistry.get(k.easing());
+        }
+        compiled = new Compiled(times, values, easings);
+        lastSegment = 0;
     }
 
-    public float evaluate(float t) {
-        if (keyframes.isEmpty()) return 0.0f;
-        if (t <= keyframes.get(0).time()) return keyframes.get(0).value();
-        if (t >= keyframes.get(keyframes.size() - 1).time()) return keyframes.get(keyframes.size() - 1).value();
+    public int getKeyframeCount() {
+        return compiled.times.length;
+    }
 
-        for (int i = 0; i < keyframes.size() - 1; i++) {
-            Keyframe current = keyframes.get(i);
-            Keyframe next = keyframes.get(i + 1);
+    public float evaluate(float t) {
+        Compiled c = compiled;
+        float[] times = c.times;
+        int n = times.length;
+        if (n == 0) return 0.0f;
+        if (t <= times[0]) return c.values[0];
+        if (t >= times[n - 1]) return c.values[n - 1];
 
-            if (t >= current.time() && t <= next.time()) {
-                float segmentT = (t - current.time()) / (next.time() - current.time());
-                return interpolate(current.value(), next.value(), segmentT, current.easing());
+        // Segment i is the first with t <= times[i + 1]; since t > times[0], also t > times[i]
+        int i = lastSegment;
+        if (i >= n - 1 || !(t > times[i] && t <= times[i + 1])) {
+            if (i + 2 < n && t > times[i + 1] && t <= times[i + 2]) {
+                i++;
+            } else {
+                i = findSegment(times, t);
+                if (i < 0) return 0.0f; // NaN
             }
+            lastSegment = i;
         }
-        return 0.0f;
+
+        float start = times[i];
+        float segmentT = (t - start) / (times[i + 1] - start);
+        float from = c.values[i];
+        return from + (c.values[i + 1] - from) * c.easings[i].apply(segmentT);
     }
 
-    private float interpolate(float start, float end, float t, String easing) {
-        float easedT = EasingRegistry.evaluate(easing, t);
-        return start + (end - start) * easedT;
+    /** First index i with {@code t <= times[i + 1]}, or -1 if there is none. */
+    private static int findSegment(float[] times, float t) {
+        int lo = 1, hi = times.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (times[mid] >= t) hi = mid;
+            else lo = mid + 1;
+        }
+        return lo < times.length && times[lo] >= t ? lo - 1 : -1;
     }
 }
-
-
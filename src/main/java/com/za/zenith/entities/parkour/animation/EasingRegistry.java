@@ -12,10 +12,32 @@ import java.util.*;
 /**
  * Data-Driven Easing Registry.
  * Bakes JSON formulas and Beziers into LUTs for O(1) performance.
+ * <p>
+ * Compiled code resolves a name once through {@link #get(String)}; the returned {@link Easing}
+ * handle stays valid across {@link #reload()} and always samples the current LUT.
  */
 public class EasingRegistry {
     private static final int LUT_SIZE = 256;
     private static final Map<String, float[]> registry = new HashMap<>();
+    private static final Map<String, Easing> handles = new HashMap<>();
+    private static final Easing LINEAR_FALLBACK = new Easing(null);
+
+    /** Pre-resolved easing curve. An unknown name behaves as linear until a reload defines it. */
+    public static final class Easing {
+        private final String name;
+        private volatile float[] lut;
+
+        private Easing(String name) {
+            this.name = name;
+        }
+
+        public String getName() { return name; }
+
+        public float apply(float t) {
+            float[] l = lut;
+            return l == null ? t : sample(l, t);
+        }
+    }
 
     public static void init() {
         reload();
@@ -27,6 +49,7 @@ public class EasingRegistry {
         if (root == null || root.size() == 0) {
             Logger.warn("EasingRegistry: No easings found in JSON, using defaults");
             bakeDefaultEasings();
+            publish();
             return;
         }
 
@@ -46,9 +69,26 @@ public class EasingRegistry {
                 Logger.error("Failed to bake easing '%s': %s", name, e.getMessage());
             }
         }
+        publish();
         Logger.info("EasingRegistry: Baked %d easings", registry.size());
     }
 
+    private static synchronized void publish() {
+        for (Easing handle : handles.values()) {
+            handle.lut = registry.get(handle.name);
+        }
+    }
+
+    /** Handle for {@code name}, created on first request; {@code null} maps to linear. */
+    public static synchronized Easing get(String name) {
+        if (name == null) return LINEAR_FALLBACK;
+        return handles.computeIfAbsent(name, n -> {
+            Easing handle = new Easing(n);
+            handle.lut = registry.get(n);
+            return handle;
+        });
+    }
+
     private static void bakeBuiltin(float[] lut, String name) {
         for (int i = 0; i < LUT_SIZE; i++) {
             float t = i / (float)(LUT_SIZE - 1);
@@ -105,7 +145,10 @@ public class EasingRegistry {
     public static float evaluate(String name, float t) {
         float[] lut = registry.get(name);
         if (lut == null) return t; // Fallback to linear
+        return sample(lut, t);
+    }
 
+    private static float sample(float[] lut, float t) {
         t = Math.clamp(t, 0, 1);
         float indexF = t * (LUT_SIZE - 1);
         int index = (int) indexF;
@@ -11,6 +11,7 @@ import java.util.Map;
 public class I18n {
     private static Map<String, String> translations = new HashMap<>();
     private static String currentLanguage = "ru_ru";
+    private static volatile int revision;
 
     static {
         loadLanguage("en_us"); // Load English as fallback
@@ -29,6 +30,7 @@ public class I18n {
                 if (newTranslations != null) {
                     translations.putAll(newTranslations);
                     currentLanguage = langCode;
+                    revision++;
                     Logger.info("Loaded language: " + langCode);
                 }
             } else {
@@ -39,6 +41,11 @@ public class I18n {
         }
     }
 
+    /** Bumped on every language load, so cached text can tell that translations changed. */
+    public static int getRevision() {
+        return revision;
+    }
+
     public static String get(String key) {
         return translations.getOrDefault(key, key);
     }
@@ -11,6 +11,7 @@ public class Identifier {
     
     private final String namespace;
     private final String path;
+    private transient int hash; // 0 = not computed yet; ids are hot map keys
 
     public Identifier(String namespace, String path) {
         this.namespace = namespace.toLowerCase();
@@ -51,7 +52,12 @@ public class Identifier {
 
     @Override
     public int hashCode() {
-        return Objects.hash(namespace, path);
+        int h = hash;
+        if (h == 0) {
+            h = 31 * namespace.hashCode() + path.hashCode();
+            hash = h;
+        }
+        return h;
     }
     
     public static Identifier of(String full) {
@@ -1,30 +1,353 @@
 package com.za.zenith.utils;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.IllegalFormatException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous logger.
+ * <p>
+ * Callers only pay for a level check, a rate-limit check and a slot claim in a bounded lock-free
+ * ring buffer (multi-producer / single-consumer). Formatting and all I/O (console and rolling file)
+ * happen on the daemon "Logger" thread, so logging never blocks render or generation threads:
+ * when the ring is full the message is dropped and counted instead.
+ * <p>
+ * Arguments are formatted lazily on the writer thread. Pass immutable values (numbers, strings,
+ * names); a mutable object such as a {@code Vector3f} may be printed with a later state.
+ * <p>
+ * Configuration (system properties): {@code zenith.log.level} = debug|info|warn|error (default info),
+ * {@code zenith.log.file} = path of the log file or {@code none} (default {@code logs/zenith.log}).
+ */
 public class Logger {
-    private static final boolean DEBUG_MODE = true;
-    
-    public static void debug(String message, Object... args) {
-        if (DEBUG_MODE) {
-            System.out.printf("[DEBUG] " + message + "%n", args);
+    public enum Level { DEBUG, INFO, WARN, ERROR }
+
+    private static final int CAPACITY = 8192;
+    private static final int MASK = CAPACITY - 1;
+
+    // Same template logged more than RATE_LIMIT times per window is suppressed and summarized
+    private static final int RATE_LIMIT = 50;
+    private static final long RATE_WINDOW_NANOS = 1_000_000_000L;
+    private static final int MAX_RATE_KEYS = 4096;
+
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+    private static final long MAX_FILE_BYTES = 8L * 1024 * 1024;
+    private static final int MAX_ROLLED_FILES = 3;
+
+    private static final Event[] ring = new Event[CAPACITY];
+    private static final AtomicLong producerCursor = new AtomicLong();
+    private static long consumerCursor = 0; // writer thread only
+    private static final AtomicLong dropped = new AtomicLong();
+    private static final Map<String, RateWindow> rateWindows = new ConcurrentHashMap<>();
+
+    private static volatile Level level = parseLevel(System.getProperty("zenith.log.level", "info"));
+    private static volatile boolean running = true;
+    private static final Thread writer;
+
+    private static final Path filePath;
+    private static BufferedWriter fileOut;
+    private static long fileBytes = 0;
+
+    private static final class Event {
+        volatile long sequence;
+        Level level;
+        String template;
+        Object[] args;
+        Throwable error;
+        String thread;
+        long timeMillis;
+    }
+
+    private static final class RateWindow {
+        volatile long windowStart;
+        final AtomicInteger count = new AtomicInteger();
+        final AtomicInteger suppressed = new AtomicInteger();
+
+        RateWindow(long now) {
+            this.windowStart = now;
         }
     }
-    
+
+    static {
+        for (int i = 0; i < CAPACITY; i++) {
+            ring[i] = new Event();
+            ring[i].sequence = i;
+        }
+
+        String file = System.getProperty("zenith.log.file", "logs/zenith.log");
+        filePath = "none".equalsIgnoreCase(file) ? null : Paths.get(file);
+        openFile();
+
+        writer = new Thread(Logger::writerLoop, "Logger");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(Logger::shutdown, "Logger-Shutdown"));
+    }
+
+    public static void setLevel(Level newLevel) { level = newLevel; }
+    public static Level getLevel() { return level; }
+
+    public static boolean isEnabled(Level l) {
+        return l.ordinal() >= level.ordinal();
+    }
+
+    public static boolean isDebugEnabled() {
+        return isEnabled(Level.DEBUG);
+    }
+
+    public static long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public static void debug(String message, Object... args) {
+        log(Level.DEBUG, message, null, args);
+    }
+
     public static void info(String message, Object... args) {
-        System.out.printf("[INFO] " + message + "%n", args);
+        log(Level.INFO, message, null, args);
     }
-    
+
     public static void warn(String message, Object... args) {
-        System.out.printf("[WARN] " + message + "%n", args);
+        log(Level.WARN, message, null, args);
     }
-    
+
     public static void error(String message, Object... args) {
-        System.err.printf("[ERROR] " + message + "%n", args);
+        log(Level.ERROR, message, null, args);
     }
-    
+
     public static void error(String message, Throwable t, Object... args) {
-        error(message, args);
-        t.printStackTrace();
+        log(Level.ERROR, message, t, args);
     }
-}
 
+    private static void log(Level l, String template, Throwable t, Object[] args) {
+        if (l.ordinal() < level.ordinal()) return;
+        if (!acquireRate(template)) return;
+        publish(l, template, t, args);
+    }
+
+    private static boolean acquireRate(String template) {
+        if (template == null) return true;
+        long now = System.nanoTime();
+        RateWindow window = rateWindows.get(template);
+        if (window == null) {
+            // Concatenated (non-literal) templates would grow the map forever: stop tracking past the cap
+            if (rateWindows.size() >= MAX_RATE_KEYS) return true;
+            window = rateWindows.computeIfAbsent(template, k -> new RateWindow(now));
+        }
+
+        long start = window.windowStart;
+        if (now - start >= RATE_WINDOW_NANOS) {
+            int suppressed = 0;
+            synchronized (window) {
+                if (window.windowStart == start) {
+                    window.windowStart = now;
+                    window.count.set(0);
+                    suppressed = window.suppressed.getAndSet(0);
+                }
+            }
+            if (suppressed > 0) {
+                publish(Level.WARN, "Logger: suppressed %d repeats of \"%s\"", null, new Object[]{suppressed, template});
+            }
+        }
 
+        if (window.count.incrementAndGet() <= RATE_LIMIT) return true;
+        window.suppressed.incrementAndGet();
+        return false;
+    }
+
+    private static void publish(Level l, String template, Throwable t, Object[] args) {
+        Event e;
+        long pos;
+        while (true) {
+            pos = producerCursor.get();
+            e = ring[(int) pos & MASK];
+            long diff = e.sequence - pos;
+            if (diff == 0) {
+                if (producerCursor.compareAndSet(pos, pos + 1)) break;
+            } else if (diff < 0) {
+                // Ring is full: never block the caller
+                dropped.incrementAndGet();
+                return;
+            }
+        }
+
+        e.level = l;
+        e.template = template;
+        e.args = args;
+        e.error = t;
+        e.thread = Thread.currentThread().getName();
+        e.timeMillis = System.currentTimeMillis();
+        e.sequence = pos + 1; // publish
+    }
+
+    private static void writerLoop() {
+        long reportedDrops = 0;
+        while (running || hasPending()) {
+            boolean wrote = drain();
+
+            long drops = dropped.get();
+            if (drops != reportedDrops) {
+                write(Level.WARN, "Logger", System.currentTimeMillis(),
+                        "Logger: ring buffer full, dropped " + (drops - reportedDrops) + " messages", null);
+                reportedDrops = drops;
+            }
+
+            if (!wrote) {
+                flushFile();
+                LockSupport.parkNanos(2_000_000L);
+            }
+        }
+        flushFile();
+    }
+
+    private static boolean hasPending() {
+        return ring[(int) consumerCursor & MASK].sequence == consumerCursor + 1;
+    }
+
+    private static boolean drain() {
+        boolean any = false;
+        while (hasPending()) {
+            Event e = ring[(int) consumerCursor & MASK];
+            write(e.level, e.thread, e.timeMillis, format(e.template, e.args), e.error);
+
+            e.template = null;
+            e.args = null;
+            e.error = null;
+            e.thread = null;
+            e.sequence = consumerCursor + CAPACITY; // release slot
+            consumerCursor++;
+            any = true;
+        }
+        return any;
+    }
+
+    private static String format(String template, Object[] args) {
+        if (template == null) return "null";
+        if (args == null || args.length == 0) return template;
+        try {
+            return String.format(template, args);
+        } catch (IllegalFormatException ex) {
+            StringBuilder sb = new StringBuilder(template).append(" [");
+            for (int i = 0; i < args.length; i++) {
+                if (i > 0) sb.append(", ");
+                sb.append(args[i]);
+            }
+            return sb.append(']').toString();
+        }
+    }
+
+    private static void write(Level l, String thread, long timeMillis, String message, Throwable t) {
+        String line = "[" + l + "] " + message;
+        if (l == Level.ERROR) System.err.println(line);
+        else System.out.println(line);
+        if (t != null) t.printStackTrace();
+
+        if (fileOut == null) return;
+        StringBuilder sb = new StringBuilder(line.length() + 48)
+                .append(TIME.format(Instant.ofEpochMilli(timeMillis)))
+                .append(" [").append(thread).append("] ").append(line).append('\n');
+        if (t != null) {
+            StringWriter sw = new StringWriter();
+            t.printStackTrace(new PrintWriter(sw));
+            sb.append(sw);
+        }
+        writeFile(sb.toString());
+    }
+
+    private static void openFile() {
+        if (filePath == null) return;
+        try {
+            if (filePath.getParent() != null) Files.createDirectories(filePath.getParent());
+            fileBytes = Files.exists(filePath) ? Files.size(filePath) : 0;
+            fileOut = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            System.err.println("[ERROR] Logger: cannot open log file " + filePath + ": " + e.getMessage());
+            fileOut = null;
+        }
+    }
+
+    private static void writeFile(String text) {
+        try {
+            fileOut.write(text);
+            fileBytes += text.length();
+            if (fileBytes >= MAX_FILE_BYTES) roll();
+        } catch (IOException e) {
+            System.err.println("[ERROR] Logger: file sink failed, disabling: " + e.getMessage());
+            closeFile();
+        }
+    }
+
+    /**
+     * zenith.log -> zenith.1.log -> ... -> zenith.N.log (oldest is deleted).
+     */
+    private static void roll() throws IOException {
+        closeFile();
+        String name = filePath.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        String ext = dot > 0 ? name.substring(dot) : "";
+        Path dir = filePath.toAbsolutePath().getParent();
+
+        Files.deleteIfExists(dir.resolve(base + "." + MAX_ROLLED_FILES + ext));
+        for (int i = MAX_ROLLED_FILES - 1; i >= 1; i--) {
+            Path from = dir.resolve(base + "." + i + ext);
+            if (Files.exists(from)) Files.move(from, dir.resolve(base + "." + (i + 1) + ext), StandardCopyOption.REPLACE_EXISTING);
+        }
+        Files.move(filePath, dir.resolve(base + ".1" + ext), StandardCopyOption.REPLACE_EXISTING);
+        openFile();
+    }
+
+    private static void flushFile() {
+        if (fileOut == null) return;
+        try {
+            fileOut.flush();
+        } catch (IOException ignored) {
+        }
+    }
+
+    private static void closeFile() {
+        if (fileOut == null) return;
+        try {
+            fileOut.close();
+        } catch (IOException ignored) {
+        }
+        fileOut = null;
+    }
+
+    /**
+     * Drains everything published so far. Called from the shutdown hook so the tail of the log
+     * (crash messages especially) is not lost.
+     */
+    private static void shutdown() {
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(2000);
+        } catch (InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Level parseLevel(String value) {
+        try {
+            return Level.valueOf(value.trim().toUpperCase(java.util.Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return Level.INFO;
+        }
+    }
+}
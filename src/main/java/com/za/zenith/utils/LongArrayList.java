@@ -0,0 +1,40 @@
+package com.za.zenith.utils;
+
+import java.util.Arrays;
+
+public class LongArrayList {
+    private long[] data;
+    private int size;
+
+    public LongArrayList() {
+        this(64);
+    }
+
+    public LongArrayList(int capacity) {
+        data = new long[Math.max(1, capacity)];
+        size = 0;
+    }
+
+    public void add(long element) {
+        if (size == data.length) {
+            data = Arrays.copyOf(data, Math.max(16, data.length * 2));
+        }
+        data[size++] = element;
+    }
+
+    public long get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        return data[index];
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(data, size);
+    }
+}
@@ -0,0 +1,79 @@
+package com.za.zenith.utils;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing set of primitive longs (packed block positions, chunk keys).
+ * No boxing, no per-entry objects; {@link #clear()} keeps the table for reuse.
+ */
+public class LongHashSet {
+    private long[] keys;
+    private boolean[] occupied;
+    private int size;
+    private int mask;
+
+    public LongHashSet() {
+        this(64);
+    }
+
+    public LongHashSet(int expected) {
+        int cap = Integer.highestOneBit(Math.max(16, (int) (expected / 0.7f) + 1) - 1) << 1;
+        keys = new long[cap];
+        occupied = new boolean[cap];
+        mask = cap - 1;
+    }
+
+    /**
+     * @return true if the value was not in the set yet
+     */
+    public boolean add(long key) {
+        if (size >= keys.length * 0.7f) rehash();
+        int h = hash(key) & mask;
+        while (occupied[h]) {
+            if (keys[h] == key) return false;
+            h = (h + 1) & mask;
+        }
+        occupied[h] = true;
+        keys[h] = key;
+        size++;
+        return true;
+    }
+
+    public boolean contains(long key) {
+        int h = hash(key) & mask;
+        while (occupied[h]) {
+            if (keys[h] == key) return true;
+            h = (h + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+
+    public void clear() {
+        if (size == 0) return;
+        Arrays.fill(occupied, false);
+        size = 0;
+    }
+
+    private static int hash(long x) {
+        x = (x ^ (x >>> 33)) * 0xff51afd7ed558ccdL;
+        x = (x ^ (x >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        x = x ^ (x >>> 33);
+        return (int) x;
+    }
+
+    private void rehash() {
+        long[] oldKeys = keys;
+        boolean[] oldOccupied = occupied;
+        int newCap = oldKeys.length * 2;
+        keys = new long[newCap];
+        occupied = new boolean[newCap];
+        mask = newCap - 1;
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldOccupied[i]) add(oldKeys[i]);
+        }
+    }
+}
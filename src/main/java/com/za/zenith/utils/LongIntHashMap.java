@@ -0,0 +1,97 @@
+package com.za.zenith.utils;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing map from primitive long keys to int values (packed positions to node indices).
+ * No boxing, no per-entry objects; {@link #clear()} keeps the table for reuse.
+ */
+public class LongIntHashMap {
+    private long[] keys;
+    private int[] values;
+    private boolean[] occupied;
+    private int size;
+    private int mask;
+
+    public LongIntHashMap() {
+        this(64);
+    }
+
+    public LongIntHashMap(int expected) {
+        int cap = Integer.highestOneBit(Math.max(16, (int) (expected / 0.7f) + 1) - 1) << 1;
+        keys = new long[cap];
+        values = new int[cap];
+        occupied = new boolean[cap];
+        mask = cap - 1;
+    }
+
+    /**
+     * @return the previous value, or {@code missing} if the key was absent
+     */
+    public int put(long key, int value, int missing) {
+        if (size >= keys.length * 0.7f) rehash();
+        int h = hash(key) & mask;
+        while (occupied[h]) {
+            if (keys[h] == key) {
+                int old = values[h];
+                values[h] = value;
+                return old;
+            }
+            h = (h + 1) & mask;
+        }
+        occupied[h] = true;
+        keys[h] = key;
+        values[h] = value;
+        size++;
+        return missing;
+    }
+
+    public int get(long key, int missing) {
+        int h = hash(key) & mask;
+        while (occupied[h]) {
+            if (keys[h] == key) return values[h];
+            h = (h + 1) & mask;
+        }
+        return missing;
+    }
+
+    public boolean containsKey(long key) {
+        int h = hash(key) & mask;
+        while (occupied[h]) {
+            if (keys[h] == key) return true;
+            h = (h + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+
+    public void clear() {
+        if (size == 0) return;
+        Arrays.fill(occupied, false);
+        size = 0;
+    }
+
+    private static int hash(long x) {
+        x = (x ^ (x >>> 33)) * 0xff51afd7ed558ccdL;
+        x = (x ^ (x >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        x = x ^ (x >>> 33);
+        return (int) x;
+    }
+
+    private void rehash() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        boolean[] oldOccupied = occupied;
+        int newCap = oldKeys.length * 2;
+        keys = new long[newCap];
+        values = new int[newCap];
+        occupied = new boolean[newCap];
+        mask = newCap - 1;
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldOccupied[i]) put(oldKeys[i], oldValues[i], 0);
+        }
+    }
+}
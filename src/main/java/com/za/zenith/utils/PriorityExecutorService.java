@@ -4,10 +4,47 @@ import java.util.concurrent.*;
 import java.util.Comparator;
 
 public class PriorityExecutorService extends ThreadPoolExecutor {
-    public PriorityExecutorService(int nThreads, ThreadFactory threadFactory) {
+    private final com.za.zenith.utils.profiling.ProfilerMetric latencyMetric;
+    private final com.za.zenith.utils.profiling.ProfilerMetric taskMetric;
+
+    private PriorityExecutorService(String name, int nThreads, ThreadFactory threadFactory) {
         super(nThreads, nThreads, 0L, TimeUnit.MILLISECONDS,
               new PriorityBlockingQueue<>(11, new PriorityTaskComparator()),
               threadFactory);
+        this.latencyMetric = com.za.zenith.utils.profiling.Profiler.metric(name + ".latencyNs");
+        this.taskMetric = com.za.zenith.utils.profiling.Profiler.metric(name + ".taskNs");
+    }
+
+    public static PriorityExecutorService create(int nThreads, ThreadFactory threadFactory) {
+        return create("Executor", nThreads, threadFactory);
+    }
+
+    /**
+     * Creates the pool and only then registers it with the profiler, so the sampler never sees a half-built executor.
+     * @param name pool name used for profiler metrics ({@code <name>.queue}, {@code <name>.latencyNs}, {@code <name>.taskNs}).
+     */
+    public static PriorityExecutorService create(String name, int nThreads, ThreadFactory threadFactory) {
+        PriorityExecutorService pool = new PriorityExecutorService(name, nThreads, threadFactory);
+        com.za.zenith.utils.profiling.Profiler.registerPool(name, pool);
+        return pool;
+    }
+
+    @Override
+    protected void beforeExecute(Thread t, Runnable r) {
+        super.beforeExecute(t, r);
+        if (r instanceof PriorityFutureTask<?> task) {
+            long now = System.nanoTime();
+            task.startNanos = now;
+            if (com.za.zenith.utils.profiling.Profiler.isEnabled()) latencyMetric.record(now - task.submitNanos);
+        }
+    }
+
+    @Override
+    protected void afterExecute(Runnable r, Throwable t) {
+        super.afterExecute(r, t);
+        if (r instanceof PriorityFutureTask<?> task && com.za.zenith.utils.profiling.Profiler.isEnabled()) {
+            taskMetric.record(System.nanoTime() - task.startNanos);
+        }
     }
 
     private static class PriorityTaskComparator implements Comparator<Runnable> {
@@ -40,6 +77,8 @@ public class PriorityExecutorService extends ThreadPoolExecutor {
 
     public static class PriorityFutureTask<V> extends FutureTask<V> {
         private final int priority;
+        private final long submitNanos = System.nanoTime();
+        private long startNanos;
 
         public PriorityFutureTask(Callable<V> callable, int priority) {
             super(callable);
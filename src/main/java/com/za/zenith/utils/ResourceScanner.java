@@ -14,7 +14,19 @@ import java.util.stream.Stream;
 
 public class ResourceScanner {
 
+    /**
+     * Отсортированные имена файлов каталога ресурсов. Отвечает индекс ресурсов; обход диска или
+     * JAR выполняется только для каталогов, которых в индексе нет (другие корни classpath).
+     */
     public static List<String> listResources(String path) {
+        com.za.zenith.engine.resources.ResourceIndex index = com.za.zenith.engine.resources.ResourceIndex.get();
+        if (index.hasDirectory(path)) {
+            return new ArrayList<>(index.list(path));
+        }
+        return scan(path);
+    }
+
+    private static List<String> scan(String path) {
         List<String> files = new ArrayList<>();
         
         // 1. Пытаемся найти .index файл для обратной совместимости или если сканирование не сработает
@@ -28,10 +40,13 @@ public class ResourceScanner {
                 URI uri = url.toURI();
                 
                 if (uri.getScheme().equals("jar")) {
-                    // Сканирование внутри JAR
-                    try (FileSystem fileSystem = FileSystems.newFileSystem(uri, Collections.emptyMap())) {
-                        Path myPath = fileSystem.getPath(path);
-                        files.addAll(listFromPath(myPath));
+                    // Сканирование внутри JAR (файловая система JAR может быть открыта только одна,
+                    // а загрузчики сканируют параллельно)
+                    synchronized (ResourceScanner.class) {
+                        try (FileSystem fileSystem = FileSystems.newFileSystem(uri, Collections.emptyMap())) {
+                            Path myPath = fileSystem.getPath(path);
+                            files.addAll(listFromPath(myPath));
+                        }
                     }
                 } else {
                     // Сканирование в файловой системе (IDE)
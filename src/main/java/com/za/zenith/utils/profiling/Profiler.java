@@ -0,0 +1,252 @@
+package com.za.zenith.utils.profiling;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Hierarchical scoped profiler.
+ * <p>
+ * Usage: {@code Profiler.push("world"); try { ... } finally { Profiler.pop(); }}.
+ * Each thread owns its own section tree, so push/pop never contend. Durations are accumulated
+ * per frame and committed into {@link ProfilerMetric} ring buffers:
+ * the main thread commits on {@link #endFrame()}, worker threads commit whenever their outermost
+ * scope closes (one task = one "frame").
+ * <p>
+ * While a capture is active every scope is additionally written as a complete event into a
+ * preallocated per-thread buffer that {@link ProfilerExporter} turns into a Chrome trace.
+ * Section names are expected to be string literals (compared by identity first).
+ */
+public final class Profiler {
+    private static final int MAX_DEPTH = 64;
+    private static final int TRACE_CAPACITY = 1 << 16;
+    /** Frames between sweeps for finished worker threads and terminated pools. */
+    private static final int PRUNE_INTERVAL = 120;
+
+    private static volatile boolean enabled = true;
+    private static volatile boolean capturing = false;
+    private static volatile long captureStartNanos = 0;
+
+    private static final List<ThreadProfile> threads = new CopyOnWriteArrayList<>();
+    private static final ThreadLocal<ThreadProfile> current = ThreadLocal.withInitial(() -> {
+        ThreadProfile profile = new ThreadProfile(Thread.currentThread());
+        threads.add(profile);
+        return profile;
+    });
+
+    private static final Map<String, ProfilerMetric> metrics = new ConcurrentHashMap<>();
+    private static final List<PoolGauge> pools = new CopyOnWriteArrayList<>();
+    private static final ProfilerMetric frameTime = new ProfilerMetric("frame");
+    private static long lastFrameNanos = 0;
+    private static int framesSincePrune = 0;
+
+    private Profiler() {}
+
+    /**
+     * One node of a thread's call tree.
+     */
+    public static final class Section {
+        private final String name;
+        private final Section parent;
+        private final List<Section> children = new CopyOnWriteArrayList<>();
+        private final ProfilerMetric metric;
+        private long frameAccum = 0;
+        private int frameCalls = 0;
+        private int lastCalls = 0;
+
+        Section(String name, Section parent) {
+            this.name = name;
+            this.parent = parent;
+            this.metric = new ProfilerMetric(name);
+        }
+
+        Section child(String childName) {
+            for (int i = 0, n = children.size(); i < n; i++) {
+                Section s = children.get(i);
+                if (s.name == childName || s.name.equals(childName)) return s;
+            }
+            Section s = new Section(childName, this);
+            children.add(s);
+            return s;
+        }
+
+        void commit() {
+            if (frameCalls > 0 || metric.getCount() > 0) metric.record(frameAccum);
+            lastCalls = frameCalls;
+            frameAccum = 0;
+            frameCalls = 0;
+            for (int i = 0, n = children.size(); i < n; i++) children.get(i).commit();
+        }
+
+        public String getName() { return name; }
+        public Section getParent() { return parent; }
+        public List<Section> getChildren() { return children; }
+        public ProfilerMetric getMetric() { return metric; }
+        public int getLastCalls() { return lastCalls; }
+    }
+
+    /**
+     * Per-thread state: scope stack plus the optional trace buffer.
+     */
+    public static final class ThreadProfile {
+        private final String threadName;
+        private final long threadId;
+        private final java.lang.ref.WeakReference<Thread> thread;
+        private final Section root;
+        private final Section[] stack = new Section[MAX_DEPTH];
+        private final long[] starts = new long[MAX_DEPTH];
+        private int depth = 0;
+
+        // Trace events (struct-of-arrays, written only by the owning thread, allocated on first capture)
+        Section[] traceSections;
+        long[] traceStarts;
+        long[] traceDurations;
+        volatile int traceCount = 0;
+
+        ThreadProfile(Thread thread) {
+            this.threadName = thread.getName();
+            this.threadId = thread.threadId();
+            this.thread = new java.lang.ref.WeakReference<>(thread);
+            this.root = new Section(threadName, null);
+            this.stack[0] = root;
+        }
+
+        public String getThreadName() { return threadName; }
+        public long getThreadId() { return threadId; }
+        public Section getRoot() { return root; }
+
+        boolean isAlive() {
+            Thread t = thread.get();
+            return t != null && t.isAlive();
+        }
+    }
+
+    public static void setEnabled(boolean value) { enabled = value; }
+    public static boolean isEnabled() { return enabled; }
+
+    public static void push(String name) {
+        if (!enabled) return;
+        ThreadProfile p = current.get();
+        if (p.depth + 1 >= MAX_DEPTH) { p.depth++; return; }
+        Section parent = p.stack[p.depth];
+        p.depth++;
+        p.stack[p.depth] = parent.child(name);
+        p.starts[p.depth] = System.nanoTime();
+    }
+
+    public static void pop() {
+        if (!enabled) return;
+        ThreadProfile p = current.get();
+        if (p.depth <= 0) return;
+        if (p.depth >= MAX_DEPTH) { p.depth--; return; }
+
+        long end = System.nanoTime();
+        Section s = p.stack[p.depth];
+        long start = p.starts[p.depth];
+        s.frameAccum += end - start;
+        s.frameCalls++;
+        p.stack[p.depth] = null;
+        p.depth--;
+
+        if (capturing && start >= captureStartNanos) {
+            if (p.traceSections == null) {
+                p.traceSections = new Section[TRACE_CAPACITY];
+                p.traceStarts = new long[TRACE_CAPACITY];
+                p.traceDurations = new long[TRACE_CAPACITY];
+            }
+            int idx = p.traceCount;
+            if (idx < TRACE_CAPACITY) {
+                p.traceSections[idx] = s;
+                p.traceStarts[idx] = start;
+                p.traceDurations[idx] = end - start;
+                p.traceCount = idx + 1;
+            }
+        }
+
+        // Worker threads have no frame loop: every finished top-level scope is one sample
+        if (p.depth == 0 && p != mainProfile) {
+            s.commit();
+        }
+    }
+
+    private static volatile ThreadProfile mainProfile;
+
+    /**
+     * Marks the end of a render frame. Must be called from the main (GL) thread.
+     */
+    public static void endFrame() {
+        long now = System.nanoTime();
+        if (lastFrameNanos != 0) frameTime.record(now - lastFrameNanos);
+        lastFrameNanos = now;
+        if (!enabled) return;
+
+        ThreadProfile p = current.get();
+        mainProfile = p;
+        for (Section s : p.root.children) s.commit();
+
+        for (int i = 0, n = pools.size(); i < n; i++) {
+            PoolGauge gauge = pools.get(i);
+            gauge.queue.record(gauge.pool.getQueue().size());
+            gauge.active.record(gauge.pool.getActiveCount());
+        }
+
+        if (++framesSincePrune >= PRUNE_INTERVAL) {
+            framesSincePrune = 0;
+            prune();
+        }
+    }
+
+    /**
+     * Drops profiles of threads that have ended and gauges of pools that have terminated, so short-lived
+     * pools do not grow the lists forever. A dead thread's trace is kept until the next capture starts.
+     */
+    private static void prune() {
+        threads.removeIf(p -> !p.isAlive() && p.traceCount == 0);
+        pools.removeIf(gauge -> gauge.pool.isTerminated());
+    }
+
+    /**
+     * Records a free-form value (latency in ns, counts) under the given name.
+     */
+    public static void record(String name, long value) {
+        if (!enabled) return;
+        metric(name).record(value);
+    }
+
+    public static ProfilerMetric metric(String name) {
+        ProfilerMetric m = metrics.get(name);
+        if (m == null) m = metrics.computeIfAbsent(name, ProfilerMetric::new);
+        return m;
+    }
+
+    /**
+     * Registers an executor whose queue depth and active thread count are sampled every frame.
+     */
+    public static void registerPool(String name, ThreadPoolExecutor pool) {
+        // A new world replaces the pools of the previous one
+        pools.removeIf(gauge -> gauge.name.equals(name));
+        pools.add(new PoolGauge(name, pool, metric(name + ".queue"), metric(name + ".active")));
+    }
+
+    private record PoolGauge(String name, ThreadPoolExecutor pool, ProfilerMetric queue, ProfilerMetric active) {}
+
+    public static void startCapture() {
+        for (ThreadProfile p : threads) p.traceCount = 0;
+        captureStartNanos = System.nanoTime();
+        capturing = true;
+    }
+
+    public static void stopCapture() {
+        capturing = false;
+    }
+
+    public static boolean isCapturing() { return capturing; }
+    public static long getCaptureStartNanos() { return captureStartNanos; }
+
+    public static ThreadProfile getMainThreadProfile() { return mainProfile; }
+    public static List<ThreadProfile> getThreadProfiles() { return threads; }
+    public static Map<String, ProfilerMetric> getMetrics() { return metrics; }
+    public static ProfilerMetric getFrameTime() { return frameTime; }
+}
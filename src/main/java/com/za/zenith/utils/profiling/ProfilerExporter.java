@@ -0,0 +1,137 @@
+package com.za.zenith.utils.profiling;
+
+import com.za.zenith.utils.Logger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Dumps profiler data to disk:
+ * <ul>
+ *     <li>{@code *.trace.json} - Chrome trace format (open in chrome://tracing or ui.perfetto.dev);</li>
+ *     <li>{@code *.summary.json} - per-thread section trees with avg/max and all metrics.</li>
+ * </ul>
+ * Files are written by hand with a streaming writer: a capture can hold hundreds of thousands
+ * of events and building a Gson tree for it would spike the heap.
+ */
+public final class ProfilerExporter {
+    private static final Path OUTPUT_DIR = Paths.get("profiler");
+    private static final DateTimeFormatter STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private ProfilerExporter() {}
+
+    public static Path exportAll() {
+        try {
+            Files.createDirectories(OUTPUT_DIR);
+            String stamp = LocalDateTime.now().format(STAMP);
+            Path trace = OUTPUT_DIR.resolve(stamp + ".trace.json");
+            Path summary = OUTPUT_DIR.resolve(stamp + ".summary.json");
+            writeChromeTrace(trace);
+            writeSummary(summary);
+            Logger.info("Profiler: exported %s and %s", trace, summary);
+            return trace;
+        } catch (IOException e) {
+            Logger.error("Profiler: export failed: %s", e.getMessage());
+            return null;
+        }
+    }
+
+    public static void writeChromeTrace(Path path) throws IOException {
+        long origin = Profiler.getCaptureStartNanos();
+        try (BufferedWriter w = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            w.write("{\"traceEvents\":[\n");
+            boolean first = true;
+            for (Profiler.ThreadProfile p : Profiler.getThreadProfiles()) {
+                if (!first) w.write(",\n");
+                first = false;
+                w.write("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":" + p.getThreadId()
+                        + ",\"args\":{\"name\":\"" + escape(p.getThreadName()) + "\"}}");
+
+                int count = p.traceCount;
+                for (int i = 0; i < count; i++) {
+                    w.write(",\n{\"name\":\"");
+                    w.write(escape(p.traceSections[i].getName()));
+                    w.write("\",\"ph\":\"X\",\"pid\":1,\"tid\":");
+                    w.write(Long.toString(p.getThreadId()));
+                    w.write(",\"ts\":");
+                    writeMicros(w, p.traceStarts[i] - origin);
+                    w.write(",\"dur\":");
+                    writeMicros(w, p.traceDurations[i]);
+                    w.write('}');
+                }
+            }
+            w.write("\n],\"displayTimeUnit\":\"ms\"}\n");
+        }
+    }
+
+    public static void writeSummary(Path path) throws IOException {
+        try (BufferedWriter w = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            w.write("{\n\"frameMs\":");
+            writeStats(w, Profiler.getFrameTime(), true);
+            w.write(",\n\"threads\":[");
+            boolean first = true;
+            for (Profiler.ThreadProfile p : Profiler.getThreadProfiles()) {
+                if (!first) w.write(',');
+                first = false;
+                w.write("\n{\"thread\":\"" + escape(p.getThreadName()) + "\",\"sections\":");
+                writeChildren(w, p.getRoot());
+                w.write('}');
+            }
+            w.write("\n],\n\"metrics\":{");
+            first = true;
+            Map<String, ProfilerMetric> sorted = new TreeMap<>(Profiler.getMetrics());
+            for (Map.Entry<String, ProfilerMetric> e : sorted.entrySet()) {
+                if (!first) w.write(',');
+                first = false;
+                w.write("\n\"" + escape(e.getKey()) + "\":");
+                writeStats(w, e.getValue(), e.getKey().endsWith("Ns"));
+            }
+            w.write("\n}\n}\n");
+        }
+    }
+
+    private static void writeChildren(Writer w, Profiler.Section section) throws IOException {
+        w.write('[');
+        boolean first = true;
+        for (Profiler.Section child : section.getChildren()) {
+            if (!first) w.write(',');
+            first = false;
+            w.write("{\"name\":\"" + escape(child.getName()) + "\",\"ms\":");
+            writeStats(w, child.getMetric(), true);
+            w.write(",\"children\":");
+            writeChildren(w, child);
+            w.write('}');
+        }
+        w.write(']');
+    }
+
+    private static void writeStats(Writer w, ProfilerMetric m, boolean nanos) throws IOException {
+        double scale = nanos ? 1.0e-6 : 1.0;
+        w.write(String.format(java.util.Locale.ROOT, "{\"avg\":%.4f,\"max\":%.4f,\"last\":%.4f}",
+                m.getAverage() * scale, m.getMax() * scale, m.getLast() * scale));
+    }
+
+    private static void writeMicros(Writer w, long nanos) throws IOException {
+        // Chrome expects microseconds; keep 3 decimals without String.format overhead
+        long micros = nanos / 1000;
+        long frac = Math.abs(nanos % 1000);
+        w.write(Long.toString(micros));
+        w.write('.');
+        if (frac < 100) w.write('0');
+        if (frac < 10) w.write('0');
+        w.write(Long.toString(frac));
+    }
+
+    private static String escape(String s) {
+        return s.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
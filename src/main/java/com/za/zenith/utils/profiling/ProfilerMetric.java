@@ -0,0 +1,54 @@
+package com.za.zenith.utils.profiling;
+
+/**
+ * Fixed-size ring buffer of long samples (nanoseconds or plain counts).
+ * Writes are synchronized because pool metrics are fed by several worker threads (uncontended
+ * for section metrics, which only their owning thread writes). Readers (UI, exporter) do not lock
+ * and may observe a sample that is being overwritten, which is acceptable for diagnostics.
+ */
+public class ProfilerMetric {
+    public static final int CAPACITY = 256;
+
+    private final String name;
+    private final long[] samples = new long[CAPACITY];
+    private int head = 0;
+    private int count = 0;
+    private long last = 0;
+
+    public ProfilerMetric(String name) {
+        this.name = name;
+    }
+
+    public synchronized void record(long value) {
+        samples[head] = value;
+        head = (head + 1) & (CAPACITY - 1);
+        if (count < CAPACITY) count++;
+        last = value;
+    }
+
+    public String getName() { return name; }
+    public long getLast() { return last; }
+    public int getCount() { return count; }
+
+    /**
+     * @param age 0 = newest sample.
+     */
+    public long getSample(int age) {
+        if (age >= count) return 0;
+        return samples[(head - 1 - age) & (CAPACITY - 1)];
+    }
+
+    public double getAverage() {
+        int n = count;
+        if (n == 0) return 0;
+        long sum = 0;
+        for (int i = 0; i < n; i++) sum += samples[i];
+        return (double) sum / n;
+    }
+
+    public long getMax() {
+        long max = 0;
+        for (int i = 0; i < count; i++) max = Math.max(max, samples[i]);
+        return max;
+    }
+}
@@ -0,0 +1,94 @@
+package com.za.zenith.world;
+
+import com.za.zenith.utils.IntArrayList;
+import com.za.zenith.utils.LongArrayList;
+import com.za.zenith.world.blocks.Block;
+import com.za.zenith.world.chunks.ChunkPos;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects block writes for a multi-block operation (tree felling, explosions, structures) and applies
+ * them in one go. Writes are grouped per chunk and applied under the chunk's lock; the whole set then
+ * gets a single coalesced light pass and one remesh request per touched chunk, instead of one of each
+ * per block as with {@link World#setBlock(int, int, int, Block)}.
+ * <p>
+ * Obtain one with {@link World#beginEdit()}. Writes are not visible until {@link #commit()}; a later
+ * write to the same position wins. Not thread-safe, use from the thread that owns the world.
+ */
+public final class BlockEditTransaction {
+    /** Pending writes of one chunk column, in submission order. */
+    static final class ChunkEdits {
+        final int cx;
+        final int cz;
+        final LongArrayList positions = new LongArrayList(16);
+        final IntArrayList data = new IntArrayList(16);
+
+        ChunkEdits(int cx, int cz) {
+            this.cx = cx;
+            this.cz = cz;
+        }
+
+        int size() { return positions.size(); }
+    }
+
+    private final World world;
+    private final Map<Long, ChunkEdits> byChunk = new HashMap<>();
+    private final List<ChunkEdits> chunks = new ArrayList<>();
+    private ChunkEdits last;
+    private int size;
+    private boolean committed;
+
+    BlockEditTransaction(World world) {
+        this.world = world;
+    }
+
+    public BlockEditTransaction set(BlockPos pos, Block block) {
+        return set(pos.x(), pos.y(), pos.z(), block);
+    }
+
+    public BlockEditTransaction set(int x, int y, int z, Block block) {
+        if (committed) throw new IllegalStateException("Transaction already committed");
+        if (y < 0 || y >= com.za.zenith.world.chunks.Chunk.CHUNK_HEIGHT) return this;
+
+        int cx = x >> 4;
+        int cz = z >> 4;
+        ChunkEdits edits = last;
+        if (edits == null || edits.cx != cx || edits.cz != cz) {
+            edits = byChunk.get(ChunkPos.pack(cx, cz));
+            if (edits == null) {
+                edits = new ChunkEdits(cx, cz);
+                byChunk.put(ChunkPos.pack(cx, cz), edits);
+                chunks.add(edits);
+            }
+            last = edits;
+        }
+        edits.positions.add(World.packBlockPos(x, y, z));
+        edits.data.add((block.getType() << 8) | (block.getMetadata() & 0xFF));
+        size++;
+        return this;
+    }
+
+    /** Number of queued writes. */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Applies all queued writes. A transaction can be committed only once. */
+    public void commit() {
+        if (committed) throw new IllegalStateException("Transaction already committed");
+        committed = true;
+        world.applyEdits(this);
+    }
+
+    List<ChunkEdits> chunks() {
+        return chunks;
+    }
+}
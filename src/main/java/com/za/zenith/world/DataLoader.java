@@ -9,6 +9,8 @@ import com.za.zenith.utils.Logger;
 import com.za.zenith.world.blocks.BlockDefinition;
 import com.za.zenith.world.blocks.BlockRegistry;
 import com.za.zenith.world.blocks.WoodTypeRegistry;
+import com.za.zenith.engine.resources.IResourceLoader;
+import com.za.zenith.engine.resources.LoaderGraph;
 import com.za.zenith.engine.resources.loaders.*;
 import com.za.zenith.engine.resources.loaders.generation.*;
 import com.za.zenith.engine.resources.loaders.settings.*;
@@ -34,7 +36,17 @@ public class DataLoader {
         return com.za.zenith.engine.resources.AssetManager.getSnapshot(path);
     }
 
+    private static volatile List<LoaderGraph.Timing> lastTimings = List.of();
+
+    /**
+     * Loads every registry. Loaders form a dependency graph: a registry is written by exactly one
+     * node and every node reading it declares that node as a dependency, so independent loaders
+     * run in parallel while registration order (and therefore auto-assigned IDs) stays fixed.
+     * {@code zenith.loader.threads} sets the pool size; 1 runs the nodes sequentially.
+     */
     public static void loadAll() {
+        long startTime = System.nanoTime();
+
         // Guarantee AIR as ID 0
         BlockDefinition airDef = new BlockDefinition(0, Identifier.of("zenith:air"), "block.zenith.air", false, false);
         airDef.setReplaceable(true);
@@ -44,66 +56,79 @@ public class DataLoader {
         com.za.zenith.world.blocks.component.BlockComponentRegistry.init();
         com.za.zenith.entities.parkour.animation.EasingRegistry.init();
 
-        for (String ns : namespaces) {
-            new BlockDataLoader().load(ns);
-        }
-        loadWoodTypes();
-        com.za.zenith.utils.events.RegistryEvents.fireBlockRegistration();
-        BlockRegistry.finalizeRegistration();
-        
-        // --- Essential Initialization Order ---
-        com.za.zenith.world.items.stats.StatRegistry.getAll(); // Ensure class loaded
-        com.za.zenith.world.items.stats.RarityRegistry.init();
-        
-        for (String ns : namespaces) {
-            new StatDataLoader().load(ns);
-            new RarityDataLoader().load(ns);
-            new AffixRarityDataLoader().load(ns);
-            new AffixDataLoader().load(ns);
-            new GripDataLoader().load(ns);
-        }
-
-        com.za.zenith.world.items.ItemRegistry.init();
-        
-        for (String ns : namespaces) {
-            new LootTableDataLoader().load(ns);
-            new ItemDataLoader().load(ns);
-        }
-        com.za.zenith.utils.events.RegistryEvents.fireItemRegistration();
-        
-        com.za.zenith.world.blocks.Blocks.init();
-        com.za.zenith.world.items.Items.init();
+        LoaderGraph graph = new LoaderGraph()
+            .add("tags", () -> loadEach(namespaces, new TagDataLoader()))
+            .add("blocks", () -> {
+                loadEach(namespaces, new BlockDataLoader());
+                loadWoodTypes();
+                com.za.zenith.utils.events.RegistryEvents.fireBlockRegistration();
+                BlockRegistry.finalizeRegistration();
+            }, "tags")
+            .add("stats", () -> {
+                com.za.zenith.world.items.stats.StatRegistry.getAll(); // Ensure class loaded
+                com.za.zenith.world.items.stats.RarityRegistry.init();
+                loadEach(namespaces, new StatDataLoader());
+                loadEach(namespaces, new RarityDataLoader());
+                loadEach(namespaces, new AffixRarityDataLoader());
+                loadEach(namespaces, new AffixDataLoader());
+            })
+            .add("grips", () -> loadEach(namespaces, new GripDataLoader()))
+            .add("loot_tables", () -> loadEach(namespaces, new LootTableDataLoader()))
+            .add("items", () -> {
+                com.za.zenith.world.items.ItemRegistry.init();
+                loadEach(namespaces, new ItemDataLoader());
+                com.za.zenith.utils.events.RegistryEvents.fireItemRegistration();
+                com.za.zenith.world.blocks.Blocks.init();
+                com.za.zenith.world.items.Items.init();
+            }, "blocks", "stats", "grips")
+            .add("structures", () -> loadEach(namespaces, new StructureDataLoader()), "blocks")
+            .add("density_functions", () -> loadEach(namespaces, new DensityFunctionLoader()))
+            .add("biomes", () -> loadEach(namespaces, new BiomeDataLoader()), "density_functions")
+            .add("prefabs", com.za.zenith.world.generation.structures.PrefabManager::init, "structures", "biomes")
+            .add("entities", () -> loadEach(namespaces, new EntityDataLoader()), "items")
+            .add("blueprints", com.za.zenith.engine.graphics.ui.blueprints.BlueprintRegistry::init, "items")
+            .add("recipes", () -> loadEach(namespaces, new RecipeDataLoader()), "items")
+            .add("gui", () -> loadEach(namespaces, new GUIDataLoader()))
+            .add("journal", () -> {
+                loadEach(namespaces, new JournalCategoryLoader());
+                loadEach(namespaces, new JournalEntryLoader());
+            })
+            .add("viewmodels", () -> loadEach(namespaces, new ViewmodelDataLoader()))
+            .add("actions", () -> loadEach(namespaces, new ActionDataLoader()))
+            .add("animations", () -> new AnimationDataLoader().load("zenith"))
+            .add("scavenge", () -> new ScavengeDataLoader().load("zenith"));
+
+        int threads = Integer.getInteger("zenith.loader.threads", Math.min(8, Runtime.getRuntime().availableProcessors()));
+        List<LoaderGraph.Timing> timings = graph.run(threads);
+
+        // Settings were always applied last: loaders above must keep seeing the defaults
+        new PhysicsSettingsLoader().load("zenith");
+        new WorldSettingsLoader().load("zenith");
+        new GenerationSettingsLoader().load("zenith");
+        new SkySettingsLoader().load("zenith");
 
-        for (String ns : namespaces) {
-            new StructureDataLoader().load(ns);
-            new DensityFunctionLoader().load(ns);
-            new BiomeDataLoader().load(ns);
-        }
-        com.za.zenith.world.generation.structures.PrefabManager.init();
+        com.za.zenith.engine.resources.BakedCache.get().save();
 
-        for (String ns : namespaces) {
-            new EntityDataLoader().load(ns);
+        lastTimings = timings;
+        for (LoaderGraph.Timing t : timings) {
+            com.za.zenith.utils.profiling.Profiler.record("startup." + t.name() + "Ns", t.wallNanos());
+            Logger.debug("DataLoader: %-18s %8.2f ms (start %7.2f ms, %s)", t.name(), t.wallNanos() / 1e6, t.startNanos() / 1e6, t.thread());
         }
+        Logger.info("DataLoader: All resources loaded successfully in %.1f ms (%d loaders, %d threads).",
+            (System.nanoTime() - startTime) / 1e6, timings.size(), threads);
+    }
 
-        com.za.zenith.engine.graphics.ui.blueprints.BlueprintRegistry.init();
-
+    private static void loadEach(List<String> namespaces, IResourceLoader loader) {
         for (String ns : namespaces) {
-            new RecipeDataLoader().load(ns);
-            new GUIDataLoader().load(ns);
-            new JournalCategoryLoader().load(ns);
-            new JournalEntryLoader().load(ns);
-            new ViewmodelDataLoader().load(ns);
-            new ActionDataLoader().load(ns);
+            loader.load(ns);
         }
+    }
 
-        new AnimationDataLoader().load("zenith");
-        new ScavengeDataLoader().load("zenith");
-        new PhysicsSettingsLoader().load("zenith");
-        new WorldSettingsLoader().load("zenith");
-        new GenerationSettingsLoader().load("zenith");
-        new SkySettingsLoader().load("zenith");
-        
-        Logger.info("DataLoader: All resources loaded successfully.");
+    /**
+     * Per-loader wall times of the last {@link #loadAll()}, in declaration order.
+     */
+    public static List<LoaderGraph.Timing> getLastTimings() {
+        return lastTimings;
     }
 
     private static List<String> loadNamespaces() {
@@ -2,11 +2,14 @@ package com.za.zenith.world;
 
 import com.za.zenith.entities.Player;
 import com.za.zenith.utils.Identifier;
+import com.za.zenith.utils.LongArrayList;
+import com.za.zenith.utils.LongHashSet;
 import com.za.zenith.world.blocks.Block;
 import com.za.zenith.world.blocks.BlockRegistry;
 import com.za.zenith.world.blocks.Blocks;
 import com.za.zenith.world.blocks.WoodTypeRegistry;
 import com.za.zenith.world.items.ItemStack;
+import com.za.zenith.world.tags.TagRegistry;
 import com.za.zenith.utils.Logger;
 
 import java.util.*;
@@ -27,51 +30,68 @@ public class TreecapitatorService {
     }
 
     public void fellTree(World world, BlockPos startPos, Player player) {
-        Queue<BlockPos> queue = new LinkedList<>();
-        Set<BlockPos> visited = new HashSet<>();
-        List<BlockPos> toDestroy = new ArrayList<>();
-        
-        queue.add(startPos);
-        visited.add(startPos);
-        
-        while (!queue.isEmpty() && toDestroy.size() < MAX_BLOCKS) {
-            BlockPos current = queue.poll();
-            toDestroy.add(current);
-            
+        // Позиции упакованы в long (World.packBlockPos): список служит и очередью BFS, и списком на удаление
+        LongArrayList toDestroy = new LongArrayList(MAX_BLOCKS);
+        LongHashSet visited = new LongHashSet(MAX_BLOCKS * 2);
+
+        long start = World.packBlockPos(startPos.x(), startPos.y(), startPos.z());
+        toDestroy.add(start);
+        visited.add(start);
+
+        int head = 0;
+        while (head < toDestroy.size() && head < MAX_BLOCKS) {
+            long current = toDestroy.get(head++);
+            int cx = World.unpackBlockX(current);
+            int cy = World.unpackBlockY(current);
+            int cz = World.unpackBlockZ(current);
+
             // Проверяем соседей в радиусе 1 блока (включая диагонали)
             for (int dx = -1; dx <= 1; dx++) {
                 for (int dy = -1; dy <= 1; dy++) {
+                    int ny = cy + dy;
+                    // Условие: не ниже начального блока
+                    if (ny < startPos.y()) continue;
                     for (int dz = -1; dz <= 1; dz++) {
                         if (dx == 0 && dy == 0 && dz == 0) continue;
-                        
-                        BlockPos neighbor = new BlockPos(current.x() + dx, current.y() + dy, current.z() + dz);
-                        
-                        // Условие: не ниже начального блока и еще не посещали
-                        if (neighbor.y() < startPos.y() || visited.contains(neighbor)) continue;
-                        
-                        Block block = world.getBlock(neighbor);
-                        if (block.isAir()) continue;
-                        
+
+                        int nx = cx + dx;
+                        int nz = cz + dz;
+                        int data = world.getRawBlockData(nx, ny, nz);
+                        int type = data >>> 8;
+                        if (type == 0) continue;
+
                         // Проверка на натуральность и тэг treecapitator
-                        if (block.isNatural() && BlockRegistry.getBlock(block.getType()).hasTag("treecapitator")) {
-                            visited.add(neighbor);
-                            queue.add(neighbor);
+                        if ((data & (Block.BIT_NATURAL & 0xFF)) == 0) continue;
+                        com.za.zenith.world.blocks.BlockDefinition def = BlockRegistry.getBlock(type);
+                        if (def == null || !def.hasTag(TagRegistry.TREECAPITATOR)) continue;
+
+                        long neighbor = World.packBlockPos(nx, ny, nz);
+                        if (visited.add(neighbor)) {
+                            toDestroy.add(neighbor);
                         }
                     }
                 }
             }
         }
-        
-        Logger.info("Treecapitator: Felling tree with %d blocks starting from %s", toDestroy.size(), startPos);
-        
+        int total = Math.min(toDestroy.size(), MAX_BLOCKS);
+
+        Logger.info("Treecapitator: Felling tree with %d blocks starting from %s", total, startPos);
+
         // Карта для накопления дропа
         Map<Integer, Integer> accumulatedDrop = new HashMap<>();
-        
-        for (BlockPos pos : toDestroy) {
-            Block block = world.getBlock(pos);
-            int type = block.getType();
-            int metadata = block.getMetadata();
-            
+        // Все удаления одной транзакцией: один пересчёт света и один ремеш на чанк
+        BlockEditTransaction edit = world.beginEdit();
+        Block air = new Block(Blocks.AIR.getId());
+
+        for (int i = 0; i < total; i++) {
+            long packed = toDestroy.get(i);
+            int x = World.unpackBlockX(packed);
+            int y = World.unpackBlockY(packed);
+            int z = World.unpackBlockZ(packed);
+            int data = world.getRawBlockData(x, y, z);
+            int type = data >>> 8;
+            int metadata = data & 0xFF;
+
             // Resolve technical stages to actual logs
             com.za.zenith.world.blocks.BlockDefinition def = BlockRegistry.getBlock(type);
             int finalType = type;
@@ -82,12 +102,13 @@ public class TreecapitatorService {
                 }
             }
 
-            accumulatedDrop.put(finalType, accumulatedDrop.getOrDefault(finalType, 0) + 1);
-            
+            accumulatedDrop.merge(finalType, 1, Integer::sum);
+
             // Удаляем блок без вызова onDestroyed (чтобы избежать рекурсии)
-            world.setBlock(pos, new Block(Blocks.AIR.getId()));
+            edit.set(x, y, z, air);
         }
-        
+        edit.commit();
+
         // Спавним накопленный дроп в одной точке
         for (Map.Entry<Integer, Integer> entry : accumulatedDrop.entrySet()) {
             com.za.zenith.world.items.Item item = com.za.zenith.world.items.ItemRegistry.getItem(entry.getKey());
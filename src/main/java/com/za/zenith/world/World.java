@@ -3,6 +3,8 @@ package com.za.zenith.world;
 import com.za.zenith.world.blocks.Block;
 import com.za.zenith.world.blocks.Blocks;
 import com.za.zenith.world.blocks.entity.BlockEntity;
+import com.za.zenith.world.blocks.entity.BlockEntityTickScheduler;
+import com.za.zenith.world.blocks.entity.EnergyNetworkManager;
 import com.za.zenith.world.blocks.entity.ITickable;
 import com.za.zenith.world.lighting.LightEngine;
 import com.za.zenith.world.chunks.Chunk;
@@ -34,11 +36,18 @@ public class World {
     private final Vector3f vPool1 = new Vector3f();
     private final Vector3f vPool2 = new Vector3f();
     private final Map<BlockPos, BlockEntity> blockEntities;
-    private final List<ITickable> tickableBlockEntities;
+    // Positions whose block entity was added, removed or changed its visible state; drained by the renderer
+    private final Set<BlockPos> changedBlockEntities = ConcurrentHashMap.newKeySet();
+    private final BlockEntityTickScheduler tickScheduler = new BlockEntityTickScheduler();
+    private final EnergyNetworkManager energyNetworks = new EnergyNetworkManager();
+    private final com.za.zenith.entities.ai.navigation.Navigation navigation =
+        new com.za.zenith.entities.ai.navigation.Navigation(new com.za.zenith.entities.ai.navigation.WorldVoxelSource(this));
+    private final com.za.zenith.entities.ai.perception.NoiseGrid noiseGrid = new com.za.zenith.entities.ai.perception.NoiseGrid();
     private final LightEngine lightEngine;
     private float worldTime; // Stored as float for smooth interpolation
 
-    private final com.za.zenith.utils.PriorityExecutorService chunkGenExecutor = new com.za.zenith.utils.PriorityExecutorService(
+    private final com.za.zenith.utils.PriorityExecutorService chunkGenExecutor = com.za.zenith.utils.PriorityExecutorService.create(
+        "ChunkGenerator",
         Math.min(4, Math.max(1, Runtime.getRuntime().availableProcessors() - 2)),
         r -> {
             Thread t = new Thread(r, "ChunkGenerator");
@@ -47,7 +56,8 @@ public class World {
             return t;
         }
     );
-    private final com.za.zenith.utils.PriorityExecutorService lightExecutor = new com.za.zenith.utils.PriorityExecutorService(
+    private final com.za.zenith.utils.PriorityExecutorService lightExecutor = com.za.zenith.utils.PriorityExecutorService.create(
+        "LightGenerator",
         Math.min(2, Math.max(1, Runtime.getRuntime().availableProcessors() / 4)),
         r -> {
             Thread t = new Thread(r, "LightGenerator");
@@ -174,7 +184,6 @@ public class World {
         this.chunks = new ConcurrentHashMap<>();
         this.entities = new CopyOnWriteArrayList<>();
         this.blockEntities = new ConcurrentHashMap<>();
-        this.tickableBlockEntities = new CopyOnWriteArrayList<>();
         this.seed = System.currentTimeMillis(); // Random seed each time
         com.za.zenith.utils.Logger.info("Generating new world with seed: %d", seed);
         this.biomeGenerator = new com.za.zenith.world.generation.BiomeGenerator(seed);
@@ -191,7 +200,6 @@ public class World {
         this.chunks = new ConcurrentHashMap<>();
         this.entities = new CopyOnWriteArrayList<>();
         this.blockEntities = new ConcurrentHashMap<>();
-        this.tickableBlockEntities = new CopyOnWriteArrayList<>();
         this.seed = seed;
         com.za.zenith.utils.Logger.info("Generating new world with seed: %d", seed);
         this.biomeGenerator = new com.za.zenith.world.generation.BiomeGenerator(seed);
@@ -330,13 +338,16 @@ public class World {
                             BlockEntity be = blockEntities.get(pos);
                             if (be != null) {
                                 be.setRemoved();
-                                if (be instanceof ITickable) tickableBlockEntities.remove(be);
+                                if (be instanceof ITickable tickable) tickScheduler.remove(tickable);
+                                energyNetworks.onRemoved(be);
                             }
                             return true;
                         }
                         return false;
                     });
 
+                    navigation.onChunkUnloaded(cx, cz);
+
                     for (java.util.function.Consumer<Chunk> listener : unloadListeners) {
                         listener.accept(chunk);
                     }
@@ -466,7 +477,7 @@ public class World {
                     com.za.zenith.world.lighting.LightManager.onChunkLoad(chunk);
                     chunks.put(packedPos, chunk);
                 } catch (Exception e) {
-                    com.za.zenith.utils.Logger.error("Lighting error: " + e.getMessage());
+                    com.za.zenith.utils.Logger.error("Lighting error: %s", e.getMessage());
                 } finally {
                     stagingChunks.remove(packedPos);
                     generatingChunks.remove(packedPos);
@@ -516,7 +527,18 @@ public class World {
     }
 
     public void update(float deltaTime) {
+        com.za.zenith.utils.profiling.Profiler.push("world");
+        try {
+            tick(deltaTime);
+        } finally {
+            com.za.zenith.utils.profiling.Profiler.pop();
+        }
+    }
+
+    private void tick(float deltaTime) {
+        com.za.zenith.utils.profiling.Profiler.push("chunks");
         updateChunks();
+        com.za.zenith.utils.profiling.Profiler.pop();
 
         // Advance time
         worldTime += deltaTime * WorldSettings.getInstance().dayCycleSpeed * 20.0f; 
@@ -534,7 +556,11 @@ public class World {
             inventoryFull = player.getInventory().isFull();
         }
 
+        // Fade out old noise before entities listen and emit new noise
+        noiseGrid.tick(deltaTime);
+
         // Update all entities
+        com.za.zenith.utils.profiling.Profiler.push("entities");
         for (int i = entities.size() - 1; i >= 0; i--) {
             Entity entity = entities.get(i);
 
@@ -579,7 +605,7 @@ public class World {
                              com.za.zenith.engine.graphics.ui.NotificationTriggers.getInstance().onInventoryFull();
                         } else if (player.getInventory().addItem(itemEntity.getStack(), true)) {
                             itemEntity.setRemoved();
-                            com.za.zenith.utils.Logger.info("Picked up item: %s", itemEntity.getStack().getItem().getName());
+                            com.za.zenith.utils.Logger.debug("Picked up item: %s", itemEntity.getStack().getItem().getName());
                             inventoryFull = player.getInventory().isFull();
                             
                             // Remove from spatial map
@@ -602,20 +628,31 @@ public class World {
             }
         }
 
-        // Update tickable block entities
-        for (int i = tickableBlockEntities.size() - 1; i >= 0; i--) {
-            ITickable tickable = tickableBlockEntities.get(i);
-            if (tickable instanceof BlockEntity be && be.isRemoved()) {
-                tickableBlockEntities.remove(i);
-                continue;
-            }
-            if (tickable.shouldTick()) {
-                tickable.update(deltaTime);
-            }
+        com.za.zenith.utils.profiling.Profiler.pop();
+
+        // Path searches and flow fields requested by entities this tick, within a fixed node budget
+        com.za.zenith.utils.profiling.Profiler.push("navigation");
+        navigation.tick();
+        com.za.zenith.utils.profiling.Profiler.pop();
+
+        // Distribute energy once per network before machines consume it
+        com.za.zenith.utils.profiling.Profiler.push("energy");
+        energyNetworks.tick(deltaTime);
+        com.za.zenith.utils.profiling.Profiler.pop();
+
+        // Update tickable block entities (sleep-aware, distance-tiered, time-budgeted)
+        com.za.zenith.utils.profiling.Profiler.push("blockEntities");
+        if (player != null) {
+            tickScheduler.tick(deltaTime, (int) Math.floor(px / Chunk.CHUNK_SIZE), (int) Math.floor(pz / Chunk.CHUNK_SIZE), true);
+        } else {
+            tickScheduler.tick(deltaTime, 0, 0, false);
         }
+        com.za.zenith.utils.profiling.Profiler.pop();
 
         if (player != null) {
+            com.za.zenith.utils.profiling.Profiler.push("player");
             player.update(deltaTime, this);
+            com.za.zenith.utils.profiling.Profiler.pop();
         }
 
         // Heal blocks over time and fade scars
@@ -676,13 +713,34 @@ public class World {
     }
 
     public void registerTickable(ITickable tickable) {
-        if (!tickableBlockEntities.contains(tickable)) {
-            tickableBlockEntities.add(tickable);
-        }
+        tickScheduler.add(tickable);
     }
 
     public void unregisterTickable(ITickable tickable) {
-        tickableBlockEntities.remove(tickable);
+        tickScheduler.remove(tickable);
+    }
+
+    /**
+     * Wakes a sleeping block entity so the scheduler polls it again.
+     * Must be called whenever external state that may re-enable ticking changes.
+     */
+    public void wakeBlockEntity(BlockEntity be) {
+        if (be instanceof ITickable tickable) {
+            tickScheduler.wake(tickable);
+        }
+    }
+
+    public void wakeBlockEntity(BlockPos pos) {
+        BlockEntity be = blockEntities.get(pos);
+        if (be != null) wakeBlockEntity(be);
+    }
+
+    public BlockEntityTickScheduler getTickScheduler() {
+        return tickScheduler;
+    }
+
+    public EnergyNetworkManager getEnergyNetworks() {
+        return energyNetworks;
     }
 
     public float getBlockDamage(BlockPos pos) {
@@ -828,7 +886,9 @@ public class World {
             if (be != null) {
                 be.setWorld(this);
                 blockEntities.put(pos, be);
-                if (be instanceof ITickable) tickableBlockEntities.add((ITickable) be);
+                if (be instanceof ITickable tickable) tickScheduler.add(tickable);
+                energyNetworks.onAdded(be);
+                changedBlockEntities.add(pos);
             }
         }
     }
@@ -895,14 +955,102 @@ public class World {
         }
     }
 
+    /**
+     * Starts a batched multi-block edit. Writes collected in the transaction are applied on
+     * {@link BlockEditTransaction#commit()} with one light pass and one remesh per touched chunk.
+     */
+    public BlockEditTransaction beginEdit() {
+        return new BlockEditTransaction(this);
+    }
+
+    /**
+     * Applies a committed transaction. Per-block side effects (block entities, damage, emitters) are the
+     * same as {@link #setBlock(int, int, int, Block)}; light, remesh and neighbor updates are coalesced.
+     */
+    void applyEdits(BlockEditTransaction edit) {
+        if (edit.isEmpty()) return;
+
+        List<BlockPos> changed = new ArrayList<>(edit.size());
+        com.za.zenith.utils.LongHashSet edited = new com.za.zenith.utils.LongHashSet(edit.size());
+        com.za.zenith.utils.LongHashSet neighborChunks = new com.za.zenith.utils.LongHashSet();
+        com.za.zenith.utils.LongArrayList neighborChunkList = new com.za.zenith.utils.LongArrayList(8);
+
+        for (BlockEditTransaction.ChunkEdits edits : edit.chunks()) {
+            Chunk chunk = chunks.get(ChunkPos.pack(edits.cx, edits.cz));
+            if (chunk == null) continue;
+
+            int first = changed.size();
+            int n = edits.size();
+            for (int i = 0; i < n; i++) {
+                long packed = edits.positions.get(i);
+                BlockPos pos = new BlockPos(unpackBlockX(packed), unpackBlockY(packed), unpackBlockZ(packed));
+                removeBlockEntity(pos);
+                blockDamageMap.remove(packed);
+                changed.add(pos);
+                edited.add(packed);
+            }
+
+            synchronized (chunk) {
+                for (int i = 0; i < n; i++) {
+                    BlockPos pos = changed.get(first + i);
+                    int data = edits.data.get(i);
+                    chunk.setBlock(pos.x() & 15, pos.y(), pos.z() & 15, data >>> 8, data & 0xFF);
+                }
+            }
+
+            for (int i = 0; i < n; i++) {
+                BlockPos pos = changed.get(first + i);
+                int type = edits.data.get(i) >>> 8;
+                com.za.zenith.world.lighting.LightManager.onBlockChange(this, pos, type);
+
+                BlockEntity be = com.za.zenith.world.blocks.BlockRegistry.getBlock(type).createBlockEntity(pos);
+                if (be != null) {
+                    setBlockEntity(be);
+                }
+
+                int lx = pos.x() & 15;
+                int lz = pos.z() & 15;
+                if (lx == 0) addNeighborChunk(neighborChunks, neighborChunkList, edits.cx - 1, edits.cz);
+                if (lx == Chunk.CHUNK_SIZE - 1) addNeighborChunk(neighborChunks, neighborChunkList, edits.cx + 1, edits.cz);
+                if (lz == 0) addNeighborChunk(neighborChunks, neighborChunkList, edits.cx, edits.cz - 1);
+                if (lz == Chunk.CHUNK_SIZE - 1) addNeighborChunk(neighborChunks, neighborChunkList, edits.cx, edits.cz + 1);
+            }
+            chunk.setNeedsMeshUpdate(true);
+        }
+
+        for (int i = 0; i < neighborChunkList.size(); i++) {
+            Chunk neighbor = chunks.get(neighborChunkList.get(i));
+            if (neighbor != null) neighbor.setNeedsMeshUpdate(true);
+        }
+
+        if (!generating && !changed.isEmpty()) {
+            lightEngine.enqueueLightUpdates(changed);
+            // Blocks inside the edit already have their final state, only the outside border is notified
+            for (BlockPos pos : changed) {
+                notifyNeighbors(pos, edited);
+            }
+        }
+    }
+
+    private static void addNeighborChunk(com.za.zenith.utils.LongHashSet seen, com.za.zenith.utils.LongArrayList list, int cx, int cz) {
+        long key = ChunkPos.pack(cx, cz);
+        if (seen.add(key)) list.add(key);
+    }
+
     /**
      * Notify 6 neighbor blocks about a change at the current position.
      * This triggers survival logic (requiresSupport) and other updates.
      */
     public void notifyNeighbors(BlockPos pos) {
+        notifyNeighbors(pos, null);
+    }
+
+    private void notifyNeighbors(BlockPos pos, com.za.zenith.utils.LongHashSet skip) {
         Block centerBlock = getBlock(pos);
         for (com.za.zenith.utils.Direction dir : com.za.zenith.utils.Direction.values()) {
             BlockPos neighborPos = dir.offset(pos);
+            if (skip != null && skip.contains(packBlockPos(neighborPos.x(), neighborPos.y(), neighborPos.z()))) continue;
+            wakeBlockEntity(neighborPos);
             Block neighborBlock = getBlock(neighborPos);
 
             // Air doesn't handle updates
@@ -938,6 +1086,7 @@ public class World {
         def.onDestroyed(this, pos, block, player);
 
         com.za.zenith.world.particles.ParticleManager.getInstance().spawnShatter(pos, block);
+        noiseGrid.emit(com.za.zenith.entities.ai.perception.NoiseType.BLOCK_BREAK, pos.x() + 0.5f, pos.y() + 0.5f, pos.z() + 0.5f, 0.5f, 24.0f);
 
         setBlock(pos, new Block(Blocks.AIR.getId()));
     }
@@ -948,9 +1097,11 @@ public class World {
 
         entity.setWorld(this);
         blockEntities.put(pos, entity);
-        if (entity instanceof ITickable) {
-            tickableBlockEntities.add((ITickable) entity);
+        if (entity instanceof ITickable tickable) {
+            tickScheduler.add(tickable);
         }
+        energyNetworks.onAdded(entity);
+        changedBlockEntities.add(pos);
 
         // Trigger mesh update for the chunk
         com.za.zenith.world.chunks.Chunk chunk = getChunk(com.za.zenith.world.chunks.ChunkPos.fromBlockPos(pos.x(), pos.z()));
@@ -959,6 +1110,21 @@ public class World {
         }
     }
 
+    /**
+     * Flags a block entity whose rendered state (inventory, carve mask) changed.
+     */
+    public void markBlockEntityChanged(BlockPos pos) {
+        changedBlockEntities.add(pos);
+    }
+
+    /**
+     * Positions changed since the consumer last removed them. The single consumer (overlay renderer)
+     * removes entries as it processes them.
+     */
+    public Set<BlockPos> getChangedBlockEntities() {
+        return changedBlockEntities;
+    }
+
     public BlockEntity getBlockEntity(BlockPos pos) {
         return blockEntities.get(pos);
     }
@@ -967,6 +1133,9 @@ public class World {
         BlockEntity entity = blockEntities.remove(pos);
         if (entity != null) {
             entity.setRemoved();
+            if (entity instanceof ITickable tickable) tickScheduler.remove(tickable);
+            energyNetworks.onRemoved(entity);
+            changedBlockEntities.add(pos);
             // Trigger mesh update for the chunk
             com.za.zenith.world.chunks.Chunk chunk = getChunk(com.za.zenith.world.chunks.ChunkPos.fromBlockPos(pos.x(), pos.z()));
             if (chunk != null) {
@@ -1005,6 +1174,10 @@ public class World {
         return lightEngine;
     }
 
+    public com.za.zenith.entities.ai.navigation.Navigation getNavigation() {
+        return navigation;
+    }
+
     public long getSeed() {
         return seed;
     }
@@ -1040,35 +1213,14 @@ public class World {
     }
 
     /**
-     * Calculates the noise level at a specific point in the world.
-     * Takes into account player noise and working machines (BlockEntities).
+     * Loudest noise heard at the position. Use {@link #getNoiseGrid()} directly to also learn where it came from.
      */
     public float getNoiseLevelAt(Vector3f pos) {
-        float totalNoise = 0.0f;
-
-        // Player noise
-        if (player != null) {
-            float dist = pos.distance(player.getPosition());
-            float playerNoise = player.getNoiseLevel();
-            // Player noise attenuation (radius 32 blocks)
-            if (dist < 32.0f) {
-                totalNoise = Math.max(totalNoise, playerNoise * (1.0f - dist / 32.0f));
-            }
-        }
-
-        // Active block entity noise
-        for (BlockEntity be : blockEntities.values()) {
-            if (be instanceof com.za.zenith.world.blocks.entity.GeneratorBlockEntity generator && generator.isRunning()) {
-                float dist = pos.distance(new Vector3f(be.getPos().x() + 0.5f, be.getPos().y() + 0.5f, be.getPos().z() + 0.5f));
-                // Generator noise (radius 20 blocks, base noise 0.5)
-                if (dist < 20.0f) {
-                    float genNoise = 0.5f * (1.0f - dist / 20.0f);
-                    totalNoise = Math.max(totalNoise, genNoise);
-                }
-            }
-        }
+        return noiseGrid.query(pos.x, pos.y, pos.z, null);
+    }
 
-        return totalNoise;
+    public com.za.zenith.entities.ai.perception.NoiseGrid getNoiseGrid() {
+        return noiseGrid;
     }
 
     public void cleanup() {
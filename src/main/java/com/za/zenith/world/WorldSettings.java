@@ -25,6 +25,13 @@ public class WorldSettings implements com.za.zenith.utils.LiveReloadable {
     public float[] moonLightColor = {0.2f, 0.3f, 0.6f};
     public float[] ambientColor = {0.4f, 0.45f, 0.55f};
 
+    // Block entity tick scheduling (radii in chunks, intervals in fixed ticks)
+    public int blockEntityNearRadius = 4;
+    public int blockEntityMidRadius = 8;
+    public int blockEntityMidInterval = 4;
+    public int blockEntityFarInterval = 16;
+    public float blockEntityTickBudgetMs = 2.0f;
+
     public static WorldSettings getInstance() {
         return instance;
     }
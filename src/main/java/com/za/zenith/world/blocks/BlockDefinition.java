@@ -30,14 +30,18 @@ public class BlockDefinition implements com.za.zenith.utils.LiveReloadable {
     public static final int FLAG_TINTED = 8;
     public static final int FLAG_FULL_CUBE = 16;
     public static final int FLAG_TRANSLUCENT = 32;
+    public static final int FLAG_GRASS_BLOCK = 64;
 
     public void computeFlags() {
+        // Includes may have been (re)loaded after addTag
+        com.za.zenith.world.tags.TagRegistry.resolve(ownTags, resolvedTags);
         flags = 0;
         if (solid) flags |= FLAG_SOLID;
         if (transparent) flags |= FLAG_TRANSPARENT;
         if (translucent) flags |= FLAG_TRANSLUCENT;
         if (identifier != null && identifier.toString().contains("leaves")) flags |= FLAG_LEAVES;
-        if (tinted || tags.contains("zenith:tinted")) flags |= FLAG_TINTED;
+        if (identifier != null && identifier.getPath().contains("grass_block")) flags |= FLAG_GRASS_BLOCK;
+        if (tinted || resolvedTags.has(com.za.zenith.world.tags.TagRegistry.TINTED)) flags |= FLAG_TINTED;
         if (fullCube) flags |= FLAG_FULL_CUBE;
     }
 
@@ -73,6 +77,8 @@ public class BlockDefinition implements com.za.zenith.utils.LiveReloadable {
     // Advanced drop rules
     private transient final List<DropRule> dropRules = new ArrayList<>();
     private transient final List<String> tags = new ArrayList<>();
+    private transient final com.za.zenith.world.tags.TagSet ownTags = new com.za.zenith.world.tags.TagSet();
+    private transient final com.za.zenith.world.tags.TagSet resolvedTags = new com.za.zenith.world.tags.TagSet();
     
     @SerializedName("supportScavenge")
     private boolean canSupportScavenge = false;
@@ -159,7 +165,11 @@ public class BlockDefinition implements com.za.zenith.utils.LiveReloadable {
     private float particleScale = 1.0f; // Multiplier for destruction shards
     @SerializedName("weak_spot_particle_scale")
     private float weakSpotParticleScale = 1.0f; // Multiplier for impact shards
-    private transient int particleMaterial = com.za.zenith.world.particles.ShardParticle.MAT_GENERIC;
+    // Материал осколков при разрушении
+    public static final int PARTICLE_MAT_GENERIC = 0;
+    public static final int PARTICLE_MAT_WOOD = 1;
+    public static final int PARTICLE_MAT_LEAVES = 2;
+    private transient int particleMaterial = PARTICLE_MAT_GENERIC;
 
     public int getParticleMaterial() { return particleMaterial; }
     public void setParticleMaterial(int material) { this.particleMaterial = material; }
@@ -288,11 +298,36 @@ public class BlockDefinition implements com.za.zenith.utils.LiveReloadable {
         if (!tags.contains(tag)) {
             tags.add(tag);
         }
+        if (ownTags.add(com.za.zenith.world.tags.TagRegistry.intern(tag))) {
+            com.za.zenith.world.tags.TagRegistry.resolve(ownTags, resolvedTags);
+            BlockRegistry.invalidateTagIndex();
+        }
         return this;
     }
 
+    public void clearTags() {
+        tags.clear();
+        ownTags.clear();
+        resolvedTags.clear();
+        BlockRegistry.invalidateTagIndex();
+    }
+
+    /** Tag test against an id from {@link com.za.zenith.world.tags.TagRegistry}, including inherited tags. */
+    public boolean hasTag(int tag) {
+        return resolvedTags.has(tag);
+    }
+
     public boolean hasTag(String tag) {
-        return tags.contains(tag);
+        int id = com.za.zenith.world.tags.TagRegistry.idOf(Identifier.of(tag));
+        return id >= 0 && resolvedTags.has(id);
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public com.za.zenith.world.tags.TagSet getResolvedTags() {
+        return resolvedTags;
     }
 
     public List<DropRule> getDropRules() {
@@ -9,15 +9,40 @@ import java.util.Set;
 
 public class BlockRegistry {
     private static final NumericalRegistry<BlockDefinition> REGISTRY = new NumericalRegistry<>();
+    private static final int[] NO_BLOCKS = new int[0];
+    private static volatile int[][] tagIndex;
 
     public static void finalizeRegistration() {
         for (BlockDefinition def : REGISTRY.values()) {
             def.computeFlags();
         }
+        tagIndex = null;
     }
 
     public static void registerBlock(BlockDefinition def) {
         REGISTRY.register(def.getIdentifier(), def.getId(), def);
+        tagIndex = null;
+    }
+
+    static void invalidateTagIndex() {
+        tagIndex = null;
+    }
+
+    /**
+     * Numeric ids of all blocks carrying the tag (directly or through an include). Built lazily
+     * after registration; the returned array must not be modified.
+     */
+    public static int[] getBlocksWithTag(int tag) {
+        int[][] index = tagIndex;
+        if (index == null) {
+            int max = -1;
+            for (Identifier id : REGISTRY.getIds()) max = Math.max(max, REGISTRY.getId(id));
+            com.za.zenith.world.tags.TagSet[] byId = new com.za.zenith.world.tags.TagSet[max + 1];
+            for (Identifier id : REGISTRY.getIds()) byId[REGISTRY.getId(id)] = REGISTRY.get(id).getResolvedTags();
+            index = com.za.zenith.world.tags.TagRegistry.buildIndex(byId);
+            tagIndex = index;
+        }
+        return tag >= 0 && tag < index.length ? index[tag] : NO_BLOCKS;
     }
 
     public static BlockDefinition getBlock(int id) {
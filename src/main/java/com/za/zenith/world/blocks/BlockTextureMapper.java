@@ -2,6 +2,7 @@ package com.za.zenith.world.blocks;
 
 import com.za.zenith.engine.graphics.DynamicTextureAtlas;
 import com.za.zenith.utils.Identifier;
+import com.za.zenith.world.tags.TagRegistry;
 
 public class BlockTextureMapper {
     // face order: 0:+Z(front), 1:-Z(back), 2:+X(right), 3:-X(left), 4:+Y(top), 5:-Y(bottom)
@@ -10,7 +11,7 @@ public class BlockTextureMapper {
         float[] uv = atlas.uvFor(key);
         
         BlockDefinition def = BlockRegistry.getBlock(block.getType());
-        if (def != null && def.hasTag("zenith:logs")) {
+        if (def != null && def.hasTag(TagRegistry.LOGS)) {
             byte meta = (byte)(block.getMetadata() & 0x07); // Игнорируем флаги
             if (meta == Block.DIR_EAST || meta == Block.DIR_WEST) {
                 if (face == 0 || face == 1 || face == 4 || face == 5) {
@@ -96,7 +97,7 @@ public class BlockTextureMapper {
         }
 
         // Orientation-sensitive mapping for logs (WOOD)
-        if (def != null && def.hasTag("zenith:logs")) {
+        if (def != null && def.hasTag(TagRegistry.LOGS)) {
             byte meta = (byte)(block.getMetadata() & 0x07); // Игнорируем флаги
             String cap = textures.getTop();
             String side = textures.getNorth(); // any side is fine; all equal
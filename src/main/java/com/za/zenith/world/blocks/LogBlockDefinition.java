@@ -20,15 +20,11 @@ public class LogBlockDefinition extends BlockDefinition {
         Identifier heldId = heldStack.getItem().getIdentifier();
         
         // Ищем рецепт обтёсывания для этого блока
-        java.util.List<com.za.zenith.world.recipes.IRecipe> recipes = com.za.zenith.world.recipes.RecipeRegistry.getRecipesByType("carving");
-        
-        if (recipes.isEmpty()) {
+        if (com.za.zenith.world.recipes.RecipeRegistry.getRecipesByType("carving").isEmpty()) {
             com.za.zenith.utils.Logger.info("No carving recipes found in registry");
         }
 
-        for (com.za.zenith.world.recipes.IRecipe r : recipes) {
-            com.za.zenith.world.recipes.CarvingRecipe recipe = (com.za.zenith.world.recipes.CarvingRecipe) r;
-            
+        for (com.za.zenith.world.recipes.CarvingRecipe recipe : com.za.zenith.world.recipes.RecipeRegistry.getCarvingRecipes(this.getIdentifier())) {
             boolean blockMatch = recipe.getInputBlock().equals(this.getIdentifier());
             boolean toolMatch = (recipe.getTool() == null || heldId.equals(recipe.getTool()));
             boolean sneaking = player.isSneaking();
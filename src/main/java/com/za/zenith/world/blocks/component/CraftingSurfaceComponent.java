@@ -178,8 +178,6 @@ public class CraftingSurfaceComponent extends BlockComponent implements Inventor
 
     private boolean tryCraft(World world, BlockPos pos, Player player, ItemStack tool) {
         var be = (ModularBlockEntity) world.getBlockEntity(pos);
-        var recipes = RecipeRegistry.getRecipesByType(recipeType);
-        
         java.util.List<ItemStack> inputs = new java.util.ArrayList<>();
         for (int i = 0; i < be.size(); i++) {
             if (be.getStack(i) != null) inputs.add(be.getStack(i));
@@ -189,30 +187,28 @@ public class CraftingSurfaceComponent extends BlockComponent implements Inventor
 
         player.swing();
 
-        for (var r : recipes) {
-            if (!(r instanceof InWorldRecipe recipe)) continue;
-            
-            var surfaceDef = com.za.zenith.world.blocks.BlockRegistry.getBlock(world.getBlock(pos).getType());
-            if (surfaceDef == null) continue;
+        var surfaceDef = com.za.zenith.world.blocks.BlockRegistry.getBlock(world.getBlock(pos).getType());
+        if (surfaceDef == null) return false;
 
-            if (recipe.matches(inputs, tool != null ? tool.getItem().getIdentifier() : com.za.zenith.world.items.Items.HAND.getIdentifier(), surfaceDef.getIdentifier())) {
-                float currentHits = be.getFloat(ModularBlockEntity.PROP_CRAFT_HITS, 0) + 1.0f;
+        com.za.zenith.utils.Identifier toolId = tool != null ? tool.getItem().getIdentifier() : com.za.zenith.world.items.Items.HAND.getIdentifier();
+        InWorldRecipe recipe = RecipeRegistry.findInWorldRecipe(recipeType, inputs, toolId, surfaceDef.getIdentifier());
+        if (recipe != null) {
+            float currentHits = be.getFloat(ModularBlockEntity.PROP_CRAFT_HITS, 0) + 1.0f;
+            
+            if (currentHits >= recipe.getRequiredHits()) {
+                be.setFloat(ModularBlockEntity.PROP_CRAFT_HITS, 0);
+                be.setFloat(ModularBlockEntity.PROP_CRAFT_PROGRESS, 0);
+                for (int i = 0; i < be.size(); i++) be.setStack(i, null);
                 
-                if (currentHits >= recipe.getRequiredHits()) {
-                    be.setFloat(ModularBlockEntity.PROP_CRAFT_HITS, 0);
-                    be.setFloat(ModularBlockEntity.PROP_CRAFT_PROGRESS, 0);
-                    for (int i = 0; i < be.size(); i++) be.setStack(i, null);
-                    
-                    ItemStack result = recipe.getResult().copy();
-                    // Помещаем результат на поверхность (в центр для 3х3 или первый свободный)
-                    int resultSlot = (gridSize == 3 && be.size() >= 5) ? 4 : 0;
-                    be.setStack(resultSlot, result);
-                } else {
-                    be.setFloat(ModularBlockEntity.PROP_CRAFT_HITS, currentHits);
-                    be.setFloat(ModularBlockEntity.PROP_CRAFT_PROGRESS, currentHits / (float)recipe.getRequiredHits());
-                }
-                return true;
+                ItemStack result = recipe.getResult().copy();
+                // Помещаем результат на поверхность (в центр для 3х3 или первый свободный)
+                int resultSlot = (gridSize == 3 && be.size() >= 5) ? 4 : 0;
+                be.setStack(resultSlot, result);
+            } else {
+                be.setFloat(ModularBlockEntity.PROP_CRAFT_HITS, currentHits);
+                be.setFloat(ModularBlockEntity.PROP_CRAFT_PROGRESS, currentHits / (float)recipe.getRequiredHits());
             }
+            return true;
         }
         return false;
     }
@@ -4,8 +4,8 @@ import com.za.zenith.world.BlockPos;
 
 /**
  * Аккумулятор для хранения энергии.
- * Является пассивным узлом (не имеет метода update), 
- * так как кабели сами забирают или отдают ему энергию.
+ * Является пассивным узлом (не имеет метода update),
+ * так как энергосеть сама забирает или отдает ему энергию.
  */
 public class BatteryBlockEntity extends BlockEntity implements IEnergyStorage {
     private float energy = 0.0f;
@@ -0,0 +1,223 @@
+package com.za.zenith.world.blocks.entity;
+
+import com.za.zenith.world.WorldSettings;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Планировщик тиков сущностей блоков.
+ * <p>
+ * Вместо вызова {@link ITickable#update(float)} у каждой сущности каждый фиксированный тик
+ * планировщик поддерживает три механизма:
+ * <ul>
+ *     <li><b>Сон</b>: сущность, вернувшая {@code shouldTick() == false}, удаляется из активного
+ *     списка и больше не опрашивается, пока её не разбудят через {@link #wake(ITickable)}
+ *     (изменение соседнего блока, инвентаря, заправка генератора и т.п.).</li>
+ *     <li><b>Дистанционные уровни</b>: сущности в дальних чанках тикают реже, получая накопленное
+ *     время (catch-up deltaTime), поэтому процессы (обжиг, топливо) идут с той же скоростью.</li>
+ *     <li><b>Бюджет времени</b>: за тик обрабатывается не дольше {@code blockEntityTickBudgetMs};
+ *     обход продолжается со следующей сущности в следующем тике (round-robin), так что
+ *     никто не голодает.</li>
+ * </ul>
+ * Стоимость тика пропорциональна числу <i>активных</i> машин, а не всех загруженных.
+ * <p>
+ * Все структуры, кроме входящих очередей, принадлежат главному потоку. Регистрация и пробуждение
+ * из потоков генерации проходят через lock-free очереди и применяются в начале {@link #tick}.
+ */
+public class BlockEntityTickScheduler {
+    private static final int TIER_NEAR = 0;
+    private static final int TIER_MID = 1;
+    private static final int TIER_FAR = 2;
+
+    /** Caps catch-up time so a starved entity cannot receive a huge integration step. */
+    private static final float MAX_CATCH_UP_SECONDS = 5.0f;
+
+    private static final class Entry {
+        final ITickable tickable;
+        final int chunkX;
+        final int chunkZ;
+        int index = -1; // Position in the active list, -1 while sleeping
+        long lastTick;
+        double lastTime;
+
+        Entry(ITickable tickable, int chunkX, int chunkZ) {
+            this.tickable = tickable;
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+    }
+
+    private final Map<ITickable, Entry> entries = new IdentityHashMap<>();
+    private final List<Entry> active = new ArrayList<>();
+    private final List<Entry> toSleep = new ArrayList<>();
+
+    private final ConcurrentLinkedQueue<ITickable> pendingAdds = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<ITickable> pendingRemovals = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<ITickable> pendingWakes = new ConcurrentLinkedQueue<>();
+
+    private long tickCounter = 0;
+    private double simulationTime = 0.0;
+    private float currentDelta = 0.0f;
+    private int cursor = 0;
+
+    // Stats of the last tick for debug views
+    private int lastTickedCount = 0;
+    private boolean lastBudgetExceeded = false;
+
+    /**
+     * Регистрирует сущность. Потокобезопасно: может вызываться из потоков генерации.
+     */
+    public void add(ITickable tickable) {
+        pendingAdds.add(tickable);
+    }
+
+    /**
+     * Снимает сущность с учёта. Потокобезопасно.
+     */
+    public void remove(ITickable tickable) {
+        pendingRemovals.add(tickable);
+    }
+
+    /**
+     * Будит спящую сущность. Для активной сущности вызов ничего не делает. Потокобезопасно.
+     */
+    public void wake(ITickable tickable) {
+        pendingWakes.add(tickable);
+    }
+
+    public void tick(float deltaTime, int playerChunkX, int playerChunkZ, boolean hasPlayer) {
+        tickCounter++;
+        simulationTime += deltaTime;
+        currentDelta = deltaTime;
+        drainPending();
+
+        int size = active.size();
+        lastTickedCount = 0;
+        lastBudgetExceeded = false;
+        if (size == 0) return;
+
+        WorldSettings settings = WorldSettings.getInstance();
+        long budgetNanos = (long) (settings.blockEntityTickBudgetMs * 1_000_000.0f);
+        long start = System.nanoTime();
+
+        if (cursor >= size) cursor = 0;
+        int visited = 0;
+        int idx = cursor;
+        while (visited < size) {
+            Entry entry = active.get(idx);
+            visited++;
+            idx++;
+            if (idx >= size) idx = 0;
+
+            if (entry.tickable instanceof BlockEntity be && be.isRemoved()) {
+                toSleep.add(entry);
+                entries.remove(entry.tickable);
+                continue;
+            }
+
+            int interval = hasPlayer ? intervalFor(tierOf(entry, playerChunkX, playerChunkZ, settings), settings) : 1;
+            if (tickCounter - entry.lastTick < interval) continue;
+
+            if (!entry.tickable.shouldTick()) {
+                toSleep.add(entry);
+                continue;
+            }
+
+            float catchUp = (float) Math.min(simulationTime - entry.lastTime, MAX_CATCH_UP_SECONDS);
+            entry.lastTick = tickCounter;
+            entry.lastTime = simulationTime;
+            entry.tickable.update(catchUp);
+            lastTickedCount++;
+
+            if (System.nanoTime() - start > budgetNanos) {
+                lastBudgetExceeded = visited < size;
+                break;
+            }
+        }
+        cursor = idx;
+
+        // Deferred swap-removal keeps indices stable during the round-robin pass
+        for (int i = 0; i < toSleep.size(); i++) {
+            detach(toSleep.get(i));
+        }
+        toSleep.clear();
+    }
+
+    private void drainPending() {
+        ITickable t;
+        while ((t = pendingRemovals.poll()) != null) {
+            Entry entry = entries.remove(t);
+            if (entry != null) detach(entry);
+        }
+        while ((t = pendingAdds.poll()) != null) {
+            if (entries.containsKey(t)) continue;
+            int cx = 0, cz = 0;
+            if (t instanceof BlockEntity be) {
+                if (be.isRemoved()) continue;
+                cx = be.getPos().x() >> 4;
+                cz = be.getPos().z() >> 4;
+            }
+            Entry entry = new Entry(t, cx, cz);
+            entries.put(t, entry);
+            attach(entry);
+        }
+        while ((t = pendingWakes.poll()) != null) {
+            Entry entry = entries.get(t);
+            if (entry != null && entry.index < 0) attach(entry);
+        }
+    }
+
+    private void attach(Entry entry) {
+        // Sleep time is not simulated: the entity resumes from the start of the current tick
+        entry.lastTick = tickCounter - 1;
+        entry.lastTime = simulationTime - currentDelta;
+        entry.index = active.size();
+        active.add(entry);
+    }
+
+    private void detach(Entry entry) {
+        int index = entry.index;
+        if (index < 0) return;
+        int last = active.size() - 1;
+        Entry moved = active.get(last);
+        active.set(index, moved);
+        moved.index = index;
+        active.remove(last);
+        entry.index = -1;
+    }
+
+    private static int tierOf(Entry entry, int playerChunkX, int playerChunkZ, WorldSettings settings) {
+        int dist = Math.max(Math.abs(entry.chunkX - playerChunkX), Math.abs(entry.chunkZ - playerChunkZ));
+        if (dist <= settings.blockEntityNearRadius) return TIER_NEAR;
+        if (dist <= settings.blockEntityMidRadius) return TIER_MID;
+        return TIER_FAR;
+    }
+
+    private static int intervalFor(int tier, WorldSettings settings) {
+        return switch (tier) {
+            case TIER_MID -> Math.max(1, settings.blockEntityMidInterval);
+            case TIER_FAR -> Math.max(1, settings.blockEntityFarInterval);
+            default -> 1;
+        };
+    }
+
+    public int getActiveCount() {
+        return active.size();
+    }
+
+    public int getSleepingCount() {
+        return entries.size() - active.size();
+    }
+
+    public int getLastTickedCount() {
+        return lastTickedCount;
+    }
+
+    public boolean wasBudgetExceeded() {
+        return lastBudgetExceeded;
+    }
+}
@@ -0,0 +1,108 @@
+package com.za.zenith.world.blocks.entity;
+
+import com.za.zenith.world.BlockPos;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Связная компонента энергосети: все узлы {@link IEnergyStorage}, соединённые кабелями.
+ * <p>
+ * Узлы разделены по ролям один раз при сборке сети, поэтому тик обходит только конечные точки
+ * (генераторы, аккумуляторы, потребители), а проводники (кабели) вообще не участвуют в расчёте.
+ * Распределение выполняется за один проход: сначала потребители получают энергию от производителей,
+ * излишек уходит в хранилища, а дефицит покрывается из хранилищ. Все доли пропорциональны,
+ * так что энергия мгновенно доходит до любого конца сети независимо от длины кабеля.
+ */
+public class EnergyNetwork {
+    final Set<BlockPos> members = new HashSet<>();
+    private final List<IEnergyStorage> producers = new ArrayList<>();
+    private final List<IEnergyStorage> consumers = new ArrayList<>();
+    private final List<IEnergyStorage> storages = new ArrayList<>();
+
+    // Reusable per-tick scratch (simulated amounts per endpoint), grown on demand
+    private float[] producerScratch = new float[4];
+    private float[] consumerScratch = new float[4];
+    private float[] storageInScratch = new float[4];
+    private float[] storageOutScratch = new float[4];
+
+    void add(BlockPos pos, IEnergyStorage node) {
+        members.add(pos);
+        if (node.isConductor()) return;
+        boolean extract = node.canExtract();
+        boolean receive = node.canReceive();
+        if (extract && receive) storages.add(node);
+        else if (extract) producers.add(node);
+        else if (receive) consumers.add(node);
+    }
+
+    void absorb(EnergyNetwork other) {
+        members.addAll(other.members);
+        producers.addAll(other.producers);
+        consumers.addAll(other.consumers);
+        storages.addAll(other.storages);
+    }
+
+    public int size() {
+        return members.size();
+    }
+
+    public int getEndpointCount() {
+        return producers.size() + consumers.size() + storages.size();
+    }
+
+    /**
+     * Распределяет энергию внутри сети за один тик.
+     * @param maxTransfer максимальный поток через одну конечную точку за этот тик.
+     */
+    void distribute(float maxTransfer) {
+        if (consumers.isEmpty() && (producers.isEmpty() || storages.isEmpty())) return;
+
+        int pc = producers.size(), cc = consumers.size(), sc = storages.size();
+        if (producerScratch.length < pc) producerScratch = new float[pc * 2];
+        if (consumerScratch.length < cc) consumerScratch = new float[cc * 2];
+        if (storageInScratch.length < sc) {
+            storageInScratch = new float[sc * 2];
+            storageOutScratch = new float[sc * 2];
+        }
+
+        float supply = 0, demand = 0, storeIn = 0, storeOut = 0;
+        for (int i = 0; i < pc; i++) supply += producerScratch[i] = producers.get(i).extractEnergy(maxTransfer, true);
+        for (int i = 0; i < cc; i++) demand += consumerScratch[i] = consumers.get(i).receiveEnergy(maxTransfer, true);
+        for (int i = 0; i < sc; i++) {
+            IEnergyStorage s = storages.get(i);
+            storeIn += storageInScratch[i] = s.receiveEnergy(maxTransfer, true);
+            storeOut += storageOutScratch[i] = s.extractEnergy(maxTransfer, true);
+        }
+
+        float fromProducers, toConsumers, toStorage = 0, fromStorage = 0;
+        if (supply >= demand) {
+            toConsumers = demand;
+            toStorage = Math.min(supply - demand, storeIn);
+            fromProducers = toConsumers + toStorage;
+        } else {
+            fromStorage = Math.min(demand - supply, storeOut);
+            fromProducers = supply;
+            toConsumers = supply + fromStorage;
+        }
+
+        if (fromProducers > 0) {
+            float ratio = fromProducers / supply;
+            for (int i = 0; i < pc; i++) producers.get(i).extractEnergy(producerScratch[i] * ratio, false);
+        }
+        if (toConsumers > 0) {
+            float ratio = toConsumers / demand;
+            for (int i = 0; i < cc; i++) consumers.get(i).receiveEnergy(consumerScratch[i] * ratio, false);
+        }
+        if (toStorage > 0) {
+            float ratio = toStorage / storeIn;
+            for (int i = 0; i < sc; i++) storages.get(i).receiveEnergy(storageInScratch[i] * ratio, false);
+        }
+        if (fromStorage > 0) {
+            float ratio = fromStorage / storeOut;
+            for (int i = 0; i < sc; i++) storages.get(i).extractEnergy(storageOutScratch[i] * ratio, false);
+        }
+    }
+}
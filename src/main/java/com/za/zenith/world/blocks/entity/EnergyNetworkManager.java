@@ -0,0 +1,150 @@
+package com.za.zenith.world.blocks.entity;
+
+import com.za.zenith.utils.Direction;
+import com.za.zenith.world.BlockPos;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Менеджер энергосетей мира.
+ * <p>
+ * Вместо того чтобы каждый кабель опрашивал 6 соседей каждый тик, менеджер хранит связные
+ * компоненты узлов {@link IEnergyStorage} и обновляет их инкрементально:
+ * <ul>
+ *     <li>установка узла присоединяет его к сетям соседей (сливая их при необходимости);</li>
+ *     <li>удаление узла пересобирает только ту сеть, в которой он состоял (она могла распасться).</li>
+ * </ul>
+ * Два соседних узла соединены, если хотя бы один из них — проводник ({@link IEnergyStorage#isConductor()}),
+ * то есть генератор, приставленный вплотную к аккумулятору, без кабеля энергию не передаёт.
+ * <p>
+ * Стоимость тика — O(сетей + конечных точек), кабели в расчёте не участвуют.
+ * События из потоков генерации поступают через lock-free очереди и применяются в {@link #tick}.
+ */
+public class EnergyNetworkManager {
+    /** Max energy per second a single endpoint can push or pull through the grid. */
+    public static final float ENDPOINT_TRANSFER_RATE = 50.0f;
+
+    private final Map<BlockPos, IEnergyStorage> nodes = new HashMap<>();
+    private final Map<BlockPos, EnergyNetwork> nodeToNetwork = new HashMap<>();
+    private final List<EnergyNetwork> networks = new ArrayList<>();
+
+    private final ConcurrentLinkedQueue<BlockEntity> pendingAdds = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<BlockPos> pendingRemovals = new ConcurrentLinkedQueue<>();
+
+    public void onAdded(BlockEntity be) {
+        if (be instanceof IEnergyStorage) pendingAdds.add(be);
+    }
+
+    public void onRemoved(BlockEntity be) {
+        if (be instanceof IEnergyStorage) pendingRemovals.add(be.getPos());
+    }
+
+    public void tick(float deltaTime) {
+        applyPending();
+
+        float maxTransfer = ENDPOINT_TRANSFER_RATE * deltaTime;
+        for (int i = 0; i < networks.size(); i++) {
+            networks.get(i).distribute(maxTransfer);
+        }
+    }
+
+    private void applyPending() {
+        BlockPos pos;
+        while ((pos = pendingRemovals.poll()) != null) {
+            removeNode(pos);
+        }
+        BlockEntity be;
+        while ((be = pendingAdds.poll()) != null) {
+            if (!be.isRemoved()) addNode(be.getPos(), (IEnergyStorage) be);
+        }
+    }
+
+    private void addNode(BlockPos pos, IEnergyStorage node) {
+        if (nodes.containsKey(pos)) removeNode(pos);
+        nodes.put(pos, node);
+
+        EnergyNetwork target = null;
+        for (Direction dir : Direction.values()) {
+            BlockPos neighborPos = dir.offset(pos);
+            IEnergyStorage neighbor = nodes.get(neighborPos);
+            if (neighbor == null || !connects(node, neighbor)) continue;
+
+            EnergyNetwork other = nodeToNetwork.get(neighborPos);
+            if (other == null || other == target) continue;
+            if (target == null) {
+                target = other;
+            } else {
+                // Merge the smaller network into the larger one
+                EnergyNetwork big = target.size() >= other.size() ? target : other;
+                EnergyNetwork small = big == target ? other : target;
+                merge(big, small);
+                target = big;
+            }
+        }
+
+        if (target == null) {
+            target = new EnergyNetwork();
+            networks.add(target);
+        }
+        target.add(pos, node);
+        nodeToNetwork.put(pos, target);
+    }
+
+    private void merge(EnergyNetwork into, EnergyNetwork from) {
+        into.absorb(from);
+        for (BlockPos member : from.members) nodeToNetwork.put(member, into);
+        networks.remove(from);
+    }
+
+    private void removeNode(BlockPos pos) {
+        if (nodes.remove(pos) == null) return;
+        EnergyNetwork old = nodeToNetwork.remove(pos);
+        if (old == null) return;
+
+        networks.remove(old);
+        old.members.remove(pos);
+        for (BlockPos member : old.members) nodeToNetwork.remove(member);
+
+        // The removed node may have been a bridge: flood the remaining members into new components
+        ArrayDeque<BlockPos> queue = new ArrayDeque<>();
+        for (BlockPos start : old.members) {
+            if (nodeToNetwork.containsKey(start)) continue;
+            EnergyNetwork network = new EnergyNetwork();
+            networks.add(network);
+            network.add(start, nodes.get(start));
+            nodeToNetwork.put(start, network);
+            queue.add(start);
+
+            while (!queue.isEmpty()) {
+                BlockPos current = queue.poll();
+                IEnergyStorage currentNode = nodes.get(current);
+                for (Direction dir : Direction.values()) {
+                    BlockPos neighborPos = dir.offset(current);
+                    if (nodeToNetwork.containsKey(neighborPos)) continue;
+                    IEnergyStorage neighbor = nodes.get(neighborPos);
+                    if (neighbor == null || !connects(currentNode, neighbor)) continue;
+                    network.add(neighborPos, neighbor);
+                    nodeToNetwork.put(neighborPos, network);
+                    queue.add(neighborPos);
+                }
+            }
+        }
+    }
+
+    private static boolean connects(IEnergyStorage a, IEnergyStorage b) {
+        return a.isConductor() || b.isConductor();
+    }
+
+    public int getNetworkCount() {
+        return networks.size();
+    }
+
+    public EnergyNetwork getNetwork(BlockPos pos) {
+        return nodeToNetwork.get(pos);
+    }
+}
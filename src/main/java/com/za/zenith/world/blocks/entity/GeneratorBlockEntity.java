@@ -28,6 +28,12 @@ public class GeneratorBlockEntity extends BlockEntity implements ITickable, IEne
                 if (energy < maxEnergy) {
                     energy += 10.0f * deltaTime;
                 }
+
+                // Гул работающего генератора; затихает за пару секунд после остановки
+                if (world != null) {
+                    world.getNoiseGrid().emit(com.za.zenith.entities.ai.perception.NoiseType.MACHINE,
+                        pos.x() + 0.5f, pos.y() + 0.5f, pos.z() + 0.5f, 0.5f, 20.0f, 2.0f);
+                }
             } else {
                 fuel = 0;
                 running = false;
@@ -66,6 +72,7 @@ public class GeneratorBlockEntity extends BlockEntity implements ITickable, IEne
     public void addFuel(float amount) {
         this.fuel = Math.min(maxFuel, this.fuel + amount);
         this.running = true;
+        if (world != null) world.wakeBlockEntity(this);
         com.za.zenith.utils.Logger.info("Generator at %s refueled. Current fuel: %.1f", pos, fuel);
     }
 
@@ -83,6 +90,7 @@ public class GeneratorBlockEntity extends BlockEntity implements ITickable, IEne
     
     public void setRunning(boolean running) {
         this.running = running && fuel > 0;
+        if (this.running && world != null) world.wakeBlockEntity(this);
     }
 
     @Override
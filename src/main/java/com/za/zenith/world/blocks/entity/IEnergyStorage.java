@@ -22,6 +22,12 @@ public interface IEnergyStorage {
 
     default boolean canExtract() { return true; }
     default boolean canReceive() { return true; }
+
+    /**
+     * Проводник (кабель) не хранит энергию, а только связывает соседние узлы в одну сеть.
+     * См. {@link EnergyNetworkManager}.
+     */
+    default boolean isConductor() { return false; }
 }
 
 
@@ -4,8 +4,16 @@ package com.za.zenith.world.blocks.entity;
  * Интерфейс для сущностей блоков, которые должны обновляться каждый игровой тик.
  */
 public interface ITickable {
+    /**
+     * @param deltaTime время с прошлого тика этой сущности. Для дальних чанков планировщик
+     *                  вызывает update реже, передавая накопленное время (catch-up).
+     */
     void update(float deltaTime);
-    
+
+    /**
+     * false переводит сущность в сон: {@link BlockEntityTickScheduler} перестает её опрашивать,
+     * пока она не будет разбужена через {@code World.wakeBlockEntity} (изменение соседей, инвентаря и т.п.).
+     */
     default boolean shouldTick() {
         return true;
     }
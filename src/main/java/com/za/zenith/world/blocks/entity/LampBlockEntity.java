@@ -18,6 +18,7 @@ public class LampBlockEntity extends BlockEntity implements ITickable, IEnergySt
 
     @Override
     public void update(float deltaTime) {
+        if (world == null) return;
         boolean wasLit = lit;
         if (energy > 0) {
             energy -= consumption * deltaTime;
@@ -40,7 +41,12 @@ public class LampBlockEntity extends BlockEntity implements ITickable, IEnergySt
     public float receiveEnergy(float amount, boolean simulate) {
         float space = maxEnergy - energy;
         float accepted = Math.min(space, amount);
-        if (!simulate) energy += accepted;
+        if (!simulate && accepted > 0) {
+            boolean wasEmpty = energy <= 0;
+            energy += accepted;
+            // Лампа без энергии спит — будим её при первом поступлении
+            if (wasEmpty && world != null) world.wakeBlockEntity(this);
+        }
         return accepted;
     }
 
@@ -63,6 +69,12 @@ public class LampBlockEntity extends BlockEntity implements ITickable, IEnergySt
     public boolean canExtract() {
         return false;
     }
+
+    @Override
+    public boolean shouldTick() {
+        // Нужен ещё один тик после разрядки, чтобы погасить свет
+        return energy > 0 || lit;
+    }
 }
 
 
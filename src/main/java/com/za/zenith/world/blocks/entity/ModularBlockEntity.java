@@ -64,6 +64,10 @@ public class ModularBlockEntity extends BlockEntity implements IInventory, ITick
     public void setStack(int slot, ItemStack stack) {
         if (inventory != null) {
             inventory.setStack(slot, stack);
+            if (world != null) {
+                world.wakeBlockEntity(this);
+                world.markBlockEntityChanged(pos);
+            }
         }
     }
 
@@ -88,7 +92,11 @@ public class ModularBlockEntity extends BlockEntity implements IInventory, ITick
     }
 
     public void setFloat(String key, float value) {
-        floatProperties.put(key, value);
+        Float old = floatProperties.put(key, value);
+        // Маска обтёсывания видна на рендере — сообщаем об изменении
+        if (world != null && PROP_CARVE_MASK.equals(key) && (old == null || old != value)) {
+            world.markBlockEntityChanged(pos);
+        }
     }
 
     public String getString(String key, String defaultValue) {
@@ -9,6 +9,7 @@ import com.za.zenith.world.blocks.BlockDefinition;
 import com.za.zenith.world.blocks.BlockRegistry;
 import com.za.zenith.world.physics.AABB;
 import com.za.zenith.world.physics.VoxelShape;
+import com.za.zenith.world.tags.TagRegistry;
 import com.za.zenith.engine.graphics.DynamicTextureAtlas;
 import com.za.zenith.world.blocks.BlockTextureMapper;
 import com.za.zenith.utils.Direction;
@@ -659,7 +660,7 @@ public class ChunkMeshGenerator {
                                 } else if (neighborDef != null && neighborDef.is(BlockDefinition.FLAG_LEAVES)) {
                                     drawFace = !isLeaves || (nType != blockType);
                                     if (isLeaves && neighborDef.is(BlockDefinition.FLAG_LEAVES)) drawFace = true;
-                                } else if (neighborDef != null && neighborDef.hasTag("treecapitator")) {
+                                } else if (neighborDef != null && neighborDef.hasTag(TagRegistry.TREECAPITATOR)) {
                                     if (face >= 4) {
                                         drawFace = true;
                                     } else {
@@ -690,7 +691,7 @@ public class ChunkMeshGenerator {
                                     if (isTranslucent) {
                                         faceBlockType = -(faceBlockType + 2000.0f);
                                     } else if (def != null && def.is(BlockDefinition.FLAG_TINTED)) {
-                                        boolean isGrassBlock = def.getIdentifier().getPath().contains("grass_block");
+                                        boolean isGrassBlock = def.is(BlockDefinition.FLAG_GRASS_BLOCK);
                                         if (!isGrassBlock || face <= 4) { 
                                             faceBlockType = -(faceBlockType + 1.0f);
                                         }
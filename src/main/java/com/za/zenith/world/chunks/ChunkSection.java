@@ -13,6 +13,10 @@ public class ChunkSection {
     private long visibilityMask = -1L; // Bits 0-35 representing connectivity between 6 faces
     private final java.util.concurrent.atomic.AtomicLong dirtyCounter = new java.util.concurrent.atomic.AtomicLong(0);
     private long lastMeshCounter = -1;
+    // Bumped on block writes only (not light). The high half is unique per section instance,
+    // so a reloaded chunk never repeats a revision of the one it replaced.
+    private static final AtomicLong REVISION_BASE = new AtomicLong();
+    private volatile long blockRevision = REVISION_BASE.getAndAdd(1L << 32);
     
     public ChunkSection() {
         this.blockIndices = new short[SECTION_VOLUME];
@@ -163,6 +167,7 @@ public class ChunkSection {
         } else if (!wasAir && isAir) {
             nonEmptyBlockCount--;
         }
+        blockRevision++;
         markDirty();
     }
     
@@ -193,6 +198,11 @@ public class ChunkSection {
     public long getDirtyCounter() {
         return dirtyCounter.get();
     }
+
+    /** Changes whenever a block in this section is written; light updates do not affect it. */
+    public long getBlockRevision() {
+        return blockRevision;
+    }
     
     public void markDirty() {
         dirtyCounter.incrementAndGet();
@@ -11,6 +11,7 @@ import com.za.zenith.world.generation.density.DensityContextImpl;
 import com.za.zenith.world.generation.density.NoiseRouter;
 import com.za.zenith.world.generation.pipeline.GenerationStep;
 import com.za.zenith.utils.ArrayPool;
+import com.za.zenith.utils.profiling.Profiler;
 
 public class TerrainStep implements GenerationStep {
     private final NoiseRouter noiseRouter;
@@ -29,6 +30,15 @@ public class TerrainStep implements GenerationStep {
 
     @Override
     public void generateTerrain(Chunk chunk) {
+        Profiler.push("terrain");
+        try {
+            fillTerrain(chunk);
+        } finally {
+            Profiler.pop();
+        }
+    }
+
+    private void fillTerrain(Chunk chunk) {
         int startX = chunk.getPosition().x() * Chunk.CHUNK_SIZE;
         int startZ = chunk.getPosition().z() * Chunk.CHUNK_SIZE;
 
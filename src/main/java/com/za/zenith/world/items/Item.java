@@ -45,6 +45,8 @@ public class Item implements com.za.zenith.utils.LiveReloadable {
     { baseStats.setUseDefaultValues(false); }
     protected Gender gender = Gender.MASCULINE;
     private transient final java.util.Set<Identifier> tags = new java.util.HashSet<>();
+    private transient final com.za.zenith.world.tags.TagSet ownTags = new com.za.zenith.world.tags.TagSet();
+    private transient final com.za.zenith.world.tags.TagSet resolvedTags = new com.za.zenith.world.tags.TagSet();
 
     public enum Gender {
         MASCULINE, FEMININE, NEUTER
@@ -60,14 +62,32 @@ public class Item implements com.za.zenith.utils.LiveReloadable {
 
     public void addTag(Identifier tag) {
         tags.add(tag);
+        if (ownTags.add(com.za.zenith.world.tags.TagRegistry.intern(tag))) {
+            com.za.zenith.world.tags.TagRegistry.resolve(ownTags, resolvedTags);
+            ItemRegistry.invalidateTagIndex();
+        }
+    }
+
+    /** Tag test against an id from {@link com.za.zenith.world.tags.TagRegistry}, including inherited tags. */
+    public boolean hasTag(int tag) {
+        return resolvedTags.has(tag);
     }
 
     public boolean hasTag(Identifier tag) {
-        return tags.contains(tag);
+        int id = com.za.zenith.world.tags.TagRegistry.idOf(tag);
+        return id >= 0 && resolvedTags.has(id);
     }
     
     public boolean hasTag(String tagStr) {
-        return tags.contains(Identifier.of(tagStr));
+        return hasTag(Identifier.of(tagStr));
+    }
+
+    public java.util.Set<Identifier> getTags() {
+        return tags;
+    }
+
+    public com.za.zenith.world.tags.TagSet getResolvedTags() {
+        return resolvedTags;
     }
 
     public com.za.zenith.utils.Identifier getDefaultRarity() {
@@ -94,6 +114,10 @@ public class Item implements com.za.zenith.utils.LiveReloadable {
         return baseStats.get(id);
     }
 
+    public float getStat(int stat) {
+        return baseStats.get(stat);
+    }
+
     public float getInteractionCooldown() {
         if (interactionCooldown < 0) {
             return com.za.zenith.world.physics.PhysicsSettings.getInstance().baseMiningCooldown;
@@ -0,0 +1,72 @@
+package com.za.zenith.world.items;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Готовая геометрия выдавленного спрайта предмета: обычные массивы без GL-объектов.
+ * Строится на рабочих потоках ({@link ItemMeshGenerator#buildGeometry}), в GPU загружается
+ * на потоке рендера ({@link ItemMeshGenerator#upload}).
+ * <p>
+ * UV хранятся без слоя атласа (2 float на вершину): слой известен только после сборки атласа,
+ * а так геометрию можно кешировать на диске независимо от раскладки атласа.
+ */
+public final class ItemGeometry {
+    final float[] positions; // xyz
+    final float[] uvs;       // uv
+    final float[] normals;   // xyz
+    final int[] indices;
+    final float graspX, graspY;
+    final float gripWidth;
+
+    ItemGeometry(float[] positions, float[] uvs, float[] normals, int[] indices, float graspX, float graspY, float gripWidth) {
+        this.positions = positions;
+        this.uvs = uvs;
+        this.normals = normals;
+        this.indices = indices;
+        this.graspX = graspX;
+        this.graspY = graspY;
+        this.gripWidth = gripWidth;
+    }
+
+    public int getVertexCount() { return positions.length / 3; }
+    public float[] getPositions() { return positions; }
+    public float[] getUvs() { return uvs; }
+    public float[] getNormals() { return normals; }
+    public int[] getIndices() { return indices; }
+    public float getGraspX() { return graspX; }
+    public float getGraspY() { return graspY; }
+    public float getGripWidth() { return gripWidth; }
+
+    void write(DataOutputStream out) throws IOException {
+        writeFloats(out, positions);
+        writeFloats(out, uvs);
+        writeFloats(out, normals);
+        out.writeInt(indices.length);
+        for (int i : indices) out.writeInt(i);
+        out.writeFloat(graspX);
+        out.writeFloat(graspY);
+        out.writeFloat(gripWidth);
+    }
+
+    static ItemGeometry read(DataInputStream in) throws IOException {
+        float[] positions = readFloats(in);
+        float[] uvs = readFloats(in);
+        float[] normals = readFloats(in);
+        int[] indices = new int[in.readInt()];
+        for (int i = 0; i < indices.length; i++) indices[i] = in.readInt();
+        return new ItemGeometry(positions, uvs, normals, indices, in.readFloat(), in.readFloat(), in.readFloat());
+    }
+
+    private static void writeFloats(DataOutputStream out, float[] data) throws IOException {
+        out.writeInt(data.length);
+        for (float f : data) out.writeFloat(f);
+    }
+
+    private static float[] readFloats(DataInputStream in) throws IOException {
+        float[] data = new float[in.readInt()];
+        for (int i = 0; i < data.length; i++) data[i] = in.readFloat();
+        return data;
+    }
+}
@@ -0,0 +1,204 @@
+package com.za.zenith.world.items;
+
+import com.za.zenith.engine.graphics.TextureMips;
+import com.za.zenith.engine.resources.AssetManager;
+import com.za.zenith.engine.resources.ResourceIndex;
+import com.za.zenith.utils.Logger;
+import com.za.zenith.utils.PriorityExecutorService;
+import org.lwjgl.system.MemoryStack;
+import org.lwjgl.system.MemoryUtil;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.lwjgl.stb.STBImage.*;
+
+/**
+ * Геометрия предметов по пути текстуры. Декодирование PNG и выдавливание идут на рабочих потоках:
+ * {@link #prewarm} запускает их для всех предметов при загрузке, а {@link #get} на потоке рендера
+ * только забирает готовый результат (непрогретую текстуру ставит в очередь впереди прогрева).
+ * <p>
+ * Результат пишется на диск по CRC содержимого текстуры: {@code zenith.itemmesh.cache}
+ * (по умолчанию {@code cache/items}), {@code none} отключает дисковый кеш.
+ */
+public final class ItemGeometryCache {
+    private static final int MAGIC = 0x5A49544D; // "ZITM"
+    private static final int VERSION = 2;
+    private static final Path CACHE_DIR = cacheDir();
+    /** Меньше - раньше: предмет, который уже нужен на экране, обгоняет прогрев. */
+    private static final int PRIORITY_VISIBLE = 0;
+    private static final int PRIORITY_PREWARM = 1;
+
+    private static final Map<String, CompletableFuture<ItemGeometry>> GEOMETRY = new ConcurrentHashMap<>();
+    private static volatile PriorityExecutorService pool;
+
+    private ItemGeometryCache() {}
+
+    private static Path cacheDir() {
+        String dir = System.getProperty("zenith.itemmesh.cache", "cache/items");
+        return "none".equalsIgnoreCase(dir) ? null : Paths.get(dir);
+    }
+
+    private static PriorityExecutorService pool() {
+        PriorityExecutorService p = pool;
+        if (p == null) {
+            synchronized (ItemGeometryCache.class) {
+                p = pool;
+                if (p == null) {
+                    int threads = Math.max(1, Math.min(2, Runtime.getRuntime().availableProcessors() - 1));
+                    AtomicInteger index = new AtomicInteger();
+                    p = PriorityExecutorService.create("itemMesh", threads, r -> {
+                        Thread t = new Thread(r, "ItemMeshBuilder-" + index.incrementAndGet());
+                        t.setDaemon(true);
+                        return t;
+                    });
+                    pool = p;
+                }
+            }
+        }
+        return p;
+    }
+
+    /** Ставит в очередь построение геометрии для всех текстур, которых ещё нет в кеше. */
+    public static void prewarm(Iterable<String> texturePaths) {
+        int queued = 0;
+        for (String path : texturePaths) {
+            if (path == null || path.isEmpty() || GEOMETRY.containsKey(path)) continue;
+            GEOMETRY.computeIfAbsent(path, p -> schedule(p, PRIORITY_PREWARM));
+            queued++;
+        }
+        if (queued > 0) Logger.debug("Queued %d item meshes for background build", queued);
+    }
+
+    /**
+     * Не блокирует поток рендера: непрогретая текстура ставится в очередь, а пока геометрия строится,
+     * возвращается null - вызывающие не кешируют null и спросят снова в следующем кадре.
+     * @return геометрия или null, если она ещё не готова, текстуры нет или в ней нет непрозрачных пикселей
+     */
+    public static ItemGeometry get(String texturePath) {
+        CompletableFuture<ItemGeometry> future = GEOMETRY.computeIfAbsent(texturePath, p -> schedule(p, PRIORITY_VISIBLE));
+        if (!future.isDone()) return null;
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Logger.error("Failed to build item mesh: %s", e.getCause(), texturePath);
+            return null;
+        }
+    }
+
+    /** Задача идёт через {@link PriorityExecutorService.PriorityFutureTask}, чтобы профайлер видел её ожидание и длительность. */
+    private static CompletableFuture<ItemGeometry> schedule(String texturePath, int priority) {
+        CompletableFuture<ItemGeometry> future = new CompletableFuture<>();
+        pool().execute(new PriorityExecutorService.PriorityFutureTask<Void>(() -> {
+            try {
+                future.complete(load(texturePath));
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }, null, priority));
+        return future;
+    }
+
+    /** Сброс после перезагрузки ресурсов; дисковый кеш остаётся, он проверяется по содержимому. */
+    public static void clear() {
+        GEOMETRY.clear();
+    }
+
+    private static ItemGeometry load(String texturePath) {
+        String resourcePath = AssetManager.toResourcePath(texturePath);
+        long hash = ResourceIndex.get().contentHash(resourcePath);
+        Path file = CACHE_DIR != null && hash >= 0 ? CACHE_DIR.resolve(Long.toHexString(hash) + ".bin") : null;
+
+        ItemGeometry cached = read(file, hash);
+        if (cached != null) return cached;
+
+        ItemGeometry geometry = decodeAndBuild(resourcePath);
+        if (geometry != null) write(file, hash, geometry);
+        return geometry;
+    }
+
+    private static ItemGeometry decodeAndBuild(String resourcePath) {
+        byte[] encoded;
+        try (InputStream in = AssetManager.open(resourcePath)) {
+            if (in == null) return null;
+            encoded = in.readAllBytes();
+        } catch (IOException e) {
+            Logger.warn("Cannot read item texture %s: %s", resourcePath, e.getMessage());
+            return null;
+        }
+
+        byte[] rgba;
+        int width, height;
+        ByteBuffer src = MemoryUtil.memAlloc(encoded.length);
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            src.put(encoded).flip();
+            IntBuffer pw = stack.mallocInt(1);
+            IntBuffer ph = stack.mallocInt(1);
+            IntBuffer pc = stack.mallocInt(1);
+            // Глобальный флаг переворота к этому моменту обычно уже включён загрузчиками - отключаем для своего потока
+            stbi_set_flip_vertically_on_load_thread(0);
+            ByteBuffer img = stbi_load_from_memory(src, pw, ph, pc, 4);
+            if (img == null) return null;
+            width = pw.get(0);
+            height = ph.get(0);
+            rgba = new byte[width * height * 4];
+            img.get(rgba);
+            stbi_image_free(img);
+        } finally {
+            MemoryUtil.memFree(src);
+        }
+        // stb отдаёт верхнюю строку первой, геометрия ждёт нижнюю
+        TextureMips.flipRows(rgba, width, height);
+        return ItemMeshGenerator.buildGeometry(rgba, width, height);
+    }
+
+    static ItemGeometry read(Path file, long hash) {
+        if (file == null || !Files.isRegularFile(file)) return null;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readLong() != hash) return null;
+            return ItemGeometry.read(in);
+        } catch (IOException e) {
+            Logger.warn("Cannot read item mesh cache %s: %s", file, e.getMessage());
+            return null;
+        }
+    }
+
+    static void write(Path file, long hash, ItemGeometry geometry) {
+        if (file == null) return;
+        Path tmp = null;
+        try {
+            Files.createDirectories(file.getParent());
+            // Одинаковые текстуры дают один файл - временное имя должно быть уникальным
+            tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(hash);
+                geometry.write(out);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Logger.warn("Cannot write item mesh cache %s: %s", file, e.getMessage());
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {}
+            }
+        }
+    }
+}
@@ -2,79 +2,85 @@ package com.za.zenith.world.items;
 
 import com.za.zenith.engine.graphics.Mesh;
 import com.za.zenith.engine.graphics.DynamicTextureAtlas;
-import org.lwjgl.system.MemoryUtil;
-
-import java.nio.ByteBuffer;
-import java.util.ArrayList;
-import java.util.List;
-
-import static org.lwjgl.stb.STBImage.*;
 
+/**
+ * Выдавливает спрайт предмета в объёмный меш.
+ * <p>
+ * {@link #buildGeometry} - чистый CPU-код без GL (рабочие потоки, тесты), {@link #upload} - только
+ * загрузка в GPU на потоке рендера. Декодирование PNG и дисковый кеш - в {@link ItemGeometryCache}.
+ */
 public class ItemMeshGenerator {
 
     public static Mesh generateItemMesh(String texturePath, DynamicTextureAtlas atlas, int itemId) {
         if (texturePath == null || texturePath.isEmpty() || atlas == null) return null;
-        
-        String resourcePath = texturePath.replace("src/main/resources/", "");
-        ByteBuffer image = null;
-        int width, height;
-
-        try (var is = ItemMeshGenerator.class.getClassLoader().getResourceAsStream(resourcePath)) {
-            if (is == null) return null;
-            byte[] data = is.readAllBytes();
-            
-            ByteBuffer buffer = MemoryUtil.memAlloc(data.length);
-            buffer.put(data).flip();
-            
-            int[] w = new int[1];
-            int[] h = new int[1];
-            int[] c = new int[1];
-            stbi_set_flip_vertically_on_load(true);
-            image = stbi_load_from_memory(buffer, w, h, c, 4);
-            MemoryUtil.memFree(buffer);
-            
-            if (image == null) return null;
-            width = w[0];
-            height = h[0];
-        } catch (Exception e) {
-            if (image != null) stbi_image_free(image);
-            return null;
+        ItemGeometry geometry = ItemGeometryCache.get(texturePath);
+        if (geometry == null) return null;
+        return upload(geometry, atlas.uvFor(texturePath)[2], itemId);
+    }
+
+    /** Поток рендера: дописывает слой атласа и id предмета и создаёт {@link Mesh}. */
+    public static Mesh upload(ItemGeometry g, float layer, int itemId) {
+        int vertices = g.getVertexCount();
+        float[] texCoords = new float[vertices * 4];
+        for (int v = 0; v < vertices; v++) {
+            texCoords[v * 4] = g.uvs[v * 2];
+            texCoords[v * 4 + 1] = g.uvs[v * 2 + 1];
+            texCoords[v * 4 + 2] = layer;
+            texCoords[v * 4 + 3] = -1.0f;
         }
+        float[] blockTypes = new float[vertices];
+        java.util.Arrays.fill(blockTypes, itemId);
 
-        // --- Анализ текстуры (PCA) для автоматической ориентации ---
-        List<int[]> pixels = new ArrayList<>();
+        Mesh mesh = new Mesh(g.positions, texCoords, g.normals, blockTypes, g.indices);
+        mesh.setGraspOffset(new org.joml.Vector3f(g.graspX, g.graspY, 0));
+        mesh.setGripWidth(g.gripWidth);
+        return mesh;
+    }
+
+    /**
+     * Строит геометрию по RGBA8-изображению, первая строка которого - нижняя (как после переворота для GL).
+     * @return null, если в спрайте нет непрозрачных пикселей
+     */
+    public static ItemGeometry buildGeometry(byte[] rgba, int width, int height) {
+        // --- Непрозрачные пиксели: плоские массивы вместо списка int[] ---
+        int n = 0;
+        for (int i = 0; i < width * height; i++) {
+            if ((rgba[i * 4 + 3] & 0xFF) > 30) n++;
+        }
+        if (n == 0) return null;
+
+        int[] pxs = new int[n];
+        int[] pys = new int[n];
         double meanX = 0, meanY = 0;
+        int k = 0;
         for (int y = 0; y < height; y++) {
             for (int x = 0; x < width; x++) {
-                if (isOpaque(image, x, y, width, height)) {
-                    pixels.add(new int[]{x, y});
+                if (isOpaque(rgba, x, y, width, height)) {
+                    pxs[k] = x;
+                    pys[k] = y;
+                    k++;
                     meanX += x;
                     meanY += y;
                 }
             }
         }
 
-        if (pixels.isEmpty()) {
-            stbi_image_free(image);
-            return null;
-        }
-
-        int N = pixels.size();
-        meanX /= N;
-        meanY /= N;
+        // --- Анализ текстуры (PCA) для автоматической ориентации ---
+        meanX /= n;
+        meanY /= n;
 
         double varX = 0, varY = 0, covXY = 0;
-        for (int[] p : pixels) {
-            double dx = p[0] - meanX;
-            double dy = p[1] - meanY;
+        for (int i = 0; i < n; i++) {
+            double dx = pxs[i] - meanX;
+            double dy = pys[i] - meanY;
             varX += dx * dx;
             varY += dy * dy;
             covXY += dx * dy;
         }
-        
+
         // Угол главной оси (theta)
         double theta = 0.5 * Math.atan2(2 * covXY, varX - varY);
-        
+
         // Вычисляем собственные значения для определения "вытянутости" (eccentricity)
         double trace = varX + varY;
         double det = varX * varY - covXY * covXY;
@@ -87,13 +93,13 @@ public class ItemMeshGenerator {
         // rotationAngle: на сколько довернуть, чтобы главная ось стала вертикальной (PI/2).
         float rotationAngle = (float) (Math.PI / 2.0 - theta);
 
-        // Эвристика: 
+        // Эвристика:
         // 1. Если предмет почти квадратный (eccentricity < 0.3), не крутим его.
         // 2. Если он уже почти вертикальный (rotationAngle очень мал), не крутим.
         if (eccentricity < 0.3 || Math.abs(Math.sin(rotationAngle)) < 0.1) {
             rotationAngle = 0;
         }
-        
+
         float cosR = (float) Math.cos(rotationAngle);
         float sinR = (float) Math.sin(rotationAngle);
 
@@ -102,31 +108,28 @@ public class ItemMeshGenerator {
         // Для не повернутых - просто самый низ текстуры.
         double minVal = Double.MAX_VALUE;
         double gx = meanX, gy = meanY; // Дефолт в центр масс
-        
+
         if (rotationAngle != 0) {
             double cosT = Math.cos(theta);
             double sinT = Math.sin(theta);
-            for (int[] p : pixels) {
-                double val = p[0] * cosT + p[1] * sinT;
+            for (int i = 0; i < n; i++) {
+                double val = pxs[i] * cosT + pys[i] * sinT;
                 if (val < minVal) {
                     minVal = val;
-                    gx = p[0]; gy = p[1];
+                    gx = pxs[i]; gy = pys[i];
                 }
             }
         } else {
             // Предмет не вращаем - хват в центре нижней границы
             double minY = Double.MAX_VALUE;
-            for (int[] p : pixels) {
-                if (p[1] < minY) {
-                    minY = p[1];
-                    gx = p[0]; // Будет уточнено средним ниже
-                }
+            for (int i = 0; i < n; i++) {
+                if (pys[i] < minY) minY = pys[i];
             }
             // Уточняем gx как среднее всех пикселей на нижней линии
             double sumX = 0; int countX = 0;
-            for (int[] p : pixels) {
-                if (Math.abs(p[1] - minY) < 1.0) {
-                    sumX += p[0]; countX++;
+            for (int i = 0; i < n; i++) {
+                if (Math.abs(pys[i] - minY) < 1.0) {
+                    sumX += pxs[i]; countX++;
                 }
             }
             gx = sumX / countX;
@@ -142,9 +145,9 @@ public class ItemMeshGenerator {
         // мы должны генерировать вершины относительно геометрического центра текстуры,
         // а не точки хвата.
         float minX = width, minY = height, maxX = 0, maxY = 0;
-        for (int[] p : pixels) {
-            minX = Math.min(minX, p[0]); minY = Math.min(minY, p[1]);
-            maxX = Math.max(maxX, p[0]); maxY = Math.max(maxY, p[1]);
+        for (int i = 0; i < n; i++) {
+            minX = Math.min(minX, pxs[i]); minY = Math.min(minY, pys[i]);
+            maxX = Math.max(maxX, pxs[i]); maxY = Math.max(maxY, pys[i]);
         }
         float centerX = (minX + maxX + 1) * 0.5f / width;
         float centerY = (minY + maxY + 1) * 0.5f / height;
@@ -152,26 +155,24 @@ public class ItemMeshGenerator {
         // Смещение точки хвата относительно центра меша
         float rawGraspX = fgx - centerX;
         float rawGraspY = fgy - centerY;
-        
+
         // ВАЖНО: Вектор точки хвата тоже должен быть повернут на rotationAngle,
         // так как меш был повернут относительно центра.
         float finalGraspX = rawGraspX * cosR - rawGraspY * sinR;
         float finalGraspY = rawGraspX * sinR + rawGraspY * cosR;
 
-        org.joml.Vector3f graspOffset = new org.joml.Vector3f(finalGraspX, finalGraspY, 0);
-
         // --- Анализ толщины рукоятки (Grip Width) ---
         float gMinX = Float.MAX_VALUE;
         float gMaxX = -Float.MAX_VALUE;
         boolean gFound = false;
         float searchY = finalGraspY + 0.05f; // Сканируем чуть выше самой нижней точки хвата
-        float margin = 0.03f; 
-        
-        for (int[] p : pixels) {
-            float px = (float) p[0] / width - centerX;
-            float py = (float) p[1] / height - centerY;
+        float margin = 0.03f;
+
+        for (int i = 0; i < n; i++) {
+            float px = (float) pxs[i] / width - centerX;
+            float py = (float) pys[i] / height - centerY;
             float rotY = px * sinR + py * cosR;
-            
+
             if (Math.abs(rotY - searchY) <= margin) {
                 float rotX = px * cosR - py * sinR;
                 gMinX = Math.min(gMinX, rotX);
@@ -182,24 +183,29 @@ public class ItemMeshGenerator {
         float actualGripWidth = gFound ? (gMaxX - gMinX) : (maxX - minX);
 
         // --- Генерация меша ---
-        List<Float> positions = new ArrayList<>();
-        List<Float> texCoords = new ArrayList<>();
-        List<Float> normals = new ArrayList<>();
-        List<Integer> indices = new ArrayList<>();
+        // Сначала считаем квады, чтобы выделить массивы точного размера
+        int quads = 0;
+        for (int i = 0; i < n; i++) {
+            int x = pxs[i], y = pys[i];
+            quads += 2;
+            if (!isOpaque(rgba, x, y + 1, width, height)) quads++;
+            if (!isOpaque(rgba, x, y - 1, width, height)) quads++;
+            if (!isOpaque(rgba, x - 1, y, width, height)) quads++;
+            if (!isOpaque(rgba, x + 1, y, width, height)) quads++;
+        }
+        Builder b = new Builder(quads);
 
-        float thickness = 0.0625f; 
+        float thickness = 0.0625f;
         float h = thickness / 2.0f;
-        
-        float[] uvs = atlas.uvFor(texturePath);
-        float layer = uvs[2];
+
         float u0 = 0, v0 = 0, u1 = 1, v1 = 1;
         float uSize = u1 - u0, vSize = v1 - v0;
         float uE = 0.0005f, vE = 0.0005f;
 
-        for (int[] p : pixels) {
-            int x = p[0], y = p[1];
+        for (int i = 0; i < n; i++) {
+            int x = pxs[i], y = pys[i];
             float pu0 = u0 + (float) x / width * uSize + uE;
-            float pv0 = v0 + (float) y / height * vSize + vE; 
+            float pv0 = v0 + (float) y / height * vSize + vE;
             float pu1 = u0 + (float) (x + 1) / width * uSize - uE;
             float pv1 = v0 + (float) (y + 1) / height * vSize - vE;
 
@@ -219,80 +225,70 @@ public class ItemMeshGenerator {
             float px01 = bx0 * cosR - by1 * sinR; float py01 = bx0 * sinR + by1 * cosR;
 
             // FRONT (+Z)
-            addQuad(positions, texCoords, normals, indices,
-                px00, py00, h,  px10, py10, h,  px11, py11, h,  px01, py01, h,
-                pu0, pv0, layer, pu1, pv0, layer, pu1, pv1, layer, pu0, pv1, layer, 0, 0, 1);
+            b.quad(px00, py00, h,  px10, py10, h,  px11, py11, h,  px01, py01, h,
+                pu0, pv0, pu1, pv0, pu1, pv1, pu0, pv1, 0, 0, 1);
             // BACK (-Z)
-            addQuad(positions, texCoords, normals, indices,
-                px00, py00, -h,  px01, py01, -h,  px11, py11, -h,  px10, py10, -h,
-                pu0, pv0, layer, pu0, pv1, layer, pu1, pv1, layer, pu1, pv0, layer, 0, 0, -1);
-            
+            b.quad(px00, py00, -h,  px01, py01, -h,  px11, py11, -h,  px10, py10, -h,
+                pu0, pv0, pu0, pv1, pu1, pv1, pu1, pv0, 0, 0, -1);
+
             // Торцы (sides)
-            if (!isOpaque(image, x, y + 1, width, height)) {
-                addQuad(positions, texCoords, normals, indices, px01, py01, h, px11, py11, h, px11, py11, -h, px01, py01, -h, mu, mv, layer, mu, mv, layer, mu, mv, layer, mu, mv, layer, 0, 1, 0);
+            if (!isOpaque(rgba, x, y + 1, width, height)) {
+                b.quad(px01, py01, h, px11, py11, h, px11, py11, -h, px01, py01, -h, mu, mv, mu, mv, mu, mv, mu, mv, 0, 1, 0);
             }
-            if (!isOpaque(image, x, y - 1, width, height)) {
-                addQuad(positions, texCoords, normals, indices, px00, py00, -h, px10, py10, -h, px10, py10, h, px00, py00, h, mu, mv, layer, mu, mv, layer, mu, mv, layer, mu, mv, layer, 0, -1, 0);
+            if (!isOpaque(rgba, x, y - 1, width, height)) {
+                b.quad(px00, py00, -h, px10, py10, -h, px10, py10, h, px00, py00, h, mu, mv, mu, mv, mu, mv, mu, mv, 0, -1, 0);
             }
-            if (!isOpaque(image, x - 1, y, width, height)) {
-                addQuad(positions, texCoords, normals, indices, px00, py00, -h, px00, py00, h, px01, py01, h, px01, py01, -h, mu, mv, layer, mu, mv, layer, mu, mv, layer, mu, mv, layer, -1, 0, 0);
+            if (!isOpaque(rgba, x - 1, y, width, height)) {
+                b.quad(px00, py00, -h, px00, py00, h, px01, py01, h, px01, py01, -h, mu, mv, mu, mv, mu, mv, mu, mv, -1, 0, 0);
             }
-            if (!isOpaque(image, x + 1, y, width, height)) {
-                addQuad(positions, texCoords, normals, indices, px10, py10, h, px10, py10, -h, px11, py11, -h, px11, py11, h, mu, mv, layer, mu, mv, layer, mu, mv, layer, mu, mv, layer, 1, 0, 0);
+            if (!isOpaque(rgba, x + 1, y, width, height)) {
+                b.quad(px10, py10, h, px10, py10, -h, px11, py11, -h, px11, py11, h, mu, mv, mu, mv, mu, mv, mu, mv, 1, 0, 0);
             }
         }
 
-        stbi_image_free(image);
-
-        float[] posArr = new float[positions.size()];
-        for (int i = 0; i < positions.size(); i++) posArr[i] = positions.get(i);
-        float[] texArr = new float[texCoords.size()];
-        for (int i = 0; i < texCoords.size(); i++) texArr[i] = texCoords.get(i);
-        float[] normArr = new float[normals.size()];
-        for (int i = 0; i < normals.size(); i++) normArr[i] = normals.get(i);
-        int[] indArr = new int[indices.size()];
-        for (int i = 0; i < indices.size(); i++) indArr[i] = indices.get(i);
-
-        float[] blockTypes = new float[posArr.length / 3];
-        for (int i = 0; i < blockTypes.length; i++) blockTypes[i] = itemId;
-
-        Mesh finalMesh = new Mesh(posArr, texArr, normArr, blockTypes, indArr);
-        finalMesh.setGraspOffset(graspOffset);
-        finalMesh.setGripWidth(actualGripWidth);
-        return finalMesh;
+        return new ItemGeometry(b.pos, b.uv, b.norm, b.ind, finalGraspX, finalGraspY, actualGripWidth);
     }
 
-    private static boolean isOpaque(ByteBuffer image, int x, int y, int width, int height) {
+    private static boolean isOpaque(byte[] rgba, int x, int y, int width, int height) {
         if (x < 0 || x >= width || y < 0 || y >= height) return false;
-        int alpha = image.get((y * width + x) * 4 + 3) & 0xFF;
-        return alpha > 30; 
+        int alpha = rgba[(y * width + x) * 4 + 3] & 0xFF;
+        return alpha > 30;
     }
 
-    private static void addQuad(List<Float> pos, List<Float> tex, List<Float> norm, List<Integer> ind,
-                               float x0, float y0, float z0,
-                               float x1, float y1, float z1,
-                               float x2, float y2, float z2,
-                               float x3, float y3, float z3,
-                               float u0, float v0, float w0, 
-                               float u1, float v1, float w1,
-                               float u2, float v2, float w2,
-                               float u3, float v3, float w3,
-                               float nx, float ny, float nz) {
-        int start = pos.size() / 3;
-        pos.add(x0); pos.add(y0); pos.add(z0);
-        pos.add(x1); pos.add(y1); pos.add(z1);
-        pos.add(x2); pos.add(y2); pos.add(z2);
-        pos.add(x3); pos.add(y3); pos.add(z3);
-        tex.add(u0); tex.add(v0); tex.add(w0); tex.add(-1.0f);
-        tex.add(u1); tex.add(v1); tex.add(w1); tex.add(-1.0f);
-        tex.add(u2); tex.add(v2); tex.add(w2); tex.add(-1.0f);
-        tex.add(u3); tex.add(v3); tex.add(w3); tex.add(-1.0f);
-        for (int i = 0; i < 4; i++) {
-            norm.add(nx); norm.add(ny); norm.add(nz);
+    /** Массивы точного размера, заполняемые по квадам. */
+    private static final class Builder {
+        final float[] pos, uv, norm;
+        final int[] ind;
+        int quad;
+
+        Builder(int quads) {
+            pos = new float[quads * 12];
+            uv = new float[quads * 8];
+            norm = new float[quads * 12];
+            ind = new int[quads * 6];
+        }
+
+        void quad(float x0, float y0, float z0,
+                  float x1, float y1, float z1,
+                  float x2, float y2, float z2,
+                  float x3, float y3, float z3,
+                  float u0, float v0, float u1, float v1,
+                  float u2, float v2, float u3, float v3,
+                  float nx, float ny, float nz) {
+            int p = quad * 12, t = quad * 8, start = quad * 4;
+            pos[p] = x0; pos[p + 1] = y0; pos[p + 2] = z0;
+            pos[p + 3] = x1; pos[p + 4] = y1; pos[p + 5] = z1;
+            pos[p + 6] = x2; pos[p + 7] = y2; pos[p + 8] = z2;
+            pos[p + 9] = x3; pos[p + 10] = y3; pos[p + 11] = z3;
+            uv[t] = u0; uv[t + 1] = v0; uv[t + 2] = u1; uv[t + 3] = v1;
+            uv[t + 4] = u2; uv[t + 5] = v2; uv[t + 6] = u3; uv[t + 7] = v3;
+            for (int i = 0; i < 4; i++) {
+                norm[p + i * 3] = nx; norm[p + i * 3 + 1] = ny; norm[p + i * 3 + 2] = nz;
+            }
+            int o = quad * 6;
+            ind[o] = start; ind[o + 1] = start + 1; ind[o + 2] = start + 2;
+            ind[o + 3] = start + 2; ind[o + 4] = start + 3; ind[o + 5] = start;
+            quad++;
         }
-        ind.add(start); ind.add(start + 1); ind.add(start + 2);
-        ind.add(start + 2); ind.add(start + 3); ind.add(start);
     }
 }
-
-
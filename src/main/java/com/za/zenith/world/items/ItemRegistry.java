@@ -9,6 +9,8 @@ import java.util.Map;
 
 public class ItemRegistry {
     private static final NumericalRegistry<Item> REGISTRY = new NumericalRegistry<>();
+    private static final int[] NO_ITEMS = new int[0];
+    private static volatile int[][] tagIndex;
     
     public static void init() {
         // Map blocks to items automatically after DataLoader has loaded blocks
@@ -35,6 +37,7 @@ public class ItemRegistry {
     public static void registerItem(Item item) {
         Item oldItem = REGISTRY.get(item.getIdentifier());
         REGISTRY.register(item.getIdentifier(), item.getId(), item);
+        tagIndex = null;
         
         // --- HOT RELOAD SYNC ---
         // If we are replacing an existing item, we must update all ItemStacks 
@@ -61,6 +64,27 @@ public class ItemRegistry {
         }
     }
 
+    static void invalidateTagIndex() {
+        tagIndex = null;
+    }
+
+    /**
+     * Numeric ids of all items carrying the tag (directly or through an include). Built lazily
+     * after registration; the returned array must not be modified.
+     */
+    public static int[] getItemsWithTag(int tag) {
+        int[][] index = tagIndex;
+        if (index == null) {
+            int max = -1;
+            for (Identifier id : REGISTRY.getIds()) max = Math.max(max, REGISTRY.getId(id));
+            com.za.zenith.world.tags.TagSet[] byId = new com.za.zenith.world.tags.TagSet[max + 1];
+            for (Identifier id : REGISTRY.getIds()) byId[REGISTRY.getId(id)] = REGISTRY.get(id).getResolvedTags();
+            index = com.za.zenith.world.tags.TagRegistry.buildIndex(byId);
+            tagIndex = index;
+        }
+        return tag >= 0 && tag < index.length ? index[tag] : NO_ITEMS;
+    }
+
     public static Item getItem(int id) {
         return REGISTRY.get(id);
     }
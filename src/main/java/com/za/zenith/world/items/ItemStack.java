@@ -11,6 +11,15 @@ public class ItemStack {
     private final java.util.List<com.za.zenith.utils.Identifier> activeAffixes = new java.util.ArrayList<>();
     private com.za.zenith.world.inventory.ItemInventory itemInventory;
     private float temperature;
+    private CountListener countListener;
+
+    /**
+     * Notified when the count changes in place ({@link #setCount}, {@link #split}); set by the inventory
+     * holding the stack so that such edits reach its own change listeners.
+     */
+    public interface CountListener {
+        void onCountChanged(ItemStack stack);
+    }
 
     public void addAffix(com.za.zenith.utils.Identifier affixId) {
         if (!activeAffixes.contains(affixId)) {
@@ -74,24 +83,34 @@ public class ItemStack {
      * Gets the total stat value, combining base item stats, stack modifiers, and affixes.
      */
     public float getStat(com.za.zenith.utils.Identifier statId) {
-        float totalValue = item.getStat(statId);
+        return getStat(com.za.zenith.world.items.stats.StatRegistry.indexOf(statId));
+    }
+
+    /**
+     * Same as {@link #getStat(com.za.zenith.utils.Identifier)} by dense stat index; does not allocate.
+     */
+    public float getStat(int stat) {
+        float totalValue = item.getStat(stat);
         
         // Add manual stack modifiers
-        java.util.Map<com.za.zenith.utils.Identifier, Float> stackStats = stats.getAllStats();
-        if (stackStats.containsKey(statId)) {
-            totalValue += stackStats.get(statId);
+        if (stats.has(stat)) {
+            totalValue += stats.get(stat);
         }
 
         // Add affix modifiers
-        for (com.za.zenith.utils.Identifier affixId : activeAffixes) {
-            com.za.zenith.world.items.stats.AffixDefinition affix = com.za.zenith.world.items.stats.AffixRegistry.get(affixId);
-            if (affix != null && affix.stats().containsKey(statId)) {
-                totalValue += affix.stats().get(statId);
+        if (!activeAffixes.isEmpty()) {
+            com.za.zenith.utils.Identifier statId = com.za.zenith.world.items.stats.StatRegistry.idOf(stat);
+            for (int i = 0; i < activeAffixes.size(); i++) {
+                com.za.zenith.world.items.stats.AffixDefinition affix = com.za.zenith.world.items.stats.AffixRegistry.get(activeAffixes.get(i));
+                if (affix != null) {
+                    Float value = affix.stats().get(statId);
+                    if (value != null) totalValue += value;
+                }
             }
         }
         
         // Clamp result using stat definition
-        com.za.zenith.world.items.stats.StatDefinition def = com.za.zenith.world.items.stats.StatRegistry.get(statId);
+        com.za.zenith.world.items.stats.StatDefinition def = com.za.zenith.world.items.stats.StatRegistry.get(stat);
         if (def != null) {
             totalValue = Math.clamp(totalValue, def.minValue(), def.maxValue());
         }
@@ -170,7 +189,13 @@ public class ItemStack {
     }
 
     public void setCount(int count) {
+        if (this.count == count) return;
         this.count = count;
+        if (countListener != null) countListener.onCountChanged(this);
+    }
+
+    public void setCountListener(CountListener listener) {
+        this.countListener = listener;
     }
 
     public int getDurability() {
@@ -221,6 +246,7 @@ public class ItemStack {
              newStack.itemInventory = this.itemInventory.copy();
         }
         this.count -= toTake;
+        if (toTake > 0 && countListener != null) countListener.onCountChanged(this);
         return newStack;
     }
 
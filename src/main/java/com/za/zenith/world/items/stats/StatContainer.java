@@ -1,77 +1,149 @@
 package com.za.zenith.world.items.stats;
 
+import com.za.zenith.utils.IntArrayList;
 import com.za.zenith.utils.Identifier;
 import java.util.*;
 
 /**
  * Calculates and manages a set of stats for an entity or item.
+ * <p>
+ * Values are stored in arrays indexed by {@link StatRegistry#indexOf(Identifier)}. Modifiers are
+ * tracked per source, so adding or removing a source only invalidates the stats it touches, and
+ * {@link #get(int)} is a cached array read.
  */
 public class StatContainer {
-    private final Map<Identifier, Float> baseValues = new HashMap<>();
-    private final Map<Identifier, List<StatModifier>> modifiers = new HashMap<>();
-    private final Map<Identifier, Float> finalValuesCache = new HashMap<>();
-    private boolean dirty = true;
-
-    public void setBase(Identifier id, float value) {
-        baseValues.put(id, value);
-        markDirty();
-    }
+    private static final StatModifier[] NO_MODIFIERS = new StatModifier[0];
+
+    private float[] baseValues = new float[0];
+    private boolean[] hasBase = new boolean[0];
+    private StatModifier[][] modifiers = new StatModifier[0][];
+    private int[] modifierCounts = new int[0];
+    private float[] finalValues = new float[0];
+    private boolean[] valid = new boolean[0];
+    // Which stat indices each source has modifiers on
+    private final Map<Identifier, IntArrayList> statsBySource = new HashMap<>();
+    private int registryGeneration = -1;
 
     private boolean useDefaultValues = true;
 
     public void setUseDefaultValues(boolean use) {
         this.useDefaultValues = use;
+        markDirty();
+    }
+
+    public void setBase(Identifier id, float value) {
+        setBase(StatRegistry.indexOf(id), value);
+    }
+
+    public void setBase(int stat, float value) {
+        ensureCapacity(stat);
+        baseValues[stat] = value;
+        hasBase[stat] = true;
+        valid[stat] = false;
     }
 
     public float getBase(Identifier id) {
-        if (baseValues.containsKey(id)) return baseValues.get(id);
+        return getBase(StatRegistry.indexOf(id));
+    }
+
+    public float getBase(int stat) {
+        if (stat < hasBase.length && hasBase[stat]) return baseValues[stat];
         if (!useDefaultValues) return 0.0f;
-        StatDefinition def = StatRegistry.get(id);
+        StatDefinition def = StatRegistry.get(stat);
         return def != null ? def.defaultValue() : 0.0f;
     }
 
     public void addModifier(Identifier statId, StatModifier modifier) {
-        modifiers.computeIfAbsent(statId, k -> new ArrayList<>()).add(modifier);
-        markDirty();
+        addModifier(StatRegistry.indexOf(statId), modifier);
+    }
+
+    public void addModifier(int stat, StatModifier modifier) {
+        ensureCapacity(stat);
+        StatModifier[] mods = modifiers[stat];
+        int n = modifierCounts[stat];
+        if (n == mods.length) {
+            mods = Arrays.copyOf(mods, Math.max(4, n * 2));
+            modifiers[stat] = mods;
+        }
+        mods[n] = modifier;
+        modifierCounts[stat] = n + 1;
+        valid[stat] = false;
+
+        IntArrayList touched = statsBySource.computeIfAbsent(modifier.source(), k -> new IntArrayList(4));
+        for (int i = 0; i < touched.size(); i++) {
+            if (touched.get(i) == stat) return;
+        }
+        touched.add(stat);
     }
 
     public void removeModifiersFrom(Identifier sourceId) {
-        for (List<StatModifier> mods : modifiers.values()) {
-            mods.removeIf(m -> m.source().equals(sourceId));
+        IntArrayList touched = statsBySource.remove(sourceId);
+        if (touched == null) return;
+        for (int i = 0; i < touched.size(); i++) {
+            int stat = touched.get(i);
+            StatModifier[] mods = modifiers[stat];
+            int n = modifierCounts[stat];
+            int kept = 0;
+            for (int j = 0; j < n; j++) {
+                if (!mods[j].source().equals(sourceId)) mods[kept++] = mods[j];
+            }
+            Arrays.fill(mods, kept, n, null);
+            modifierCounts[stat] = kept;
+            valid[stat] = false;
         }
-        markDirty();
     }
 
     public void clearModifiers() {
-        modifiers.clear();
+        for (int stat = 0; stat < modifierCounts.length; stat++) {
+            if (modifierCounts[stat] > 0) {
+                Arrays.fill(modifiers[stat], null);
+                modifierCounts[stat] = 0;
+            }
+        }
+        statsBySource.clear();
         markDirty();
     }
 
     public void markDirty() {
-        dirty = true;
-        finalValuesCache.clear();
+        Arrays.fill(valid, false);
+    }
+
+    /** True if the stat has an explicit base value or any modifier. */
+    public boolean has(int stat) {
+        return stat < hasBase.length && (hasBase[stat] || modifierCounts[stat] > 0);
     }
 
     public float get(Identifier id) {
-        if (!dirty && finalValuesCache.containsKey(id)) {
-            return finalValuesCache.get(id);
-        }
+        return get(StatRegistry.indexOf(id));
+    }
 
-        float value = calculateFinal(id);
-        finalValuesCache.put(id, value);
-        return value;
+    public float get(int stat) {
+        int generation = StatRegistry.getGeneration();
+        if (generation != registryGeneration) {
+            // New definitions change defaults and clamp ranges
+            registryGeneration = generation;
+            markDirty();
+        }
+        if (stat >= valid.length) return getBase(stat);
+        if (!valid[stat]) {
+            finalValues[stat] = calculateFinal(stat);
+            valid[stat] = true;
+        }
+        return finalValues[stat];
     }
 
-    private float calculateFinal(Identifier id) {
-        float base = getBase(id);
-        List<StatModifier> mods = modifiers.get(id);
-        if (mods == null || mods.isEmpty()) return base;
+    private float calculateFinal(int stat) {
+        float base = getBase(stat);
+        int n = modifierCounts[stat];
+        if (n == 0) return base;
 
+        StatModifier[] mods = modifiers[stat];
         float sumAdd = 0;
         float sumMultBase = 0;
         float productMultTotal = 1.0f;
 
-        for (StatModifier mod : mods) {
+        for (int i = 0; i < n; i++) {
+            StatModifier mod = mods[i];
             switch (mod.operation()) {
                 case ADD -> sumAdd += mod.value();
                 case MULTIPLY_BASE -> sumMultBase += mod.value();
@@ -81,7 +153,7 @@ public class StatContainer {
 
         float result = (base + sumAdd + base * sumMultBase) * productMultTotal;
         
-        StatDefinition def = StatRegistry.get(id);
+        StatDefinition def = StatRegistry.get(stat);
         if (def != null) {
             result = Math.clamp(result, def.minValue(), def.maxValue());
         }
@@ -89,13 +161,28 @@ public class StatContainer {
         return result;
     }
 
+    /**
+     * Snapshot of every stat with a base value or modifiers. Allocates; meant for UI and debugging,
+     * hot paths should use {@link #get(int)}.
+     */
     public Map<Identifier, Float> getAllStats() {
-        if (dirty) {
-            // Re-calculate everything if dirty
-            for (Identifier id : baseValues.keySet()) get(id);
-            for (Identifier id : modifiers.keySet()) get(id);
-            dirty = false;
+        Map<Identifier, Float> all = new LinkedHashMap<>();
+        for (int stat = 0; stat < hasBase.length; stat++) {
+            if (has(stat)) all.put(StatRegistry.idOf(stat), get(stat));
         }
-        return Collections.unmodifiableMap(finalValuesCache);
+        return Collections.unmodifiableMap(all);
+    }
+
+    private void ensureCapacity(int stat) {
+        if (stat < hasBase.length) return;
+        int size = Math.max(stat + 1, Math.max(8, StatRegistry.size()));
+        int old = hasBase.length;
+        baseValues = Arrays.copyOf(baseValues, size);
+        hasBase = Arrays.copyOf(hasBase, size);
+        modifiers = Arrays.copyOf(modifiers, size);
+        Arrays.fill(modifiers, old, size, NO_MODIFIERS);
+        modifierCounts = Arrays.copyOf(modifierCounts, size);
+        finalValues = Arrays.copyOf(finalValues, size);
+        valid = Arrays.copyOf(valid, size);
     }
 }
@@ -1,24 +1,81 @@
 package com.za.zenith.world.items.stats;
 
 import com.za.zenith.utils.Identifier;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Registry for data-driven stats.
+ * <p>
+ * Every stat identifier gets a dense integer index on first use (registration or lookup), so
+ * {@link StatContainer} can keep values in plain arrays. Indices are stable for the process lifetime.
  */
 public class StatRegistry {
     private static final Map<Identifier, StatDefinition> STATS = new HashMap<>();
+    private static final Map<Identifier, Integer> INDICES = new ConcurrentHashMap<>();
+    private static volatile Identifier[] ids = new Identifier[16];
+    private static volatile StatDefinition[] byIndex = new StatDefinition[16];
+    private static volatile int count;
+    // Bumped on every registration so cached values re-read defaults and clamp ranges
+    private static volatile int generation;
 
     public static void register(StatDefinition def) {
-        STATS.put(def.identifier(), def);
+        int index = indexOf(def.identifier());
+        synchronized (StatRegistry.class) {
+            STATS.put(def.identifier(), def);
+            byIndex[index] = def;
+            generation++;
+        }
     }
 
     public static StatDefinition get(Identifier id) {
         return STATS.get(id);
     }
 
+    /** Definition by dense index, or null if the stat is known only by id (not loaded yet). */
+    public static StatDefinition get(int index) {
+        StatDefinition[] defs = byIndex;
+        return index >= 0 && index < defs.length ? defs[index] : null;
+    }
+
+    /**
+     * Dense index of a stat, assigned on first request.
+     */
+    public static int indexOf(Identifier id) {
+        Integer index = INDICES.get(id);
+        return index != null ? index : assignIndex(id);
+    }
+
+    private static synchronized int assignIndex(Identifier id) {
+        Integer index = INDICES.get(id);
+        if (index != null) return index;
+        int next = count;
+        if (next == ids.length) {
+            ids = Arrays.copyOf(ids, next * 2);
+            byIndex = Arrays.copyOf(byIndex, next * 2);
+        }
+        ids[next] = id;
+        count = next + 1;
+        INDICES.put(id, next);
+        return next;
+    }
+
+    public static Identifier idOf(int index) {
+        return ids[index];
+    }
+
+    /** Number of assigned indices; every index is below this value. */
+    public static int size() {
+        return count;
+    }
+
+    public static int getGeneration() {
+        return generation;
+    }
+
     public static Collection<StatDefinition> getAll() {
         return STATS.values();
     }
@@ -31,4 +88,6 @@ public class StatRegistry {
     public static final Identifier DEFENSE = Identifier.of("zenith:defense");
     public static final Identifier SHOCK = Identifier.of("zenith:shock");
     public static final Identifier PENETRATION = Identifier.of("zenith:penetration");
+
+    public static final int MOBILITY_INDEX = indexOf(MOBILITY);
 }
@@ -19,6 +19,8 @@ public class LightEngine {
     private static final int QUEUE_MASK = QUEUE_SIZE - 1;
     
     private final ConcurrentLinkedQueue<BlockPos> updateQueue = new ConcurrentLinkedQueue<>();
+    // Whole edit transactions, each relit as one pass
+    private final ConcurrentLinkedQueue<List<BlockPos>> bulkQueue = new ConcurrentLinkedQueue<>();
     private final AtomicBoolean isProcessing = new AtomicBoolean(false);
 
     public void enqueueLightUpdate(BlockPos pos) {
@@ -32,6 +34,18 @@ public class LightEngine {
         }
     }
 
+    /**
+     * Queues a set of changed positions (e.g. a committed {@link com.za.zenith.world.BlockEditTransaction})
+     * that is relit together: one removal/fill pass and one commit instead of one per block.
+     */
+    public void enqueueLightUpdates(List<BlockPos> positions) {
+        if (positions.isEmpty()) return;
+        bulkQueue.offer(positions);
+        if (isProcessing.compareAndSet(false, true)) {
+            submitProcessTask();
+        }
+    }
+
     private void submitProcessTask() {
         world.getLightExecutor().submit(new com.za.zenith.utils.PriorityExecutorService.PrioritizedRunnable() {
             @Override
@@ -46,6 +60,12 @@ public class LightEngine {
 
     private void processQueue() {
         try {
+            List<BlockPos> bulk = bulkQueue.poll();
+            if (bulk != null) {
+                onBlocksChanged(bulk);
+                return;
+            }
+
             List<BlockPos> batch = new ArrayList<>();
             BlockPos p;
             int count = 0;
@@ -59,7 +79,7 @@ public class LightEngine {
             }
         } finally {
             isProcessing.set(false);
-            if (!updateQueue.isEmpty()) {
+            if (!updateQueue.isEmpty() || !bulkQueue.isEmpty()) {
                 if (isProcessing.compareAndSet(false, true)) {
                     submitProcessTask();
                 }
@@ -68,6 +88,15 @@ public class LightEngine {
     }
 
     public void onBlocksChanged(List<BlockPos> positions) {
+        com.za.zenith.utils.profiling.Profiler.push("light.blocksChanged");
+        try {
+            relightBlocks(positions);
+        } finally {
+            com.za.zenith.utils.profiling.Profiler.pop();
+        }
+    }
+
+    private void relightBlocks(List<BlockPos> positions) {
         LightContext ctx = threadContext.get();
         ctx.clear();
         
@@ -78,9 +107,11 @@ public class LightEngine {
         processLightRemoval(false, ctx);
         processLightFill(false, ctx);
         
-        // 2. Prepare Sunlight
+        // 2. Prepare Sunlight (the whole column is recomputed, so once per column)
         for (BlockPos pos : positions) {
-            prepareSunlightUpdate(pos, ctx);
+            if (ctx.sunColumns.add(((long) pos.x() << 32) | (pos.z() & 0xFFFFFFFFL))) {
+                prepareSunlightUpdate(pos, ctx);
+            }
         }
         processLightRemoval(true, ctx);
         processLightFill(true, ctx);
@@ -236,12 +267,14 @@ public class LightEngine {
         
         final PrimitiveLongByteMap sunChanges = new PrimitiveLongByteMap();
         final PrimitiveLongByteMap blockChanges = new PrimitiveLongByteMap();
+        final com.za.zenith.utils.LongHashSet sunColumns = new com.za.zenith.utils.LongHashSet();
 
         void clear() {
             fillHead = fillTail = 0;
             removalHead = removalTail = 0;
             sunChanges.clear();
             blockChanges.clear();
+            sunColumns.clear();
         }
 
         void enqueueFill(long p) {
@@ -612,6 +645,15 @@ public class LightEngine {
     }
 
     public void generateInitialSunlight(Chunk chunk) {
+        com.za.zenith.utils.profiling.Profiler.push("light.initialSunlight");
+        try {
+            fillInitialSunlight(chunk);
+        } finally {
+            com.za.zenith.utils.profiling.Profiler.pop();
+        }
+    }
+
+    private void fillInitialSunlight(Chunk chunk) {
         LightContext ctx = threadContext.get();
         ctx.clear();
         for (int x = 0; x < Chunk.CHUNK_SIZE; x++) {
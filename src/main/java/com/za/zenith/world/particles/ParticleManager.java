@@ -11,18 +11,13 @@ import com.za.zenith.world.blocks.WoodTypeRegistry;
 import com.za.zenith.utils.Identifier;
 import org.joml.Vector3f;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-
 /**
  * Глобальный менеджер классической системы частиц.
  * Упор на визуальную стабильность и отсутствие коллизий.
  */
 public class ParticleManager {
     private static ParticleManager instance;
-    private final List<Particle> particles = new ArrayList<>();
-    private final List<Particle> pendingAdd = new ArrayList<>();
+    private final ParticleStore particles = new ParticleStore(256);
     private int spawnedThisTick = 0;
 
     public static ParticleManager getInstance() {
@@ -32,25 +27,9 @@ public class ParticleManager {
 
     public void update(float deltaTime, World world) {
         spawnedThisTick = 0;
-        if (!pendingAdd.isEmpty()) {
-            particles.addAll(pendingAdd);
-            pendingAdd.clear();
-        }
-
-        Iterator<Particle> it = particles.iterator();
-        while (it.hasNext()) {
-            Particle p = it.next();
-            p.update(deltaTime);
-            if (p.isRemoved()) {
-                it.remove();
-            }
-        }
-        
-        int limit = com.za.zenith.world.physics.PhysicsSettings.getInstance().particleLimit;
-        if (particles.size() > limit) {
-            int toRemove = Math.min(particles.size(), particles.size() - limit + 100);
-            for (int i = 0; i < toRemove && !particles.isEmpty(); i++) particles.remove(0);
-        }
+        // Лимит применяется при спавне: лишние частицы переиспользуют слоты старых
+        particles.setLimit(com.za.zenith.world.physics.PhysicsSettings.getInstance().particleLimit);
+        particles.update(deltaTime);
     }
 
     private BlockTextures resolveTextures(BlockDefinition def, int metadata) {
@@ -129,20 +108,16 @@ public class ParticleManager {
         float scale = 0.12f * def.getWeakSpotParticleScale();
 
         for (int i = 0; i < count; i++) {
-            Vector3f pPos = new Vector3f(pos).add(new Vector3f(normal).mul(0.1f)).add(
-                (float)(Math.random() - 0.5) * 0.05f,
-                (float)(Math.random() - 0.5) * 0.05f,
-                (float)(Math.random() - 0.5) * 0.05f
-            );
-
-            Vector3f vel = new Vector3f(normal).add(
-                (float)(Math.random() - 0.5) * 0.5f,
-                (float)(Math.random() - 0.5) * 0.5f,
-                (float)(Math.random() - 0.5) * 0.5f
-            );
-            vel.normalize().mul(1.5f + (float)Math.random() * 2.5f);
-
-            pendingAdd.add(new ShardParticle(pPos, vel, 0.4f + (float)Math.random() * 0.4f, scale, texLayer, overlayLayer, color));
+            float px = pos.x + normal.x * 0.1f + (float)(Math.random() - 0.5) * 0.05f;
+            float py = pos.y + normal.y * 0.1f + (float)(Math.random() - 0.5) * 0.05f;
+            float pz = pos.z + normal.z * 0.1f + (float)(Math.random() - 0.5) * 0.05f;
+
+            float vx = normal.x + (float)(Math.random() - 0.5) * 0.5f;
+            float vy = normal.y + (float)(Math.random() - 0.5) * 0.5f;
+            float vz = normal.z + (float)(Math.random() - 0.5) * 0.5f;
+            float speed = (1.5f + (float)Math.random() * 2.5f) / (float)Math.sqrt(vx * vx + vy * vy + vz * vz);
+
+            spawnShard(px, py, pz, vx * speed, vy * speed, vz * speed, 0.4f + (float)Math.random() * 0.4f, scale, texLayer, overlayLayer, color);
         }
     }
 
@@ -205,11 +180,23 @@ public class ParticleManager {
                         }
                     }
 
-                    pendingAdd.add(new ShardParticle(pPos, vel, 0.6f + (float)Math.random() * 0.6f, baseScale, (int)atlas.getLayer(texKey), overlayLayer, color));
+                    spawnShard(pPos.x, pPos.y, pPos.z, vel.x, vel.y, vel.z, 0.6f + (float)Math.random() * 0.6f, baseScale, (int)atlas.getLayer(texKey), overlayLayer, color);
                 }
             }
         }
     }
 
-    public List<Particle> getActiveParticles() { return particles; }
+    /**
+     * Классический воксельный осколок: случайный кусок 4x4 текстуры 16x16 и случайное вращение.
+     */
+    private void spawnShard(float x, float y, float z, float vx, float vy, float vz, float life, float scale, int textureLayer, int overlayLayer, Vector3f color) {
+        // Смещение в долях 0..1 (шаг 1/4 = 0.25)
+        float snipU = (float)Math.floor(Math.random() * 4) * 0.25f;
+        float snipV = (float)Math.floor(Math.random() * 4) * 0.25f;
+        float roll = (float)(Math.random() * Math.PI * 2.0);
+        float rollVelocity = (float)(Math.random() - 0.5) * 10.0f;
+        particles.add(x, y, z, vx, vy, vz, life, scale, roll, rollVelocity, textureLayer, overlayLayer, snipU, snipV, color.x, color.y, color.z);
+    }
+
+    public ParticleStore getActiveParticles() { return particles; }
 }
@@ -0,0 +1,233 @@
+package com.za.zenith.world.particles;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Хранилище частиц в виде структуры массивов (struct-of-arrays).
+ * <p>
+ * Каждое свойство лежит в своём примитивном массиве, живые частицы занимают индексы [0, count).
+ * Смерть частицы - swap-remove (последняя переезжает на её место, O(1)), поэтому порядок
+ * не сохраняется. Обновление в установившемся режиме не выделяет памяти; при большом числе
+ * частиц его можно разбить на куски и выполнить параллельно в общем ForkJoinPool.
+ */
+public class ParticleStore {
+    public static final int PARALLEL_THRESHOLD = 8192;
+    private static final int CHUNK_SIZE = 4096;
+    private static final int MAX_CHUNKS = 64;
+
+    // Физика осколков
+    public static final float GRAVITY = 18.0f;
+    public static final float AIR_DRAG = 0.98f;
+
+    private int count = 0;
+    private int capacity;
+    private int limit = Integer.MAX_VALUE;
+    private int evictCursor = 0;
+
+    float[] posX, posY, posZ;
+    float[] velX, velY, velZ;
+    float[] colorR, colorG, colorB;
+    float[] life, maxLife;
+    float[] scale, alpha, roll, rollVelocity;
+    float[] snippetU, snippetV;
+    int[] textureLayer, overlayLayer;
+
+    private final ChunkTask[] tasks = new ChunkTask[MAX_CHUNKS];
+
+    public ParticleStore(int initialCapacity) {
+        allocate(Math.max(16, initialCapacity));
+        for (int i = 0; i < MAX_CHUNKS; i++) tasks[i] = new ChunkTask();
+    }
+
+    private void allocate(int newCapacity) {
+        capacity = newCapacity;
+        posX = grow(posX, newCapacity); posY = grow(posY, newCapacity); posZ = grow(posZ, newCapacity);
+        velX = grow(velX, newCapacity); velY = grow(velY, newCapacity); velZ = grow(velZ, newCapacity);
+        colorR = grow(colorR, newCapacity); colorG = grow(colorG, newCapacity); colorB = grow(colorB, newCapacity);
+        life = grow(life, newCapacity); maxLife = grow(maxLife, newCapacity);
+        scale = grow(scale, newCapacity); alpha = grow(alpha, newCapacity);
+        roll = grow(roll, newCapacity); rollVelocity = grow(rollVelocity, newCapacity);
+        snippetU = grow(snippetU, newCapacity); snippetV = grow(snippetV, newCapacity);
+        textureLayer = textureLayer == null ? new int[newCapacity] : Arrays.copyOf(textureLayer, newCapacity);
+        overlayLayer = overlayLayer == null ? new int[newCapacity] : Arrays.copyOf(overlayLayer, newCapacity);
+    }
+
+    private static float[] grow(float[] array, int newCapacity) {
+        return array == null ? new float[newCapacity] : Arrays.copyOf(array, newCapacity);
+    }
+
+    /**
+     * Максимальное число живых частиц. При переполнении новая частица занимает слот одной из
+     * старых (по кругу), а не сдвигает весь массив.
+     */
+    public void setLimit(int limit) {
+        this.limit = Math.max(1, limit);
+        if (count > this.limit) count = this.limit;
+    }
+
+    /**
+     * Добавляет осколок.
+     * @return индекс частицы.
+     */
+    public int add(float x, float y, float z, float vx, float vy, float vz, float lifeTime,
+                   float particleScale, float particleRoll, float particleRollVelocity,
+                   int texLayer, int overlay, float snipU, float snipV,
+                   float r, float g, float b) {
+        int i;
+        if (count >= limit) {
+            i = evictCursor++ % count;
+            if (evictCursor >= count) evictCursor = 0;
+        } else {
+            if (count == capacity) allocate(Math.min(limit, capacity * 2));
+            i = count++;
+        }
+
+        posX[i] = x; posY[i] = y; posZ[i] = z;
+        velX[i] = vx; velY[i] = vy; velZ[i] = vz;
+        life[i] = lifeTime; maxLife[i] = lifeTime;
+        scale[i] = particleScale; alpha[i] = 1.0f;
+        roll[i] = particleRoll; rollVelocity[i] = particleRollVelocity;
+        textureLayer[i] = texLayer; overlayLayer[i] = overlay;
+        snippetU[i] = snipU; snippetV[i] = snipV;
+        colorR[i] = r; colorG[i] = g; colorB[i] = b;
+        return i;
+    }
+
+    public void update(float deltaTime) {
+        update(deltaTime, count >= PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Двигает все частицы, затем удаляет умершие (swap-remove).
+     */
+    public void update(float deltaTime, boolean parallel) {
+        int n = count;
+        if (n == 0) return;
+
+        int chunks = Math.min(MAX_CHUNKS, (n + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        if (!parallel || chunks < 2) {
+            integrate(0, n, deltaTime);
+        } else {
+            int per = (n + chunks - 1) / chunks;
+            for (int c = 1; c < chunks; c++) {
+                ChunkTask task = tasks[c];
+                task.reinitialize();
+                task.from = c * per;
+                task.to = Math.min(n, (c + 1) * per);
+                task.deltaTime = deltaTime;
+                ForkJoinPool.commonPool().execute(task);
+            }
+            integrate(0, Math.min(n, per), deltaTime);
+            for (int c = 1; c < chunks; c++) tasks[c].join();
+        }
+
+        removeDead();
+    }
+
+    /**
+     * Ядро обновления: каждый индекс независим, поэтому куски можно считать параллельно.
+     */
+    private void integrate(int from, int to, float dt) {
+        float gravity = GRAVITY * dt;
+        for (int i = from; i < to; i++) {
+            // Гравитация и сопротивление воздуха
+            float vx = velX[i] * AIR_DRAG;
+            float vy = (velY[i] - gravity) * AIR_DRAG;
+            float vz = velZ[i] * AIR_DRAG;
+            velX[i] = vx; velY[i] = vy; velZ[i] = vz;
+
+            float l = life[i] - dt;
+            life[i] = l;
+            if (l <= 0) continue;
+
+            // Движение по дуге
+            posX[i] += vx * dt;
+            posY[i] += vy * dt;
+            posZ[i] += vz * dt;
+
+            // Вращение в плоскости экрана (roll)
+            roll[i] += rollVelocity[i] * dt;
+
+            // Затухание во второй половине жизни и уменьшение в самом конце
+            float ratio = l / maxLife[i];
+            alpha[i] = Math.min(1.0f, ratio * 2.0f);
+            if (ratio < 0.2f) scale[i] *= 0.95f;
+        }
+    }
+
+    private void removeDead() {
+        int i = 0;
+        while (i < count) {
+            if (life[i] <= 0) {
+                int last = --count;
+                if (i != last) move(last, i);
+            } else {
+                i++;
+            }
+        }
+        if (evictCursor >= count) evictCursor = 0;
+    }
+
+    private void move(int from, int to) {
+        posX[to] = posX[from]; posY[to] = posY[from]; posZ[to] = posZ[from];
+        velX[to] = velX[from]; velY[to] = velY[from]; velZ[to] = velZ[from];
+        colorR[to] = colorR[from]; colorG[to] = colorG[from]; colorB[to] = colorB[from];
+        life[to] = life[from]; maxLife[to] = maxLife[from];
+        scale[to] = scale[from]; alpha[to] = alpha[from];
+        roll[to] = roll[from]; rollVelocity[to] = rollVelocity[from];
+        snippetU[to] = snippetU[from]; snippetV[to] = snippetV[from];
+        textureLayer[to] = textureLayer[from]; overlayLayer[to] = overlayLayer[from];
+    }
+
+    public void clear() {
+        count = 0;
+        evictCursor = 0;
+    }
+
+    /**
+     * Пишет данные инстанса частицы в формате ParticleRenderer:
+     * Pos(3), Roll(1), Scale(1), Alpha(1), OverlayLayer(1), TexLayer(1), SnippetOffset(2), Color(3).
+     * @return новое смещение.
+     */
+    public int writeInstance(int i, float[] out, int offset) {
+        out[offset] = posX[i];
+        out[offset + 1] = posY[i];
+        out[offset + 2] = posZ[i];
+        out[offset + 3] = roll[i];
+        out[offset + 4] = scale[i];
+        out[offset + 5] = alpha[i];
+        out[offset + 6] = overlayLayer[i];
+        out[offset + 7] = textureLayer[i];
+        out[offset + 8] = snippetU[i];
+        out[offset + 9] = snippetV[i];
+        out[offset + 10] = colorR[i];
+        out[offset + 11] = colorG[i];
+        out[offset + 12] = colorB[i];
+        return offset + 13;
+    }
+
+    public int size() { return count; }
+    public boolean isEmpty() { return count == 0; }
+    public int getCapacity() { return capacity; }
+
+    public float getX(int i) { return posX[i]; }
+    public float getY(int i) { return posY[i]; }
+    public float getZ(int i) { return posZ[i]; }
+    public float getLife(int i) { return life[i]; }
+    public float getAlpha(int i) { return alpha[i]; }
+    public float getScale(int i) { return scale[i]; }
+
+    private final class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        int from, to;
+        float deltaTime;
+
+        @Override
+        protected void compute() {
+            integrate(from, to, deltaTime);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.za.zenith.world.physics;
+
+/**
+ * Block lookups done by {@link Raycaster}: the world through a {@link RaycastCursor} in the game,
+ * a synthetic grid in tests.
+ */
+interface BlockShapes {
+    /** Packed block data ({@code type << 8 | metadata}) at the position; air outside loaded chunks. */
+    int rawAt(int x, int y, int z);
+
+    /** Collision shape of the block, or null for air and shapeless blocks. */
+    VoxelShape shapeOf(int raw, int x, int y, int z);
+}
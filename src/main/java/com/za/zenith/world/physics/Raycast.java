@@ -1,118 +1,40 @@
 package com.za.zenith.world.physics;
 
-import com.za.zenith.world.BlockPos;
 import com.za.zenith.world.World;
-import com.za.zenith.world.blocks.Block;
 import org.joml.Vector3f;
 
+/**
+ * Player reach raycasts. Block rays run on a per-thread {@link Raycaster}; use a {@link Raycaster}
+ * directly where the result does not need to outlive the call (AI checks, batches of rays).
+ */
 public class Raycast {
     private static final float MAX_REACH_DISTANCE = 5.0f;
+    private static final ThreadLocal<Raycaster> RAYCASTER = ThreadLocal.withInitial(Raycaster::new);
     
     public static RaycastResult raycast(World world, Vector3f origin, Vector3f direction) {
-        Vector3f dir = new Vector3f(direction).normalize();
-        if (dir.lengthSquared() == 0) {
-            return new RaycastResult();
-        }
-
-        int x = (int) Math.floor(origin.x);
-        int y = (int) Math.floor(origin.y);
-        int z = (int) Math.floor(origin.z);
-
-        int stepX = dir.x > 0 ? 1 : (dir.x < 0 ? -1 : 0);
-        int stepY = dir.y > 0 ? 1 : (dir.y < 0 ? -1 : 0);
-        int stepZ = dir.z > 0 ? 1 : (dir.z < 0 ? -1 : 0);
-
-        float nextVoxelBoundaryX = stepX > 0 ? (x + 1) : x;
-        float nextVoxelBoundaryY = stepY > 0 ? (y + 1) : y;
-        float nextVoxelBoundaryZ = stepZ > 0 ? (z + 1) : z;
-
-        float tMaxX = stepX != 0 ? (nextVoxelBoundaryX - origin.x) / dir.x : Float.POSITIVE_INFINITY;
-        float tMaxY = stepY != 0 ? (nextVoxelBoundaryY - origin.y) / dir.y : Float.POSITIVE_INFINITY;
-        float tMaxZ = stepZ != 0 ? (nextVoxelBoundaryZ - origin.z) / dir.z : Float.POSITIVE_INFINITY;
-
-        float tDeltaX = stepX != 0 ? Math.abs(1f / dir.x) : Float.POSITIVE_INFINITY;
-        float tDeltaY = stepY != 0 ? Math.abs(1f / dir.y) : Float.POSITIVE_INFINITY;
-        float tDeltaZ = stepZ != 0 ? Math.abs(1f / dir.z) : Float.POSITIVE_INFINITY;
-
-        float maxT = MAX_REACH_DISTANCE;
-
-        for (;;) {
-            // 1. Проверяем текущий воксель
-            RaycastResult hit = checkVoxel(world, x, y, z, origin, dir, maxT);
-            if (hit != null) return hit;
-
-            // 2. Проверяем блок СНИЗУ на наличие выступающих предметов (например, на пне)
-            // Это критично, так как предметы на поверхности блока y-1 находятся в вокселе y.
-            hit = checkVoxel(world, x, y - 1, z, origin, dir, maxT);
-            if (hit != null) {
-                // Мы проверяем только те хиты, которые попали именно в текущий воксель y
-                if (hit.getHitPoint().y >= y && hit.getHitPoint().y <= y + 1) {
-                    return hit;
-                }
-            }
-
-            // Переход к следующему вокселю (стандартный DDA)
-            if (tMaxX < tMaxY) {
-                if (tMaxX < tMaxZ) {
-                    if (tMaxX > maxT) break;
-                    x += stepX;
-                    tMaxX += tDeltaX;
-                } else {
-                    if (tMaxZ > maxT) break;
-                    z += stepZ;
-                    tMaxZ += tDeltaZ;
-                }
-            } else {
-                if (tMaxY < tMaxZ) {
-                    if (tMaxY > maxT) break;
-                    y += stepY;
-                    tMaxY += tDeltaY;
-                } else {
-                    if (tMaxZ > maxT) break;
-                    z += stepZ;
-                    tMaxZ += tDeltaZ;
-                }
-            }
-        }
-
-        return new RaycastResult();
-    }
-
-    private static RaycastResult checkVoxel(World world, int x, int y, int z, Vector3f origin, Vector3f dir, float maxT) {
-        Block block = world.getBlock(x, y, z);
-        if (block.isAir()) return null;
-
-        VoxelShape shape = block.getShape(world, new BlockPos(x, y, z));
-        if (shape == null) return null;
-
-        float closestDist = Float.POSITIVE_INFINITY;
-        Vector3f closestNormal = null;
-
-        for (AABB box : shape.getBoxes()) {
-            AABB offsetBox = box.offset(x, y, z);
-            AABB.RayHit hit = offsetBox.raycast(origin, dir);
-            if (hit != null && hit.distance() < closestDist) {
-                closestDist = hit.distance();
-                closestNormal = hit.normal();
-            }
-        }
-
-        if (closestNormal != null && closestDist <= maxT) {
-            Vector3f hitPoint = new Vector3f(origin).fma(closestDist, dir);
-            return new RaycastResult(new BlockPos(x, y, z), block, hitPoint, closestNormal, closestDist);
-        }
-        
-        return null;
+        Raycaster raycaster = RAYCASTER.get();
+        raycaster.cast(world, origin, direction, MAX_REACH_DISTANCE);
+        return raycaster.toResult();
     }
     
     public static com.za.zenith.entities.Entity raycastEntity(World world, Vector3f origin, Vector3f direction) {
         com.za.zenith.entities.Entity closest = null;
         float minDistance = MAX_REACH_DISTANCE;
+        // intersectDist is in units of the direction's length
+        float reachSq = MAX_REACH_DISTANCE * MAX_REACH_DISTANCE * direction.lengthSquared();
 
-        for (com.za.zenith.entities.Entity entity : world.getEntities()) {
+        java.util.List<com.za.zenith.entities.Entity> entities = world.getEntities();
+        for (int i = 0, n = entities.size(); i < n; i++) {
+            com.za.zenith.entities.Entity entity = entities.get(i);
             AABB bounds = entity.getBoundingBox();
             if (bounds == null) continue;
 
+            // Boxes farther than the reach can't be hit; skips the slab test for almost all entities
+            float ex = Math.max(bounds.minX() - origin.x, Math.max(0, origin.x - bounds.maxX()));
+            float ey = Math.max(bounds.minY() - origin.y, Math.max(0, origin.y - bounds.maxY()));
+            float ez = Math.max(bounds.minZ() - origin.z, Math.max(0, origin.z - bounds.maxZ()));
+            if (ex * ex + ey * ey + ez * ez >= reachSq) continue;
+
             float dist = bounds.intersectDist(origin, direction);
             if (dist > 0 && dist < minDistance) {
                 minDistance = dist;
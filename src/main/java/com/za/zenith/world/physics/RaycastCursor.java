@@ -0,0 +1,63 @@
+package com.za.zenith.world.physics;
+
+import com.za.zenith.world.BlockPos;
+import com.za.zenith.world.World;
+import com.za.zenith.world.blocks.BlockDefinition;
+import com.za.zenith.world.blocks.BlockRegistry;
+import com.za.zenith.world.blocks.Blocks;
+import com.za.zenith.world.chunks.Chunk;
+import com.za.zenith.world.chunks.ChunkSection;
+
+/**
+ * Walks the world for a ray: remembers the last chunk and section so consecutive voxels cost an array
+ * read instead of a map lookup, and skips empty sections without touching the palette.
+ * Must be {@link #reset} before each ray or batch, as chunks may be unloaded in between.
+ */
+final class RaycastCursor implements BlockShapes {
+    private World world;
+    private int chunkX, chunkZ;
+    private Chunk chunk;
+    private boolean chunkCached;
+    private int sectionY = -1;
+    private ChunkSection section;
+
+    void reset(World world) {
+        this.world = world;
+        this.chunk = null;
+        this.chunkCached = false;
+        this.sectionY = -1;
+        this.section = null;
+    }
+
+    @Override
+    public int rawAt(int x, int y, int z) {
+        int air = Blocks.AIR.getId() << 8;
+        if (y < 0 || y >= Chunk.CHUNK_HEIGHT) return air;
+        int cx = x >> 4, cz = z >> 4;
+        if (!chunkCached || cx != chunkX || cz != chunkZ) {
+            chunk = world.getChunkInternal(cx, cz);
+            chunkX = cx;
+            chunkZ = cz;
+            chunkCached = true;
+            sectionY = -1;
+        }
+        if (chunk == null) return air;
+        if ((y >> 4) != sectionY) {
+            sectionY = y >> 4;
+            section = chunk.getSection(y);
+        }
+        if (section == null || section.isEmpty()) return air;
+        return chunk.getRawBlockData(x & 15, y, z & 15);
+    }
+
+    @Override
+    public VoxelShape shapeOf(int raw, int x, int y, int z) {
+        int type = raw >> 8;
+        if (type == Blocks.AIR.getId()) return null;
+        BlockDefinition def = BlockRegistry.getBlock(type);
+        byte metadata = (byte) (raw & 0xFF);
+        // Only component blocks (block entities, carving) have position-dependent shapes
+        if (def.getComponents().isEmpty()) return def.getShape(metadata);
+        return def.getShape(world, new BlockPos(x, y, z), metadata);
+    }
+}
@@ -5,6 +5,9 @@ import com.za.zenith.world.blocks.Block;
 import org.joml.Vector3f;
 
 public class RaycastResult {
+    /** Shared result of a ray that hit nothing. */
+    public static final RaycastResult MISS = new RaycastResult();
+
     private final boolean hit;
     private final BlockPos blockPos;
     private final Block block;
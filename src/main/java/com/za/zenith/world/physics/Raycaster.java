@@ -0,0 +1,235 @@
+package com.za.zenith.world.physics;
+
+import com.za.zenith.world.BlockPos;
+import com.za.zenith.world.World;
+import com.za.zenith.world.blocks.Block;
+import org.joml.Vector3f;
+
+import java.util.List;
+
+/**
+ * Reusable block raycaster. Steps voxels with DDA through a {@link RaycastCursor} and intersects the block
+ * boxes with precomputed inverse directions, so a cast allocates nothing; the result stays in this object
+ * until the next cast. Not thread-safe: keep one per thread or per user.
+ * <p>
+ * Hits are identical to the old per-step {@code AABB.offset(...).raycast(...)} code, including the extra
+ * look at the voxel below for shapes sticking up out of it (items lying on a stump).
+ */
+public final class Raycaster {
+    private static final float MIN_DIR = 1e-6f;
+
+    private final RaycastCursor cursor = new RaycastCursor();
+    private final Vector3f origin = new Vector3f();
+    private final Vector3f dir = new Vector3f();
+    private final Vector3f scratch = new Vector3f();
+    private float invX, invY, invZ;
+
+    private boolean hit;
+    private int hitX, hitY, hitZ;
+    private int hitRaw;
+    private float hitDistance;
+    private int hitFace;
+
+    // Candidate of the voxel being tested
+    private float candDistance;
+    private int candFace;
+
+    /** Casts a ray of at most {@code maxDistance} blocks. @return whether a block was hit */
+    public boolean cast(World world, Vector3f origin, Vector3f direction, float maxDistance) {
+        cursor.reset(world);
+        return cast(cursor, origin.x, origin.y, origin.z, direction.x, direction.y, direction.z, maxDistance);
+    }
+
+    /**
+     * Casts many segments at once, for example line-of-sight checks of a group of entities. Segment i runs from
+     * {@code segments[6i..6i+2]} to {@code segments[6i+3..6i+5]}; {@code hitDistances[i]} receives the distance
+     * to the first block on it, or -1 if it is clear. The chunk cache is kept across segments.
+     * @return the number of blocked segments
+     */
+    public int castSegments(World world, float[] segments, int count, float[] hitDistances) {
+        cursor.reset(world);
+        return castSegments(cursor, segments, count, hitDistances);
+    }
+
+    /** True if no block lies between the two points. */
+    public boolean hasLineOfSight(World world, Vector3f from, Vector3f to) {
+        cursor.reset(world);
+        return !castSegment(cursor, from.x, from.y, from.z, to.x, to.y, to.z);
+    }
+
+    int castSegments(BlockShapes shapes, float[] segments, int count, float[] hitDistances) {
+        int blocked = 0;
+        for (int i = 0; i < count; i++) {
+            int o = i * 6;
+            if (castSegment(shapes, segments[o], segments[o + 1], segments[o + 2], segments[o + 3], segments[o + 4], segments[o + 5])) {
+                hitDistances[i] = hitDistance;
+                blocked++;
+            } else {
+                hitDistances[i] = -1.0f;
+            }
+        }
+        return blocked;
+    }
+
+    private boolean castSegment(BlockShapes shapes, float fx, float fy, float fz, float tx, float ty, float tz) {
+        float dx = tx - fx, dy = ty - fy, dz = tz - fz;
+        float length = (float) Math.sqrt(dx * dx + dy * dy + dz * dz);
+        if (length == 0) return false;
+        return cast(shapes, fx, fy, fz, dx, dy, dz, length);
+    }
+
+    boolean cast(BlockShapes shapes, float ox, float oy, float oz, float dx, float dy, float dz, float maxT) {
+        hit = false;
+        origin.set(ox, oy, oz);
+        dir.set(dx, dy, dz).normalize();
+        if (!(dir.lengthSquared() > 0)) return false; // zero or NaN direction
+
+        invX = 1.0f / (Math.abs(dir.x) < MIN_DIR ? (dir.x < 0 ? -MIN_DIR : MIN_DIR) : dir.x);
+        invY = 1.0f / (Math.abs(dir.y) < MIN_DIR ? (dir.y < 0 ? -MIN_DIR : MIN_DIR) : dir.y);
+        invZ = 1.0f / (Math.abs(dir.z) < MIN_DIR ? (dir.z < 0 ? -MIN_DIR : MIN_DIR) : dir.z);
+
+        int x = (int) Math.floor(ox);
+        int y = (int) Math.floor(oy);
+        int z = (int) Math.floor(oz);
+
+        int stepX = dir.x > 0 ? 1 : (dir.x < 0 ? -1 : 0);
+        int stepY = dir.y > 0 ? 1 : (dir.y < 0 ? -1 : 0);
+        int stepZ = dir.z > 0 ? 1 : (dir.z < 0 ? -1 : 0);
+
+        float tMaxX = stepX != 0 ? ((stepX > 0 ? (x + 1) : x) - ox) / dir.x : Float.POSITIVE_INFINITY;
+        float tMaxY = stepY != 0 ? ((stepY > 0 ? (y + 1) : y) - oy) / dir.y : Float.POSITIVE_INFINITY;
+        float tMaxZ = stepZ != 0 ? ((stepZ > 0 ? (z + 1) : z) - oz) / dir.z : Float.POSITIVE_INFINITY;
+
+        float tDeltaX = stepX != 0 ? Math.abs(1f / dir.x) : Float.POSITIVE_INFINITY;
+        float tDeltaY = stepY != 0 ? Math.abs(1f / dir.y) : Float.POSITIVE_INFINITY;
+        float tDeltaZ = stepZ != 0 ? Math.abs(1f / dir.z) : Float.POSITIVE_INFINITY;
+
+        for (;;) {
+            int raw = shapes.rawAt(x, y, z);
+            if (testVoxel(shapes, raw, x, y, z, maxT)) return accept(x, y, z, raw);
+
+            // Shapes of the block below can reach into this voxel
+            raw = shapes.rawAt(x, y - 1, z);
+            if (testVoxel(shapes, raw, x, y - 1, z, maxT)) {
+                scratch.set(origin).fma(candDistance, dir);
+                if (scratch.y >= y && scratch.y <= y + 1) return accept(x, y - 1, z, raw);
+            }
+
+            if (tMaxX < tMaxY) {
+                if (tMaxX < tMaxZ) {
+                    if (tMaxX > maxT) break;
+                    x += stepX;
+                    tMaxX += tDeltaX;
+                } else {
+                    if (tMaxZ > maxT) break;
+                    z += stepZ;
+                    tMaxZ += tDeltaZ;
+                }
+            } else {
+                if (tMaxY < tMaxZ) {
+                    if (tMaxY > maxT) break;
+                    y += stepY;
+                    tMaxY += tDeltaY;
+                } else {
+                    if (tMaxZ > maxT) break;
+                    z += stepZ;
+                    tMaxZ += tDeltaZ;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean accept(int x, int y, int z, int raw) {
+        hit = true;
+        hitX = x;
+        hitY = y;
+        hitZ = z;
+        hitRaw = raw;
+        hitDistance = candDistance;
+        hitFace = candFace;
+        return true;
+    }
+
+    /** Nearest box of the block within {@code maxT}, left in the candidate fields. */
+    private boolean testVoxel(BlockShapes shapes, int raw, int x, int y, int z, float maxT) {
+        VoxelShape shape = shapes.shapeOf(raw, x, y, z);
+        if (shape == null) return false;
+
+        float closest = Float.POSITIVE_INFINITY;
+        boolean found = false;
+        List<AABB> boxes = shape.getBoxes();
+        for (int i = 0, n = boxes.size(); i < n; i++) {
+            AABB box = boxes.get(i);
+            float t1 = ((box.minX() + x) - origin.x) * invX;
+            float t2 = ((box.maxX() + x) - origin.x) * invX;
+            float t3 = ((box.minY() + y) - origin.y) * invY;
+            float t4 = ((box.maxY() + y) - origin.y) * invY;
+            float t5 = ((box.minZ() + z) - origin.z) * invZ;
+            float t6 = ((box.maxZ() + z) - origin.z) * invZ;
+
+            float tmin = Math.max(Math.max(Math.min(t1, t2), Math.min(t3, t4)), Math.min(t5, t6));
+            float tmax = Math.min(Math.min(Math.max(t1, t2), Math.max(t3, t4)), Math.max(t5, t6));
+            if (tmax < 0 || tmin > tmax) continue;
+
+            if (tmin < closest) {
+                closest = tmin;
+                candFace = face(tmin, t1, t2, t3, t4, t5, t6);
+                found = true;
+            }
+        }
+        if (!found || closest > maxT) return false;
+        candDistance = closest;
+        return true;
+    }
+
+    /** Face whose plane gave {@code tmin}: 0..5 = -X, +X, -Y, +Y, -Z, +Z, or -1. Same order as AABB.raycast. */
+    private static int face(float tmin, float t1, float t2, float t3, float t4, float t5, float t6) {
+        if (tmin == t1) return 0;
+        if (tmin == t2) return 1;
+        if (tmin == t3) return 2;
+        if (tmin == t4) return 3;
+        if (tmin == t5) return 4;
+        if (tmin == t6) return 5;
+        if (Math.abs(tmin - t1) < 1e-5f) return 0;
+        if (Math.abs(tmin - t2) < 1e-5f) return 1;
+        if (Math.abs(tmin - t3) < 1e-5f) return 2;
+        if (Math.abs(tmin - t4) < 1e-5f) return 3;
+        if (Math.abs(tmin - t5) < 1e-5f) return 4;
+        if (Math.abs(tmin - t6) < 1e-5f) return 5;
+        return -1;
+    }
+
+    public boolean isHit() { return hit; }
+    public int getX() { return hitX; }
+    public int getY() { return hitY; }
+    public int getZ() { return hitZ; }
+    public int getBlockType() { return hitRaw >> 8; }
+    public byte getBlockMetadata() { return (byte) (hitRaw & 0xFF); }
+    public float getDistance() { return hitDistance; }
+
+    public Vector3f getHitPoint(Vector3f dest) {
+        return dest.set(origin).fma(hitDistance, dir);
+    }
+
+    public Vector3f getNormal(Vector3f dest) {
+        dest.zero();
+        switch (hitFace) {
+            case 0 -> dest.x = -1;
+            case 1 -> dest.x = 1;
+            case 2 -> dest.y = -1;
+            case 3 -> dest.y = 1;
+            case 4 -> dest.z = -1;
+            case 5 -> dest.z = 1;
+            default -> { }
+        }
+        return dest;
+    }
+
+    /** Immutable copy of the last hit, for code that keeps results across frames. */
+    public RaycastResult toResult() {
+        if (!hit) return RaycastResult.MISS;
+        return new RaycastResult(new BlockPos(hitX, hitY, hitZ), new Block(getBlockType(), getBlockMetadata()),
+            getHitPoint(new Vector3f()), getNormal(new Vector3f()), hitDistance);
+    }
+}
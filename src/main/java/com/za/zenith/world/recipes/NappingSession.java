@@ -2,7 +2,6 @@ package com.za.zenith.world.recipes;
 
 import com.za.zenith.world.items.Item;
 import java.util.Arrays;
-import java.util.List;
 
 /**
  * Управляет состоянием одной сессии скалывания камня (Napping).
@@ -38,19 +37,8 @@ public class NappingSession {
      * Проверяет, соответствует ли текущая сетка какому-либо рецепту скалывания.
      */
     public NappingRecipe checkMatch() {
-        List<IRecipe> recipes = RecipeRegistry.getRecipesByType("napping");
-        for (IRecipe recipe : recipes) {
-            if (recipe instanceof NappingRecipe nappingRecipe) {
-                // Совпадает ли материал?
-                if (nappingRecipe.isInputValid(inputItem.getIdentifier())) {
-                    // Совпадает ли паттерн?
-                    if (Arrays.equals(grid, nappingRecipe.getPattern())) {
-                        return nappingRecipe;
-                    }
-                }
-            }
-        }
-        return null;
+        // Материал и паттерн - ключ индекса, перебор не нужен
+        return RecipeRegistry.findNappingRecipe(inputItem.getIdentifier(), grid);
     }
 }
 
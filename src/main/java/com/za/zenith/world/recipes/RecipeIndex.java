@@ -0,0 +1,141 @@
+package com.za.zenith.world.recipes;
+
+import com.za.zenith.utils.Identifier;
+import com.za.zenith.world.items.ItemStack;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Неизменяемые индексы рецептов, строятся один раз на весь набор зарегистрированных рецептов.
+ * Внутри каждого списка сохраняется порядок реестра, поэтому "первый подходящий" рецепт
+ * тот же, что находил полный перебор.
+ */
+final class RecipeIndex {
+    private static final Comparator<Identifier> CANONICAL =
+        Comparator.comparing(Identifier::getNamespace).thenComparing(Identifier::getPath);
+
+    /** Тип, поверхность (null = любая) и отсортированный мультисет ингредиентов. */
+    private record InWorldKey(String type, Identifier surface, List<Identifier> ingredients) {}
+
+    /** Входной предмет и паттерн 5x5 в виде 25 бит. */
+    private record NappingKey(Identifier input, int pattern) {}
+
+    private final Map<String, List<IRecipe>> byType;
+    private final Map<InWorldKey, List<InWorldRecipe>> inWorld;
+    private final Map<IRecipe, Integer> order;
+    private final Map<NappingKey, NappingRecipe> napping;
+    private final Map<Identifier, List<NappingRecipe>> nappingByInput;
+    private final Map<Identifier, List<CarvingRecipe>> carvingByInput;
+
+    RecipeIndex(Collection<IRecipe> recipes) {
+        Map<String, List<IRecipe>> byType = new HashMap<>();
+        Map<InWorldKey, List<InWorldRecipe>> inWorld = new HashMap<>();
+        Map<IRecipe, Integer> order = new IdentityHashMap<>();
+        Map<NappingKey, NappingRecipe> napping = new HashMap<>();
+        Map<Identifier, List<NappingRecipe>> nappingByInput = new HashMap<>();
+        Map<Identifier, List<CarvingRecipe>> carvingByInput = new HashMap<>();
+
+        for (IRecipe recipe : recipes) {
+            String type = normalize(recipe.getType());
+            order.put(recipe, order.size());
+            byType.computeIfAbsent(type, k -> new ArrayList<>()).add(recipe);
+
+            if (recipe instanceof InWorldRecipe r) {
+                InWorldKey key = new InWorldKey(type, r.getRequiredSurface(), canonical(r.getIngredients()));
+                inWorld.computeIfAbsent(key, k -> new ArrayList<>(1)).add(r);
+            } else if (recipe instanceof NappingRecipe r) {
+                int pattern = packPattern(r.getPattern());
+                for (Identifier input : r.getInputIds()) {
+                    napping.putIfAbsent(new NappingKey(input, pattern), r);
+                    List<NappingRecipe> list = nappingByInput.computeIfAbsent(input, k -> new ArrayList<>());
+                    if (!list.contains(r)) list.add(r);
+                }
+            } else if (recipe instanceof CarvingRecipe r) {
+                carvingByInput.computeIfAbsent(r.getInputBlock(), k -> new ArrayList<>(1)).add(r);
+            }
+        }
+
+        this.byType = freeze(byType);
+        this.inWorld = freeze(inWorld);
+        this.order = order;
+        this.napping = napping;
+        this.nappingByInput = freeze(nappingByInput);
+        this.carvingByInput = freeze(carvingByInput);
+    }
+
+    List<IRecipe> byType(String type) {
+        return byType.getOrDefault(normalize(type), Collections.emptyList());
+    }
+
+    /**
+     * Первый рецепт типа {@code type}, чей состав равен предметам {@code items} (порядок не важен),
+     * подходящий по инструменту и поверхности. Две пробы по хешу: рецепты для этой поверхности и для любой.
+     */
+    InWorldRecipe findInWorld(String type, List<ItemStack> items, Identifier tool, Identifier surface) {
+        List<Identifier> ids = new ArrayList<>(items.size());
+        for (ItemStack s : items) {
+            if (s != null) ids.add(s.getItem().getIdentifier());
+        }
+        ids.sort(CANONICAL);
+        String t = normalize(type);
+
+        InWorldRecipe best = null;
+        if (surface != null) best = firstWithTool(inWorld.get(new InWorldKey(t, surface, ids)), tool, null);
+        return firstWithTool(inWorld.get(new InWorldKey(t, null, ids)), tool, best);
+    }
+
+    private InWorldRecipe firstWithTool(List<InWorldRecipe> candidates, Identifier tool, InWorldRecipe best) {
+        if (candidates == null) return best;
+        for (InWorldRecipe r : candidates) {
+            if (r.getToolId() != null && !r.getToolId().equals(tool)) continue;
+            return best == null || order.get(r) < order.get(best) ? r : best;
+        }
+        return best;
+    }
+
+    NappingRecipe findNapping(Identifier input, boolean[] grid) {
+        int pattern = packPattern(grid);
+        return pattern < 0 ? null : napping.get(new NappingKey(input, pattern));
+    }
+
+    List<NappingRecipe> nappingFor(Identifier input) {
+        return nappingByInput.getOrDefault(input, Collections.emptyList());
+    }
+
+    List<CarvingRecipe> carvingFor(Identifier inputBlock) {
+        return carvingByInput.getOrDefault(inputBlock, Collections.emptyList());
+    }
+
+    private static String normalize(String type) {
+        return type.toLowerCase(Locale.ROOT);
+    }
+
+    private static List<Identifier> canonical(List<Identifier> ids) {
+        List<Identifier> sorted = new ArrayList<>(ids);
+        sorted.sort(CANONICAL);
+        return List.copyOf(sorted);
+    }
+
+    /** 25 клеток в младших битах; -1 для массива другой длины, такой паттерн не совпадает ни с чем. */
+    private static int packPattern(boolean[] cells) {
+        if (cells == null || cells.length != 25) return -1;
+        int bits = 0;
+        for (int i = 0; i < 25; i++) {
+            if (cells[i]) bits |= 1 << i;
+        }
+        return bits;
+    }
+
+    private static <K, V> Map<K, List<V>> freeze(Map<K, List<V>> map) {
+        map.replaceAll((k, v) -> List.copyOf(v));
+        return Collections.unmodifiableMap(map);
+    }
+}
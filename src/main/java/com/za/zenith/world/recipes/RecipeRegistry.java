@@ -2,30 +2,71 @@ package com.za.zenith.world.recipes;
 
 import com.za.zenith.utils.Identifier;
 import com.za.zenith.utils.Registry;
-import java.util.ArrayList;
+import com.za.zenith.world.items.ItemStack;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class RecipeRegistry {
     private static final Registry<IRecipe> REGISTRY = new Registry<>();
+    // Сбрасывается при любой регистрации (в т.ч. live reload) и лениво перестраивается при следующем поиске
+    private static volatile RecipeIndex index;
 
     public static void register(IRecipe recipe) {
-        REGISTRY.register(recipe.getId(), recipe);
+        synchronized (REGISTRY) {
+            REGISTRY.register(recipe.getId(), recipe);
+            index = null;
+        }
     }
 
     public static IRecipe get(Identifier id) {
         return REGISTRY.get(id);
     }
 
+    /**
+     * Рецепты данного типа (без учёта регистра) в порядке реестра. Список неизменяемый.
+     */
     public static List<IRecipe> getRecipesByType(String type) {
-        return REGISTRY.values().stream()
-                .filter(r -> r.getType().equalsIgnoreCase(type))
-                .collect(Collectors.toList());
+        return index().byType(type);
+    }
+
+    /**
+     * Первый In-World рецепт, чей состав совпадает с {@code inputs} (порядок не важен)
+     * и который подходит по инструменту и поверхности. То же, что перебор с {@link InWorldRecipe#matches}.
+     */
+    public static InWorldRecipe findInWorldRecipe(String type, List<ItemStack> inputs, Identifier tool, Identifier surface) {
+        return index().findInWorld(type, inputs, tool, surface);
+    }
+
+    /**
+     * Рецепт скалывания для материала и сетки 5x5, или null.
+     */
+    public static NappingRecipe findNappingRecipe(Identifier input, boolean[] grid) {
+        return index().findNapping(input, grid);
+    }
+
+    /**
+     * Можно ли начать скалывание с этим предметом.
+     */
+    public static boolean hasNappingRecipe(Identifier input) {
+        return !index().nappingFor(input).isEmpty();
+    }
+
+    /**
+     * Рецепты обтёсывания, принимающие данный блок.
+     */
+    public static List<CarvingRecipe> getCarvingRecipes(Identifier inputBlock) {
+        return index().carvingFor(inputBlock);
     }
 
     public static Registry<IRecipe> getRegistry() {
         return REGISTRY;
     }
-}
-
 
+    private static RecipeIndex index() {
+        RecipeIndex current = index;
+        if (current != null) return current;
+        synchronized (REGISTRY) {
+            if (index == null) index = new RecipeIndex(REGISTRY.values());
+            return index;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.za.zenith.world.tags;
+
+import com.za.zenith.utils.Identifier;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Global tag table shared by blocks and items. Every tag name is interned to a dense id so definitions
+ * can keep their tags in a {@link TagSet} and hot paths test a precomputed id instead of comparing strings.
+ * <p>
+ * Names are normalized through {@link Identifier}, so {@code "treecapitator"} and
+ * {@code "zenith:treecapitator"} are the same tag.
+ * <p>
+ * Tags may include other tags (data files under {@code registry/tags}): anything tagged with an included
+ * tag also has the including one. {@link #resolve} expands a definition's own tags with that closure.
+ */
+public final class TagRegistry {
+    private static final Map<Identifier, Integer> IDS = new ConcurrentHashMap<>();
+    private static volatile Identifier[] names = new Identifier[64];
+    private static volatile int count;
+    // includedBy[t] = tags that directly include tag t
+    private static TagSet[] includedBy = new TagSet[64];
+
+    private TagRegistry() {}
+
+    public static int intern(String tag) {
+        return intern(Identifier.of(tag));
+    }
+
+    public static int intern(Identifier tag) {
+        Integer id = IDS.get(tag);
+        return id != null ? id : assign(tag);
+    }
+
+    private static synchronized int assign(Identifier tag) {
+        Integer id = IDS.get(tag);
+        if (id != null) return id;
+        int next = count;
+        if (next == names.length) {
+            names = Arrays.copyOf(names, next * 2);
+            includedBy = Arrays.copyOf(includedBy, next * 2);
+        }
+        names[next] = tag;
+        count = next + 1;
+        IDS.put(tag, next);
+        return next;
+    }
+
+    /** Id of an already known tag, or -1. Does not intern. */
+    public static int idOf(Identifier tag) {
+        Integer id = IDS.get(tag);
+        return id != null ? id : -1;
+    }
+
+    public static Identifier nameOf(int id) {
+        return names[id];
+    }
+
+    public static int size() {
+        return count;
+    }
+
+    /**
+     * Declares that {@code tag} includes every tag in {@code members}. Replaces an earlier declaration
+     * for the same tag (hot reload).
+     */
+    public static synchronized void setIncludes(Identifier tag, List<Identifier> members) {
+        int parent = intern(tag);
+        for (int t = 0; t < count; t++) {
+            if (includedBy[t] != null) {
+                TagSet old = includedBy[t];
+                if (old.has(parent)) {
+                    TagSet copy = new TagSet();
+                    for (int p = old.nextTag(0); p >= 0; p = old.nextTag(p + 1)) {
+                        if (p != parent) copy.add(p);
+                    }
+                    includedBy[t] = copy;
+                }
+            }
+        }
+        for (Identifier member : members) {
+            int child = intern(member);
+            if (child == parent) continue;
+            if (includedBy[child] == null) includedBy[child] = new TagSet();
+            includedBy[child].add(parent);
+        }
+    }
+
+    /**
+     * Writes {@code own} plus every tag that includes one of them, transitively, into {@code out}.
+     */
+    public static synchronized void resolve(TagSet own, TagSet out) {
+        out.set(own);
+        List<Integer> work = new ArrayList<>();
+        for (int t = own.nextTag(0); t >= 0; t = own.nextTag(t + 1)) work.add(t);
+        while (!work.isEmpty()) {
+            int t = work.remove(work.size() - 1);
+            TagSet parents = t < includedBy.length ? includedBy[t] : null;
+            if (parents == null) continue;
+            for (int p = parents.nextTag(0); p >= 0; p = parents.nextTag(p + 1)) {
+                if (out.add(p)) work.add(p);
+            }
+        }
+    }
+
+    /**
+     * Reverse index: for each tag id, the ids of all definitions whose resolved tags contain it.
+     * @param tagsById resolved tag set per definition id (null entries are skipped)
+     */
+    public static int[][] buildIndex(TagSet[] tagsById) {
+        int tags = count;
+        int[] sizes = new int[tags];
+        for (TagSet set : tagsById) {
+            if (set == null) continue;
+            for (int t = set.nextTag(0); t >= 0 && t < tags; t = set.nextTag(t + 1)) sizes[t]++;
+        }
+        int[][] index = new int[tags][];
+        for (int t = 0; t < tags; t++) index[t] = new int[sizes[t]];
+        int[] fill = new int[tags];
+        for (int id = 0; id < tagsById.length; id++) {
+            TagSet set = tagsById[id];
+            if (set == null) continue;
+            for (int t = set.nextTag(0); t >= 0 && t < tags; t = set.nextTag(t + 1)) index[t][fill[t]++] = id;
+        }
+        return index;
+    }
+
+    // Tags tested on hot paths
+    public static final int TREECAPITATOR = intern("zenith:treecapitator");
+    public static final int LOGS = intern("zenith:logs");
+    public static final int TINTED = intern("zenith:tinted");
+}
@@ -0,0 +1,59 @@
+package com.za.zenith.world.tags;
+
+import java.util.Arrays;
+
+/**
+ * Compact bitset of tag ids from {@link TagRegistry}. A membership test is one array read and a bit test.
+ */
+public final class TagSet {
+    private static final long[] EMPTY = new long[0];
+
+    private long[] words = EMPTY;
+
+    public boolean has(int tag) {
+        int w = tag >>> 6;
+        return tag >= 0 && w < words.length && (words[w] & (1L << tag)) != 0;
+    }
+
+    /** @return true if the tag was not in the set yet */
+    public boolean add(int tag) {
+        int w = tag >>> 6;
+        if (w >= words.length) words = Arrays.copyOf(words, w + 1);
+        long bit = 1L << tag;
+        if ((words[w] & bit) != 0) return false;
+        words[w] |= bit;
+        return true;
+    }
+
+    public void addAll(TagSet other) {
+        if (other.words.length > words.length) words = Arrays.copyOf(words, other.words.length);
+        for (int i = 0; i < other.words.length; i++) words[i] |= other.words[i];
+    }
+
+    public void set(TagSet other) {
+        words = other.words.length == 0 ? EMPTY : other.words.clone();
+    }
+
+    public void clear() {
+        words = EMPTY;
+    }
+
+    public boolean isEmpty() {
+        for (long w : words) {
+            if (w != 0) return false;
+        }
+        return true;
+    }
+
+    /** Next tag id at or after {@code from}, or -1. */
+    public int nextTag(int from) {
+        int w = from >>> 6;
+        if (from < 0 || w >= words.length) return -1;
+        long word = words[w] & (-1L << from);
+        while (true) {
+            if (word != 0) return w * 64 + Long.numberOfTrailingZeros(word);
+            if (++w == words.length) return -1;
+            word = words[w];
+        }
+    }
+}
@@ -5,6 +5,8 @@ layout (std140) uniform GlobalData {
     vec4 gSunDirection; // 144 - 159 (w is time)
     vec4 gAmbientColor; // 160 - 175 (w unused)
     vec4 gGrassColor;   // 176 - 191 (w unused)
+    vec4 gFogColor;     // 192 - 207 (w unused)
+    vec4 gFogParams;    // 208 - 223 (x = start, y = end)
 };
 
 // Explicit helpers that don't use macros if possible, but macros are fine for convenience
@@ -13,4 +15,5 @@ layout (std140) uniform GlobalData {
 #define uTime gSunDirection.w
 #define uAmbientColor gAmbientColor.xyz
 #define uGrassColor gGrassColor.xyz
+#define uFogColor gFogColor.xyz
 
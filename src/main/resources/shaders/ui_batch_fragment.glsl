@@ -0,0 +1,19 @@
+#version 330 core
+
+in vec2 fragTexCoord;
+in vec4 fragColor;
+flat in int fragMode;
+out vec4 outColor;
+
+uniform sampler2D textureSampler;
+
+void main() {
+    vec4 color = fragColor;
+    if (fragMode == 1) {
+        color *= texture(textureSampler, fragTexCoord);
+    }
+    if (color.a < 0.005) {
+        discard;
+    }
+    outColor = color;
+}
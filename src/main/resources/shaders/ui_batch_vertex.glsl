@@ -0,0 +1,21 @@
+#version 330 core
+
+// Batched UI quads: positions are screen pixels (top-left origin)
+layout(location = 0) in vec2 position;
+layout(location = 1) in vec2 texCoord;
+layout(location = 2) in vec4 color;
+layout(location = 3) in float mode; // 0: solid color, 1: texture * color
+
+uniform vec2 screenSize;
+
+out vec2 fragTexCoord;
+out vec4 fragColor;
+flat out int fragMode;
+
+void main() {
+    vec2 ndc = vec2(position.x / screenSize.x * 2.0 - 1.0, 1.0 - position.y / screenSize.y * 2.0);
+    fragTexCoord = texCoord;
+    fragColor = color;
+    fragMode = int(mode + 0.5);
+    gl_Position = vec4(ndc, 0.0, 1.0);
+}
@@ -9,6 +9,8 @@ layout(location = 5) in vec4 aInstanceData; // MultiDraw: x,y,z = pos, w = spawn
 layout(location = 6) in float verticalWeightAttr;
 layout(location = 7) in vec2 lightAttr;
 layout(location = 8) in float aoAttr;
+layout(location = 9) in mat4 aInstanceModel;  // Instanced entities: per-instance transform (locations 9-12)
+layout(location = 13) in vec4 aInstanceLight; // Instanced entities: x=sun, y=block, z=ao, w=spawnTime
 
 #include "include/global_data.glsl"
 
@@ -17,6 +19,7 @@ uniform mat4 model;
 uniform bool uIsProxy;
 uniform bool uIsCompressed;
 uniform bool uIsBatch; // New: True if rendering via MultiDrawBatch
+uniform bool uIsInstanced; // True for grouped entity draws (EntityInstanceBatch)
 uniform vec3 uWobbleScale;
 uniform vec3 uWobbleOffset;
 uniform float uWobbleShake;
@@ -44,13 +47,14 @@ flat out ivec3 vBlockPos;
 void main() {
     vec3 actualChunkPos;
     float actualSpawnTime;
+    mat4 modelMatrix = uIsInstanced ? aInstanceModel : model;
     
     if (uIsBatch) {
         actualChunkPos = aInstanceData.xyz;
         actualSpawnTime = aInstanceData.w;
     } else {
-        actualChunkPos = vec3(model[3][0], model[3][1], model[3][2]);
-        actualSpawnTime = uChunkSpawnTime;
+        actualChunkPos = vec3(modelMatrix[3][0], modelMatrix[3][1], modelMatrix[3][2]);
+        actualSpawnTime = uIsInstanced ? aInstanceLight.w : uChunkSpawnTime;
     }
 
     vChunkAge = gSunDirection.w - actualSpawnTime;
@@ -104,7 +108,10 @@ void main() {
 
     fragTexCoord = finalTexCoord;
 
-    if (uOverrideLight.x >= 0.0) {
+    if (uIsInstanced) {
+        vLight = aInstanceLight.xy;
+        vAO = aInstanceLight.z;
+    } else if (uOverrideLight.x >= 0.0) {
         vLight = uOverrideLight.xy;
         vAO = uOverrideLight.z;
     } else {
@@ -121,14 +128,14 @@ void main() {
     if (uIsBatch) {
         fragNormal = finalNormal; // Simplified: chunks usually have identity rotation
     } else {
-        fragNormal = normalize(mat3(model) * finalNormal);
+        fragNormal = normalize(mat3(modelMatrix) * finalNormal);
     }
     
     vec3 worldPos;
     if (uIsBatch) {
         worldPos = actualChunkPos + position;
     } else {
-        worldPos = vec3(model * vec4(position, 1.0));
+        worldPos = vec3(modelMatrix * vec4(position, 1.0));
     }
     
     vBreakingIntensity = 0.0;
@@ -0,0 +1,99 @@
+package com.za.zenith.engine.graphics;
+
+import org.joml.FrustumIntersection;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EntityInstanceBatchTest {
+    private static final int F = EntityInstanceBatch.FLOATS_PER_INSTANCE;
+
+    @Test
+    public void testInstancesAreGroupedByMeshInFirstSeenOrder() {
+        EntityInstanceBatch<String> batch = new EntityInstanceBatch<>();
+        batch.begin();
+        String[] meshes = {"stick", "log", "stick", "stone", "log", "stick"};
+        for (int i = 0; i < meshes.length; i++) {
+            batch.add(meshes[i], new Matrix4f().translation(i, 0, 0), i, 15 - i, 1.0f, 100 + i);
+        }
+
+        assertEquals(6, batch.pack());
+        assertEquals(3, batch.getGroupCount(), "One draw per distinct mesh");
+        assertEquals("stick", batch.groupMesh(0));
+        assertEquals("log", batch.groupMesh(1));
+        assertEquals("stone", batch.groupMesh(2));
+        assertArrayEquals(new int[]{3, 2, 1}, new int[]{batch.groupSize(0), batch.groupSize(1), batch.groupSize(2)});
+        assertArrayEquals(new int[]{0, 3, 5}, new int[]{batch.groupFirst(0), batch.groupFirst(1), batch.groupFirst(2)});
+
+        // Within a group the submission order is kept: sticks were entities 0, 2, 5
+        float[] packed = batch.getPacked();
+        int[] stickEntities = {0, 2, 5};
+        for (int k = 0; k < 3; k++) {
+            int off = k * F;
+            int entity = stickEntities[k];
+            assertEquals(entity, packed[off + 12], "translation x lives in column 3");
+            assertEquals(entity, packed[off + 16], "sun light");
+            assertEquals(15 - entity, packed[off + 17], "block light");
+            assertEquals(1.0f, packed[off + 18], "ao");
+            assertEquals(100 + entity, packed[off + 19], "spawn time");
+        }
+        assertEquals(4, packed[4 * F + 12], "log entity 4 is the second log instance");
+    }
+
+    @Test
+    public void testMatrixIsPackedColumnMajor() {
+        EntityInstanceBatch<Object> batch = new EntityInstanceBatch<>();
+        Object mesh = new Object();
+        Matrix4f model = new Matrix4f().translate(1, 2, 3).rotateY(0.7f).scale(0.45f);
+        batch.begin();
+        batch.add(mesh, model, 15, 0, 1, 0);
+        batch.pack();
+
+        float[] expected = new float[16];
+        model.get(expected);
+        float[] actual = new float[16];
+        System.arraycopy(batch.getPacked(), 0, actual, 0, 16);
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testFramesReuseGroupsAndGrowPastInitialCapacity() {
+        EntityInstanceBatch<String> batch = new EntityInstanceBatch<>();
+        Matrix4f m = new Matrix4f();
+        for (int frame = 0; frame < 3; frame++) {
+            batch.begin();
+            int n = 1000 * (frame + 1); // e.g. a felled tree spilling items
+            for (int i = 0; i < n; i++) batch.add(i % 2 == 0 ? "log" : "leaves", m.translation(i, frame, 0), 15, 0, 1, 0);
+            assertEquals(n, batch.pack());
+            assertEquals(2, batch.getGroupCount());
+            assertEquals(n / 2, batch.groupSize(0));
+            assertEquals(n / 2, batch.groupFirst(1));
+            float[] packed = batch.getPacked();
+            assertEquals(n - 1, packed[(n - 1) * F + 12], "last leaves instance is the last entity");
+            assertEquals(frame, packed[(n - 1) * F + 13]);
+        }
+
+        batch.begin();
+        assertEquals(0, batch.pack(), "An empty frame draws nothing");
+        assertEquals(0, batch.getGroupCount());
+    }
+
+    @Test
+    public void testVisibilityPrePass() {
+        Matrix4f viewProj = new Matrix4f().perspective((float) Math.toRadians(70), 1.0f, 0.1f, 500.0f)
+            .lookAt(0, 0, 0, 0, 0, -1, 0, 1, 0);
+        FrustumIntersection frustum = new FrustumIntersection(viewProj);
+        Vector3f eye = new Vector3f();
+
+        Vector3f ahead = new Vector3f(0, 0, -10);
+        assertTrue(EntityInstanceBatch.isVisible(frustum, new Vector3f(-0.5f, -0.5f, -10.5f), new Vector3f(0.5f, 0.5f, -9.5f), ahead, eye, Float.MAX_VALUE));
+        assertFalse(EntityInstanceBatch.isVisible(frustum, new Vector3f(-0.5f, -0.5f, -10.5f), new Vector3f(0.5f, 0.5f, -9.5f), ahead, eye, 64.0f),
+            "Beyond the draw distance");
+
+        Vector3f behind = new Vector3f(0, 0, 10);
+        assertFalse(EntityInstanceBatch.isVisible(frustum, new Vector3f(-0.5f, -0.5f, 9.5f), new Vector3f(0.5f, 0.5f, 10.5f), behind, eye, Float.MAX_VALUE),
+            "Outside the frustum");
+    }
+}
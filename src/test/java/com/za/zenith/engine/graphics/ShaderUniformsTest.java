@@ -0,0 +1,167 @@
+package com.za.zenith.engine.graphics;
+
+import org.joml.Matrix4f;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShaderUniformsTest {
+    private static final int PROGRAM = 7;
+
+    /**
+     * Records every call instead of talking to GL.
+     */
+    private static class FakeBackend implements UniformBackend {
+        final List<ActiveUniform> active = new ArrayList<>();
+        final Map<String, Integer> locations = new HashMap<>();
+        final List<String> calls = new ArrayList<>();
+        int locationQueries = 0;
+        int lastUploadOffset = -1;
+        int lastUploadCount = -1;
+
+        void declare(String name, int size) {
+            active.add(new ActiveUniform(name, size));
+            if (name.endsWith("[0]")) {
+                String base = name.substring(0, name.length() - 3);
+                for (int i = 0; i < size; i++) locations.put(base + "[" + i + "]", locations.size());
+            } else {
+                locations.put(name, locations.size());
+            }
+        }
+
+        @Override public List<ActiveUniform> getActiveUniforms(int program) { return active; }
+        @Override public int getUniformLocation(int program, String name) {
+            locationQueries++;
+            return locations.getOrDefault(name, -1);
+        }
+        @Override public void uniform1i(int location, int value) { calls.add("1i@" + location + "=" + value); }
+        @Override public void uniform1f(int location, float value) { calls.add("1f@" + location + "=" + value); }
+        @Override public void uniform2f(int location, float x, float y) { calls.add("2f@" + location); }
+        @Override public void uniform3f(int location, float x, float y, float z) { calls.add("3f@" + location); }
+        @Override public void uniform4f(int location, float x, float y, float z, float w) { calls.add("4f@" + location); }
+        @Override public void uniform1fv(int location, float[] values) { calls.add("1fv@" + location); }
+        @Override public void uniform4fv(int location, float[] values) { calls.add("4fv@" + location); }
+        @Override public void uniformMatrix4fv(int location, float[] matrix) { calls.add("m4@" + location); }
+        @Override public int createUniformBuffer(int sizeBytes, int bindingPoint) { return 42; }
+        @Override public void uniformBufferSubData(int buffer, int offsetBytes, float[] data, int from, int count) {
+            calls.add("ubo");
+            lastUploadOffset = offsetBytes;
+            lastUploadCount = count;
+        }
+        @Override public void deleteBuffer(int buffer) {}
+        @Override public void bindUniformBlock(int program, String blockName, int bindingPoint) {}
+    }
+
+    private FakeBackend gl;
+    private ShaderUniforms uniforms;
+
+    @BeforeEach
+    public void setUp() {
+        gl = new FakeBackend();
+        gl.declare("uTime", 1);
+        gl.declare("uColor", 1);
+        gl.declare("uModel", 1);
+        gl.declare("uWeights[0]", 4);
+        gl.declare("gl_FragCoord", 1);
+        uniforms = new ShaderUniforms(gl, PROGRAM);
+    }
+
+    @Test
+    public void testActiveUniformsResolvedAtLinkTime() {
+        int queries = gl.locationQueries;
+        assertEquals(7, uniforms.getActiveCount(), "Array elements should be counted separately, built-ins skipped");
+
+        assertTrue(uniforms.get("uTime").isActive());
+        assertSame(uniforms.get("uWeights"), uniforms.get("uWeights[0]"), "Base name and [0] should share a handle");
+        assertTrue(uniforms.get("uWeights[3]").isActive());
+        assertEquals(queries, gl.locationQueries, "Known uniforms must not query GL again");
+    }
+
+    @Test
+    public void testUnknownUniformIsInactiveAndCached() {
+        Uniform missing = uniforms.get("uOptimizedOut");
+        assertFalse(missing.isActive());
+        int queries = gl.locationQueries;
+
+        missing.set(1.0f);
+        uniforms.get("uOptimizedOut").set(2.0f);
+        assertTrue(gl.calls.isEmpty(), "Inactive uniforms must never upload");
+        assertEquals(queries, gl.locationQueries, "Unknown name should be looked up only once");
+    }
+
+    @Test
+    public void testRedundantScalarUploadsAreSkipped() {
+        Uniform time = uniforms.get("uTime");
+        time.set(1.0f);
+        time.set(1.0f);
+        time.set(2.0f);
+        time.set(2.0f);
+        assertEquals(2, gl.calls.size());
+
+        time.invalidate();
+        time.set(2.0f);
+        assertEquals(3, gl.calls.size(), "Invalidated handle should upload again");
+    }
+
+    @Test
+    public void testTypeChangeForcesUpload() {
+        Uniform color = uniforms.get("uColor");
+        color.set(1.0f, 0.0f, 0.0f);
+        color.set(1.0f, 0.0f, 0.0f, 0.0f);
+        color.set(1.0f, 0.0f, 0.0f, 0.0f);
+        color.set(1);
+        assertEquals(List.of("3f@1", "4f@1", "1i@1=1"), gl.calls);
+    }
+
+    @Test
+    public void testMatrixAndArrayFiltering() {
+        Uniform model = uniforms.get("uModel");
+        Matrix4f m = new Matrix4f().translate(1, 2, 3);
+        model.set(m);
+        model.set(new Matrix4f(m));
+        m.rotateY(0.5f);
+        model.set(m);
+        assertEquals(2, gl.calls.size());
+
+        Uniform weights = uniforms.get("uWeights");
+        float[] w = {0.1f, 0.2f, 0.3f, 0.4f};
+        weights.setArray(w);
+        weights.setArray(w.clone());
+        w[2] = 0.9f;
+        weights.setArray(w);
+        assertEquals(4, gl.calls.size(), "Array should upload only when an element changed");
+    }
+
+    @Test
+    public void testUniformBufferUploadsOnlyDirtyRange() {
+        UniformBuffer ubo = new UniformBuffer("GlobalData", 0, 64, gl);
+        ubo.putVec4(32, 1, 2, 3, 0);
+        assertFalse(ubo.upload(), "Nothing is uploaded before the buffer exists");
+
+        ubo.create();
+        assertTrue(ubo.upload());
+        assertEquals(0, gl.lastUploadOffset);
+        assertEquals(64, gl.lastUploadCount);
+
+        ubo.putVec4(32, 1, 2, 3, 0);
+        assertFalse(ubo.upload(), "Unchanged values must not be re-uploaded");
+
+        ubo.put(37, 5.0f);
+        ubo.put(39, 6.0f);
+        assertTrue(ubo.upload());
+        assertEquals(37 * Float.BYTES, gl.lastUploadOffset);
+        assertEquals(3, gl.lastUploadCount);
+
+        Matrix4f view = new Matrix4f().lookAt(0, 0, 5, 0, 0, 0, 0, 1, 0);
+        ubo.putMatrix(16, view);
+        ubo.upload();
+        ubo.putMatrix(16, view);
+        assertFalse(ubo.upload(), "Same camera matrix should not cause an upload");
+    }
+}
@@ -0,0 +1,125 @@
+package com.za.zenith.engine.graphics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TextureMipsTest {
+
+    private static byte[] pattern(int size, int seed) {
+        byte[] img = new byte[size * size * 4];
+        for (int i = 0; i < img.length; i++) img[i] = (byte) (i * 31 + seed * 17);
+        return img;
+    }
+
+    @Test
+    public void testLevelLayout() {
+        assertEquals(5, TextureMips.levelCount(16));
+        assertEquals(1, TextureMips.levelCount(1));
+        assertEquals(0, TextureMips.levelOffset(16, 0));
+        assertEquals(16 * 16 * 4, TextureMips.levelOffset(16, 1));
+        assertEquals((256 + 64 + 16 + 4 + 1) * 4, TextureMips.layerBytes(16));
+        assertEquals(1, TextureMips.levelSize(16, 4));
+    }
+
+    @Test
+    public void testMipChainIsRoundedBoxFilter() {
+        int size = 16;
+        byte[] base = pattern(size, 3);
+        byte[] layer = TextureMips.buildLayer(base, size);
+        assertEquals(TextureMips.layerBytes(size), layer.length);
+
+        for (int level = 1; level < TextureMips.levelCount(size); level++) {
+            int srcSize = TextureMips.levelSize(size, level - 1);
+            int dstSize = TextureMips.levelSize(size, level);
+            int src = TextureMips.levelOffset(size, level - 1);
+            int dst = TextureMips.levelOffset(size, level);
+            for (int y = 0; y < dstSize; y++) {
+                for (int x = 0; x < dstSize; x++) {
+                    for (int c = 0; c < 4; c++) {
+                        int sum = 0;
+                        for (int dy = 0; dy < 2; dy++) {
+                            for (int dx = 0; dx < 2; dx++) {
+                                sum += layer[src + ((y * 2 + dy) * srcSize + x * 2 + dx) * 4 + c] & 0xFF;
+                            }
+                        }
+                        int expected = Math.round(sum / 4.0f);
+                        assertEquals(expected, layer[dst + (y * dstSize + x) * 4 + c] & 0xFF,
+                            "level " + level + " texel " + x + "," + y + " channel " + c);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSolidColourSurvivesEveryLevel() {
+        byte[] layer = TextureMips.buildLayer(TextureMips.solid(16, 255, 0, 128, 200), 16);
+        int last = TextureMips.levelOffset(16, 4);
+        assertEquals(255, layer[last] & 0xFF);
+        assertEquals(0, layer[last + 1] & 0xFF);
+        assertEquals(128, layer[last + 2] & 0xFF);
+        assertEquals(200, layer[last + 3] & 0xFF);
+    }
+
+    @Test
+    public void testFlipAndResize() {
+        // 2x2 image: row 0 = red, row 1 = blue
+        byte[] img = {(byte) 255, 0, 0, (byte) 255, (byte) 255, 0, 0, (byte) 255, 0, 0, (byte) 255, (byte) 255, 0, 0, (byte) 255, (byte) 255};
+        TextureMips.flipRows(img, 2, 2);
+        assertEquals(0, img[0] & 0xFF);
+        assertEquals(255, img[2] & 0xFF, "Blue row should be first after the flip");
+
+        byte[] big = TextureMips.resizeNearest(img, 2, 2, 4);
+        assertEquals(4 * 4 * 4, big.length);
+        assertEquals(255, big[(1 * 4 + 1) * 4 + 2] & 0xFF, "Top half samples the first row");
+        assertEquals(255, big[(3 * 4 + 3) * 4] & 0xFF, "Bottom half samples the second row");
+        assertSame(img, TextureMips.resizeNearest(img, 2, 2, 2));
+    }
+
+    @Test
+    public void testCacheRoundTripKeepsLayoutAndLevels(@TempDir Path tmp) throws java.io.IOException {
+        int size = 16;
+        List<String> keys = List.of("zenith/textures/block/dirt.png", "zenith/textures/block/stone.png");
+        long[] hashes = {11, 22};
+        byte[][] layers = {TextureMips.buildLayer(pattern(size, 1), size), TextureMips.buildLayer(pattern(size, 2), size)};
+        long key = AtlasCache.key(size, keys, hashes);
+        Path file = tmp.resolve("atlas.bin");
+
+        AtlasCache.write(file, key, size, keys, layers);
+        AtlasCache.Layout layout = AtlasCache.read(file, key, size);
+        assertNotNull(layout);
+        assertEquals(keys, layout.keys());
+        for (int i = 0; i < layers.length; i++) {
+            for (int level = 0; level < TextureMips.levelCount(size); level++) {
+                ByteBuffer data = layout.level(i, level);
+                int s = TextureMips.levelSize(size, level);
+                assertEquals(s * s * 4, data.remaining());
+                byte[] actual = new byte[data.remaining()];
+                data.get(actual);
+                byte[] expected = new byte[actual.length];
+                System.arraycopy(layers[i], TextureMips.levelOffset(size, level), expected, 0, expected.length);
+                assertArrayEquals(expected, actual, "layer " + i + " level " + level);
+            }
+        }
+
+        assertNull(AtlasCache.read(file, AtlasCache.key(size, keys, new long[]{11, 23}), size), "Changed texture must miss");
+        assertNull(AtlasCache.read(file, key, 32), "Different tile size must miss");
+        assertEquals(-1L, AtlasCache.key(size, keys, new long[]{11, -1}), "Unhashable textures disable the cache");
+
+        // A miss leaves nothing open, so the rebuilt atlas replaces the file
+        long newKey = AtlasCache.key(size, keys, new long[]{11, 23});
+        AtlasCache.write(file, newKey, size, keys, layers);
+        assertNotNull(AtlasCache.read(file, newKey, size));
+        assertNull(AtlasCache.read(file, key, size));
+
+        byte[] bytes = java.nio.file.Files.readAllBytes(file);
+        java.nio.file.Files.write(file, java.util.Arrays.copyOf(bytes, bytes.length - 1));
+        assertNull(AtlasCache.read(file, newKey, size), "Truncated file must miss");
+    }
+}
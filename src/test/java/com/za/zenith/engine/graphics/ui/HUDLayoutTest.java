@@ -0,0 +1,154 @@
+package com.za.zenith.engine.graphics.ui;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HUDLayoutTest {
+    // Monospace stand-in for the font renderer: every glyph is half the font size wide
+    private int measured;
+    private final HUDLayout.TextMeasure measure = (text, size) -> {
+        measured++;
+        return text.length() * size / 2;
+    };
+
+    private static GUIConfig.HUDElementConfig element(String type, String anchor, String alignX, String alignY, Object x, Object y) {
+        GUIConfig.HUDElementConfig cfg = new GUIConfig.HUDElementConfig();
+        cfg.type = type;
+        cfg.anchor = anchor;
+        cfg.alignX = alignX;
+        cfg.alignY = alignY;
+        cfg.x = x;
+        cfg.y = y;
+        return cfg;
+    }
+
+    private static GUIConfig config(GUIConfig.HUDElementConfig... elements) {
+        GUIConfig config = new GUIConfig();
+        config.hudElements = new LinkedHashMap<>();
+        for (int i = 0; i < elements.length; i++) config.hudElements.put("e" + i, elements[i]);
+        return config;
+    }
+
+    @Test
+    public void testAnchorsAndAlignment() {
+        int[] pos = new int[2];
+        HUDLayout.resolve(element("text", "top_right", "right", "top", "-10px", "28px"), 800, 600, 120, 14, pos);
+        assertArrayEquals(new int[]{800 - 120 - 10, 28}, pos);
+
+        HUDLayout.resolve(element("bar", "bottom_center", "center", "bottom", 0, "-5%"), 800, 600, 200, 10, pos);
+        assertArrayEquals(new int[]{400 - 100, 600 - 10 - 30}, pos);
+
+        HUDLayout.resolve(element("bar", "center", "center", "center", 0, 0), 801, 601, 11, 11, pos);
+        assertArrayEquals(new int[]{400 - 5, 300 - 5}, pos);
+    }
+
+    @Test
+    public void testPositionIsResolvedOnlyWhenScreenOrSizeChanges() {
+        GUIConfig config = config(element("bar", "bottom_left", "left", "bottom", "10px", "-10px"));
+        HUDLayout layout = new HUDLayout();
+        assertTrue(layout.sync(config));
+        HUDLayout.Element bar = layout.get("e0");
+
+        for (int frame = 0; frame < 100; frame++) bar.place(1280, 720, 100, 10);
+        assertEquals(1, bar.getPlacements());
+        assertEquals(10, bar.getX());
+        assertEquals(700, bar.getY());
+
+        bar.place(1920, 1080, 100, 10);
+        assertEquals(2, bar.getPlacements(), "Window resize re-resolves");
+        assertEquals(1060, bar.getY());
+    }
+
+    @Test
+    public void testTextIsMeasuredOnlyWhenItChanges() {
+        GUIConfig.HUDElementConfig cfg = element("text", "bottom_center", "center", "bottom", 0, "-60px");
+        cfg.fontSize = 20;
+        cfg.minFontSize = 12;
+        cfg.maxWidth = 100;
+        HUDLayout layout = new HUDLayout();
+        layout.sync(config(cfg));
+        HUDLayout.Text text = layout.getText("e0");
+
+        text.update("Sword", measure, 800, 600, true);
+        int afterFirst = measured;
+        for (int frame = 0; frame < 50; frame++) text.update(new String("Sword"), measure, 800, 600, true);
+        assertEquals(afterFirst, measured, "Equal text is not measured again");
+        assertEquals(1, text.getMeasurements());
+        assertEquals(20, text.getFontSize());
+        assertEquals(50, text.getTextWidth());
+        assertEquals(400 - 25, text.getX());
+
+        // 12 chars at size 20 = 120 px > 100: shrinks until it fits (size 16 -> 96 px)
+        text.update("Sharp Sword!", measure, 800, 600, true);
+        assertEquals(16, text.getFontSize());
+        assertEquals(96, text.getTextWidth());
+        assertEquals(2, text.getMeasurements());
+
+        // Never below minFontSize
+        text.update("A very long item name indeed", measure, 800, 600, true);
+        assertEquals(12, text.getFontSize());
+
+        // Gradient plate is centred on the text
+        assertEquals(text.getTextWidth() + 300, text.getGradientWidth());
+        assertEquals(text.getX() - 150, text.getGradientX());
+    }
+
+    @Test
+    public void testSyncRebuildsOnlyForNewOrEditedConfig() {
+        GUIConfig.HUDElementConfig cfg = element("text", "center", "center", "center", 0, 0);
+        cfg.text = "FPS: {fps}";
+        cfg.backgroundColor = new float[]{0.1f, 0.2f, 0.3f, 0.5f};
+        GUIConfig config = config(cfg, element("bar", "top", "center", "top", 0, 0));
+        HUDLayout layout = new HUDLayout();
+
+        assertTrue(layout.sync(config));
+        HUDLayout.Text first = layout.getText("e0");
+        assertNotNull(first);
+        assertNotNull(first.template);
+        assertArrayEquals(new float[]{0.1f, 0.2f, 0.3f, 0.0f}, first.gradientEdge);
+        assertNull(layout.getText("e1"), "Bars are plain elements");
+        assertEquals(2, layout.getElements().size());
+
+        assertFalse(layout.sync(config));
+        assertSame(first, layout.getText("e0"));
+
+        config.onLiveReload();
+        assertTrue(layout.sync(config), "Live edit rebuilds");
+        assertNotSame(first, layout.getText("e0"));
+
+        assertTrue(layout.sync(null));
+        assertTrue(layout.getElements().isEmpty());
+        assertFalse(layout.sync(null));
+    }
+
+    @Test
+    public void testTemplateRebuildsOnlyOnValueChange() {
+        HUDTextTemplate t = HUDTextTemplate.parse("XYZ: {x} / {y} / {z} {unbound}");
+        assertTrue(t.uses("y"));
+        assertFalse(t.uses("fps"));
+
+        t.setFixed2("x", 12.345f);
+        t.setFixed2("y", -0.5f);
+        t.setFixed2("z", 3.0f);
+        t.set("fps", 60); // not in the template: ignored
+        String text = t.text();
+        assertEquals("XYZ: 12.35 / -0.50 / 3.00 {unbound}", text);
+
+        t.setFixed2("x", 12.3461f); // same at two decimals
+        t.setFixed2("y", -0.5f);
+        assertSame(text, t.text(), "Unchanged values keep the cached string");
+
+        t.set("unbound", "ok");
+        assertEquals("XYZ: 12.35 / -0.50 / 3.00 ok", t.text());
+
+        HUDTextTemplate ints = HUDTextTemplate.parse("{a}{b}");
+        ints.set("a", 4);
+        ints.set("b", "-");
+        assertEquals("4-", ints.text());
+        ints.set("b", 7);
+        assertEquals("47", ints.text(), "Switching a value's kind rebuilds");
+    }
+}
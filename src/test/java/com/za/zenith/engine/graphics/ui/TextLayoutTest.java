@@ -0,0 +1,237 @@
+package com.za.zenith.engine.graphics.ui;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The cached layout must agree exactly with the per-call algorithms FontRenderer used before.
+ * The reference implementations below are those algorithms, kept verbatim apart from the glyph lookup.
+ */
+class TextLayoutTest {
+    private static final String ALPHABET = "abc XYZ 019 .,!$$$lrgzvq0aféЖ中☺ ";
+
+    private static GlyphTable table() {
+        GlyphTable t = new GlyphTable();
+        for (int i = 0; i < 256; i++) t.widthMap[i] = i == 32 ? 4 : 3 + i % 5;
+        for (int i = 0x400; i < 0x500; i++) t.unicodeWidthMap[i] = 4 + i % 3;
+        t.custom.put(0x263a, new GlyphTable.CustomGlyph(77, 2, 1, 4, 4, 7));
+        return t;
+    }
+
+    private static String randomText(Random rnd) {
+        int len = rnd.nextInt(60);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < len; i++) sb.append(ALPHABET.charAt(rnd.nextInt(ALPHABET.length())));
+        return sb.toString();
+    }
+
+    @Test
+    void measuringAndWrappingMatchLegacy() {
+        GlyphTable table = table();
+        FontRenderer font = new FontRenderer(table);
+        Random rnd = new Random(42);
+        for (int n = 0; n < 2000; n++) {
+            String text = randomText(rnd);
+            int size = 8 + rnd.nextInt(4) * 4;
+            int maxWidth = 20 + rnd.nextInt(200);
+            for (int pass = 0; pass < 2; pass++) { // second pass is served from the cache
+                assertEquals(legacyWidth(table, text, size), font.getStringWidth(text, size), text);
+                assertEquals(legacyWrap(table, text, size, maxWidth), font.wrapText(text, size, maxWidth), text);
+                assertEquals(legacyHeight(table, text, size, maxWidth), font.getWrappedStringHeight(text, size, maxWidth), text);
+                assertEquals(legacyDrawLines(table, text, size, maxWidth), table.wrap(text, size, maxWidth).drawLines, text);
+            }
+        }
+    }
+
+    @Test
+    void glyphPlacementMatchesLegacy() {
+        GlyphTable table = table();
+        GlyphTable.Textures textures = new GlyphTable.Textures() {
+            public int ascii() { return 1; }
+            public int page(int page) { return 100 + page; }
+        };
+        Random rnd = new Random(7);
+        for (int n = 0; n < 500; n++) {
+            String text = randomText(rnd);
+            int size = 8 + rnd.nextInt(3) * 8;
+            TextLayout layout = new TextLayout(text, size, TextLayout.NO_WRAP);
+            table.layoutLine(text, size, 5, layout, textures);
+
+            List<float[]> expected = legacyGlyphs(table, text, size, textures);
+            assertEquals(expected.size(), layout.glyphCount, text);
+            for (int i = 0; i < expected.size(); i++) {
+                float[] e = expected.get(i);
+                assertEquals((int) e[0], layout.xOff[i]);
+                assertEquals(5, layout.yOff[i]);
+                assertEquals((int) e[1], layout.texture[i]);
+                assertEquals(e[2], layout.uv[i * 4]);
+                assertEquals(e[3], layout.uv[i * 4 + 1]);
+                assertEquals((int) e[4], layout.style[i] & GlyphTable.BOLD);
+            }
+        }
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedOverBudget() {
+        TextLayoutCache cache = new TextLayoutCache(1000);
+        TextLayout first = cache.get("first", 8, TextLayout.NO_WRAP, 0);
+        cache.charge(first);
+        for (int i = 0; i < 50; i++) {
+            cache.get("first", 8, TextLayout.NO_WRAP, 0); // keep it hot
+            TextLayout l = cache.get("text " + i, 8, TextLayout.NO_WRAP, 0);
+            cache.charge(l);
+            assertTrue(cache.getBytes() <= 1000);
+        }
+        assertSame(first, cache.get("first", 8, TextLayout.NO_WRAP, 0));
+        assertTrue(cache.size() < 51);
+        assertNotSame(cache.get("text 0", 8, TextLayout.NO_WRAP, 0), cache.get("text 0", 8, 100, 0));
+    }
+
+    @Test
+    void metricsChangeDropsCachedLayouts() {
+        GlyphTable table = table();
+        FontRenderer font = new FontRenderer(table);
+        String text = "ЖЖЖ";
+        int before = font.getStringWidth(text, 8);
+        assertEquals(1, font.getCachedLayoutCount());
+
+        for (int i = 0x400; i < 0x500; i++) table.unicodeWidthMap[i] = 9;
+        table.changed();
+        assertNotEquals(before, font.getStringWidth(text, 8));
+        assertEquals(legacyWidth(table, text, 8), font.getStringWidth(text, 8));
+        assertEquals(1, font.getCachedLayoutCount());
+    }
+
+    // --- Reference implementations (pre-cache FontRenderer) ---
+
+    private static int legacyWidth(GlyphTable t, String text, int size) {
+        if (text == null || text.isEmpty()) return 0;
+        float scale = (float) size / 8;
+        int width = 0;
+        for (int i = 0; i < text.length(); ) {
+            int cp = text.codePointAt(i), charCount = Character.charCount(cp);
+            if (cp == '$' && i + charCount < text.length()) {
+                i += charCount + Character.charCount(text.codePointAt(i + charCount));
+                continue;
+            }
+            GlyphTable.CustomGlyph glyph = t.custom.get(cp);
+            if (glyph != null) width += Math.round(glyph.width * scale + scale);
+            else {
+                int page = cp / 256;
+                width += Math.round(t.glyphWidth((char) cp) * scale + (page == 0 && cp < 128 ? scale : 0));
+            }
+            i += charCount;
+        }
+        return width;
+    }
+
+    private static List<String> legacyWrap(GlyphTable t, String text, int fontSize, int maxWidth) {
+        List<String> lines = new ArrayList<>();
+        if (text == null || text.isEmpty()) return lines;
+        String[] words = text.split(" ");
+        StringBuilder currentLine = new StringBuilder();
+        for (String word : words) {
+            String testLine = currentLine.length() == 0 ? word : currentLine.toString() + " " + word;
+            if (legacyWidth(t, testLine, fontSize) <= maxWidth) {
+                if (currentLine.length() > 0) currentLine.append(" ");
+                currentLine.append(word);
+            } else {
+                if (currentLine.length() > 0) lines.add(currentLine.toString());
+                currentLine = new StringBuilder(word);
+            }
+        }
+        if (currentLine.length() > 0) lines.add(currentLine.toString());
+        return lines;
+    }
+
+    private static int legacyHeight(GlyphTable t, String text, int size, int maxWidth) {
+        if (text == null || text.isEmpty()) return 0;
+        String[] words = text.split(" ");
+        int lines = 1;
+        StringBuilder currentLine = new StringBuilder();
+        int lineHeight = (int) (size * 1.3f);
+        for (String word : words) {
+            String testLine = currentLine.length() == 0 ? word : currentLine.toString() + " " + word;
+            if (legacyWidth(t, testLine, size) > maxWidth) {
+                if (currentLine.length() > 0) { lines++; currentLine = new StringBuilder(word); }
+                else lines++;
+            } else currentLine = new StringBuilder(testLine);
+        }
+        return lines * lineHeight;
+    }
+
+    /** Strings passed to drawString by the old drawWrappedString, in order. */
+    private static List<String> legacyDrawLines(GlyphTable t, String text, int size, int maxWidth) {
+        List<String> drawn = new ArrayList<>();
+        if (text == null || text.isEmpty()) return drawn;
+        String[] words = text.split(" ");
+        StringBuilder currentLine = new StringBuilder();
+        for (String word : words) {
+            String testLine = currentLine.length() == 0 ? word : currentLine.toString() + " " + word;
+            if (legacyWidth(t, testLine, size) > maxWidth) {
+                if (currentLine.length() > 0) {
+                    drawn.add(currentLine.toString());
+                    currentLine = new StringBuilder(word);
+                } else {
+                    drawn.add(word);
+                }
+            } else currentLine = new StringBuilder(testLine);
+        }
+        if (currentLine.length() > 0) drawn.add(currentLine.toString());
+        return drawn;
+    }
+
+    /** x, texture, u0, v0, bold for every glyph the old drawString emitted. */
+    private static List<float[]> legacyGlyphs(GlyphTable t, String text, int size, GlyphTable.Textures textures) {
+        List<float[]> out = new ArrayList<>();
+        float scale = (float) size / 8;
+        boolean bold = false;
+        int drawX = 0;
+        for (int i = 0; i < text.length(); ) {
+            int cp = text.codePointAt(i);
+            int charCount = Character.charCount(cp);
+            if (cp == '$' && i + charCount < text.length()) {
+                int nextCp = text.codePointAt(i + charCount);
+                int codeIndex = "0123456789abcdefklmnorgzvq".indexOf(Character.toLowerCase(nextCp));
+                if (codeIndex == 17) bold = true;
+                else if (codeIndex == 21) bold = false;
+                i += charCount + Character.charCount(nextCp);
+                continue;
+            }
+            int texture;
+            GlyphTable.CustomGlyph glyph = t.custom.get(cp);
+            if (glyph != null) texture = glyph.textureId;
+            else {
+                int page = cp / 256;
+                texture = (page == 0 && cp < 128) ? textures.ascii() : textures.page(page);
+            }
+            int gw = (glyph != null) ? glyph.width : t.glyphWidth((char) cp);
+            float advance = gw * scale;
+            float uS, vS, u0, v0;
+            if (glyph != null) {
+                uS = 1.0f / glyph.totalCols;
+                vS = 1.0f / glyph.totalRows;
+                u0 = glyph.gridX * uS;
+                v0 = glyph.gridY * vS;
+            } else {
+                int idx = cp % 256;
+                uS = vS = 1.0f / 16;
+                u0 = (idx % 16) * uS;
+                v0 = (idx / 16) * vS;
+            }
+            out.add(new float[]{drawX, texture, u0, v0, bold ? 1 : 0});
+            if (glyph != null) drawX += Math.round(advance + scale);
+            else {
+                int page = cp / 256;
+                drawX += Math.round(page != 0 || cp >= 128 ? advance : advance + scale);
+            }
+            i += charCount;
+        }
+        return out;
+    }
+}
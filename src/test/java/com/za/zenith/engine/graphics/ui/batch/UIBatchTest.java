@@ -0,0 +1,159 @@
+package com.za.zenith.engine.graphics.ui.batch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UIBatchTest {
+    private static final int TEX_A = 5;
+    private static final int TEX_B = 9;
+
+    private UIBatch batch;
+
+    @BeforeEach
+    public void setUp() {
+        batch = new UIBatch();
+        batch.begin(1280, 720);
+    }
+
+    private void glyph(int texture, float x, float y) {
+        batch.addTexturedQuad(texture, x, y, 16, 16, 0, 0, 1, 1, 1, 1, 1, 1);
+    }
+
+    @Test
+    public void testNonOverlappingQuadsAreGroupedByTexture() {
+        for (int i = 0; i < 10; i++) {
+            glyph(i % 2 == 0 ? TEX_A : TEX_B, i * 100, 0);
+        }
+        assertEquals(2, batch.prepare(), "Interleaved textures without overlap should collapse into one draw per texture");
+        assertEquals(TEX_A, batch.getDrawTexture(0));
+        assertEquals(5, batch.getDrawQuadCount(0));
+        assertEquals(TEX_B, batch.getDrawTexture(1));
+        assertEquals(5, batch.getDrawQuadCount(1));
+    }
+
+    @Test
+    public void testOverlappingQuadsKeepPaintersOrder() {
+        glyph(TEX_A, 0, 0);
+        glyph(TEX_B, 8, 8);
+        glyph(TEX_A, 4, 4);
+
+        assertEquals(0, batch.getLayer(0));
+        assertEquals(1, batch.getLayer(1));
+        assertEquals(2, batch.getLayer(2));
+        assertEquals(3, batch.prepare(), "A-B-A stacked on top of each other cannot be merged");
+        assertEquals(TEX_A, batch.getDrawTexture(0));
+        assertEquals(TEX_B, batch.getDrawTexture(1));
+        assertEquals(TEX_A, batch.getDrawTexture(2));
+    }
+
+    @Test
+    public void testSameTextureOverlapSharesLayer() {
+        glyph(TEX_A, 0, 0);
+        glyph(TEX_A, 4, 0);
+        glyph(TEX_A, 8, 0);
+        assertEquals(0, batch.getLayer(2));
+        assertEquals(1, batch.prepare());
+        assertEquals(3, batch.getDrawQuadCount(0));
+    }
+
+    @Test
+    public void testColorQuadsMergeIntoTexturedDraw() {
+        batch.addColorQuad(0, 0, 200, 40, 0.1f, 0.1f, 0.1f, 0.9f); // panel
+        glyph(TEX_A, 10, 10);                                      // text on top
+        glyph(TEX_A, 30, 10);
+
+        assertEquals(1, batch.prepare(), "Solid quads need no texture and must not split the batch");
+        assertEquals(TEX_A, batch.getDrawTexture(0));
+        assertEquals(3, batch.getDrawQuadCount(0));
+
+        // Panel must still be drawn first
+        float[] v = batch.getSortedVertices();
+        assertEquals(UIBatch.MODE_COLOR, v[8]);
+        assertEquals(UIBatch.MODE_TEXTURE, v[UIBatch.FLOATS_PER_QUAD + 8]);
+    }
+
+    @Test
+    public void testColorQuadOverTextIsDrawnAfterIt() {
+        glyph(TEX_A, 10, 10);
+        batch.addColorQuad(0, 0, 100, 100, 0, 0, 0, 0.5f); // tooltip/overlay covering the glyph
+        assertEquals(1, batch.getLayer(1));
+
+        batch.prepare();
+        float[] v = batch.getSortedVertices();
+        assertEquals(UIBatch.MODE_TEXTURE, v[8]);
+        assertEquals(UIBatch.MODE_COLOR, v[UIBatch.FLOATS_PER_QUAD + 8]);
+    }
+
+    @Test
+    public void testClipTrimsGeometryAndUvs() {
+        batch.pushClip(10, 10, 20, 20);
+        batch.addTexturedQuad(TEX_A, 0, 0, 40, 40, 0, 0, 1, 1, 1, 1, 1, 1);
+        batch.popClip();
+
+        assertEquals(1, batch.getQuadCount());
+        batch.prepare();
+        float[] v = batch.getSortedVertices();
+        // top-left
+        assertEquals(10, v[0], 1e-5);
+        assertEquals(10, v[1], 1e-5);
+        assertEquals(0.25f, v[2], 1e-5);
+        assertEquals(0.25f, v[3], 1e-5);
+        // bottom-right (third vertex)
+        int br = 2 * UIBatch.FLOATS_PER_VERTEX;
+        assertEquals(30, v[br], 1e-5);
+        assertEquals(30, v[br + 1], 1e-5);
+        assertEquals(0.75f, v[br + 2], 1e-5);
+        assertEquals(0.75f, v[br + 3], 1e-5);
+    }
+
+    @Test
+    public void testQuadsOutsideClipAreCulled() {
+        batch.pushClip(100, 100, 50, 50);
+        glyph(TEX_A, 0, 0);
+        glyph(TEX_A, 300, 300);
+        glyph(TEX_A, 120, 120);
+        batch.popClip();
+        glyph(TEX_A, 0, 0);
+
+        assertEquals(2, batch.getQuadCount());
+        assertEquals(2, batch.getCulledCount());
+    }
+
+    @Test
+    public void testNestedClipsIntersect() {
+        batch.pushClip(0, 0, 100, 100);
+        batch.pushClip(50, 50, 100, 100);
+        batch.addColorQuad(0, 0, 200, 200, 1, 1, 1, 1);
+        batch.popClip();
+        batch.popClip();
+
+        batch.prepare();
+        float[] v = batch.getSortedVertices();
+        assertEquals(50, v[0], 1e-5);
+        assertEquals(100, v[2 * UIBatch.FLOATS_PER_VERTEX], 1e-5);
+    }
+
+    @Test
+    public void testResetKeepsRecordingAndClearsLayers() {
+        glyph(TEX_A, 0, 0);
+        glyph(TEX_B, 0, 0);
+        batch.prepare();
+        batch.reset();
+
+        assertTrue(batch.isRecording());
+        assertEquals(0, batch.getQuadCount());
+        glyph(TEX_B, 0, 0);
+        assertEquals(0, batch.getLayer(0), "Layers of flushed quads must not leak into the next batch");
+    }
+
+    @Test
+    public void testLargeBatchGrowsBuffers() {
+        for (int i = 0; i < 5000; i++) {
+            glyph(TEX_A, (i * 16) % 1280, (i / 80) * 16 % 720);
+        }
+        assertEquals(5000, batch.getQuadCount());
+        assertEquals(1, batch.prepare());
+        assertEquals(5000, batch.getDrawQuadCount(0));
+    }
+}
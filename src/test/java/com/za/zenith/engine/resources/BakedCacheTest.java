@@ -0,0 +1,106 @@
+package com.za.zenith.engine.resources;
+
+import com.google.gson.JsonElement;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BakedCacheTest {
+    private static final List<String> DIRS = List.of("zenith/blocks", "zenith/items", "zenith/recipes", "zenith/animations");
+
+    private static JsonElement parse(ResourceIndex index, String path) throws IOException {
+        try (InputStream in = index.open(path)) {
+            return AssetManager.getGson().fromJson(new String(in.readAllBytes(), StandardCharsets.UTF_8), JsonElement.class);
+        }
+    }
+
+    @Test
+    public void testBakedDocumentsEqualParsedJson(@TempDir Path tmp) throws IOException {
+        ResourceIndex index = ResourceIndex.get();
+        Path file = tmp.resolve("baked.bin");
+
+        BakedCache cold = new BakedCache(file, index);
+        for (String dir : DIRS) {
+            List<String> files = index.list(dir);
+            assertFalse(files.isEmpty(), "No resources in " + dir);
+            JsonElement[] docs = new JsonElement[files.size()];
+            for (int i = 0; i < docs.length; i++) docs[i] = parse(index, dir + "/" + files.get(i));
+            long key = cold.key(dir, files);
+            assertNull(cold.lookup(dir, key, files), "Fresh cache must miss");
+            cold.store(dir, key, files, docs);
+        }
+        cold.save();
+        assertFalse(cold.isDirty());
+
+        BakedCache warm = new BakedCache(file, index);
+        assertEquals(DIRS.size(), warm.getSectionCount());
+        for (String dir : DIRS) {
+            List<String> files = index.list(dir);
+            JsonElement[] baked = warm.lookup(dir, warm.key(dir, files), files);
+            assertNotNull(baked, "Warm cache must hit for " + dir);
+            for (int i = 0; i < baked.length; i++) {
+                String path = dir + "/" + files.get(i);
+                JsonElement expected = parse(index, path);
+                assertEquals(expected, baked[i], "Baked document differs for " + path);
+                assertEquals(expected.toString(), baked[i].toString(), "Baked document serializes differently for " + path);
+            }
+        }
+        assertFalse(warm.isDirty(), "A full hit must not rewrite the cache");
+    }
+
+    @Test
+    public void testChangedFileRebuildsOnlyItsDirectory(@TempDir Path tmp) throws IOException {
+        Path root = tmp.resolve("res");
+        Files.createDirectories(root.resolve("zenith/blocks"));
+        Files.createDirectories(root.resolve("zenith/items"));
+        Files.writeString(root.resolve("zenith/blocks/stone.json"), "{\"hardness\":1.5,\"tags\":[\"zenith:stone\"]}");
+        Files.writeString(root.resolve("zenith/items/stick.json"), "{\"id\":7,\"name\":null}");
+        Path file = tmp.resolve("baked.bin");
+
+        ResourceIndex index = ResourceIndex.ofDirectory(root);
+        BakedCache cold = new BakedCache(file, index);
+        for (String dir : List.of("zenith/blocks", "zenith/items")) {
+            List<String> files = index.list(dir);
+            JsonElement[] docs = new JsonElement[files.size()];
+            for (int i = 0; i < docs.length; i++) docs[i] = parse(index, dir + "/" + files.get(i));
+            cold.store(dir, cold.key(dir, files), files, docs);
+        }
+        cold.save();
+
+        Files.writeString(root.resolve("zenith/blocks/stone.json"), "{\"hardness\":3.0}");
+        index = ResourceIndex.ofDirectory(root);
+        BakedCache warm = new BakedCache(file, index);
+        List<String> blocks = index.list("zenith/blocks");
+        List<String> items = index.list("zenith/items");
+        assertNull(warm.lookup("zenith/blocks", warm.key("zenith/blocks", blocks), blocks), "Edited directory must be re-parsed");
+        JsonElement[] stick = warm.lookup("zenith/items", warm.key("zenith/items", items), items);
+        assertNotNull(stick, "Untouched directory must still hit");
+        assertEquals(7, stick[0].getAsJsonObject().get("id").getAsInt());
+        assertTrue(stick[0].getAsJsonObject().get("name").isJsonNull());
+
+        // The rebuilt section replaces the existing cache file, and the next start hits it
+        warm.store("zenith/blocks", warm.key("zenith/blocks", blocks), blocks,
+            new JsonElement[]{parse(index, "zenith/blocks/stone.json")});
+        warm.save();
+        assertFalse(warm.isDirty(), "Saving over an existing cache file must succeed");
+        BakedCache next = new BakedCache(file, index);
+        JsonElement[] stone = next.lookup("zenith/blocks", next.key("zenith/blocks", blocks), blocks);
+        assertNotNull(stone);
+        assertEquals(3.0, stone[0].getAsJsonObject().get("hardness").getAsDouble());
+
+        // A new file changes the listing, so the old section no longer applies either
+        Files.writeString(root.resolve("zenith/items/rope.json"), "{}");
+        index = ResourceIndex.ofDirectory(root);
+        warm = new BakedCache(file, index);
+        items = index.list("zenith/items");
+        assertNull(warm.lookup("zenith/items", warm.key("zenith/items", items), items));
+    }
+}
@@ -0,0 +1,113 @@
+package com.za.zenith.engine.resources;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResourceIndexTest {
+    private static final Path RESOURCES = Paths.get("src/main/resources");
+
+    private static String rel(Path p) {
+        return RESOURCES.relativize(p).toString().replace('\\', '/');
+    }
+
+    private static List<String> listFiles(Path dir) throws IOException {
+        List<String> names = new ArrayList<>();
+        try (Stream<Path> s = Files.list(dir)) {
+            s.filter(Files::isRegularFile).map(p -> p.getFileName().toString())
+                .filter(n -> !n.startsWith(".")).forEach(names::add);
+        }
+        Collections.sort(names);
+        return names;
+    }
+
+    private static List<String> listDirs(Path dir) throws IOException {
+        List<String> names = new ArrayList<>();
+        try (Stream<Path> s = Files.list(dir)) {
+            s.filter(Files::isDirectory).map(p -> p.getFileName().toString()).forEach(names::add);
+        }
+        Collections.sort(names);
+        return names;
+    }
+
+    private static long crc(byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        return crc.getValue();
+    }
+
+    @Test
+    public void testIndexMatchesResourceTree() throws IOException {
+        ResourceIndex index = ResourceIndex.get();
+        List<Path> dirs = new ArrayList<>();
+        List<Path> files = new ArrayList<>();
+        try (Stream<Path> walk = Files.walk(RESOURCES)) {
+            walk.forEach(p -> (Files.isDirectory(p) ? dirs : files).add(p));
+        }
+
+        for (Path dir : dirs) {
+            String path = rel(dir);
+            assertEquals(listFiles(dir), index.list(path), "File listing differs for '" + path + "'");
+            if (path.isEmpty()) {
+                // The classpath root also holds compiled classes (com/...), only resources are compared
+                assertTrue(index.listDirectories(path).containsAll(listDirs(dir)));
+            } else {
+                assertEquals(listDirs(dir), index.listDirectories(path), "Directory listing differs for '" + path + "'");
+            }
+        }
+
+        for (Path file : files) {
+            String path = rel(file);
+            ResourceIndex.Entry entry = index.entry(path);
+            assertNotNull(entry, "Missing from index: " + path);
+            assertEquals(Files.size(file), entry.getSize(), "Size differs for " + path);
+            assertEquals(crc(Files.readAllBytes(file)), index.contentHash(path), "Hash differs for " + path);
+        }
+        assertEquals(files.size(), index.getFileCount(), "Only resources are indexed, not classes");
+
+        assertFalse(index.exists("zenith/no_such_file.json"));
+        assertTrue(index.list("zenith/no_such_dir").isEmpty());
+    }
+
+    @Test
+    public void testHotReloadUpdate(@TempDir Path root) throws IOException {
+        Files.createDirectories(root.resolve("zenith/blocks"));
+        Files.createDirectories(root.resolve("zenith/items"));
+        Files.writeString(root.resolve("zenith/blocks/stone.json"), "{\"a\":1}");
+        Files.writeString(root.resolve("zenith/items/stick.json"), "{}");
+
+        ResourceIndex index = ResourceIndex.ofDirectory(root);
+        List<String> items = index.list("zenith/items");
+        long oldStamp = index.stamp("zenith/blocks/stone.json");
+
+        // Hot reload passes what it wrote and the written file's time, which may live outside the index root
+        byte[] content = "{\"a\":12345}".getBytes(StandardCharsets.UTF_8);
+        Path written = Files.write(root.resolve("stone_in_sources.json"), content);
+        long modified = Files.getLastModifiedTime(written).toMillis() + 1000;
+        index.update("zenith/blocks/stone.json", content, modified);
+        ResourceIndex.Entry entry = index.entry("zenith/blocks/stone.json");
+        assertEquals(content.length, entry.getSize());
+        assertEquals(modified, entry.getModified());
+        assertEquals(crc(content), index.contentHash("zenith/blocks/stone.json"), "Hash comes from the written bytes");
+        assertNotEquals(oldStamp, index.stamp("zenith/blocks/stone.json"));
+
+        // A resource created by the editor appears in listings
+        index.update("zenith/blocks/dirt.json", "{}".getBytes(StandardCharsets.UTF_8), modified);
+        assertEquals(List.of("dirt.json", "stone.json"), index.list("zenith/blocks"));
+        assertEquals(3, index.getFileCount());
+
+        assertSame(items, index.list("zenith/items"), "Untouched directories must be shared, not rebuilt");
+    }
+}
@@ -0,0 +1,259 @@
+package com.za.zenith.entities.ai.navigation;
+
+import com.za.zenith.world.World;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Path finding on a small synthetic world (48x32x48, stone floor at y=0, open sky above,
+ * everything else outside not loaded and therefore solid).
+ */
+class NavigationTest {
+    private static final int SIZE = 48, HEIGHT = 32;
+
+    /** Boolean block array with a write counter per section, like ChunkSection's block revision. */
+    private static final class TestWorld implements VoxelSource {
+        final boolean[] solid = new boolean[SIZE * HEIGHT * SIZE];
+        final long[] revisions = new long[(SIZE / 16) * (HEIGHT / 16) * (SIZE / 16)];
+
+        TestWorld() {
+            for (int i = 0; i < revisions.length; i++) revisions[i] = (long) i << 32;
+            for (int x = 0; x < SIZE; x++) for (int z = 0; z < SIZE; z++) set(x, 0, z, true);
+        }
+
+        void set(int x, int y, int z, boolean value) {
+            solid[(y * SIZE + z) * SIZE + x] = value;
+            revisions[sectionIndex(x >> 4, y >> 4, z >> 4)]++;
+        }
+
+        void fill(int x0, int y0, int z0, int x1, int y1, int z1) {
+            for (int x = x0; x <= x1; x++) for (int y = y0; y <= y1; y++) for (int z = z0; z <= z1; z++) set(x, y, z, true);
+        }
+
+        private static int sectionIndex(int sx, int sy, int sz) {
+            return (sy * (SIZE / 16) + sz) * (SIZE / 16) + sx;
+        }
+
+        private static boolean loaded(int sx, int sy, int sz) {
+            return sx >= 0 && sz >= 0 && sy >= 0 && sx < SIZE / 16 && sz < SIZE / 16 && sy < HEIGHT / 16;
+        }
+
+        @Override
+        public long sectionRevision(int sx, int sy, int sz) {
+            if (sy >= HEIGHT / 16) return ABOVE_WORLD;
+            return loaded(sx, sy, sz) ? revisions[sectionIndex(sx, sy, sz)] : NOT_LOADED;
+        }
+
+        @Override
+        public void fillSolid(int sx, int sy, int sz, long[] bits) {
+            for (int y = 0; y < 16; y++) for (int z = 0; z < 16; z++) for (int x = 0; x < 16; x++) {
+                int i = (y << 8) | (z << 4) | x;
+                if (solid[((sy * 16 + y) * SIZE + sz * 16 + z) * SIZE + sx * 16 + x]) bits[i >> 6] |= 1L << i;
+            }
+        }
+    }
+
+    private static long cell(int x, int y, int z) {
+        return World.packBlockPos(x, y, z);
+    }
+
+    /** Every step of the path must be one the grid allows. */
+    private static int checkPath(NavGrid grid, NavPath path) {
+        int cost = 0;
+        for (int i = 0; i + 1 < path.length(); i++) {
+            long a = path.get(i), b = path.get(i + 1);
+            int dx = World.unpackBlockX(b) - World.unpackBlockX(a), dz = World.unpackBlockZ(b) - World.unpackBlockZ(a);
+            assertTrue(Math.abs(dx) <= 1 && Math.abs(dz) <= 1 && (dx | dz) != 0);
+            int ty = grid.stepTarget(World.unpackBlockX(a), World.unpackBlockY(a), World.unpackBlockZ(a), dx, dz);
+            assertEquals(World.unpackBlockY(b), ty);
+            cost += NavGrid.stepCost(dx, ty - World.unpackBlockY(a), dz);
+        }
+        return cost;
+    }
+
+    private static PathSearch run(NavGrid grid, long start, long goal, int slice) {
+        PathSearch search = new PathSearch(grid, start, goal, 4000);
+        while (!search.isDone()) search.step(slice);
+        return search;
+    }
+
+    @Test
+    void walkabilityAndSteps() {
+        TestWorld world = new TestWorld();
+        world.set(6, 1, 5, true);  // one-block ledge
+        world.fill(8, 1, 5, 8, 2, 5); // two-block wall
+        NavGrid grid = new NavGrid(world);
+
+        assertTrue(grid.isWalkable(5, 1, 5));
+        assertFalse(grid.isWalkable(5, 2, 5));
+        assertFalse(grid.isWalkable(-1, 1, 5)); // outside the loaded area
+        assertTrue(grid.isSolid(-1, 1, 5));
+        assertTrue(grid.isSolid(5, 1, SIZE));
+        assertTrue(grid.isSolid(5, -1, 5));
+        assertFalse(grid.isSolid(5, HEIGHT + 3, 5)); // sky
+        world.set(4, HEIGHT - 2, 4, true);
+        grid.newEpoch();
+        assertTrue(grid.isWalkable(4, HEIGHT - 1, 4)); // standing on the top layer, head in the sky
+        assertEquals(2, grid.stepTarget(5, 1, 5, 1, 0));
+        assertEquals(-1, grid.stepTarget(7, 1, 5, 1, 0));
+        assertEquals(1, grid.stepTarget(6, 2, 5, 1, 0)); // drop back down
+        assertEquals(-1, grid.stepTarget(5, 1, 4, 1, 1)); // diagonal would cut the ledge corner
+
+        world.set(5, 3, 5, true); // no head room for the jump
+        grid.newEpoch();
+        assertEquals(-1, grid.stepTarget(5, 1, 5, 1, 0));
+    }
+
+    @Test
+    void findsShortestPathAroundWall() {
+        TestWorld world = new TestWorld();
+        world.fill(20, 1, 0, 20, 3, 40);
+        world.fill(30, 1, 30, 32, 1, 32); // a low platform to climb over or walk around
+        NavGrid grid = new NavGrid(world);
+        long start = cell(10, 1, 10), goal = cell(35, 1, 35);
+
+        PathSearch search = run(grid, start, goal, Integer.MAX_VALUE);
+        assertEquals(PathSearch.Status.FOUND, search.getStatus());
+        NavPath path = search.getPath();
+        assertTrue(path.reachesGoal());
+        assertEquals(start, path.get(0));
+        assertEquals(goal, path.get(path.length() - 1));
+        int cost = checkPath(grid, path);
+
+        // Dijkstra from the goal must agree on the optimal cost
+        FlowField field = new FlowField(grid, goal, SIZE, 100000);
+        while (!field.step(1000)) { }
+        assertEquals(cost, field.distance(start));
+
+        // Following the field from the start arrives at the goal with the same cost
+        long at = start;
+        int fieldCost = 0;
+        for (int i = 0; at != goal; i++) {
+            assertTrue(i < 200);
+            long next = field.next(at);
+            int dx = World.unpackBlockX(next) - World.unpackBlockX(at), dz = World.unpackBlockZ(next) - World.unpackBlockZ(at);
+            assertEquals(World.unpackBlockY(next), grid.stepTarget(World.unpackBlockX(at), World.unpackBlockY(at), World.unpackBlockZ(at), dx, dz));
+            fieldCost += NavGrid.stepCost(dx, World.unpackBlockY(next) - World.unpackBlockY(at), dz);
+            at = next;
+        }
+        assertEquals(cost, fieldCost);
+        assertEquals(NavGrid.NO_CELL, field.next(goal));
+    }
+
+    @Test
+    void slicedSearchMatchesSingleRun() {
+        TestWorld world = new TestWorld();
+        world.fill(5, 1, 15, 40, 2, 15);
+        world.fill(12, 1, 25, 12, 1, 40);
+        NavGrid grid = new NavGrid(world);
+        long start = cell(20, 1, 5), goal = cell(22, 1, 30);
+
+        NavPath whole = run(grid, start, goal, Integer.MAX_VALUE).getPath();
+        PathSearch sliced = run(grid, start, goal, 7);
+        assertTrue(sliced.getExpanded() > 7);
+        assertEquals(whole.length(), sliced.getPath().length());
+        for (int i = 0; i < whole.length(); i++) assertEquals(whole.get(i), sliced.getPath().get(i));
+    }
+
+    @Test
+    void unreachableGoalGivesPartialPath() {
+        TestWorld world = new TestWorld();
+        world.fill(30, 1, 30, 34, 3, 30);
+        world.fill(30, 1, 34, 34, 3, 34);
+        world.fill(30, 1, 31, 30, 3, 33);
+        world.fill(34, 1, 31, 34, 3, 33);
+        NavGrid grid = new NavGrid(world);
+        long goal = cell(32, 1, 32);
+
+        PathSearch search = run(grid, cell(10, 1, 10), goal, 100);
+        assertEquals(PathSearch.Status.PARTIAL, search.getStatus());
+        NavPath path = search.getPath();
+        assertFalse(path.reachesGoal());
+        checkPath(grid, path);
+        assertTrue(NavGrid.heuristic(path.get(path.length() - 1), goal) < NavGrid.heuristic(path.get(0), goal));
+
+        assertEquals(PathSearch.Status.FAILED, new PathSearch(grid, cell(10, 2, 10), goal, 100).getStatus());
+    }
+
+    @Test
+    void blockChangesInvalidateOnlyAffectedData() {
+        TestWorld world = new TestWorld();
+        NavGrid grid = new NavGrid(world);
+        NavPath path = run(grid, cell(2, 1, 2), cell(12, 1, 2), Integer.MAX_VALUE).getPath();
+        int builds = grid.getBuildCount();
+
+        grid.newEpoch();
+        assertTrue(path.isValid(grid));
+        assertEquals(builds, grid.getBuildCount()); // nothing changed, nothing rebuilt
+
+        world.set(40, 5, 40, true); // far away, different section
+        grid.newEpoch();
+        assertTrue(path.isValid(grid));
+
+        world.set(7, 1, 2, true); // on the path
+        assertTrue(path.isValid(grid)); // not seen until the next epoch
+        grid.newEpoch();
+        assertFalse(path.isValid(grid));
+        assertTrue(grid.getBuildCount() > builds);
+        assertFalse(grid.isWalkable(7, 1, 2));
+        assertTrue(grid.isWalkable(7, 2, 2));
+    }
+
+    @Test
+    void stampsCoverCellsReadByDiagonalsAndDrops() {
+        TestWorld world = new TestWorld();
+        NavGrid grid = new NavGrid(world);
+        // The diagonal crosses a section corner: its side cells lie in sections no path cell is in
+        NavPath diagonal = new NavPath(grid, new long[]{cell(15, 1, 15), cell(16, 1, 16)}, cell(16, 1, 16), true);
+        world.set(16, 1, 15, true);
+        grid.newEpoch();
+        assertFalse(diagonal.isValid(grid));
+        assertEquals(-1, grid.stepTarget(15, 1, 15, 1, 1));
+
+        // A three-block drop: the cells it falls through start in a section neither path cell is in
+        world.fill(15, 1, 5, 15, 15, 5);
+        world.fill(16, 1, 5, 16, 12, 5);
+        grid.newEpoch();
+        assertEquals(13, grid.stepTarget(15, 16, 5, 1, 0));
+        NavPath drop = new NavPath(grid, new long[]{cell(15, 16, 5), cell(16, 13, 5)}, cell(16, 13, 5), true);
+        world.set(16, 17, 5, true);
+        grid.newEpoch();
+        assertEquals(-1, grid.stepTarget(15, 16, 5, 1, 0));
+        assertFalse(drop.isValid(grid));
+    }
+
+    @Test
+    void serviceSharesPathsAndFields() {
+        TestWorld world = new TestWorld();
+        world.fill(20, 1, 0, 20, 2, 40);
+        Navigation navigation = new Navigation(world);
+        long start = cell(10, 1, 10), goal = cell(30, 1, 10);
+
+        PathRequest first = navigation.requestPath(start, goal);
+        assertSame(first, navigation.requestPath(start, goal));
+        for (int i = 0; i < 100 && !first.isDone(); i++) navigation.tick();
+        assertEquals(PathSearch.Status.FOUND, first.getStatus());
+        assertEquals(0, navigation.getPendingCount());
+
+        // A later agent standing on that path joins it without searching
+        NavPath path = first.getPath();
+        long middle = path.get(path.length() / 2);
+        PathRequest second = navigation.requestPath(middle, goal);
+        assertTrue(second.isDone());
+        assertSame(path, second.getPath());
+        assertEquals(path.length() / 2, second.getStartIndex());
+
+        // ...unless the terrain changed under it
+        world.set(World.unpackBlockX(middle), 1, World.unpackBlockZ(middle), true);
+        navigation.tick();
+        assertFalse(navigation.requestPath(middle, goal).isDone());
+
+        FlowField field = navigation.flowFieldTo(goal);
+        assertSame(field, navigation.flowFieldTo(cell(31, 1, 11))); // close enough to share
+        for (int i = 0; i < 100 && !field.isComplete(); i++) navigation.tick();
+        assertTrue(field.isComplete());
+        assertNotEquals(NavGrid.NO_CELL, field.next(start));
+        assertEquals(1, navigation.getFieldCount());
+    }
+}
@@ -0,0 +1,103 @@
+package com.za.zenith.entities.ai.perception;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NoiseGridTest {
+    private record Source(NoiseType type, float x, float y, float z, float loudness, float radius, float start, float duration) {
+        float heardAt(float px, float py, float pz, float time) {
+            if (time >= start + duration) return 0;
+            float dx = x - px, dy = y - py, dz = z - pz;
+            float dist = (float) Math.sqrt(dx * dx + dy * dy + dz * dz);
+            if (dist >= radius) return 0;
+            return loudness * (start + duration - time) / duration * (1 - dist / radius);
+        }
+    }
+
+    @Test
+    void queryMatchesScanOfAllSources() {
+        Random rnd = new Random(5);
+        NoiseGrid grid = new NoiseGrid();
+        List<Source> sources = new ArrayList<>();
+        float time = 0;
+        NoiseHit hit = new NoiseHit();
+        for (int step = 0; step < 200; step++) {
+            for (int i = 0; i < 5; i++) {
+                // Spread out, so no two sources of a type merge
+                float x = rnd.nextInt(400) * 3.0f - 600, z = rnd.nextInt(400) * 3.0f - 600, y = rnd.nextInt(64);
+                NoiseType type = NoiseType.values()[sources.size() % NoiseType.values().length];
+                float loudness = 0.05f + rnd.nextFloat() * 0.9f, radius = 4 + rnd.nextFloat() * 28;
+                float duration = 0.2f + rnd.nextFloat() * 3;
+                if (sources.stream().anyMatch(s -> s.type == type && Math.abs(s.x - x) < 1 && Math.abs(s.z - z) < 1 && Math.abs(s.y - y) < 1)) continue;
+                grid.emit(type, x, y, z, loudness, radius, duration);
+                sources.add(new Source(type, x, y, z, loudness, radius, time, duration));
+            }
+            float dt = 0.05f + rnd.nextFloat() * 0.1f;
+            grid.tick(dt);
+            time += dt;
+            final float now = time;
+            sources.removeIf(s -> now >= s.start + s.duration);
+
+            for (int q = 0; q < 20; q++) {
+                float px = rnd.nextFloat() * 1300 - 650, py = rnd.nextFloat() * 64, pz = rnd.nextFloat() * 1300 - 650;
+                float expected = 0;
+                Source loudest = null;
+                for (Source s : sources) {
+                    float heard = s.heardAt(px, py, pz, time);
+                    if (heard > expected) {
+                        expected = heard;
+                        loudest = s;
+                    }
+                }
+                float actual = grid.query(px, py, pz, hit);
+                assertEquals(expected, actual, 1e-4f);
+                if (loudest != null && Math.abs(expected - actual) < 1e-6f) {
+                    assertEquals(loudest.x, hit.x);
+                    assertEquals(loudest.z, hit.z);
+                    assertEquals(loudest.type, hit.type);
+                }
+            }
+        }
+    }
+
+    @Test
+    void repeatedEmissionRefreshesInsteadOfPilingUp() {
+        NoiseGrid grid = new NoiseGrid();
+        for (int i = 0; i < 100; i++) {
+            grid.emit(NoiseType.MACHINE, 10.5f, 64.5f, 10.5f, 0.5f, 20.0f, 2.0f);
+            grid.tick(0.05f);
+        }
+        assertEquals(1, grid.getEventCount());
+        assertEquals(0.5f * 0.975f, grid.query(10.5f, 64.5f, 10.5f, null), 1e-4f);
+
+        grid.emit(NoiseType.FOOTSTEP, 10.5f, 64.5f, 10.5f, 0.2f, 32.0f); // other type: separate event
+        assertEquals(2, grid.getEventCount());
+
+        // Machine stops: the hum fades and disappears
+        grid.tick(1.0f);
+        assertEquals(0.5f * 0.475f, grid.query(10.5f, 64.5f, 10.5f, null), 1e-4f);
+        grid.tick(1.0f);
+        assertEquals(0, grid.getEventCount());
+        assertEquals(0.0f, grid.query(10.5f, 64.5f, 10.5f, null));
+    }
+
+    @Test
+    void shortNoiseDecaysLikeThePlayerMeter() {
+        NoiseGrid grid = new NoiseGrid();
+        NoiseHit hit = new NoiseHit();
+        grid.emit(NoiseType.ACTION, -3.0f, 70.0f, 5.0f, 0.4f, 32.0f);
+        assertEquals(0.4f, grid.query(-3.0f, 70.0f, 5.0f, hit), 1e-6f);
+        assertEquals(NoiseType.ACTION, hit.type);
+        grid.tick(0.2f);
+        assertEquals(0.4f - 0.2f * NoiseGrid.DECAY_PER_SECOND, grid.query(-3.0f, 70.0f, 5.0f, null), 1e-5f);
+        assertEquals((0.4f - 0.1f) * 0.5f, grid.query(-3.0f, 70.0f, 21.0f, null), 1e-5f);
+        grid.tick(0.6f);
+        assertEquals(0.0f, grid.query(-3.0f, 70.0f, 5.0f, hit));
+        assertNull(hit.type);
+    }
+}
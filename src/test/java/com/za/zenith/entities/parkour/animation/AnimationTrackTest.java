@@ -0,0 +1,126 @@
+package com.za.zenith.entities.parkour.animation;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compiled tracks must return bit-identical values to the linear-scan evaluator they replaced,
+ * for sequential playback, random access and the batched pose evaluator alike.
+ */
+class AnimationTrackTest {
+    private static final String[] EASINGS = {"linear", "sine", "quad_out", "back_out", "bounce_out",
+        "standard_bezier", "sharp_swing", "no_such_easing", null};
+
+    @BeforeAll
+    static void loadEasings() {
+        EasingRegistry.init();
+    }
+
+    private static List<Keyframe> randomKeys(Random rnd) {
+        List<Keyframe> keys = new ArrayList<>();
+        int count = rnd.nextInt(9);
+        for (int i = 0; i < count; i++) {
+            // Quantized times produce duplicate keys, which the old scan resolved to the earlier segment
+            float time = rnd.nextInt(11) / 10.0f;
+            keys.add(new Keyframe(time, rnd.nextFloat() * 40 - 20, EASINGS[rnd.nextInt(EASINGS.length)]));
+        }
+        return keys;
+    }
+
+    @Test
+    void matchesLinearScanOnRandomClips() {
+        Random rnd = new Random(1234);
+        for (int clip = 0; clip < 500; clip++) {
+            List<Keyframe> keys = randomKeys(rnd);
+            AnimationTrack track = new AnimationTrack();
+            for (Keyframe k : keys) track.addKeyframe(k);
+            List<Keyframe> sorted = new ArrayList<>(keys);
+            sorted.sort(Comparator.comparingDouble(Keyframe::time));
+
+            for (float t = -0.1f; t <= 1.1f; t += 0.0137f) { // sequential playback
+                assertEquals(legacyEvaluate(sorted, t), track.evaluate(t), "t=" + t);
+            }
+            for (int i = 0; i < 200; i++) { // random access, including exact key times
+                float t = rnd.nextBoolean() ? rnd.nextFloat() * 1.2f - 0.1f : rnd.nextInt(11) / 10.0f;
+                assertEquals(legacyEvaluate(sorted, t), track.evaluate(t), "t=" + t);
+            }
+            assertEquals(legacyEvaluate(sorted, Float.NaN), track.evaluate(Float.NaN));
+        }
+    }
+
+    @Test
+    void evaluateAllMatchesPerTrackEvaluation() {
+        Random rnd = new Random(99);
+        for (int clip = 0; clip < 100; clip++) {
+            AnimationProfile profile = new AnimationProfile("clip" + clip);
+            profile.setLooping(rnd.nextBoolean());
+            int tracks = 1 + rnd.nextInt(12);
+            for (int i = 0; i < tracks; i++) {
+                AnimationTrack track = new AnimationTrack();
+                track.setMirror(rnd.nextBoolean());
+                for (Keyframe k : randomKeys(rnd)) track.addKeyframe(k);
+                profile.addTrack("part" + i + ":x", track);
+            }
+            assertEquals(tracks, profile.getTrackCount());
+
+            float[] pose = new float[profile.getTrackCount()];
+            for (int s = 0; s < 50; s++) {
+                float t = rnd.nextFloat() * 2.0f;
+                float multiplier = rnd.nextFloat() * 2 - 1;
+                profile.evaluateAll(t, multiplier, pose);
+                for (int slot = 0; slot < tracks; slot++) {
+                    String name = profile.getTrackName(slot);
+                    assertEquals(slot, profile.slotOf(name));
+                    assertEquals(profile.evaluate(name, t, multiplier), pose[slot]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void replacingATrackKeepsItsSlot() {
+        AnimationProfile profile = new AnimationProfile("replace");
+        AnimationTrack a = new AnimationTrack();
+        a.addKeyframe(new Keyframe(0, 1, "linear"));
+        profile.addTrack("arm:x", a);
+        int revision = profile.getLayoutRevision();
+
+        AnimationTrack b = new AnimationTrack();
+        b.addKeyframe(new Keyframe(0, 5, "linear"));
+        profile.addTrack("arm:x", b);
+        assertEquals(0, profile.slotOf("arm:x"));
+        assertEquals(1, profile.getTrackCount());
+        assertNotEquals(revision, profile.getLayoutRevision());
+
+        float[] pose = new float[1];
+        profile.evaluateAll(0.5f, 1, pose);
+        assertEquals(5, pose[0]);
+        assertEquals(-1, profile.slotOf("arm:y"));
+    }
+
+    /** AnimationTrack.evaluate before compilation. */
+    private static float legacyEvaluate(List<Keyframe> keyframes, float t) {
+        if (keyframes.isEmpty()) return 0.0f;
+        if (t <= keyframes.get(0).time()) return keyframes.get(0).value();
+        if (t >= keyframes.get(keyframes.size() - 1).time()) return keyframes.get(keyframes.size() - 1).value();
+
+        for (int i = 0; i < keyframes.size() - 1; i++) {
+            Keyframe current = keyframes.get(i);
+            Keyframe next = keyframes.get(i + 1);
+
+            if (t >= current.time() && t <= next.time()) {
+                float segmentT = (t - current.time()) / (next.time() - current.time());
+                float easedT = EasingRegistry.evaluate(current.easing(), segmentT);
+                return current.value() + (next.value() - current.value()) * easedT;
+            }
+        }
+        return 0.0f;
+    }
+}
@@ -2,6 +2,7 @@ package com.za.zenith.world;
 
 import com.za.zenith.utils.Identifier;
 import com.za.zenith.world.items.Item;
+import com.za.zenith.world.items.ItemStack;
 import com.za.zenith.world.items.component.ToolComponent;
 import com.za.zenith.world.items.ToolType;
 import org.junit.jupiter.api.Test;
@@ -29,6 +30,25 @@ public class ItemStackingTest {
         nonStackable.setMaxStackSize(1);
         assertEquals(1, nonStackable.getMaxStackSize(), "Explicitly set maxStackSize 1 should be respected");
     }
-}
-
 
+    @Test
+    public void testInPlaceCountChangesNotifyListener() {
+        Item item = new Item(5, Identifier.of("test:pebble"), "item.test.pebble", "texture.png");
+        ItemStack stack = new ItemStack(item, 10);
+        int[] calls = {0};
+        stack.setCountListener(s -> {
+            assertSame(stack, s);
+            calls[0]++;
+        });
+
+        stack.setCount(12);
+        assertEquals(1, calls[0]);
+        stack.setCount(12);
+        assertEquals(1, calls[0], "Unchanged count must not notify");
+        ItemStack half = stack.split(6);
+        assertEquals(2, calls[0]);
+        assertEquals(6, stack.getCount());
+        half.setCount(1);
+        assertEquals(2, calls[0], "A split-off stack has no listener");
+    }
+}
@@ -0,0 +1,65 @@
+package com.za.zenith.world.items;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ItemMeshGeneratorTest {
+
+    private static byte[] sprite(int size, int[][] opaque) {
+        byte[] rgba = new byte[size * size * 4];
+        for (int[] p : opaque) {
+            int o = (p[1] * size + p[0]) * 4;
+            rgba[o] = (byte) 200;
+            rgba[o + 3] = (byte) 255;
+        }
+        return rgba;
+    }
+
+    @Test
+    public void testVerticalBarIsExtrudedWithOpenSidesOnly() {
+        // 1x3 bar in a 4x4 sprite: front+back per pixel, both long sides, top and bottom caps
+        ItemGeometry g = ItemMeshGenerator.buildGeometry(sprite(4, new int[][]{{1, 0}, {1, 1}, {1, 2}}), 4, 4);
+        assertNotNull(g);
+        int quads = 3 * 2 + 3 * 2 + 2;
+        assertEquals(quads * 4, g.getVertexCount());
+        assertEquals(quads * 6, g.getIndices().length);
+        assertEquals(quads * 8, g.getUvs().length);
+        assertEquals(g.getPositions().length, g.getNormals().length);
+
+        // Already vertical: no rotation, grasp at the bottom pixel relative to the bounding-box centre
+        assertEquals(0.25f - 0.375f, g.getGraspX(), 1e-6f);
+        assertEquals(0.0f - 0.375f, g.getGraspY(), 1e-6f);
+        for (int i = 0; i < g.getPositions().length; i += 3) {
+            assertEquals(0.03125f, Math.abs(g.getPositions()[i + 2]), 1e-6f, "Half a pixel of thickness");
+        }
+        for (int idx : g.getIndices()) assertTrue(idx >= 0 && idx < g.getVertexCount());
+    }
+
+    @Test
+    public void testTransparentSpriteHasNoGeometry() {
+        assertNull(ItemMeshGenerator.buildGeometry(new byte[8 * 8 * 4], 8, 8));
+    }
+
+    @Test
+    public void testDiskCacheRoundTrip(@TempDir Path tmp) {
+        ItemGeometry g = ItemMeshGenerator.buildGeometry(sprite(4, new int[][]{{0, 0}, {1, 1}, {2, 2}, {3, 3}}), 4, 4);
+        Path file = tmp.resolve("items").resolve("1234.bin");
+        ItemGeometryCache.write(file, 0x1234L, g);
+
+        ItemGeometry read = ItemGeometryCache.read(file, 0x1234L);
+        assertNotNull(read);
+        assertArrayEquals(g.getPositions(), read.getPositions());
+        assertArrayEquals(g.getUvs(), read.getUvs());
+        assertArrayEquals(g.getNormals(), read.getNormals());
+        assertArrayEquals(g.getIndices(), read.getIndices());
+        assertEquals(g.getGraspX(), read.getGraspX());
+        assertEquals(g.getGraspY(), read.getGraspY());
+        assertEquals(g.getGripWidth(), read.getGripWidth());
+
+        assertNull(ItemGeometryCache.read(file, 0x1235L), "Changed texture must miss");
+    }
+}
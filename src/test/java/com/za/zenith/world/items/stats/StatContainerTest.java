@@ -0,0 +1,59 @@
+package com.za.zenith.world.items.stats;
+
+import com.za.zenith.utils.Identifier;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StatContainerTest {
+    private static final Identifier ARMOR = Identifier.of("test:armor");
+    private static final Identifier SPEED = Identifier.of("test:speed");
+    private static final Identifier HELMET = Identifier.of("test:helmet");
+    private static final Identifier BOOTS = Identifier.of("test:boots");
+
+    @Test
+    public void testIndicesAreDenseAndStable() {
+        int armor = StatRegistry.indexOf(ARMOR);
+        assertEquals(armor, StatRegistry.indexOf(Identifier.of("test", "armor")));
+        assertEquals(ARMOR, StatRegistry.idOf(armor));
+        assertTrue(armor < StatRegistry.size());
+    }
+
+    @Test
+    public void testModifiersAreTrackedPerSource() {
+        StatContainer stats = new StatContainer();
+        stats.setUseDefaultValues(false);
+        stats.setBase(ARMOR, 10);
+        stats.addModifier(ARMOR, new StatModifier(HELMET, StatModifier.Operation.ADD, 5));
+        stats.addModifier(ARMOR, new StatModifier(BOOTS, StatModifier.Operation.MULTIPLY_BASE, 0.5f));
+        stats.addModifier(SPEED, new StatModifier(BOOTS, StatModifier.Operation.ADD, 2));
+        stats.addModifier(SPEED, new StatModifier(HELMET, StatModifier.Operation.MULTIPLY_TOTAL, 1.0f));
+
+        assertEquals(20, stats.get(ARMOR), 1e-6f, "(10 + 5 + 10 * 0.5)");
+        assertEquals(4, stats.get(SPEED), 1e-6f, "(0 + 2) * 2");
+
+        stats.removeModifiersFrom(BOOTS);
+        assertEquals(15, stats.get(ARMOR), 1e-6f);
+        assertEquals(0, stats.get(SPEED), 1e-6f);
+        assertTrue(stats.has(StatRegistry.indexOf(SPEED)), "Helmet still modifies speed");
+
+        stats.removeModifiersFrom(HELMET);
+        assertFalse(stats.has(StatRegistry.indexOf(SPEED)));
+        assertEquals(Map.of(ARMOR, 10.0f), stats.getAllStats());
+    }
+
+    @Test
+    public void testRegistrationUpdatesDefaultsAndClamp() {
+        Identifier id = Identifier.of("test:clamped");
+        StatContainer stats = new StatContainer();
+        stats.addModifier(id, new StatModifier(HELMET, StatModifier.Operation.ADD, 50));
+        assertEquals(50, stats.get(id), 1e-6f, "Unknown stat: no default, no clamp");
+
+        StatRegistry.register(new StatDefinition(id, "stat.test.clamped", 5, 0, 20,
+            StatDefinition.DisplayType.NUMBER, StatDefinition.Category.GLOBAL));
+        assertEquals(20, stats.get(id), 1e-6f, "Cached value must pick up the new definition");
+        assertEquals(5, stats.getBase(id), 1e-6f);
+    }
+}
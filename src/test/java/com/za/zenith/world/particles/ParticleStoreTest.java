@@ -0,0 +1,91 @@
+package com.za.zenith.world.particles;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParticleStoreTest {
+    private static final int COUNT = 100_000;
+    private static final float DT = 1.0f / 170.0f;
+
+    private static void fill(ParticleStore store, int count, float life) {
+        for (int i = 0; i < count; i++) {
+            store.add(i % 100, 64, i / 100, 0.5f, 2.0f, -0.5f, life, 0.12f, 0, 1.0f, 3, -1, 0.25f, 0.5f, 1, 1, 1);
+        }
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    @Test
+    public void testSteadyStateUpdateDoesNotAllocate() {
+        ParticleStore store = new ParticleStore(COUNT);
+        fill(store, COUNT, 1000.0f);
+
+        // Warm-up (JIT, lazy class init)
+        for (int i = 0; i < 200; i++) store.update(DT, false);
+
+        // The probe itself may allocate a little on its first calls
+        long probe = allocatedBytes();
+        probe = allocatedBytes() - probe;
+
+        long before = allocatedBytes();
+        for (int i = 0; i < 500; i++) store.update(DT, false);
+        long allocated = allocatedBytes() - before - probe;
+
+        assertEquals(COUNT, store.size());
+        assertEquals(0, allocated, "Steady-state particle update must not allocate");
+    }
+
+    @Test
+    public void testDeadParticlesAreSwapRemoved() {
+        ParticleStore store = new ParticleStore(16);
+        store.add(0, 0, 0, 0, 0, 0, 0.01f, 1, 0, 0, 0, -1, 0, 0, 1, 1, 1); // dies first tick
+        store.add(1, 0, 0, 0, 0, 0, 10.0f, 1, 0, 0, 0, -1, 0, 0, 1, 1, 1);
+        store.add(2, 0, 0, 0, 0, 0, 10.0f, 1, 0, 0, 0, -1, 0, 0, 1, 1, 1);
+
+        store.update(0.02f, false);
+
+        assertEquals(2, store.size());
+        assertEquals(2.0f, store.getX(0), "Last particle should take the dead one's slot");
+        assertEquals(1.0f, store.getX(1));
+    }
+
+    @Test
+    public void testLimitRecyclesSlots() {
+        ParticleStore store = new ParticleStore(16);
+        store.setLimit(100);
+        fill(store, 250, 10.0f);
+        assertEquals(100, store.size());
+        assertTrue(store.getCapacity() <= 128, "Store should not grow past the limit");
+    }
+
+    @Test
+    public void testParallelUpdateMatchesSerial() {
+        ParticleStore serial = new ParticleStore(COUNT);
+        ParticleStore parallel = new ParticleStore(COUNT);
+        for (int i = 0; i < COUNT; i++) {
+            float life = 0.05f + (i % 37) * 0.01f; // some die during the run
+            serial.add(i, i * 0.5f, -i, i % 7, 1, -(i % 5), life, 0.1f, 0, 2.0f, 0, -1, 0, 0, 1, 1, 1);
+            parallel.add(i, i * 0.5f, -i, i % 7, 1, -(i % 5), life, 0.1f, 0, 2.0f, 0, -1, 0, 0, 1, 1, 1);
+        }
+
+        for (int t = 0; t < 60; t++) {
+            serial.update(DT, false);
+            parallel.update(DT, true);
+        }
+
+        assertEquals(serial.size(), parallel.size());
+        assertTrue(serial.size() > 0 && serial.size() < COUNT);
+        float[] a = new float[13];
+        float[] b = new float[13];
+        for (int i = 0; i < serial.size(); i++) {
+            serial.writeInstance(i, a, 0);
+            parallel.writeInstance(i, b, 0);
+            assertArrayEquals(a, b, "Particle " + i + " differs between serial and parallel update");
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.za.zenith.world.physics;
+
+import org.joml.Vector3f;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The allocation-free raycaster must hit exactly what the old Raycast hit. The reference below is the old
+ * implementation, kept verbatim apart from the block lookup.
+ */
+class RaycasterTest {
+    private static final int SIZE = 24;
+    private static final VoxelShape[] SHAPES = {
+        null, // air
+        VoxelShape.FULL_CUBE,
+        VoxelShape.SLAB_BOTTOM,
+        VoxelShape.SLAB_TOP,
+        VoxelShape.SLAB_EAST,
+        new VoxelShape(new AABB(0.25f, 0, 0.25f, 0.75f, 1.5f, 0.75f)), // sticks up into the voxel above
+        new VoxelShape(new AABB(0, 0, 0, 1, 0.5f, 1)).addBox(new AABB(0, 0.5f, 0.5f, 1, 1, 1)), // stairs
+        new VoxelShape(new AABB(0.4f, 0.4f, 0.4f, 0.6f, 0.6f, 0.6f)),
+    };
+
+    /** Random blocks in a 24^3 box with metadata, air outside. */
+    private static final class TestShapes implements BlockShapes {
+        final int[] raw = new int[SIZE * SIZE * SIZE];
+
+        TestShapes(Random rnd, float density) {
+            for (int i = 0; i < raw.length; i++) {
+                if (rnd.nextFloat() < density) raw[i] = ((1 + rnd.nextInt(SHAPES.length - 1)) << 8) | rnd.nextInt(4);
+            }
+        }
+
+        @Override
+        public int rawAt(int x, int y, int z) {
+            if (x < 0 || y < 0 || z < 0 || x >= SIZE || y >= SIZE || z >= SIZE) return 0;
+            return raw[(y * SIZE + z) * SIZE + x];
+        }
+
+        @Override
+        public VoxelShape shapeOf(int raw, int x, int y, int z) {
+            return SHAPES[raw >> 8];
+        }
+    }
+
+    private static Vector3f randomDirection(Random rnd) {
+        switch (rnd.nextInt(6)) {
+            case 0: return new Vector3f(rnd.nextInt(3) - 1, rnd.nextInt(3) - 1, rnd.nextInt(3) - 1); // axis-aligned and diagonals
+            case 1: return new Vector3f(rnd.nextFloat() - 0.5f, 0, rnd.nextFloat() - 0.5f);
+            default: return new Vector3f(rnd.nextFloat() * 2 - 1, rnd.nextFloat() * 2 - 1, rnd.nextFloat() * 2 - 1).mul(rnd.nextFloat() * 3);
+        }
+    }
+
+    @Test
+    void hitsMatchOldRaycastOnRandomWorlds() {
+        Random rnd = new Random(2024);
+        Raycaster raycaster = new Raycaster();
+        Vector3f hitPoint = new Vector3f(), normal = new Vector3f();
+        int hits = 0;
+        for (int world = 0; world < 40; world++) {
+            TestShapes shapes = new TestShapes(rnd, 0.05f + rnd.nextFloat() * 0.4f);
+            for (int ray = 0; ray < 2000; ray++) {
+                Vector3f origin = rnd.nextInt(4) == 0
+                    ? new Vector3f(rnd.nextInt(SIZE), rnd.nextInt(SIZE), rnd.nextInt(SIZE)) // on voxel corners
+                    : new Vector3f(rnd.nextFloat() * SIZE, rnd.nextFloat() * SIZE, rnd.nextFloat() * SIZE);
+                Vector3f direction = randomDirection(rnd);
+                float reach = rnd.nextBoolean() ? 5.0f : rnd.nextFloat() * 12;
+
+                Legacy expected = legacyRaycast(shapes, origin, direction, reach);
+                boolean hit = raycaster.cast(shapes, origin.x, origin.y, origin.z, direction.x, direction.y, direction.z, reach);
+                assertEquals(expected != null, hit);
+                if (!hit) continue;
+                hits++;
+                assertEquals(expected.x, raycaster.getX());
+                assertEquals(expected.y, raycaster.getY());
+                assertEquals(expected.z, raycaster.getZ());
+                assertEquals(expected.raw >> 8, raycaster.getBlockType());
+                assertEquals((byte) (expected.raw & 0xFF), raycaster.getBlockMetadata());
+                assertEquals(expected.distance, raycaster.getDistance());
+                assertEquals(expected.hitPoint, raycaster.getHitPoint(hitPoint));
+                assertEquals(expected.normal, raycaster.getNormal(normal));
+            }
+        }
+        assertTrue(hits > 10000, "too few hits to be meaningful: " + hits);
+    }
+
+    @Test
+    void batchedSegmentsMatchSingleCasts() {
+        Random rnd = new Random(77);
+        TestShapes shapes = new TestShapes(rnd, 0.1f);
+        int count = 500;
+        float[] segments = new float[count * 6];
+        for (int i = 0; i < segments.length; i++) segments[i] = rnd.nextFloat() * SIZE;
+        float[] distances = new float[count];
+
+        Raycaster batch = new Raycaster();
+        int blocked = batch.castSegments(shapes, segments, count, distances);
+
+        Raycaster single = new Raycaster();
+        int expectedBlocked = 0;
+        for (int i = 0; i < count; i++) {
+            int o = i * 6;
+            Vector3f from = new Vector3f(segments[o], segments[o + 1], segments[o + 2]);
+            Vector3f dir = new Vector3f(segments[o + 3], segments[o + 4], segments[o + 5]).sub(from);
+            boolean hit = single.cast(shapes, from.x, from.y, from.z, dir.x, dir.y, dir.z, dir.length());
+            if (hit) {
+                expectedBlocked++;
+                assertEquals(single.getDistance(), distances[i]);
+                assertTrue(distances[i] <= dir.length());
+            } else {
+                assertEquals(-1.0f, distances[i]);
+            }
+        }
+        assertEquals(expectedBlocked, blocked);
+        assertTrue(blocked > 0 && blocked < count);
+    }
+
+    @Test
+    void findsShapesReachingUpFromTheBlockBelow() {
+        TestShapes shapes = new TestShapes(new Random(), 0);
+        shapes.raw[(4 * SIZE + 4) * SIZE + 4] = 5 << 8; // post at (4, 4, 4), 1.5 blocks tall
+        Raycaster raycaster = new Raycaster();
+        // Horizontal ray through y = 5.25: only the protruding part of the post is there
+        assertTrue(raycaster.cast(shapes, 0.5f, 5.25f, 4.5f, 1, 0, 0, 5));
+        assertEquals(4, raycaster.getY());
+        assertEquals(3.75f, raycaster.getDistance(), 1e-6f);
+        assertFalse(raycaster.cast(shapes, 0.5f, 5.75f, 4.5f, 1, 0, 0, 5));
+        assertFalse(raycaster.cast(shapes, 0.5f, 5.25f, 4.5f, 0, 0, 0, 5));
+    }
+
+    // --- Reference implementation (old Raycast) ---
+
+    private record Legacy(int x, int y, int z, int raw, Vector3f hitPoint, Vector3f normal, float distance) {}
+
+    private static Legacy legacyRaycast(TestShapes world, Vector3f origin, Vector3f direction, float maxT) {
+        Vector3f dir = new Vector3f(direction).normalize();
+        if (dir.lengthSquared() == 0) {
+            return null;
+        }
+
+        int x = (int) Math.floor(origin.x);
+        int y = (int) Math.floor(origin.y);
+        int z = (int) Math.floor(origin.z);
+
+        int stepX = dir.x > 0 ? 1 : (dir.x < 0 ? -1 : 0);
+        int stepY = dir.y > 0 ? 1 : (dir.y < 0 ? -1 : 0);
+        int stepZ = dir.z > 0 ? 1 : (dir.z < 0 ? -1 : 0);
+
+        float nextVoxelBoundaryX = stepX > 0 ? (x + 1) : x;
+        float nextVoxelBoundaryY = stepY > 0 ? (y + 1) : y;
+        float nextVoxelBoundaryZ = stepZ > 0 ? (z + 1) : z;
+
+        float tMaxX = stepX != 0 ? (nextVoxelBoundaryX - origin.x) / dir.x : Float.POSITIVE_INFINITY;
+        float tMaxY = stepY != 0 ? (nextVoxelBoundaryY - origin.y) / dir.y : Float.POSITIVE_INFINITY;
+        float tMaxZ = stepZ != 0 ? (nextVoxelBoundaryZ - origin.z) / dir.z : Float.POSITIVE_INFINITY;
+
+        float tDeltaX = stepX != 0 ? Math.abs(1f / dir.x) : Float.POSITIVE_INFINITY;
+        float tDeltaY = stepY != 0 ? Math.abs(1f / dir.y) : Float.POSITIVE_INFINITY;
+        float tDeltaZ = stepZ != 0 ? Math.abs(1f / dir.z) : Float.POSITIVE_INFINITY;
+
+        for (;;) {
+            Legacy hit = legacyCheckVoxel(world, x, y, z, origin, dir, maxT);
+            if (hit != null) return hit;
+
+            hit = legacyCheckVoxel(world, x, y - 1, z, origin, dir, maxT);
+            if (hit != null) {
+                if (hit.hitPoint.y >= y && hit.hitPoint.y <= y + 1) {
+                    return hit;
+                }
+            }
+
+            if (tMaxX < tMaxY) {
+                if (tMaxX < tMaxZ) {
+                    if (tMaxX > maxT) break;
+                    x += stepX;
+                    tMaxX += tDeltaX;
+                } else {
+                    if (tMaxZ > maxT) break;
+                    z += stepZ;
+                    tMaxZ += tDeltaZ;
+                }
+            } else {
+                if (tMaxY < tMaxZ) {
+                    if (tMaxY > maxT) break;
+                    y += stepY;
+                    tMaxY += tDeltaY;
+                } else {
+                    if (tMaxZ > maxT) break;
+                    z += stepZ;
+                    tMaxZ += tDeltaZ;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Legacy legacyCheckVoxel(TestShapes world, int x, int y, int z, Vector3f origin, Vector3f dir, float maxT) {
+        int raw = world.rawAt(x, y, z);
+        VoxelShape shape = world.shapeOf(raw, x, y, z);
+        if (shape == null) return null;
+
+        float closestDist = Float.POSITIVE_INFINITY;
+        Vector3f closestNormal = null;
+
+        for (AABB box : shape.getBoxes()) {
+            AABB offsetBox = box.offset(x, y, z);
+            AABB.RayHit hit = offsetBox.raycast(origin, dir);
+            if (hit != null && hit.distance() < closestDist) {
+                closestDist = hit.distance();
+                closestNormal = hit.normal();
+            }
+        }
+
+        if (closestNormal != null && closestDist <= maxT) {
+            Vector3f hitPoint = new Vector3f(origin).fma(closestDist, dir);
+            return new Legacy(x, y, z, raw, hitPoint, new Vector3f(closestNormal), closestDist);
+        }
+        return null;
+    }
+}
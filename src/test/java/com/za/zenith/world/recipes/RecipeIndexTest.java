@@ -0,0 +1,214 @@
+package com.za.zenith.world.recipes;
+
+import com.google.gson.JsonParser;
+import com.za.zenith.engine.resources.loaders.RecipeDataLoader;
+import com.za.zenith.utils.Identifier;
+import com.za.zenith.world.items.Item;
+import com.za.zenith.world.items.ItemRegistry;
+import com.za.zenith.world.items.ItemStack;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Индексированный поиск должен находить ровно тот рецепт, который находил полный перебор реестра:
+ * для каждого рецепта из ресурсов игры, для перестановок входа, чужих инструментов и поверхностей.
+ */
+class RecipeIndexTest {
+    private static final Path RECIPES = Path.of("src/main/resources/zenith/recipes");
+    private static final Identifier HAND = Identifier.of("zenith:hand");
+    private static final Set<Identifier> IDS = new LinkedHashSet<>();
+    private static int shipped;
+
+    /** Открывает защищённый parseAndRegister загрузчика. */
+    private static final class TestLoader extends RecipeDataLoader {
+        void load(String json, String path) {
+            parseAndRegister(JsonParser.parseString(json), path);
+        }
+    }
+
+    @BeforeAll
+    static void loadShippedRecipes() throws IOException {
+        List<Path> files;
+        try (Stream<Path> list = Files.list(RECIPES)) {
+            files = list.filter(f -> f.toString().endsWith(".json")).sorted().toList();
+        }
+        List<String> documents = new ArrayList<>();
+        for (Path file : files) documents.add(Files.readString(file));
+
+        // Предметы-заглушки для всех упомянутых ID, иначе загрузчик отбросит рецепт без результата
+        Matcher m = Pattern.compile("\"(zenith:[a-z0-9_/]+)\"").matcher(String.join("\n", documents));
+        while (m.find()) IDS.add(Identifier.of(m.group(1)));
+        IDS.add(HAND);
+        int numeric = 20000;
+        for (Identifier id : IDS) {
+            if (ItemRegistry.getItem(id) == null) {
+                ItemRegistry.registerItem(new Item(numeric++, id, "item.test." + id.getPath(), "texture.png"));
+            }
+        }
+
+        TestLoader loader = new TestLoader();
+        for (int i = 0; i < files.size(); i++) {
+            loader.load(documents.get(i), "zenith/recipes/" + files.get(i).getFileName());
+        }
+        shipped = files.size();
+    }
+
+    @Test
+    void everyShippedRecipeIsRegistered() {
+        assertTrue(shipped > 0);
+        assertTrue(RecipeRegistry.getRegistry().size() >= shipped);
+        for (String type : List.of("in_world_crafting", "napping", "carving", "stump_crafting", "IN_WORLD_CRAFTING", "none")) {
+            List<IRecipe> legacy = RecipeRegistry.getRegistry().values().stream()
+                .filter(r -> r.getType().equalsIgnoreCase(type))
+                .collect(Collectors.toList());
+            assertEquals(legacy, RecipeRegistry.getRecipesByType(type), type);
+        }
+    }
+
+    @Test
+    void inWorldLookupMatchesBruteForce() {
+        List<InWorldRecipe> all = inWorldRecipes();
+        assertFalse(all.isEmpty());
+
+        Set<Identifier> tools = new LinkedHashSet<>();
+        Set<Identifier> surfaces = new LinkedHashSet<>();
+        tools.add(HAND);
+        surfaces.add(Identifier.of("zenith:stone"));
+        for (InWorldRecipe r : all) {
+            if (r.getToolId() != null) tools.add(r.getToolId());
+            if (r.getRequiredSurface() != null) surfaces.add(r.getRequiredSurface());
+        }
+
+        Random rnd = new Random(7);
+        int probes = 0;
+        for (InWorldRecipe r : all) {
+            List<List<Identifier>> inputs = new ArrayList<>();
+            List<Identifier> shuffled = new ArrayList<>(r.getIngredients());
+            inputs.add(new ArrayList<>(shuffled));
+            Collections.shuffle(shuffled, rnd);
+            inputs.add(shuffled);
+            if (shuffled.size() > 1) inputs.add(shuffled.subList(1, shuffled.size())); // не хватает ингредиента
+            List<Identifier> extra = new ArrayList<>(shuffled);
+            extra.add(shuffled.get(0));
+            inputs.add(extra);
+            List<Identifier> swapped = new ArrayList<>(shuffled);
+            swapped.set(0, Identifier.of("zenith:string"));
+            inputs.add(swapped);
+
+            for (List<Identifier> ids : inputs) {
+                List<ItemStack> stacks = stacks(ids);
+                for (Identifier tool : tools) {
+                    for (Identifier surface : surfaces) {
+                        InWorldRecipe expected = legacyInWorld(stacks, tool, surface);
+                        assertSame(expected, RecipeRegistry.findInWorldRecipe("in_world_crafting", stacks, tool, surface),
+                            r.getId() + " " + ids + " tool=" + tool + " surface=" + surface);
+                        probes++;
+                    }
+                }
+            }
+            // Сам рецепт (или более ранний с тем же составом) находится со своими инструментом и поверхностью
+            Identifier tool = r.getToolId() != null ? r.getToolId() : HAND;
+            assertNotNull(RecipeRegistry.findInWorldRecipe("in_world_crafting", stacks(r.getIngredients()), tool, r.getRequiredSurface()));
+        }
+        assertTrue(probes > 100);
+        assertNull(RecipeRegistry.findInWorldRecipe("napping", stacks(all.get(0).getIngredients()), HAND, null));
+    }
+
+    @Test
+    void nappingLookupMatchesBruteForce() {
+        List<NappingRecipe> all = RecipeRegistry.getRecipesByType("napping").stream()
+            .map(r -> (NappingRecipe) r).toList();
+        assertFalse(all.isEmpty());
+
+        for (Identifier input : IDS) {
+            boolean legacyHas = all.stream().anyMatch(r -> r.isInputValid(input));
+            assertEquals(legacyHas, RecipeRegistry.hasNappingRecipe(input), input.toString());
+
+            for (NappingRecipe r : all) {
+                boolean[] grid = r.getPattern().clone();
+                assertSame(legacyNapping(all, input, grid), RecipeRegistry.findNappingRecipe(input, grid), r.getId() + " " + input);
+                for (int i = 0; i < grid.length; i++) {
+                    grid[i] = !grid[i];
+                    assertSame(legacyNapping(all, input, grid), RecipeRegistry.findNappingRecipe(input, grid));
+                    grid[i] = !grid[i];
+                }
+            }
+            boolean[] full = new boolean[25];
+            Arrays.fill(full, true);
+            assertSame(legacyNapping(all, input, full), RecipeRegistry.findNappingRecipe(input, full));
+        }
+    }
+
+    @Test
+    void carvingLookupMatchesBruteForce() {
+        List<IRecipe> all = RecipeRegistry.getRecipesByType("carving");
+        assertFalse(all.isEmpty());
+        for (Identifier block : IDS) {
+            List<IRecipe> expected = all.stream()
+                .filter(r -> ((CarvingRecipe) r).getInputBlock().equals(block))
+                .collect(Collectors.toList());
+            assertEquals(expected, new ArrayList<IRecipe>(RecipeRegistry.getCarvingRecipes(block)), block.toString());
+        }
+    }
+
+    @Test
+    void registeringDropsTheIndex() {
+        Identifier ingredient = Identifier.of("zenith:rock");
+        Identifier surface = Identifier.of("zenith:test_index_surface");
+        List<ItemStack> stacks = stacks(List.of(ingredient, ingredient, ingredient));
+        assertNull(RecipeRegistry.findInWorldRecipe("in_world_crafting", stacks, HAND, surface));
+
+        InWorldRecipe added = new InWorldRecipe(Identifier.of("zenith:test_index_recipe"),
+            List.of(ingredient, ingredient, ingredient), null, surface, 1, new ItemStack(ItemRegistry.getItem(ingredient), 1));
+        RecipeRegistry.register(added);
+        assertSame(added, RecipeRegistry.findInWorldRecipe("in_world_crafting", stacks, HAND, surface));
+        assertTrue(RecipeRegistry.getRecipesByType("in_world_crafting").contains(added));
+    }
+
+    private static List<InWorldRecipe> inWorldRecipes() {
+        return RecipeRegistry.getRecipesByType("in_world_crafting").stream()
+            .filter(r -> r instanceof InWorldRecipe)
+            .map(r -> (InWorldRecipe) r)
+            .toList();
+    }
+
+    private static List<ItemStack> stacks(List<Identifier> ids) {
+        List<ItemStack> stacks = new ArrayList<>();
+        for (Identifier id : ids) stacks.add(new ItemStack(ItemRegistry.getItem(id), 1));
+        return stacks;
+    }
+
+    /** CraftingSurfaceComponent.tryCraft до индекса. */
+    private static InWorldRecipe legacyInWorld(List<ItemStack> inputs, Identifier tool, Identifier surface) {
+        for (IRecipe r : RecipeRegistry.getRegistry().values()) {
+            if (!r.getType().equalsIgnoreCase("in_world_crafting")) continue;
+            if (r instanceof InWorldRecipe recipe && recipe.matches(inputs, tool, surface)) return recipe;
+        }
+        return null;
+    }
+
+    /** NappingSession.checkMatch до индекса. */
+    private static NappingRecipe legacyNapping(List<NappingRecipe> recipes, Identifier input, boolean[] grid) {
+        for (NappingRecipe r : recipes) {
+            if (r.isInputValid(input) && Arrays.equals(grid, r.getPattern())) return r;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,76 @@
+package com.za.zenith.world.tags;
+
+import com.za.zenith.utils.Identifier;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TagRegistryTest {
+
+    @Test
+    public void testInternNormalizesNamespace() {
+        int id = TagRegistry.intern("test_tag_plain");
+        assertEquals(id, TagRegistry.intern("zenith:test_tag_plain"));
+        assertEquals(id, TagRegistry.idOf(Identifier.of("zenith:test_tag_plain")));
+        assertEquals(Identifier.of("zenith:test_tag_plain"), TagRegistry.nameOf(id));
+        assertEquals(-1, TagRegistry.idOf(Identifier.of("zenith:never_interned_tag")));
+    }
+
+    @Test
+    public void testTagSetBitsAcrossWords() {
+        TagSet set = new TagSet();
+        assertTrue(set.isEmpty());
+        assertTrue(set.add(3));
+        assertTrue(set.add(130));
+        assertFalse(set.add(3), "Second add is a no-op");
+        assertTrue(set.has(3));
+        assertTrue(set.has(130));
+        assertFalse(set.has(64));
+        assertFalse(set.has(-1));
+        assertFalse(set.has(10_000));
+        assertEquals(3, set.nextTag(0));
+        assertEquals(130, set.nextTag(4));
+        assertEquals(-1, set.nextTag(131));
+    }
+
+    @Test
+    public void testIncludesAreTransitive() {
+        Identifier tools = Identifier.of("zenith:test_tools");
+        Identifier melee = Identifier.of("zenith:test_melee");
+        Identifier bladed = Identifier.of("zenith:test_bladed");
+        TagRegistry.setIncludes(tools, List.of(melee));
+        TagRegistry.setIncludes(melee, List.of(bladed));
+
+        TagSet own = new TagSet();
+        own.add(TagRegistry.intern(bladed));
+        TagSet resolved = new TagSet();
+        TagRegistry.resolve(own, resolved);
+        assertTrue(resolved.has(TagRegistry.intern(bladed)));
+        assertTrue(resolved.has(TagRegistry.intern(melee)));
+        assertTrue(resolved.has(TagRegistry.intern(tools)));
+
+        // Reload drops the old include
+        TagRegistry.setIncludes(melee, List.of());
+        TagRegistry.resolve(own, resolved);
+        assertFalse(resolved.has(TagRegistry.intern(melee)));
+        assertFalse(resolved.has(TagRegistry.intern(tools)));
+    }
+
+    @Test
+    public void testReverseIndexMatchesPerDefinitionTest() {
+        int a = TagRegistry.intern("zenith:test_index_a");
+        int b = TagRegistry.intern("zenith:test_index_b");
+        TagSet[] byId = new TagSet[6];
+        for (int i = 0; i < byId.length; i++) {
+            if (i == 2) continue; // gap in numeric ids
+            byId[i] = new TagSet();
+            if (i % 2 == 0) byId[i].add(a);
+            if (i >= 3) byId[i].add(b);
+        }
+        int[][] index = TagRegistry.buildIndex(byId);
+        assertArrayEquals(new int[]{0, 4}, index[a]);
+        assertArrayEquals(new int[]{3, 4, 5}, index[b]);
+    }
+}